@@ -0,0 +1,22 @@
+package mekanism.api;
+
+/**
+ * Optional contract for handlers that can tell when their contents or anything that affects what they are willing to accept may have changed. This allows things that
+ * repeatedly offer the handler contents, such as transmitter networks, to skip checking handlers that were full until they change.
+ */
+public interface IChangeTrackingHandler {
+
+    /**
+     * Represents that a handler does not know when it changes, and must always be checked.
+     */
+    long UNTRACKED = -1;
+
+    /**
+     * Gets a version that gets changed any time the contents of this handler or anything else that affects what it is willing to accept may have changed.
+     *
+     * @return The current version, or {@link #UNTRACKED} if changes to this handler are not tracked.
+     *
+     * @implNote It is fine for the version to change when nothing actually changed, but it must not stay the same if something did.
+     */
+    long getChangeVersion();
+}
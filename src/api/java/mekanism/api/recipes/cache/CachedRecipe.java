@@ -1,10 +1,14 @@
 package mekanism.api.recipes.cache;
 
 import it.unimi.dsi.fastutil.booleans.BooleanConsumer;
-import it.unimi.dsi.fastutil.objects.ObjectArraySet;
-import java.util.Collections;
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
@@ -26,20 +30,37 @@ import mekanism.api.recipes.cache.CachedRecipe.OperationTracker.RecipeError;
 @NothingNullByDefault
 public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
 
+    /**
+     * Empty bitmask of errors, used for clearing the errors. This is never modified.
+     */
+    private static final BitSet NO_ERRORS = new BitSet();
+
     /**
      * Internal recipe object this cached recipe acts on.
      */
     protected final RECIPE recipe;
     /**
-     * Set of all the errors from when this {@link CachedRecipe} last calculated all the errors.
+     * Bitmask of the ids of all the errors from when this {@link CachedRecipe} last calculated all the errors.
+     */
+    private final BitSet errors = new BitSet();
+    /**
+     * Read only view of {@link #errors} that gets passed to {@link #onErrorsChange}.
+     */
+    private final Set<RecipeError> errorsView = new RecipeErrorSet(errors);
+    /**
+     * Tracker that gets reset and reused each time this {@link CachedRecipe} processes, so that processing doesn't have to allocate anything.
      */
-    private Set<RecipeError> errors = Collections.emptySet();
+    private final OperationTracker tracker = new OperationTracker(errors);
     /**
      * Tracks whether recipe processing is currently paused due to errors.
      *
      * @since 10.5.15
      */
     private boolean pausedForErrors = false;
+    /**
+     * Tracks whether the holder has been set as inactive since processing got paused, so that we don't have to keep telling it while nothing changes.
+     */
+    private boolean inactiveWhilePaused = false;
     /**
      * Used to check if the {@link CachedRecipe} should recheck for all errors.
      */
@@ -257,7 +278,8 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
      *
      * @param onErrorsChange Consumer to call with the set of {@link RecipeError}s this {@link CachedRecipe} when they change.
      *
-     * @apiNote If this method is not used, this {@link CachedRecipe} defaults to not notifying any holder when the errors change.
+     * @apiNote If this method is not used, this {@link CachedRecipe} defaults to not notifying any holder when the errors change. The set passed to the consumer is a read
+     * only view of the current errors, so it should not be held onto after the consumer returns.
      */
     public CachedRecipe<RECIPE> setErrorsChanged(Consumer<Set<RecipeError>> onErrorsChange) {
         this.onErrorsChange = Objects.requireNonNull(onErrorsChange, "On errors change consumer cannot be null.");
@@ -267,16 +289,17 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
     /**
      * Updates the known errors to the given set, and calls {@link #onErrorsChange} if the errors actually changed.
      */
-    private void updateErrors(Set<RecipeError> errors) {
+    private void updateErrors(BitSet errors) {
         //Validate the errors actually changed as they potentially are just the same ones we found last go around
         if (!this.errors.equals(errors)) {
-            this.errors = errors;
-            if (this.errors.size() > 1) {
+            this.errors.clear();
+            this.errors.or(errors);
+            if (this.errors.cardinality() > 1) {
                 pausedForErrors = true;
             } else {
-                pausedForErrors = !this.errors.contains(RecipeError.NOT_ENOUGH_ENERGY_REDUCED_RATE);
+                pausedForErrors = !this.errors.get(RecipeError.NOT_ENOUGH_ENERGY_REDUCED_RATE.id);
             }
-            onErrorsChange.accept(errors);
+            onErrorsChange.accept(errorsView);
         }
     }
 
@@ -287,6 +310,16 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
      */
     public void unpauseErrors() {
         pausedForErrors = false;
+        inactiveWhilePaused = false;
+    }
+
+    /**
+     * Checks if recipe processing is currently paused due to errors, and won't do anything until {@link #unpauseErrors()} is called.
+     *
+     * @since 10.7.8
+     */
+    public boolean isPausedForErrors() {
+        return pausedForErrors;
     }
 
     /**
@@ -307,14 +340,18 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
         //TODO: Evaluate adding in some marker that gets set to true here that then denies the various callbacks/builders from being used
         // as once we start processing the cached recipe should basically be immutable
         if (pausedForErrors) {
-            //Note: We just set active as false if we are paused for errors and then don't do any other processing
-            setActive.accept(false);
+            //Note: We just set active as false if we are paused for errors and then don't do any other processing. As nothing can change
+            // until we get unpaused, we only need to do so once
+            if (!inactiveWhilePaused) {
+                inactiveWhilePaused = true;
+                setActive.accept(false);
+            }
             return;
         }
         int operations;
         if (canHolderFunction.getAsBoolean()) {
             setupVariableValues();
-            OperationTracker tracker = new OperationTracker(errors, recheckAllErrors.getAsBoolean(), baselineMaxOperations.getAsInt());
+            tracker.reset(recheckAllErrors.getAsBoolean(), baselineMaxOperations.getAsInt());
             calculateOperationsThisTick(tracker);
             if (tracker.shouldContinueChecking()) {
                 postProcessOperations.accept(tracker);
@@ -333,7 +370,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
         } else {
             operations = 0;
             if (!errors.isEmpty()) {
-                updateErrors(Collections.emptySet());
+                updateErrors(NO_ERRORS);
             }
         }
         if (operations > 0) {
@@ -485,13 +522,13 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
         private static final int MISMATCHED_RECIPE = -2;
 
         /**
-         * Set of all the errors from when the {@link CachedRecipe} last calculated the complete set of errors.
+         * Bitmask of all the errors from when the {@link CachedRecipe} last calculated the complete set of errors.
          */
-        private final Set<RecipeError> lastErrors;
+        private final BitSet lastErrors;
         /**
-         * Set of errors that the {@link CachedRecipe} has run into so far while calculating how many operations it can perform at once.
+         * Bitmask of errors that the {@link CachedRecipe} has run into so far while calculating how many operations it can perform at once.
          */
-        private Set<RecipeError> errors = Collections.emptySet();
+        private final BitSet errors = new BitSet();
         /**
          * Used to determine if this tracker should try and check for all existing errors ({@code true}) or short circuit as soon as it knows no processing can be done.
          */
@@ -512,23 +549,44 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
         private int maxForEnergy;
 
         /**
-         * @param lastErrors  Set of the last errors the {@link CachedRecipe} had.
+         * @param lastErrors Bitmask of the last errors the {@link CachedRecipe} had. This is read each time the tracker is used, so it should be updated in place.
+         */
+        private OperationTracker(BitSet lastErrors) {
+            this.lastErrors = lastErrors;
+        }
+
+        /**
+         * Resets this tracker so that it can be used to calculate the operations for another tick.
+         *
          * @param checkAll    {@code true} if this tracker should try and check for all existing errors.
          * @param startingMax Starting maximum number of operations that the {@link CachedRecipe} can perform this tick.
          */
-        private OperationTracker(Set<RecipeError> lastErrors, boolean checkAll, int startingMax) {
-            this.lastErrors = lastErrors;
+        private void reset(boolean checkAll, int startingMax) {
+            this.errors.clear();
+            this.checkedErrors = true;
             this.checkAll = checkAll;
             this.currentMax = startingMax;
             this.maxForEnergy = currentMax;
         }
 
+        /**
+         * @return {@code true} if {@link #lastErrors} contains all {@link #errors}.
+         */
+        private boolean lastErrorsContainsAll() {
+            for (int id = errors.nextSetBit(0); id >= 0; id = errors.nextSetBit(id + 1)) {
+                if (!lastErrors.get(id)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         /**
          * @return {@code true} if the errors from this {@link OperationTracker} should be copied to the {@link ICachedRecipeHolder}.
          */
         private boolean hasErrorsToCopy() {
             if (currentMax == MISMATCHED_RECIPE) {
-                errors = Collections.emptySet();
+                errors.clear();
                 //Return true as if we have a mismatched recipe we want to clear any errors that exist
                 return true;
             } else if (checkAll || currentMax > 0) {
@@ -541,7 +599,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
             // mark that we have errors we want to copy over.
             // Note: We don't need to check if errors is not empty as checkedErrors will be true if we don't
             // have any errors
-            return !checkedErrors && !lastErrors.containsAll(errors);
+            return !checkedErrors && !lastErrorsContainsAll();
         }
 
         /**
@@ -562,7 +620,7 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
                 } else if (!checkedErrors) {
                     //If we haven't compared our current errors since we have added some to the last set of errors the recipe had
                     // check if the last set of errors contains all of our current errors.
-                    if (!lastErrors.containsAll(errors)) {
+                    if (!lastErrorsContainsAll()) {
                         // if it doesn't we set checkAll to true as we know we have some new errors and want to be able to collect
                         // them all, and this way we will be able to shortcut any further checks to if our last errors has all our
                         // current errors as we know it will be true.
@@ -637,13 +695,9 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
          */
         public void addError(RecipeError error) {
             Objects.requireNonNull(error, "Error cannot be null.");
-            if (errors.isEmpty()) {
-                //If our set of errors is empty, then it is the default empty set, and we need to initialize it
-                // Note: As we expect to have a small number of errors, we use an array set as it should be more efficient
-                errors = new ObjectArraySet<>();
-            }
             //Add the error to our known errors
-            if (errors.add(error)) {
+            if (!errors.get(error.id)) {
+                errors.set(error.id);
                 // and if we didn't already know about that error, mark that we haven't compared our current errors
                 // to the previous set of errors the cached recipe had
                 checkedErrors = false;
@@ -655,6 +709,11 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
          */
         public static final class RecipeError {
 
+            /**
+             * All the errors that have been created, indexed by their id.
+             */
+            private static final List<RecipeError> BY_ID = new CopyOnWriteArrayList<>();
+
             /**
              * Common representation for when a recipe errors due to the inputs not producing what is currently in the output.
              */
@@ -691,13 +750,69 @@ public abstract class CachedRecipe<RECIPE extends MekanismRecipe<?>> {
             /**
              * Creates a new marker for tracking an error.
              */
-            public static RecipeError create() {
-                //noinspection InstantiationOfUtilityClass
-                return new RecipeError();
+            public static synchronized RecipeError create() {
+                RecipeError error = new RecipeError(BY_ID.size());
+                BY_ID.add(error);
+                return error;
             }
 
-            private RecipeError() {
+            /**
+             * Index of this error in bitmasks of errors.
+             */
+            private final int id;
+
+            private RecipeError(int id) {
+                this.id = id;
             }
         }
     }
+
+    /**
+     * Read only view of a bitmask of {@link RecipeError}s.
+     */
+    private static final class RecipeErrorSet extends AbstractSet<RecipeError> {
+
+        private final BitSet errors;
+
+        private RecipeErrorSet(BitSet errors) {
+            this.errors = errors;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof RecipeError error && errors.get(error.id);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return errors.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return errors.cardinality();
+        }
+
+        @Override
+        public Iterator<RecipeError> iterator() {
+            return new Iterator<>() {
+                private int next = errors.nextSetBit(0);
+
+                @Override
+                public boolean hasNext() {
+                    return next >= 0;
+                }
+
+                @Override
+                public RecipeError next() {
+                    if (next < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    RecipeError error = RecipeError.BY_ID.get(next);
+                    next = errors.nextSetBit(next + 1);
+                    return error;
+                }
+            };
+        }
+    }
 }
\ No newline at end of file
@@ -1060,6 +1060,19 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_CHUNK_LOADED, "Loaded chunk (%1$s).");
         add(MekanismLang.COMMAND_CHUNK_UNLOADED, "Unloaded chunk (%1$s).");
         add(MekanismLang.COMMAND_DEBUG, "Toggled debug mode: %1$s.");
+        add(MekanismLang.COMMAND_DEBUG_CONTAINERS, "%1$s: %2$s bytes synced in %3$s packets.");
+        add(MekanismLang.COMMAND_DEBUG_CONTAINERS_NONE, "No container data has been synced.");
+        add(MekanismLang.COMMAND_DEBUG_PATHFINDER, "Transporter path cache: %1$s paths cached across %2$s networks, %3$s hits, %4$s misses, %5$s evictions.");
+        add(MekanismLang.COMMAND_DEBUG_RECIPES, "Recipe lookups for %1$s: %2$s remembered, %3$s not remembered.");
+        add(MekanismLang.COMMAND_DEBUG_RECIPES_NONE, "No recipe lookups have been made yet.");
+        add(MekanismLang.COMMAND_DEBUG_SLEEPING, "%1$s: %2$s sleeping, %3$s awake.");
+        add(MekanismLang.COMMAND_DEBUG_SLEEPING_NONE, "No Mekanism machines are loaded.");
+        add(MekanismLang.COMMAND_PROFILE_NONE, "Nothing has been profiled yet.");
+        add(MekanismLang.COMMAND_PROFILE_OFFENDER, "%1$s at (%2$s) in %3$s: %4$s ms in %5$s calls.");
+        add(MekanismLang.COMMAND_PROFILE_OFFENDERS, "Slowest individual networks, multiblocks and machines:");
+        add(MekanismLang.COMMAND_PROFILE_RESET, "Reset profiling data.");
+        add(MekanismLang.COMMAND_PROFILE_SECTION, "%1$s: %2$s ms in %3$s calls, %4$s ms per tick.");
+        add(MekanismLang.COMMAND_PROFILE_SECTIONS, "Slowest sections over the last %1$s ticks:");
         add(MekanismLang.COMMAND_TEST_RULES, "Enabled keepInventory, and disabled doMobSpawning, doDaylightCycle, doWeatherCycle and mobGriefing!");
         add(MekanismLang.COMMAND_TP, "Teleported to (%1$s) - saved last position on stack.");
         add(MekanismLang.COMMAND_TPOP, "Returned to (%1$s); %2$s positions on stack.");
@@ -1531,6 +1544,7 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.NETWORK_READER_TEMPERATURE, " *Temperature: %1$s");
         add(MekanismLang.NETWORK_READER_TRANSMITTERS, " *Transmitters: %1$s");
         add(MekanismLang.NETWORK_READER_ACCEPTORS, " *Acceptors: %1$s");
+        add(MekanismLang.NETWORK_READER_SKIPPED_SIMULATIONS, " *Skipped simulations: %1$s");
         add(MekanismLang.NETWORK_READER_NEEDED, " *Needed: %1$s");
         add(MekanismLang.NETWORK_READER_BUFFER, " *Buffer: %1$s");
         add(MekanismLang.NETWORK_READER_THROUGHPUT, " *Throughput: %1$s");
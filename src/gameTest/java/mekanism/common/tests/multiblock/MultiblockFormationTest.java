@@ -0,0 +1,117 @@
+package mekanism.common.tests.multiblock;
+
+import mekanism.common.content.matrix.MatrixMultiblockData;
+import mekanism.common.lib.multiblock.StructureSnapshot;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import mekanism.common.tile.multiblock.TileEntityDynamicTank;
+import mekanism.common.tile.multiblock.TileEntityInductionCasing;
+import mekanism.common.tile.multiblock.TileEntityInductionCell;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.EmptyTemplate;
+
+@ForEachTest(groups = "multiblock.formation")
+public class MultiblockFormationTest {
+
+    private static final BlockPos CENTER = new BlockPos(1, 1, 1);
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that a dynamic tank forms once its structure has been scanned off the server thread.")
+    public static void dynamicTankForms(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> buildTank(helper, Blocks.AIR.defaultBlockState()))
+              .thenWaitUntil(() -> helper.assertTrue(helper.requireBlockEntity(BlockPos.ZERO, TileEntityDynamicTank.class).getMultiblock().isFormed(),
+                    "Expected the dynamic tank to form"))
+              .thenSucceed();
+    }
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that a dynamic tank with an invalid block inside of it doesn't form.")
+    public static void dynamicTankWithInvalidInnerDoesNotForm(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> buildTank(helper, Blocks.STONE.defaultBlockState()))
+              .thenIdle(20)
+              .thenExecute(() -> helper.assertFalse(helper.requireBlockEntity(BlockPos.ZERO, TileEntityDynamicTank.class).getMultiblock().isFormed(),
+                    "Expected the dynamic tank to not form"))
+              .thenSucceed();
+    }
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that a structure snapshot keeps the block states from when it was created, even if the blocks change afterwards.")
+    public static void snapshotIsUnaffectedByChanges(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> helper.setBlock(CENTER, Blocks.STONE))
+              .thenExecute(() -> {
+                  BlockPos min = helper.absolutePos(BlockPos.ZERO);
+                  BlockPos max = helper.absolutePos(new BlockPos(2, 2, 2));
+                  StructureSnapshot snapshot = StructureSnapshot.create(helper.getLevel(), min, max);
+                  helper.assertTrue(snapshot != null, "Expected a snapshot of loaded chunks");
+                  BlockPos center = helper.absolutePos(CENTER);
+                  helper.assertTrue(snapshot.getBlockState(center).is(Blocks.STONE), "Expected the snapshot to contain the stone");
+                  helper.setBlock(CENTER, Blocks.AIR);
+                  helper.assertTrue(snapshot.getBlockState(center).is(Blocks.STONE), "Expected the snapshot to not see the stone being removed");
+                  helper.assertTrue(snapshot.contains(max) && !snapshot.contains(max.above()), "Expected the snapshot to only contain its bounds");
+                  helper.assertTrue(snapshot.getBlockState(max.above()) == null, "Expected no block state outside the bounds of the snapshot");
+              })
+              .thenSucceed();
+    }
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that adding and removing an induction cell updates a formed induction matrix in place, rather than forming it again.")
+    public static void matrixCellsUpdateInPlace(final MekGameTestHelper helper) {
+        MatrixMultiblockData[] formed = new MatrixMultiblockData[1];
+        helper.startSequence()
+              .thenExecute(() -> buildCuboid(helper, MekanismBlocks.INDUCTION_CASING.defaultState(), Blocks.AIR.defaultBlockState()))
+              .thenWaitUntil(() -> helper.assertTrue(getMatrix(helper).isFormed(), "Expected the induction matrix to form"))
+              .thenExecute(() -> {
+                  formed[0] = getMatrix(helper);
+                  helper.assertValueEqual(formed[0].getCellCount(), 0, "Installed cells");
+                  helper.setBlock(CENTER, MekanismBlocks.BASIC_INDUCTION_CELL.defaultState());
+              })
+              .thenIdle(5)
+              .thenExecute(() -> {
+                  MatrixMultiblockData matrix = getMatrix(helper);
+                  helper.assertTrue(matrix == formed[0] && matrix.isFormed(), "Expected the induction matrix to not be formed again");
+                  helper.assertValueEqual(matrix.getCellCount(), 1, "Installed cells");
+                  helper.assertTrue(helper.requireBlockEntity(CENTER, TileEntityInductionCell.class).getMultiblock() == matrix,
+                        "Expected the induction cell to be part of the induction matrix");
+                  helper.setBlock(CENTER, Blocks.AIR);
+              })
+              .thenIdle(5)
+              .thenExecute(() -> {
+                  MatrixMultiblockData matrix = getMatrix(helper);
+                  helper.assertTrue(matrix == formed[0] && matrix.isFormed(), "Expected the induction matrix to not be formed again");
+                  helper.assertValueEqual(matrix.getCellCount(), 0, "Installed cells");
+                  helper.assertValueEqual(matrix.getStorageCap(), 0L, "Storage capacity");
+              })
+              .thenSucceed();
+    }
+
+    private static MatrixMultiblockData getMatrix(MekGameTestHelper helper) {
+        return helper.requireBlockEntity(BlockPos.ZERO, TileEntityInductionCasing.class).getMultiblock();
+    }
+
+    private static void buildTank(MekGameTestHelper helper, BlockState inner) {
+        buildCuboid(helper, MekanismBlocks.DYNAMIC_TANK.defaultState(), inner);
+    }
+
+    private static void buildCuboid(MekGameTestHelper helper, BlockState casing, BlockState inner) {
+        for (int x = 0; x < 3; x++) {
+            for (int y = 0; y < 3; y++) {
+                for (int z = 0; z < 3; z++) {
+                    BlockPos pos = new BlockPos(x, y, z);
+                    helper.setBlock(pos, pos.equals(CENTER) ? inner : casing);
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -5,22 +5,49 @@ import static mekanism.common.tests.util.TransporterTestUtils.containing;
 import static mekanism.common.tests.util.TransporterTestUtils.diversionMode;
 import static mekanism.common.tests.util.TransporterTestUtils.diversionModes;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import mekanism.api.text.EnumColor;
 import mekanism.api.tier.AlloyTier;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.config.value.CachedBooleanValue;
+import mekanism.common.content.network.InventoryNetwork;
+import mekanism.common.content.network.InventoryNetwork.AcceptorData;
 import mekanism.common.content.network.transmitter.DiversionTransporter.DiversionControl;
+import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.content.transporter.TransporterPathfinder;
+import mekanism.common.content.transporter.TransporterPathfinder.Destination;
+import mekanism.common.content.transporter.TransporterPathfinder.FoundPath;
+import mekanism.common.content.transporter.TransporterPathfinder.MultiPathfinder;
+import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder;
+import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.content.transporter.TransporterTopology;
+import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.transmitter.ConnectionType;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tests.MekanismTests;
 import mekanism.common.tests.helpers.TransmitterTestHelper;
+import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.TransporterUtils;
 import net.minecraft.SharedConstants;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestAssertException;
+import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.entity.BarrelBlockEntity;
 import net.minecraft.world.level.block.entity.RandomizableContainerBlockEntity;
+import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
 import net.neoforged.testframework.DynamicTest;
 import net.neoforged.testframework.annotation.ForEachTest;
@@ -68,6 +95,23 @@ public class InventoryNetworkTest {
           .fill(0, 0, 2, 0, 0, 4, MekanismBlocks.BASIC_LOGISTICAL_TRANSPORTER.defaultState())
     );
 
+    private static final String SORTING_GRID = MekanismTests.MODID + ":sorting_grid";
+    //Note: Our template is lazy so that we ensure the transporters are registered
+    @RegisterStructureTemplate(SORTING_GRID)
+    public static final Supplier<StructureTemplate> SORTING_GRID_TEMPLATE = StructureTemplateBuilder.lazy(17, 1, 15, InventoryNetworkTest::buildSortingGrid);
+
+    /**
+     * Rows of transporters with rows of barrels between them, all connected by a spine of transporters, with the home barrel at the end of the spine.
+     */
+    private static StructureTemplateBuilder buildSortingGrid(StructureTemplateBuilder builder) {
+        builder.fill(0, 0, 1, 0, 0, 13, MekanismBlocks.BASIC_LOGISTICAL_TRANSPORTER.getBlock())
+              .set(0, 0, 14, Blocks.BARREL.defaultBlockState());
+        for (int z = 0; z < 15; z++) {
+            builder.fill(1, 0, z, 16, 0, z, z % 2 == 0 ? Blocks.BARREL : MekanismBlocks.BASIC_LOGISTICAL_TRANSPORTER.getBlock());
+        }
+        return builder;
+    }
+
     @GameTest(template = SIMPLE_PATH, timeoutTicks = 10 * SharedConstants.TICKS_PER_SECOND)
     @TestHolder(description = "Tests that items will properly be sent back and inserted into their home if the destination is removed while the stacks are en-route.")
     public static void sendsBackToHome(final TransmitterTestHelper helper) {
@@ -134,6 +178,40 @@ public class InventoryNetworkTest {
         );
     }
 
+    @GameTest(batch = "async_pathfinding")
+    @TestHolder(description = "Tests that when paths are found asynchronously, items will find a new destination if their destination is removed while the stacks "
+                              + "are en-route.")
+    public static void asyncPathfindingFindsNewDestination(final DynamicTest test) {
+        test.registerGameTestTemplate(() -> StructureTemplateBuilder.withSize(2, 1, 6)
+              //Start barrel
+              .set(0, 0, 0, Blocks.BARREL.defaultBlockState(), containing(Items.STONE))
+              //Closer barrel
+              .set(1, 0, 3, Blocks.BARREL.defaultBlockState())
+              //End barrel
+              .set(0, 0, 5, Blocks.BARREL.defaultBlockState())
+
+              .set(0, 0, 1, MekanismBlocks.BASIC_LOGISTICAL_TRANSPORTER.defaultState(), configured(Direction.NORTH))
+              .fill(0, 0, 2, 0, 0, 4, MekanismBlocks.BASIC_LOGISTICAL_TRANSPORTER.defaultState())
+        );
+
+        test.onGameTest(TransmitterTestHelper.class, helper -> {
+            CachedBooleanValue async = MekanismConfig.general.transporterAsyncPathfinding;
+            boolean wasAsync = async.get();
+            helper.startSequence()
+                  .thenExecute(() -> async.set(true))
+                  //Wait a second for it to pull the item out, and remove the closer destination
+                  .thenExecuteAfter(SharedConstants.TICKS_PER_SECOND, () -> helper.setBlock(1, 1, 3, Blocks.AIR))
+                  //And then after a few seconds that the item has been sent to the other destination
+                  .thenExecuteAfter(3 * SharedConstants.TICKS_PER_SECOND, () -> {
+                      async.set(wasAsync);
+                      helper.assertContainerContains(0, 1, 5, Items.STONE);
+                  })
+                  //And make sure the start container is empty
+                  .thenExecute(() -> helper.assertContainerEmpty(0, 1, 0))
+                  .thenSucceed();
+        });
+    }
+
     @GameTest(timeoutTicks = 15 * SharedConstants.TICKS_PER_SECOND)
     @TestHolder(description = "Tests that items will properly be sent back and inserted into their home if the destination fills up while the stacks are en-route. "
                               + "And then will be sent to the inventory when there is room again.")
@@ -322,6 +400,50 @@ public class InventoryNetworkTest {
         );
     }
 
+    @GameTest(setupTicks = 5)
+    @TestHolder(description = "Tests that the path to a destination is found again when clearing the color of a transporter opens a shorter path to it, "
+                              + "even though the cached path doesn't go through that transporter.")
+    public static void clearedColorOpensShorterPath(final DynamicTest test) {
+        test.registerGameTestTemplate(() -> StructureTemplateBuilder.withSize(3, 1, 3)
+              //Destination barrel
+              .set(2, 0, 0, Blocks.BARREL.defaultBlockState())
+              //Start transporter, and a shortcut to the destination that colorless stacks can't travel through
+              .set(0, 0, 0, MekanismBlocks.BASIC_LOGISTICAL_TRANSPORTER.defaultState())
+              .set(1, 0, 0, MekanismBlocks.BASIC_LOGISTICAL_TRANSPORTER.defaultState(), configured(EnumUtils.COLORS[EnumUtils.COLORS.length - 1]))
+              //The long way around to the destination
+              .fill(0, 0, 1, 0, 0, 2, MekanismBlocks.BASIC_LOGISTICAL_TRANSPORTER.defaultState())
+              .fill(1, 0, 2, 2, 0, 2, MekanismBlocks.BASIC_LOGISTICAL_TRANSPORTER.defaultState())
+              .set(2, 0, 1, MekanismBlocks.BASIC_LOGISTICAL_TRANSPORTER.defaultState())
+        );
+
+        test.onGameTest(TransmitterTestHelper.class, helper -> helper.startSequence()
+              //Find and cache the long path
+              .thenExecute(() -> helper.assertValueEqual(findPath(helper).size(), 7, "Length of the path around the colored transporter"))
+              //Clear the color of the shortcut, as it is the last color
+              .thenExecute(() -> helper.useConfigurator(1, 1, 0, Direction.UP))
+              .thenExecute(() -> {
+                  LongList path = findPath(helper);
+                  helper.assertValueEqual(path.size(), 3, "Length of the path through the shortcut");
+                  helper.assertTrue(path.contains(helper.absolutePos(new BlockPos(1, 1, 0)).asLong()), "Expected the path to go through the shortcut");
+              })
+              .thenSucceed()
+        );
+    }
+
+    /**
+     * Finds the path a colorless stone stack would take from the transporter at the origin of the test.
+     */
+    private static LongList findPath(TransmitterTestHelper helper) {
+        LogisticalTransporterBase start = helper.requireBlockEntity(0, 1, 0, TileEntityLogisticalTransporterBase.class).getTransmitter();
+        TransporterStack stack = new TransporterStack();
+        stack.itemStack = new ItemStack(Items.STONE);
+        Destination destination = TransporterPathfinder.getNewBasePath(start, stack, TransitRequest.simple(stack.itemStack), 1);
+        if (destination == null) {
+            throw new GameTestAssertException("Expected to find a path to the destination");
+        }
+        return destination.getPath();
+    }
+
     @GameTest
     @TestHolder(description = "Tests that nothing changes as colorless transporter stacks cannot enter a colored transporter.")
     public static void colorlessIntoColor(final DynamicTest test) {
@@ -514,4 +636,131 @@ public class InventoryNetworkTest {
               .thenSucceed()
         );
     }
+
+    @GameTest(template = SIMPLE_PATH, setupTicks = 5)
+    @TestHolder(description = "Tests that finding the paths to multiple destinations can send a stack back to its home inventory through a transporter that is "
+                              + "pulling from it, but not to other inventories the transporter is pulling from.")
+    public static void multiDestinationReachesHomeInPullMode(final TransmitterTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> {
+                  LogisticalTransporterBase start = helper.requireBlockEntity(0, 1, 3, TileEntityLogisticalTransporterBase.class).getTransmitter();
+                  InventoryNetwork network = start.getTransmitterNetwork();
+                  if (network == null) {
+                      helper.fail("No transporter network found", new BlockPos(0, 1, 3));
+                      return;
+                  }
+                  BlockPos home = helper.absolutePos(new BlockPos(0, 1, 0));
+                  TransporterStack stack = new TransporterStack();
+                  stack.itemStack = new ItemStack(Items.STONE);
+                  Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+                  AcceptorData homeData = getHomeAcceptor(network, start, stack, chunkMap, home);
+                  Pathfinder.DestChecker checker = (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false);
+
+                  MultiPathfinder notHome = new MultiPathfinder(network, helper.getLevel(), start.getBlockPos(), stack, checker);
+                  notHome.addDestination(homeData);
+                  helper.assertTrue(notHome.find(chunkMap, false, Double.MAX_VALUE).isEmpty(),
+                        "Expected to not be able to send to a barrel that is being pulled from, when it isn't the stack's home");
+
+                  stack.homeLocation = home.asLong();
+                  MultiPathfinder toHome = new MultiPathfinder(network, helper.getLevel(), start.getBlockPos(), stack, checker);
+                  toHome.addDestination(homeData);
+                  List<FoundPath> found = toHome.find(chunkMap, false, Double.MAX_VALUE);
+                  helper.assertValueEqual(found.size(), 1, "Paths to the stack's home");
+                  helper.assertValueEqual(found.get(0).side(), Direction.NORTH, "Side of the home");
+              })
+              .thenSucceed();
+    }
+
+    @GameTest(template = SIMPLE_PATH, setupTicks = 5)
+    @TestHolder(description = "Tests that finding the paths to multiple destinations using the snapshot of the network that is used for asynchronous pathfinding "
+                              + "can send a stack back to its home inventory through a transporter that is pulling from it.")
+    public static void asyncMultiDestinationReachesHomeInPullMode(final TransmitterTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> {
+                  LogisticalTransporterBase start = helper.requireBlockEntity(0, 1, 3, TileEntityLogisticalTransporterBase.class).getTransmitter();
+                  InventoryNetwork network = start.getTransmitterNetwork();
+                  if (network == null) {
+                      helper.fail("No transporter network found", new BlockPos(0, 1, 3));
+                      return;
+                  }
+                  BlockPos home = helper.absolutePos(new BlockPos(0, 1, 0));
+                  TransporterStack stack = new TransporterStack();
+                  stack.itemStack = new ItemStack(Items.STONE);
+                  AcceptorData homeData = getHomeAcceptor(network, start, stack, new Long2ObjectOpenHashMap<>(), home);
+                  TransporterTopology topology = network.getTopology();
+
+                  MultiPathfinder notHome = new MultiPathfinder(topology, start.getBlockPos(), stack.color, Long.MAX_VALUE);
+                  notHome.addDestination(homeData);
+                  helper.assertTrue(notHome.find(Long2ObjectMaps.emptyMap(), false, Double.MAX_VALUE).isEmpty(),
+                        "Expected to not be able to send to a barrel that is being pulled from, when it isn't the stack's home");
+
+                  MultiPathfinder toHome = new MultiPathfinder(topology, start.getBlockPos(), stack.color, home.asLong());
+                  toHome.addDestination(homeData);
+                  List<FoundPath> found = toHome.find(Long2ObjectMaps.emptyMap(), false, Double.MAX_VALUE);
+                  helper.assertValueEqual(found.size(), 1, "Paths to the stack's home");
+                  helper.assertValueEqual(found.get(0).side(), Direction.NORTH, "Side of the home");
+              })
+              .thenSucceed();
+    }
+
+    /**
+     * Gets the acceptor data for the stack's home, failing the test if the home can't accept the stack.
+     */
+    private static AcceptorData getHomeAcceptor(InventoryNetwork network, LogisticalTransporterBase start, TransporterStack stack, Long2ObjectMap<ChunkAccess> chunkMap,
+          BlockPos home) {
+        //Note: The home location of a stack is never included in the acceptors, so calculate them before the stack has a home
+        AcceptorData homeData = network.calculateAcceptors(TransitRequest.simple(stack.itemStack), stack, chunkMap, Collections.emptyMap(), start).stream()
+              .filter(data -> data.getLocation().equals(home))
+              .findFirst()
+              .orElse(null);
+        if (homeData == null) {
+            throw new GameTestAssertException("Expected the barrel being pulled from to accept the stack");
+        }
+        return homeData;
+    }
+
+    @GameTest(template = SORTING_GRID, setupTicks = 5)
+    @TestHolder(description = "Tests that finding the paths to every destination in a single search finds the same destinations and costs as searching for the "
+                              + "path to each destination separately.")
+    public static void multiDestinationMatchesPerDestination(final TransmitterTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> {
+                  LogisticalTransporterBase start = helper.requireBlockEntity(0, 1, 13, TileEntityLogisticalTransporterBase.class).getTransmitter();
+                  InventoryNetwork network = start.getTransmitterNetwork();
+                  if (network == null) {
+                      helper.fail("No transporter network found", new BlockPos(0, 1, 13));
+                      return;
+                  }
+                  TransporterStack stack = new TransporterStack();
+                  stack.itemStack = new ItemStack(Items.STONE);
+                  stack.homeLocation = helper.absolutePos(new BlockPos(0, 1, 14)).asLong();
+                  Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+                  List<AcceptorData> acceptors = network.calculateAcceptors(TransitRequest.simple(stack.itemStack), stack, chunkMap, Collections.emptyMap(), start);
+                  helper.assertTrue(acceptors.size() > 16 * 8, "Expected every barrel to be a destination");
+                  Pathfinder.DestChecker checker = (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false);
+
+                  Map<AcceptorData, Double> expected = new HashMap<>();
+                  for (AcceptorData data : acceptors) {
+                      Pathfinder pathfinder = new Pathfinder(network, helper.getLevel(), data.getLocation(), start.getBlockPos(), stack, data.getResponse().getStack(), checker);
+                      if (pathfinder.find(chunkMap)) {
+                          expected.put(data, pathfinder.getFinalScore());
+                      }
+                  }
+
+                  MultiPathfinder multiPathfinder = new MultiPathfinder(network, helper.getLevel(), start.getBlockPos(), stack, checker);
+                  acceptors.forEach(multiPathfinder::addDestination);
+                  List<FoundPath> found = multiPathfinder.find(chunkMap, false, Double.MAX_VALUE);
+
+                  helper.assertValueEqual(found.size(), expected.size(), "Reachable destinations");
+                  for (FoundPath path : found) {
+                      Double cost = expected.get(path.destination());
+                      if (cost == null) {
+                          helper.fail("Found a path to a destination that could not be reached searching separately", path.destination().getLocation());
+                      } else if (path.cost() > cost + 0.0001) {
+                          helper.fail("Single search found a more expensive path " + path.cost() + " than searching separately " + cost, path.destination().getLocation());
+                      }
+                  }
+              })
+              .thenSucceed();
+    }
 }
\ No newline at end of file
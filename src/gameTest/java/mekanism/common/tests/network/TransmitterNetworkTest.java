@@ -4,6 +4,11 @@ import java.util.UUID;
 import java.util.function.Supplier;
 import mekanism.api.functions.ConstantPredicates;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.config.value.CachedBooleanValue;
+import mekanism.common.config.value.CachedIntValue;
+import mekanism.common.content.network.EnergyNetwork;
+import mekanism.common.content.network.transmitter.ThermodynamicConductor;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.ConnectionType;
 import mekanism.common.lib.transmitter.DynamicNetwork;
@@ -11,10 +16,13 @@ import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tests.MekanismTests;
 import mekanism.common.tests.helpers.MekGameTestHelper;
 import mekanism.common.tests.helpers.TransmitterTestHelper;
+import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporter;
+import mekanism.common.tile.transmitter.TileEntityThermodynamicConductor;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
 import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Direction.AxisDirection;
 import net.minecraft.gametest.framework.GameTest;
@@ -42,6 +50,48 @@ public class TransmitterNetworkTest {
           builder -> builder.fill(0, 0, 0, 3 * 16 - 1, 0, 0, MekanismBlocks.BASIC_UNIVERSAL_CABLE.getBlock())
     );
 
+    private static final String PARALLEL_NETWORKS = MekanismTests.MODID + ":parallel_networks";
+    //Note: Our template is lazy so that we ensure the universal cable and machines are registered
+    @RegisterStructureTemplate(PARALLEL_NETWORKS)
+    public static final Supplier<StructureTemplate> PARALLEL_NETWORKS_TEMPLATE = StructureTemplateBuilder.lazy(3, 1, 5, builder -> builder
+          //Network used for the serial update
+          .fill(0, 0, 0, 2, 0, 0, MekanismBlocks.BASIC_UNIVERSAL_CABLE.getBlock())
+          .set(0, 0, 1, MekanismBlocks.ENRICHMENT_CHAMBER.defaultState())
+          .set(1, 0, 1, MekanismBlocks.ELECTRIC_PUMP.defaultState())
+          .set(2, 0, 1, MekanismBlocks.METALLURGIC_INFUSER.defaultState())
+          //Network used for the parallel update
+          .fill(0, 0, 3, 2, 0, 3, MekanismBlocks.BASIC_UNIVERSAL_CABLE.getBlock())
+          .set(0, 0, 4, MekanismBlocks.ENRICHMENT_CHAMBER.defaultState())
+          .set(1, 0, 4, MekanismBlocks.ELECTRIC_PUMP.defaultState())
+          .set(2, 0, 4, MekanismBlocks.METALLURGIC_INFUSER.defaultState())
+    );
+
+    private static final String HEAT_NETWORKS = MekanismTests.MODID + ":heat_networks";
+    //Note: Our template is lazy so that we ensure the conductors and heaters are registered
+    @RegisterStructureTemplate(HEAT_NETWORKS)
+    public static final Supplier<StructureTemplate> HEAT_NETWORKS_TEMPLATE = StructureTemplateBuilder.lazy(4, 1, 7, builder -> builder
+          //Network used for the per conductor simulation
+          .fill(0, 0, 0, 2, 0, 2, MekanismBlocks.BASIC_THERMODYNAMIC_CONDUCTOR.getBlock())
+          .set(3, 0, 1, MekanismBlocks.RESISTIVE_HEATER.defaultState())
+          //Network used for the packed simulation
+          .fill(0, 0, 4, 2, 0, 6, MekanismBlocks.BASIC_THERMODYNAMIC_CONDUCTOR.getBlock())
+          .set(3, 0, 5, MekanismBlocks.RESISTIVE_HEATER.defaultState())
+    );
+    /**
+     * Maximum relative difference allowed between temperatures calculated by the packed heat solver and by each conductor simulating itself.
+     */
+    private static final double HEAT_TOLERANCE = 1e-9;
+
+    private static final String CABLE_LOOP = MekanismTests.MODID + ":cable_loop";
+    //Note: Our template is lazy so that we ensure the universal cable is registered
+    @RegisterStructureTemplate(CABLE_LOOP)
+    public static final Supplier<StructureTemplate> CABLE_LOOP_TEMPLATE = StructureTemplateBuilder.lazy(3, 1, 3, builder -> builder
+          .fill(0, 0, 0, 2, 0, 0, MekanismBlocks.BASIC_UNIVERSAL_CABLE.getBlock())
+          .fill(0, 0, 2, 2, 0, 2, MekanismBlocks.BASIC_UNIVERSAL_CABLE.getBlock())
+          .set(0, 0, 1, MekanismBlocks.BASIC_UNIVERSAL_CABLE.defaultState())
+          .set(2, 0, 1, MekanismBlocks.BASIC_UNIVERSAL_CABLE.defaultState())
+    );
+
     @GameTest(setupTicks = SharedConstants.TICKS_PER_SECOND)
     @TestHolder(description = "Tests the GameTest helpers that use a configurator on a position, to ensure it properly interacts with each side.")
     public static void testConfiguratorSideTargeting(final DynamicTest test) {
@@ -118,6 +168,137 @@ public class TransmitterNetworkTest {
               .thenSucceed();
     }
 
+    @GameTest(template = CABLE_LOOP, setupTicks = 5)
+    @TestHolder(description = "Tests that removing a transmitter that doesn't split a network keeps the existing network instead of reforming it.")
+    public static void removeWithoutSplit(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenMap(() -> helper.requireBlockEntity(0, 1, 0, TileEntityTransmitter.class).getTransmitter().getTransmitterNetwork().getUUID())
+              .thenExecute(() -> helper.setBlock(1, 1, 0, Blocks.AIR))
+              //Wait 5 ticks to ensure it has time to process everything (expected to only take one tick)
+              .thenExecuteAfter(5, uuid -> {
+                  DynamicNetwork<?, ?, ?> network = helper.requireBlockEntity(2, 1, 2, TileEntityTransmitter.class).getTransmitter().getTransmitterNetwork();
+                  if (network == null) {
+                      helper.fail("No transmitter network found", new BlockPos(2, 1, 2));
+                  } else {
+                      helper.assertValueEqual(network.getUUID(), uuid, "Network UUID");
+                      helper.assertValueEqual(network.transmittersSize(), 7, "Transmitters in network");
+                  }
+              })
+              .thenExecute(() -> helper.setBlock(1, 1, 2, Blocks.AIR))
+              //Removing a second transmitter splits the loop, so it should now form two separate networks
+              .thenExecuteAfter(5, () -> {
+                  DynamicNetwork<?, ?, ?> left = helper.requireBlockEntity(0, 1, 1, TileEntityTransmitter.class).getTransmitter().getTransmitterNetwork();
+                  DynamicNetwork<?, ?, ?> right = helper.requireBlockEntity(2, 1, 1, TileEntityTransmitter.class).getTransmitter().getTransmitterNetwork();
+                  if (left == null || right == null) {
+                      helper.fail("Expected the remaining transmitters to have networks", new BlockPos(0, 1, 1));
+                  } else if (left == right) {
+                      helper.fail("Expected the remaining transmitters to be in separate networks", new BlockPos(0, 1, 1));
+                  }
+              })
+              .thenSucceed();
+    }
+
+    @GameTest(template = PARALLEL_NETWORKS, batch = "parallel_networks", setupTicks = 5)
+    @TestHolder(description = "Tests that energy networks distribute their energy the same when their updates are prepared in parallel as when they are updated serially.")
+    public static void parallelMatchesSerial(final MekGameTestHelper helper) {
+        CachedBooleanValue parallel = MekanismConfig.general.parallelNetworkUpdates;
+        CachedIntValue threshold = MekanismConfig.general.parallelNetworkThreshold;
+        boolean wasParallel = parallel.get();
+        int oldThreshold = threshold.get();
+        long[] serial = new long[3];
+        helper.startSequence()
+              .thenExecute(() -> {
+                  parallel.set(false);
+                  fillEnergyNetwork(helper, 0);
+              })
+              //Let the network emit its energy once
+              .thenExecuteAfter(1, () -> readAcceptorEnergy(helper, 1, serial))
+              .thenExecute(() -> {
+                  parallel.set(true);
+                  threshold.set(1);
+                  fillEnergyNetwork(helper, 3);
+              })
+              .thenExecuteAfter(1, () -> {
+                  long[] prepared = new long[serial.length];
+                  try {
+                      readAcceptorEnergy(helper, 4, prepared);
+                  } finally {
+                      parallel.set(wasParallel);
+                      threshold.set(oldThreshold);
+                  }
+                  for (int i = 0; i < serial.length; i++) {
+                      helper.assertValueEqual(prepared[i], serial[i], "Energy in acceptor " + i);
+                  }
+              })
+              .thenSucceed();
+    }
+
+    @GameTest(template = HEAT_NETWORKS, batch = "packed_heat", setupTicks = 5)
+    @TestHolder(description = "Tests that heat networks transfer the same amount of heat, within floating point tolerance, when simulated by the packed solver as when "
+                              + "each conductor simulates itself.")
+    public static void packedHeatMatchesPerConductor(final MekGameTestHelper helper) {
+        CachedBooleanValue packed = MekanismConfig.general.packedHeatSimulation;
+        boolean wasPacked = packed.get();
+        double[] perConductor = new double[9];
+        helper.startSequence()
+              .thenExecute(() -> {
+                  packed.set(false);
+                  heatConductors(helper, 0);
+              })
+              //Let the network simulate once
+              .thenExecuteAfter(1, () -> readConductorTemperatures(helper, 0, perConductor))
+              .thenExecute(() -> {
+                  packed.set(true);
+                  heatConductors(helper, 4);
+              })
+              .thenExecuteAfter(1, () -> {
+                  double[] solved = new double[perConductor.length];
+                  try {
+                      readConductorTemperatures(helper, 4, solved);
+                  } finally {
+                      packed.set(wasPacked);
+                  }
+                  for (int i = 0; i < perConductor.length; i++) {
+                      if (Math.abs(solved[i] - perConductor[i]) > HEAT_TOLERANCE * Math.abs(perConductor[i])) {
+                          helper.fail("Temperature of conductor " + i + " was " + solved[i] + " but expected " + perConductor[i], new BlockPos(i % 3, 1, 4 + i / 3));
+                      }
+                  }
+              })
+              .thenSucceed();
+    }
+
+    private static void heatConductors(MekGameTestHelper helper, int startZ) {
+        for (int i = 0; i < 9; i++) {
+            ThermodynamicConductor conductor = helper.requireBlockEntity(i % 3, 1, startZ + i / 3, TileEntityThermodynamicConductor.class).getTransmitter();
+            //Give each conductor a different temperature so that heat flows in every direction
+            conductor.buffer.setHeat(conductor.buffer.getHeatCapacity() * (500 + 250 * i));
+        }
+    }
+
+    private static void readConductorTemperatures(MekGameTestHelper helper, int startZ, double[] temperatures) {
+        for (int i = 0; i < temperatures.length; i++) {
+            temperatures[i] = helper.requireBlockEntity(i % 3, 1, startZ + i / 3, TileEntityThermodynamicConductor.class).getTransmitter().buffer.getTemperature();
+        }
+    }
+
+    private static void fillEnergyNetwork(MekGameTestHelper helper, int z) {
+        Transmitter<?, ?, ?> transmitter = helper.requireBlockEntity(0, 1, z, TileEntityTransmitter.class).getTransmitter();
+        if (transmitter.getTransmitterNetwork() instanceof EnergyNetwork network) {
+            network.energyContainer.setEnergy(network.energyContainer.getMaxEnergy());
+        } else {
+            helper.fail("Expected an energy network", new BlockPos(0, 1, z));
+        }
+    }
+
+    private static void readAcceptorEnergy(MekGameTestHelper helper, int z, long[] energy) {
+        for (int x = 0; x < energy.length; x++) {
+            energy[x] = helper.requireBlockEntity(x, 1, z, TileEntityMekanism.class).getEnergy(0, null);
+            if (energy[x] == 0) {
+                helper.fail("Acceptor did not receive any energy", new BlockPos(x, 1, z));
+            }
+        }
+    }
+
     private static class MatchingNetworkValidator implements Runnable {
 
         private final MekGameTestHelper helper;
@@ -0,0 +1,253 @@
+package mekanism.common.tests.qio;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import mekanism.api.Action;
+import mekanism.api.security.SecurityMode;
+import mekanism.common.attachments.qio.DriveContents;
+import mekanism.common.content.qio.QIODriveData;
+import mekanism.common.content.qio.QIODriveData.QIODriveKey;
+import mekanism.common.content.qio.QIOFrequency;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.registries.MekanismDataComponents;
+import mekanism.common.registries.MekanismItems;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import mekanism.common.tile.qio.TileEntityQIODriveArray;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.component.CustomModelData;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.EmptyTemplate;
+
+@ForEachTest(groups = "qio.frequency")
+public class QIOFrequencyTest {
+
+    //Base drives can hold 128 types each, so the types have to be split between the drives
+    private static final int TYPES = 200;
+    private static final int OPERATIONS = 5_000;
+    private static final int DRIVES = 2;
+    //Supermassive drives can hold 8,192 types each, so this needs seven of them
+    private static final int LARGE_TYPES = 50_000;
+    private static final int LARGE_OPERATIONS = 1_000_000;
+    private static final int LARGE_DRIVES = 7;
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that the counts, type ids, and which drives contain each type stay consistent through a mix of inserts and extracts.")
+    public static void mixedInsertExtractStaysConsistent(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> helper.setBlock(BlockPos.ZERO, MekanismBlocks.QIO_DRIVE_ARRAY.defaultState()))
+              .thenExecute(() -> checkMixedInsertExtract(helper, MekanismItems.BASE_QIO_DRIVE.getItemStack(), DRIVES, TYPES, OPERATIONS))
+              .thenSucceed();
+    }
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that the counts, type ids, and which drives contain each type stay consistent through " + LARGE_OPERATIONS
+                              + " inserts and extracts across " + LARGE_TYPES + " types, the same workload as a frequency with a lot of import and export busses.")
+    public static void largeMixedInsertExtractStaysConsistent(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> helper.setBlock(BlockPos.ZERO, MekanismBlocks.QIO_DRIVE_ARRAY.defaultState()))
+              .thenExecute(() -> checkMixedInsertExtract(helper, MekanismItems.SUPERMASSIVE_QIO_DRIVE.getItemStack(), LARGE_DRIVES, LARGE_TYPES, LARGE_OPERATIONS))
+              .thenSucceed();
+    }
+
+    private static void checkMixedInsertExtract(MekGameTestHelper helper, ItemStack drive, int drives, int typeCount, int operations) {
+        TileEntityQIODriveArray driveArray = helper.requireBlockEntity(BlockPos.ZERO, TileEntityQIODriveArray.class);
+        QIOFrequency frequency = new QIOFrequency("consistency", UUID.randomUUID(), SecurityMode.PUBLIC);
+        List<QIODriveKey> keys = addDrives(driveArray, frequency, drive, drives);
+        ItemStack[] types = createTypes(typeCount);
+        long[] expected = new long[typeCount];
+        RandomSource random = RandomSource.create(0);
+        try {
+            for (int i = 0; i < operations; i++) {
+                int type = random.nextInt(typeCount);
+                long amount = 1 + random.nextInt(512);
+                if (random.nextInt(3) == 0) {
+                    long extracted = frequency.massExtract(types[type], amount, Action.EXECUTE);
+                    helper.assertValueEqual(extracted, Math.min(amount, expected[type]), "Extracted items");
+                    expected[type] -= extracted;
+                } else {
+                    expected[type] += frequency.massInsert(types[type], amount, Action.EXECUTE);
+                }
+            }
+            assertConsistent(helper, frequency, keys, types, expected);
+            for (int type = 0; type < typeCount; type++) {
+                expected[type] -= frequency.massExtract(types[type], expected[type], Action.EXECUTE);
+            }
+            assertConsistent(helper, frequency, keys, types, expected);
+            helper.assertValueEqual(frequency.getTotalItemTypes(false), 0, "Stored types");
+        } finally {
+            removeDrives(frequency, keys);
+        }
+    }
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that extracting without a type takes the type that was inserted first, even if a later type reuses a lower id.")
+    public static void untypedExtractTakesOldestType(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> helper.setBlock(BlockPos.ZERO, MekanismBlocks.QIO_DRIVE_ARRAY.defaultState()))
+              .thenExecute(() -> {
+                  TileEntityQIODriveArray driveArray = helper.requireBlockEntity(BlockPos.ZERO, TileEntityQIODriveArray.class);
+                  QIOFrequency frequency = new QIOFrequency("order", UUID.randomUUID(), SecurityMode.PUBLIC);
+                  List<QIODriveKey> keys = addDrives(driveArray, frequency, MekanismItems.BASE_QIO_DRIVE.getItemStack(), DRIVES);
+                  ItemStack[] types = createTypes(TYPES);
+                  try {
+                      frequency.massInsert(types[0], 1, Action.EXECUTE);
+                      frequency.massInsert(types[1], 1, Action.EXECUTE);
+                      //Free the first id, so that it gets reused by the next type
+                      frequency.massExtract(types[0], 1, Action.EXECUTE);
+                      frequency.massInsert(types[2], 1, Action.EXECUTE);
+                      helper.assertTrue(frequency.getTypeId(HashedItem.raw(types[2])) < frequency.getTypeId(HashedItem.raw(types[1])),
+                            "Expected the newest type to reuse the lower id");
+                      helper.assertTrue(ItemStack.isSameItemSameComponents(frequency.removeItem(1), types[1]), "Expected the oldest type to be extracted first");
+                      helper.assertTrue(ItemStack.isSameItemSameComponents(frequency.removeItem(1), types[2]), "Expected the newest type to be extracted last");
+                  } finally {
+                      removeDrives(frequency, keys);
+                  }
+              })
+              .thenSucceed();
+    }
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that drive contents survive being saved and loaded again, and that only drives that changed get saved again.")
+    public static void driveContentsSaveOnlyWhenChanged(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> helper.setBlock(BlockPos.ZERO, MekanismBlocks.QIO_DRIVE_ARRAY.defaultState()))
+              .thenExecute(() -> {
+                  TileEntityQIODriveArray driveArray = helper.requireBlockEntity(BlockPos.ZERO, TileEntityQIODriveArray.class);
+                  QIOFrequency frequency = new QIOFrequency("saving", UUID.randomUUID(), SecurityMode.PUBLIC);
+                  List<QIODriveKey> keys = addDrives(driveArray, frequency, MekanismItems.BASE_QIO_DRIVE.getItemStack(), DRIVES);
+                  ItemStack[] types = createTypes(TYPES);
+                  try {
+                      //More types than fit in the first drive, so that both drives contain something
+                      for (int type = 0; type < TYPES; type++) {
+                          frequency.massInsert(types[type], 1 + type, Action.EXECUTE);
+                      }
+                      frequency.saveAll();
+                      for (QIODriveKey key : keys) {
+                          QIODriveData drive = frequency.getDriveData(key);
+                          DriveContents contents = key.getDriveStack().getOrDefault(MekanismDataComponents.DRIVE_CONTENTS, DriveContents.EMPTY);
+                          helper.assertValueEqual(contents.types(), drive.getTotalTypes(), "Saved types");
+                          //Round trip the contents through how they are written to disk and to the client
+                          helper.assertValueEqual(DriveContents.CODEC.parse(NbtOps.INSTANCE, DriveContents.CODEC.encodeStart(NbtOps.INSTANCE, contents).getOrThrow())
+                                .getOrThrow(), contents, "Contents after saving to NBT");
+                          ByteBuf buffer = Unpooled.buffer();
+                          try {
+                              DriveContents.STREAM_CODEC.encode(buffer, contents);
+                              helper.assertValueEqual(DriveContents.STREAM_CODEC.decode(buffer), contents, "Contents after syncing");
+                          } finally {
+                              buffer.release();
+                          }
+                          //And make sure loading the drive again gives back the same items
+                          helper.assertValueEqual(new QIODriveData(key).getItemMap(), drive.getItemMap(), "Loaded items");
+                      }
+                      //Replace what is saved on the stacks, so that we can tell which drives get saved again
+                      for (QIODriveKey key : keys) {
+                          key.getDriveStack().set(MekanismDataComponents.DRIVE_CONTENTS, DriveContents.EMPTY);
+                      }
+                      //Add more of the last type, which only fits in the drive that wasn't filled up with types first
+                      HashedItem lastType = HashedItem.raw(types[TYPES - 1]);
+                      QIODriveKey changedKey = null;
+                      QIODriveKey unchangedKey = null;
+                      for (QIODriveKey key : keys) {
+                          if (frequency.getDriveData(key).getStored(lastType) > 0) {
+                              changedKey = key;
+                          } else {
+                              unchangedKey = key;
+                          }
+                      }
+                      helper.assertTrue(changedKey != null && unchangedKey != null, "Expected the last type to only be in one of the drives");
+                      QIODriveData changed = frequency.getDriveData(changedKey);
+                      long stored = changed.getStored(lastType);
+                      frequency.massInsert(types[TYPES - 1], 1, Action.EXECUTE);
+                      helper.assertValueEqual(changed.getStored(lastType), stored + 1, "Count of the last type in the drive that contains it");
+                      frequency.saveAll();
+                      helper.assertValueEqual(unchangedKey.getDriveStack().get(MekanismDataComponents.DRIVE_CONTENTS), DriveContents.EMPTY,
+                            "Contents of the unchanged drive");
+                      helper.assertValueEqual(changedKey.getDriveStack().get(MekanismDataComponents.DRIVE_CONTENTS).types(), changed.getTotalTypes(),
+                            "Saved types of the changed drive");
+                      //Once saved, the changed drive is up to date again, so saving shouldn't touch it
+                      changedKey.getDriveStack().set(MekanismDataComponents.DRIVE_CONTENTS, DriveContents.EMPTY);
+                      frequency.saveAll();
+                      helper.assertValueEqual(changedKey.getDriveStack().get(MekanismDataComponents.DRIVE_CONTENTS), DriveContents.EMPTY,
+                            "Contents of the drive that was already saved");
+                  } finally {
+                      removeDrives(frequency, keys);
+                  }
+              })
+              .thenSucceed();
+    }
+
+    private static List<QIODriveKey> addDrives(TileEntityQIODriveArray driveArray, QIOFrequency frequency, ItemStack drive, int drives) {
+        List<QIODriveKey> keys = new ArrayList<>(drives);
+        for (int i = 0; i < drives; i++) {
+            //Note: The drive array doesn't have a frequency, so setting the drive doesn't add it to anything
+            driveArray.getDriveSlots().get(i).setStackUnchecked(drive.copy());
+            QIODriveKey key = driveArray.getDriveSlots().get(i).getKey();
+            frequency.addDrive(key);
+            keys.add(key);
+        }
+        return keys;
+    }
+
+    private static void removeDrives(QIOFrequency frequency, List<QIODriveKey> keys) {
+        for (QIODriveKey key : keys) {
+            frequency.removeDrive(key, false);
+        }
+    }
+
+    private static ItemStack[] createTypes(int count) {
+        ItemStack[] types = new ItemStack[count];
+        for (int i = 0; i < count; i++) {
+            ItemStack stack = new ItemStack(Items.STONE);
+            stack.set(DataComponents.CUSTOM_MODEL_DATA, new CustomModelData(i));
+            types[i] = stack;
+        }
+        return types;
+    }
+
+    private static void assertConsistent(MekGameTestHelper helper, QIOFrequency frequency, List<QIODriveKey> keys, ItemStack[] types, long[] expected) {
+        long totalCount = 0;
+        int storedTypes = 0;
+        IntSet ids = new IntOpenHashSet();
+        for (int i = 0; i < types.length; i++) {
+            HashedItem type = HashedItem.raw(types[i]);
+            helper.assertValueEqual(frequency.getStoredByHash(type), expected[i], "Count of type " + i);
+            int id = frequency.getTypeId(type);
+            if (expected[i] == 0) {
+                helper.assertValueEqual(id, -1, "Id of empty type " + i);
+            } else {
+                helper.assertTrue(id != -1 && ids.add(id), "Expected type " + i + " to have a unique id");
+                totalCount += expected[i];
+                storedTypes++;
+            }
+            long inDrives = 0;
+            for (QIODriveKey key : keys) {
+                QIODriveData drive = frequency.getDriveData(key);
+                long stored = drive.getStored(type);
+                inDrives += stored;
+                if (id != -1) {
+                    helper.assertValueEqual(drive.hasTypeId(id), stored > 0, "Whether the drive is marked as containing type " + i);
+                }
+            }
+            helper.assertValueEqual(inDrives, expected[i], "Count of type " + i + " across the drives");
+        }
+        helper.assertValueEqual(frequency.getTotalItemCount(), totalCount, "Stored items");
+        helper.assertValueEqual(frequency.getTotalItemTypes(false), storedTypes, "Stored types");
+    }
+}
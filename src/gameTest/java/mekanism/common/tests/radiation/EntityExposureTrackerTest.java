@@ -0,0 +1,59 @@
+package mekanism.common.tests.radiation;
+
+import java.util.HashSet;
+import java.util.Set;
+import mekanism.common.lib.EntityExposureTracker;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.AABB;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.EmptyTemplate;
+
+@ForEachTest(groups = "radiation")
+public class EntityExposureTrackerTest {
+
+    @GameTest
+    @EmptyTemplate("32x4x32")
+    @TestHolder(description = "Tests that zones that share sections are given the same entities as looking up each zone directly.")
+    public static void sharedSweepMatchesDirectLookup(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> {
+                  for (int x = 1; x < 32; x += 6) {
+                      for (int z = 1; z < 32; z += 6) {
+                          helper.spawn(EntityType.ARMOR_STAND, new BlockPos(x, 1, z));
+                          helper.spawn(EntityType.ITEM, new BlockPos(x, 1, z));
+                      }
+                  }
+              })
+              .thenExecute(() -> {
+                  //Overlapping zones that both cross section boundaries
+                  AABB first = new AABB(helper.absolutePos(new BlockPos(0, 0, 0))).expandTowards(20, 3, 12);
+                  AABB second = new AABB(helper.absolutePos(new BlockPos(10, 0, 6))).expandTowards(21, 3, 25);
+                  boolean[] checked = new boolean[3];
+                  checkZone(helper, first, Entity.class, checked, 0);
+                  checkZone(helper, second, LivingEntity.class, checked, 1);
+                  checkZone(helper, first, LivingEntity.class, checked, 2);
+                  EntityExposureTracker.tick(helper.getLevel());
+                  //Make sure the entities were actually given to every zone, as the assertions only happen when they are
+                  for (int i = 0; i < checked.length; i++) {
+                      helper.assertTrue(checked[i], "Expected zone " + i + " to have been given its entities");
+                  }
+              })
+              .thenSucceed();
+    }
+
+    private static <ENTITY extends Entity> void checkZone(MekGameTestHelper helper, AABB zone, Class<ENTITY> type, boolean[] checked, int index) {
+        Set<ENTITY> expected = new HashSet<>(helper.getLevel().getEntitiesOfClass(type, zone));
+        helper.assertFalse(expected.isEmpty(), "Expected the zone to contain entities");
+        EntityExposureTracker.query(helper.getLevel(), zone, type, entities -> {
+            helper.assertValueEqual(entities.size(), expected.size(), "Number of entities in the zone");
+            helper.assertTrue(expected.containsAll(entities), "Expected the same entities as looking up the zone directly");
+            checked[index] = true;
+        });
+    }
+}
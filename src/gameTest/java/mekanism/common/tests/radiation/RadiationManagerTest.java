@@ -0,0 +1,102 @@
+package mekanism.common.tests.radiation;
+
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.api.radiation.IRadiationSource;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.config.value.CachedBooleanValue;
+import mekanism.common.lib.radiation.RadiationManager;
+import mekanism.common.lib.radiation.RadiationManager.LevelAndMaxMagnitude;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.EmptyTemplate;
+
+@ForEachTest(groups = "radiation")
+public class RadiationManagerTest {
+
+    private static final int SOURCES = 1_000;
+    private static final int ENTITIES = 2_000;
+    private static final int SPREAD = 256;
+
+    @GameTest(batch = "radiation_index")
+    @EmptyTemplate
+    @TestHolder(description = "Tests that looking up the radiation level with the spatial index of sources matches checking every source, for " + SOURCES
+                              + " sources and " + ENTITIES + " positions.")
+    public static void indexedExposureMatchesBruteForce(final MekGameTestHelper helper) {
+        RadiationManager manager = RadiationManager.get();
+        CachedBooleanValue radiationEnabled = MekanismConfig.general.radiationEnabled;
+        helper.startSequence()
+              .thenExecute(() -> {
+                  //Make sure radiation is enabled so that the sources actually get added
+                  boolean wasEnabled = radiationEnabled.get();
+                  radiationEnabled.set(true);
+                  RandomSource random = RandomSource.create(0);
+                  BlockPos origin = helper.absolutePos(BlockPos.ZERO);
+                  List<GlobalPos> sources = new ArrayList<>(SOURCES);
+                  try {
+                      for (int i = 0; i < SOURCES; i++) {
+                          GlobalPos pos = GlobalPos.of(helper.getLevel().dimension(), origin.offset(random.nextInt(SPREAD), random.nextInt(32), random.nextInt(SPREAD)));
+                          sources.add(pos);
+                          manager.radiate(pos, 0.01 + random.nextDouble());
+                      }
+                      int irradiated = 0;
+                      for (int i = 0; i < ENTITIES; i++) {
+                          GlobalPos pos = GlobalPos.of(helper.getLevel().dimension(), origin.offset(random.nextInt(SPREAD), random.nextInt(32), random.nextInt(SPREAD)));
+                          if (assertMatches(helper, manager, pos) > RadiationManager.BASELINE) {
+                              irradiated++;
+                          }
+                      }
+                      //Make sure we actually compared against some radiation, rather than everything being at the baseline
+                      helper.assertTrue(irradiated > 0, "Expected some of the positions to be irradiated");
+                      //Remove a source and make sure the cached nearby sources forget about it
+                      GlobalPos removed = sources.getFirst();
+                      manager.removeRadiationSource(removed);
+                      assertMatches(helper, manager, removed);
+                  } finally {
+                      sources.forEach(manager::removeRadiationSource);
+                      radiationEnabled.set(wasEnabled);
+                  }
+              })
+              .thenSucceed();
+    }
+
+    /**
+     * @return The radiation level at the position.
+     */
+    private static double assertMatches(MekGameTestHelper helper, RadiationManager manager, GlobalPos pos) {
+        LevelAndMaxMagnitude expected = bruteForce(manager, pos);
+        LevelAndMaxMagnitude actual = manager.getRadiationLevelAndMaxMagnitude(pos);
+        if (Math.abs(expected.level() - actual.level()) > 1e-9 * expected.level() || expected.maxMagnitude() != actual.maxMagnitude()) {
+            helper.fail("Indexed exposure " + actual + " does not match " + expected, helper.relativePos(pos.pos()));
+        }
+        return actual.level();
+    }
+
+    private static LevelAndMaxMagnitude bruteForce(RadiationManager manager, GlobalPos pos) {
+        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
+        double maxRange = Mth.square(radius * 16);
+        int chunkX = SectionPos.blockToSectionCoord(pos.pos().getX());
+        int chunkZ = SectionPos.blockToSectionCoord(pos.pos().getZ());
+        double level = RadiationManager.BASELINE;
+        double maxMagnitude = RadiationManager.BASELINE;
+        for (IRadiationSource source : manager.getRadiationSources().values()) {
+            GlobalPos sourcePos = source.getPos();
+            if (sourcePos.dimension() == pos.dimension() && Math.abs(SectionPos.blockToSectionCoord(sourcePos.pos().getX()) - chunkX) <= radius
+                && Math.abs(SectionPos.blockToSectionCoord(sourcePos.pos().getZ()) - chunkZ) <= radius) {
+                double distSqr = sourcePos.pos().distSqr(pos.pos());
+                if (distSqr <= maxRange) {
+                    level += source.getMagnitude() / Math.max(1, distSqr);
+                    maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
+                }
+            }
+        }
+        return new LevelAndMaxMagnitude(level, maxMagnitude);
+    }
+}
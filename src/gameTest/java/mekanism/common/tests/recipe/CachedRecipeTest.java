@@ -0,0 +1,86 @@
+package mekanism.common.tests.recipe;
+
+import java.util.function.BooleanSupplier;
+import mekanism.api.recipes.basic.BasicCombinerRecipe;
+import mekanism.api.recipes.basic.BasicCrushingRecipe;
+import mekanism.api.recipes.cache.CachedRecipe;
+import mekanism.api.recipes.cache.CachedRecipe.OperationTracker.RecipeError;
+import mekanism.api.recipes.cache.OneInputCachedRecipe;
+import mekanism.api.recipes.cache.TwoInputCachedRecipe;
+import mekanism.api.recipes.ingredients.creator.IngredientCreatorAccess;
+import mekanism.api.recipes.inputs.InputHelper;
+import mekanism.api.recipes.outputs.OutputHelper;
+import mekanism.common.inventory.slot.BasicInventorySlot;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.EmptyTemplate;
+
+@ForEachTest(groups = "recipe.cached")
+public class CachedRecipeTest {
+
+    private static final int TICKS = 1_000;
+    private static final BooleanSupplier NEVER_RECHECK = () -> false;
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Processes a single input cached recipe " + TICKS + " times, and checks that blocking the output reports the right error, and that "
+                              + "unblocking it clears the error.")
+    public static void oneInputProcessing(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> {
+                  BasicInventorySlot input = BasicInventorySlot.at(null, 0, 0);
+                  BasicInventorySlot output = BasicInventorySlot.at(null, 0, 0);
+                  input.setStack(new ItemStack(Items.COBBLESTONE, 64));
+                  BasicCrushingRecipe recipe = new BasicCrushingRecipe(IngredientCreatorAccess.item().from(Items.COBBLESTONE), new ItemStack(Items.GRAVEL));
+                  OneInputCachedRecipe<?, ?, ?> cachedRecipe = OneInputCachedRecipe.itemToItem(recipe, NEVER_RECHECK,
+                        InputHelper.getInputHandler(input, RecipeError.NOT_ENOUGH_INPUT), OutputHelper.getOutputHandler(output, RecipeError.NOT_ENOUGH_OUTPUT_SPACE));
+                  processAndCheckErrors(helper, cachedRecipe, output);
+              })
+              .thenSucceed();
+    }
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Processes a two input cached recipe " + TICKS + " times, and checks that blocking the output reports the right error, and that "
+                              + "unblocking it clears the error.")
+    public static void twoInputProcessing(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> {
+                  BasicInventorySlot mainInput = BasicInventorySlot.at(null, 0, 0);
+                  BasicInventorySlot extraInput = BasicInventorySlot.at(null, 0, 0);
+                  BasicInventorySlot output = BasicInventorySlot.at(null, 0, 0);
+                  mainInput.setStack(new ItemStack(Items.RAW_IRON, 64));
+                  extraInput.setStack(new ItemStack(Items.COBBLESTONE, 64));
+                  BasicCombinerRecipe recipe = new BasicCombinerRecipe(IngredientCreatorAccess.item().from(Items.RAW_IRON),
+                        IngredientCreatorAccess.item().from(Items.COBBLESTONE), new ItemStack(Items.IRON_ORE));
+                  TwoInputCachedRecipe<?, ?, ?, ?> cachedRecipe = TwoInputCachedRecipe.combiner(recipe, NEVER_RECHECK,
+                        InputHelper.getInputHandler(mainInput, RecipeError.NOT_ENOUGH_INPUT), InputHelper.getInputHandler(extraInput, RecipeError.NOT_ENOUGH_SECONDARY_INPUT),
+                        OutputHelper.getOutputHandler(output, RecipeError.NOT_ENOUGH_OUTPUT_SPACE));
+                  processAndCheckErrors(helper, cachedRecipe, output);
+              })
+              .thenSucceed();
+    }
+
+    private static void processAndCheckErrors(MekGameTestHelper helper, CachedRecipe<?> cachedRecipe, BasicInventorySlot output) {
+        boolean[] outputBlocked = new boolean[1];
+        //Never finish processing so that every tick does the full calculation without changing the inputs or outputs
+        cachedRecipe.setRequiredTicks(() -> Integer.MAX_VALUE)
+              .setErrorsChanged(errors -> outputBlocked[0] = errors.contains(RecipeError.NOT_ENOUGH_OUTPUT_SPACE));
+        for (int i = 0; i < TICKS; i++) {
+            cachedRecipe.process();
+        }
+        helper.assertFalse(outputBlocked[0], "Expected the output to not be reported as blocked while it has space");
+
+        output.setStack(new ItemStack(Items.STONE, 64));
+        cachedRecipe.process();
+        helper.assertTrue(outputBlocked[0], "Expected blocked output to be reported as an error");
+        output.setEmpty();
+        cachedRecipe.unpauseErrors();
+        cachedRecipe.process();
+        helper.assertFalse(outputBlocked[0], "Expected unblocked output to no longer be reported as an error");
+    }
+}
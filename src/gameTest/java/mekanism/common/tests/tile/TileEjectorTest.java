@@ -0,0 +1,69 @@
+package mekanism.common.tests.tile;
+
+import mekanism.api.Action;
+import mekanism.api.AutomationType;
+import mekanism.api.RelativeSide;
+import mekanism.api.chemical.ChemicalStack;
+import mekanism.common.lib.transmitter.TransmissionType;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.registries.MekanismChemicals;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import mekanism.common.tile.TileEntityChemicalTank;
+import mekanism.common.tile.component.TileComponentConfig;
+import mekanism.common.tile.component.config.ConfigInfo;
+import mekanism.common.tile.component.config.DataType;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.gametest.framework.GameTest;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.EmptyTemplate;
+
+@ForEachTest(groups = "tile.ejector")
+public class TileEjectorTest {
+
+    private static final BlockPos SOURCE = BlockPos.ZERO;
+    private static final BlockPos TARGET = SOURCE.east();
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that a chemical tank ejects into a neighboring tank, and that changing the side config stops it from ejecting to that side.")
+    public static void ejectsUntilSideConfigChanges(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> {
+                  helper.setBlock(SOURCE, MekanismBlocks.BASIC_CHEMICAL_TANK.defaultState());
+                  helper.setBlock(TARGET, MekanismBlocks.BASIC_CHEMICAL_TANK.defaultState());
+              })
+              .thenExecute(() -> {
+                  TileEntityChemicalTank source = helper.requireBlockEntity(SOURCE, TileEntityChemicalTank.class);
+                  TileEntityChemicalTank target = helper.requireBlockEntity(TARGET, TileEntityChemicalTank.class);
+                  setDataType(target, Direction.WEST, DataType.INPUT);
+                  setDataType(source, Direction.EAST, DataType.OUTPUT);
+                  source.getConfig().getConfig(TransmissionType.CHEMICAL).setEjecting(true);
+                  ChemicalStack remainder = source.getChemicalTank().insert(MekanismChemicals.HYDROGEN.getStack(source.getChemicalTank().getCapacity()), Action.EXECUTE,
+                        AutomationType.INTERNAL);
+                  helper.assertTrue(remainder.isEmpty(), "Expected source tank to be filled");
+              })
+              .thenIdle(5)
+              .thenExecute(() -> {
+                  TileEntityChemicalTank target = helper.requireBlockEntity(TARGET, TileEntityChemicalTank.class);
+                  helper.assertFalse(target.getChemicalTank().isEmpty(), "Expected source tank to eject into the target tank");
+                  setDataType(helper.requireBlockEntity(SOURCE, TileEntityChemicalTank.class), Direction.EAST, DataType.NONE);
+                  //Clear the target so that we can see if anything else gets ejected into it
+                  target.getChemicalTank().setEmpty();
+              })
+              .thenIdle(5)
+              .thenExecute(() -> helper.assertTrue(helper.requireBlockEntity(TARGET, TileEntityChemicalTank.class).getChemicalTank().isEmpty(),
+                    "Expected source tank to stop ejecting to a side that is no longer configured as an output"))
+              .thenSucceed();
+    }
+
+    private static void setDataType(TileEntityChemicalTank tile, Direction direction, DataType dataType) {
+        TileComponentConfig config = tile.getConfig();
+        ConfigInfo info = config.getConfig(TransmissionType.CHEMICAL);
+        RelativeSide side = RelativeSide.fromDirections(tile.getDirection(), direction);
+        if (info.setDataType(dataType, side)) {
+            config.sideChanged(TransmissionType.CHEMICAL, side);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package mekanism.common.tests.tile;
+
+import mekanism.api.Action;
+import mekanism.api.AutomationType;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import mekanism.common.tile.base.TileEntityMekanism;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.EmptyTemplate;
+
+@ForEachTest(groups = "tile.sleep")
+public class TileSleepTest {
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that a machine without any input goes to sleep, and that inserting an input wakes it back up.")
+    public static void idleMachineSleepsUntilInputChanges(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> helper.setBlock(BlockPos.ZERO, MekanismBlocks.ENRICHMENT_CHAMBER.defaultState()))
+              .thenIdle(5)
+              .thenExecute(() -> helper.assertTrue(helper.requireBlockEntity(BlockPos.ZERO, TileEntityMekanism.class).isSleeping(),
+                    "Expected machine without any input to be sleeping"))
+              .thenExecute(() -> {
+                  TileEntityMekanism tile = helper.requireBlockEntity(BlockPos.ZERO, TileEntityMekanism.class);
+                  //Note: The first slot is the input slot
+                  ItemStack remainder = tile.getInventorySlots(null).getFirst().insertItem(new ItemStack(Items.IRON_ORE), Action.EXECUTE, AutomationType.EXTERNAL);
+                  helper.assertTrue(remainder.isEmpty(), "Expected input to be inserted");
+                  helper.assertFalse(tile.isSleeping(), "Expected inserting an input to wake the machine up");
+              })
+              .thenSucceed();
+    }
+}
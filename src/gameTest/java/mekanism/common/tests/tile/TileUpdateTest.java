@@ -0,0 +1,44 @@
+package mekanism.common.tests.tile;
+
+import mekanism.api.Action;
+import mekanism.api.AutomationType;
+import mekanism.common.network.to_client.PacketUpdateTile.TileUpdate;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import mekanism.common.tile.TileEntityFluidTank;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.world.level.material.Fluids;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.EmptyTemplate;
+
+@ForEachTest(groups = "tile.update")
+public class TileUpdateTest {
+
+    @GameTest
+    @EmptyTemplate
+    @TestHolder(description = "Tests that tile updates only contain what changed since the last update, and that nothing is synced if nothing changed.")
+    public static void updatesOnlyContainChanges(final MekGameTestHelper helper) {
+        helper.startSequence()
+              .thenExecute(() -> helper.setBlock(BlockPos.ZERO, MekanismBlocks.BASIC_FLUID_TANK.defaultState()))
+              .thenExecute(() -> {
+                  TileEntityFluidTank tank = helper.requireBlockEntity(BlockPos.ZERO, TileEntityFluidTank.class);
+                  RegistryAccess registryAccess = helper.getLevel().registryAccess();
+                  //Act as if vanilla had sent the full update tag to a single player that started tracking the tank
+                  tank.getUpdateTag(registryAccess);
+                  TileUpdate full = tank.createUpdate(registryAccess);
+                  helper.assertTrue(full != null && full.full(), "Expected a full update after vanilla synced the tile");
+                  helper.assertTrue(tank.createUpdate(registryAccess) == null, "Expected no update when nothing changed");
+
+                  tank.fluidTank.insert(new FluidStack(Fluids.WATER, 1_000), Action.EXECUTE, AutomationType.INTERNAL);
+                  TileUpdate partial = tank.createUpdate(registryAccess);
+                  helper.assertTrue(partial != null && !partial.full(), "Expected a partial update after the tank was filled");
+                  helper.assertTrue(!partial.changed().isEmpty() && partial.changed().size() < full.changed().size(),
+                        "Expected the partial update to only contain the entries that changed");
+              })
+              .thenSucceed();
+    }
+}
\ No newline at end of file
@@ -33,6 +33,7 @@ import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.integration.computer.annotation.SyntheticComputerMethod;
 import mekanism.common.integration.computer.annotation.WrappingComputerMethod;
 import mekanism.common.inventory.container.sync.dynamic.ContainerSync;
+import mekanism.common.lib.EntityExposureTracker;
 import mekanism.common.lib.multiblock.IValveHandler;
 import mekanism.common.lib.multiblock.MultiblockCache;
 import mekanism.common.lib.multiblock.MultiblockData;
@@ -486,14 +487,13 @@ public class FissionReactorMultiblockData extends MultiblockData implements IVal
     private void radiateEntities(Level world) {
         IRadiationManager radiationManager = IRadiationManager.INSTANCE;
         if (radiationManager.isRadiationEnabled() && isBurning() && world.getRandom().nextInt() % SharedConstants.TICKS_PER_SECOND == 0) {
-            List<LivingEntity> entitiesToRadiate = getLevel().getEntitiesOfClass(LivingEntity.class, hotZone);
-            if (!entitiesToRadiate.isEmpty()) {
+            EntityExposureTracker.query(world, hotZone, LivingEntity.class, entitiesToRadiate -> {
                 double wasteRadiation = getWasteTankRadioactivity(false) / 3_600F; // divide down to Sv/s
                 double magnitude = lastBurnRate + wasteRadiation;
                 for (LivingEntity entity : entitiesToRadiate) {
                     radiationManager.radiate(entity, magnitude);
                 }
-            }
+            });
         }
     }
 
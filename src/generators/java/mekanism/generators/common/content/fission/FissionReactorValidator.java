@@ -49,8 +49,8 @@ public class FissionReactorValidator extends CuboidStructureValidator<FissionRea
     }
 
     @Override
-    protected boolean validateInner(BlockState state, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
-        if (super.validateInner(state, chunkMap, pos)) {
+    protected boolean isValidInner(BlockState state) {
+        if (super.isValidInner(state)) {
             return true;
         }
         return BlockType.is(state.getBlock(), GeneratorsBlockTypes.FISSION_FUEL_ASSEMBLY, GeneratorsBlockTypes.CONTROL_ROD_ASSEMBLY);
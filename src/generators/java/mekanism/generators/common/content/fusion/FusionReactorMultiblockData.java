@@ -29,6 +29,7 @@ import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.integration.computer.annotation.SyntheticComputerMethod;
 import mekanism.common.integration.computer.annotation.WrappingComputerMethod;
 import mekanism.common.inventory.container.sync.dynamic.ContainerSync;
+import mekanism.common.lib.EntityExposureTracker;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.lib.multiblock.MultiblockData;
 import mekanism.common.registries.MekanismChemicals;
@@ -286,11 +287,11 @@ public class FusionReactorMultiblockData extends MultiblockData {
         if (world.getRandom().nextInt() % SharedConstants.TICKS_PER_SECOND != 0) {
             return;
         }
-        List<Entity> entitiesToDie = getLevel().getEntitiesOfClass(Entity.class, deathZone);
-
-        for (Entity entity : entitiesToDie) {
-            entity.hurt(entity.damageSources().magic(), 50_000F);
-        }
+        EntityExposureTracker.query(world, deathZone, Entity.class, entitiesToDie -> {
+            for (Entity entity : entitiesToDie) {
+                entity.hurt(entity.damageSources().magic(), 50_000F);
+            }
+        });
     }
 
     private void vaporiseHohlraum() {
@@ -8,6 +8,7 @@ import mekanism.client.render.tileentity.RenderSPS;
 import mekanism.client.sound.SoundHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.base.IModModule;
+import mekanism.common.content.qio.QIOItemViewerSync;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.security.SecurityData;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
@@ -76,6 +77,7 @@ public class MekanismClient {
         ClientTickHandler.visionEnhancement = false;
         SoundHandler.radiationSoundMap.clear();
         MekanismRecipeType.clearCache();
+        QIOItemViewerSync.resetClient();
 
         resetDimensionChange();
 
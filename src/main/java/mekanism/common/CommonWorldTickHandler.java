@@ -10,19 +10,25 @@ import java.util.Queue;
 import java.util.function.Predicate;
 import mekanism.api.SerializationConstants;
 import mekanism.api.security.IBlockSecurityUtils;
+import mekanism.common.base.ProfilerConstants;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
+import mekanism.common.lib.EntityExposureTracker;
+import mekanism.common.lib.TickProfiler;
 import mekanism.common.lib.frequency.FrequencyManager;
+import mekanism.common.lib.multiblock.FormationProtocol;
 import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
+import mekanism.common.network.TileUpdateBatcher;
 import mekanism.common.util.WorldUtils;
 import mekanism.common.world.GenHandler;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.ExperienceOrb;
 import net.minecraft.world.entity.item.ItemEntity;
@@ -112,6 +118,14 @@ public class CommonWorldTickHandler {
         }
     }
 
+    @SubscribeEvent
+    public void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (!event.getLevel().isClientSide()) {
+            //Make sure any multiblocks that are being scanned off thread don't form based on what the block used to be
+            FormationProtocol.onBlockChanged(event.getLevel(), event.getPos());
+        }
+    }
+
     @SubscribeEvent(priority = EventPriority.HIGHEST)
     public synchronized void chunkSave(ChunkDataEvent.Save event) {
         LevelAccessor world = event.getLevel();
@@ -179,14 +193,26 @@ public class CommonWorldTickHandler {
     @SubscribeEvent
     public void onTick(ServerTickEvent.Post event) {
         boolean tickingNormally = event.getServer().tickRateManager().runsNormally();
+        ProfilerFiller profiler = event.getServer().getProfiler();
+        profiler.push(ProfilerConstants.FREQUENCIES);
         FrequencyManager.tick(tickingNormally);
+        profiler.popPush(ProfilerConstants.RADIATION);
         RadiationManager.get().tickServer(tickingNormally);
+        profiler.pop();
+        TickProfiler.onServerTick();
+    }
+
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    public void flushTileUpdates(ServerTickEvent.Post event) {
+        //Send any tile updates at the very end of the tick, so that they include anything that changed while other things were handling the tick ending
+        TileUpdateBatcher.flush();
     }
 
     @SubscribeEvent
     public void onTick(LevelTickEvent.Post event) {
         if (event.getLevel() instanceof ServerLevel world) {
             RadiationManager.get().tickServerWorld(world);
+            EntityExposureTracker.tick(world);
             //Note: We flush the tag and recipe cache, and also perform retrogen, regardless of if the ticks are frozen or not
             if (flushTagAndRecipeCaches) {
                 //Loop all open containers and if it is a portable qio dashboard force refresh the window's recipes
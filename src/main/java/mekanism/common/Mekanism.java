@@ -41,6 +41,7 @@ import mekanism.common.content.network.ChemicalNetwork.ChemicalTransferEvent;
 import mekanism.common.content.network.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.content.network.FluidNetwork.FluidTransferEvent;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
+import mekanism.common.content.qio.QIOItemViewerSync;
 import mekanism.common.content.sps.SPSCache;
 import mekanism.common.content.sps.SPSMultiblockData;
 import mekanism.common.content.sps.SPSValidator;
@@ -56,17 +57,22 @@ import mekanism.common.item.block.machine.ItemBlockFluidTank.FluidTankItemDispen
 import mekanism.common.item.interfaces.IHasConditionalAttributes;
 import mekanism.common.item.loot.MekanismLootFunctions;
 import mekanism.common.item.predicate.MekanismItemPredicates;
+import mekanism.common.lib.EntityExposureTracker;
 import mekanism.common.lib.MekAnnotationScanner;
+import mekanism.common.lib.TickProfiler;
 import mekanism.common.lib.Version;
+import mekanism.common.lib.WorkerPool;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.inventory.personalstorage.PersonalStorageManager;
+import mekanism.common.lib.multiblock.FormationProtocol;
 import mekanism.common.lib.multiblock.MultiblockCache;
 import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.network.PacketHandler;
 import mekanism.common.network.PacketUtils;
+import mekanism.common.network.TileUpdateBatcher;
 import mekanism.common.network.to_client.transmitter.PacketChemicalNetworkContents;
 import mekanism.common.network.to_client.transmitter.PacketFluidNetworkContents;
 import mekanism.common.network.to_client.transmitter.PacketNetworkScale;
@@ -305,13 +311,19 @@ public class Mekanism {
 
         //Reset consistent managers
         QIOGlobalItemLookup.INSTANCE.reset();
+        QIOItemViewerSync.reset();
         RadiationManager.get().reset();
         MultiblockManager.reset();
+        FormationProtocol.reset();
+        EntityExposureTracker.reset();
         FrequencyManager.reset();
         TransporterManager.reset();
         PathfinderCache.reset();
         TransmitterNetworkRegistry.reset();
+        TickProfiler.reset();
+        TileUpdateBatcher.reset();
         GenHandler.reset();
+        WorkerPool.shutdown();
         PersonalStorageManager.reset();
     }
 
@@ -168,6 +168,19 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_CHUNK_LOADED("command", "chunk.loaded"),
     COMMAND_CHUNK_UNLOADED("command", "chunk.unloaded"),
     COMMAND_DEBUG("command", "debug"),
+    COMMAND_DEBUG_CONTAINERS("command", "debug.containers"),
+    COMMAND_DEBUG_CONTAINERS_NONE("command", "debug.containers.none"),
+    COMMAND_DEBUG_PATHFINDER("command", "debug.pathfinder"),
+    COMMAND_DEBUG_RECIPES("command", "debug.recipes"),
+    COMMAND_DEBUG_RECIPES_NONE("command", "debug.recipes.none"),
+    COMMAND_DEBUG_SLEEPING("command", "debug.sleeping"),
+    COMMAND_DEBUG_SLEEPING_NONE("command", "debug.sleeping.none"),
+    COMMAND_PROFILE_NONE("command", "profile.none"),
+    COMMAND_PROFILE_OFFENDER("command", "profile.offender"),
+    COMMAND_PROFILE_OFFENDERS("command", "profile.offenders"),
+    COMMAND_PROFILE_RESET("command", "profile.reset"),
+    COMMAND_PROFILE_SECTION("command", "profile.section"),
+    COMMAND_PROFILE_SECTIONS("command", "profile.sections"),
     COMMAND_TEST_RULES("command", "testrules"),
     COMMAND_TP("command", "tp"),
     COMMAND_TPOP("command", "tpop"),
@@ -632,6 +645,7 @@ public enum MekanismLang implements ILangEntry {
     NETWORK_READER_TEMPERATURE("network_reader", "temperature"),
     NETWORK_READER_TRANSMITTERS("network_reader", "transmitters"),
     NETWORK_READER_ACCEPTORS("network_reader", "acceptors"),
+    NETWORK_READER_SKIPPED_SIMULATIONS("network_reader", "skipped_simulations"),
     NETWORK_READER_NEEDED("network_reader", "needed"),
     NETWORK_READER_BUFFER("network_reader", "buffer"),
     NETWORK_READER_THROUGHPUT("network_reader", "throughput"),
@@ -5,7 +5,7 @@ import io.netty.buffer.ByteBuf;
 import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongSortedMap;
-import it.unimi.dsi.fastutil.objects.Object2LongSortedMaps;
+import java.util.Arrays;
 import java.util.UUID;
 import java.util.function.LongBinaryOperator;
 import java.util.stream.LongStream;
@@ -13,92 +13,138 @@ import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.common.content.qio.QIODriveData;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
 import mekanism.common.lib.inventory.HashedItem;
-import net.minecraft.core.UUIDUtil;
-import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.VarLong;
 import net.minecraft.network.codec.StreamCodec;
 
-@NothingNullByDefault//Sorted map so that the save order is consistent
-public record DriveContents(Object2LongSortedMap<UUID> namedItemMap) {
+/**
+ * The items stored in a drive, in the same compact form that is saved to the stack. This form is a single long array that stores the data in partitions of three. The
+ * first partition stores the most significant bits of the UUID that represents the stack, the second partition stores the least significant bits, and the final
+ * partition stores the amount of the item that is stored in the drive. This maxes out at using {@code 3 * types per drive size * bytes per long + bytes per int} bytes
+ * to store just the array of items to in the drive. For our max drive size this is equivalent to {@code 3 * 8,192 * 8 + 4 = 196,612} bytes.
+ * <br><br>
+ * As we keep the data in the form it is saved in, saving the drive contents doesn't require building any intermediary maps.
+ *
+ * @param data The serialized item map. This must not be modified.
+ */
+@NothingNullByDefault
+public record DriveContents(long[] data) {
 
-    public static final DriveContents EMPTY = new DriveContents(Object2LongSortedMaps.emptyMap());
+    public static final DriveContents EMPTY = new DriveContents(new long[0]);
     private static final LongBinaryOperator SUM = Long::sum;
 
     public static final Codec<DriveContents> CODEC = Codec.LONG_STREAM.xmap(
           stream -> readSerializedItemMap(stream.toArray()),
-          contents -> LongStream.of(contents.serializeItemMap())
+          contents -> LongStream.of(contents.data)
+    );
+    public static final StreamCodec<ByteBuf, DriveContents> STREAM_CODEC = StreamCodec.of(
+          (buffer, contents) -> {
+              long[] data = contents.data;
+              VarInt.write(buffer, data.length / 3);
+              for (int i = 0; i < data.length; i++) {
+                  buffer.writeLong(data[i++]);
+                  buffer.writeLong(data[i++]);
+                  VarLong.write(buffer, data[i]);
+              }
+          }, buffer -> {
+              int types = VarInt.read(buffer);
+              if (types == 0) {
+                  return EMPTY;
+              }
+              long[] data = new long[3 * types];
+              for (int i = 0; i < data.length; i++) {
+                  data[i++] = buffer.readLong();
+                  data[i++] = buffer.readLong();
+                  data[i] = VarLong.read(buffer);
+              }
+              return new DriveContents(data);
+          }
     );
-    public static final StreamCodec<ByteBuf, DriveContents> STREAM_CODEC = ByteBufCodecs.<ByteBuf, UUID, Long, Object2LongSortedMap<UUID>>map(
-                Object2LongLinkedOpenHashMap::new, UUIDUtil.STREAM_CODEC, ByteBufCodecs.VAR_LONG)
-          .map(DriveContents::new, DriveContents::namedItemMap);
 
     public DriveContents {
-        //Make the map unmodifiable to ensure we don't accidentally mutate it
-        namedItemMap = Object2LongSortedMaps.unmodifiable(namedItemMap);
+        if (data.length % 3 != 0) {
+            throw new IllegalArgumentException("Drive contents must be made up of a uuid and count for each type");
+        }
     }
 
-    public static DriveContents create(QIODriveData data) {
-        Object2LongMap<HashedItem> itemMap = data.getItemMap();
-        if (itemMap.isEmpty()) {
+    /**
+     * Creates drive contents from the given map of item UUIDs to the amount stored, with the types in the same order as the map.
+     */
+    public static DriveContents create(Object2LongSortedMap<UUID> namedItemMap) {
+        if (namedItemMap.isEmpty()) {
             return EMPTY;
         }
-        Object2LongSortedMap<UUID> namedItemMap = new Object2LongLinkedOpenHashMap<>(itemMap.size());
-        for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
-            namedItemMap.put(QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(entry.getKey()), entry.getLongValue());
+        int i = 0;
+        long[] data = new long[3 * namedItemMap.size()];
+        for (Object2LongMap.Entry<UUID> entry : namedItemMap.object2LongEntrySet()) {
+            UUID uuid = entry.getKey();
+            data[i++] = uuid.getMostSignificantBits();
+            data[i++] = uuid.getLeastSignificantBits();
+            data[i++] = entry.getLongValue();
+        }
+        return new DriveContents(data);
+    }
+
+    /**
+     * @return A new map of the item UUIDs in this drive to the amount stored.
+     */
+    public Object2LongSortedMap<UUID> namedItemMap() {
+        Object2LongSortedMap<UUID> namedItemMap = new Object2LongLinkedOpenHashMap<>(data.length / 3);
+        for (int i = 0; i < data.length; i++) {
+            namedItemMap.put(new UUID(data[i++], data[i++]), data[i]);
         }
-        return new DriveContents(namedItemMap);
+        return namedItemMap;
+    }
+
+    public int types() {
+        return data.length / 3;
     }
 
     public void loadItemMap(QIODriveData data) {
         Object2LongMap<HashedItem> itemMap = data.getItemMap();
-        for (Object2LongMap.Entry<UUID> entry : namedItemMap.object2LongEntrySet()) {
-            HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(entry.getKey());
+        for (int i = 0; i < this.data.length; i++) {
+            HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(new UUID(this.data[i++], this.data[i++]));
             if (type != null) {
                 //Only add the item if the item type is known. If it can't that means the mod adding the item was probably removed
                 //TODO: Eventually we may want to keep the UUID so that if the mod gets added back it exists again?
-                itemMap.put(type, entry.getLongValue());
+                itemMap.put(type, this.data[i]);
             }
         }
     }
 
-    /**
-     * Writes the item map in a compact form to the stack. This compact form is a single long array tag that stores the data in partitions of three. The first partition
-     * stores the most significant bits of the UUID that represents the stack, the second partition stores the least significant bits, and the final partition stores the
-     * amount of the item that is stored in the drive. This maxes out at using {@code 3 * types per drive size * bytes per long + bytes per int} bytes to store just the
-     * array of items to in the drive. For our max drive size this is equivalent to {@code 3 * 8,192 * 8 + 4 = 196,612} bytes.
-     */
-    private long[] serializeItemMap() {
-        int i = 0;
-        long[] serializedItemMap = new long[3 * namedItemMap.size()];
-        for (Object2LongMap.Entry<UUID> entry : namedItemMap.object2LongEntrySet()) {
-            UUID uuid = entry.getKey();
-            serializedItemMap[i++] = uuid.getMostSignificantBits();
-            serializedItemMap[i++] = uuid.getLeastSignificantBits();
-            serializedItemMap[i++] = entry.getLongValue();
-        }
-        return serializedItemMap;
-    }
-
     private static DriveContents readSerializedItemMap(long[] serializedItemMap) {
         if (serializedItemMap.length > 0 && serializedItemMap.length % 3 == 0) {
             //Ensure we have valid data and not some value we don't know how to process
+            if (!QIOGlobalItemLookup.INSTANCE.hasAliases()) {
+                //If we have no aliases stored in the lookup, we can just short circuit to directly using the saved data
+                return new DriveContents(serializedItemMap);
+            }
             Object2LongSortedMap<UUID> namedItemMap = new Object2LongLinkedOpenHashMap<>();
-            boolean hasAliases = QIOGlobalItemLookup.INSTANCE.hasAliases();
             for (int i = 0; i < serializedItemMap.length; i++) {
                 UUID savedUUID = new UUID(serializedItemMap[i++], serializedItemMap[i++]);
-                long storedCount = serializedItemMap[i];
-                if (!hasAliases) {
-                    //If we have no aliases stored in the lookup, we can just short circuit to directly adding the id
-                    namedItemMap.put(savedUUID, storedCount);
-                } else {
-                    //Note: getWinningId, will return the passed in id if there isn't an id to remap it to
-                    UUID winningId = QIOGlobalItemLookup.INSTANCE.getWinningId(savedUUID);
-                    //We merge regardless of if our item had an alias or not, so that we don't fail on the
-                    // case where we load the alias version first, and then the one that is new might override it
-                    namedItemMap.mergeLong(winningId, storedCount, SUM);
-                }
+                //Note: getWinningId, will return the passed in id if there isn't an id to remap it to
+                UUID winningId = QIOGlobalItemLookup.INSTANCE.getWinningId(savedUUID);
+                //We merge regardless of if our item had an alias or not, so that we don't fail on the
+                // case where we load the alias version first, and then the one that is new might override it
+                namedItemMap.mergeLong(winningId, serializedItemMap[i], SUM);
             }
-            return new DriveContents(namedItemMap);
+            return create(namedItemMap);
         }
         return EMPTY;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || o instanceof DriveContents other && Arrays.equals(data, other.data);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(data);
+    }
+
+    @Override
+    public String toString() {
+        return "DriveContents[types=" + types() + "]";
+    }
 }
\ No newline at end of file
@@ -43,6 +43,9 @@ public class MekanismPermissions {
     public static final CommandPermissionNode COMMAND_DEBUG = nodeOpCommand("debug");
     public static final CommandPermissionNode COMMAND_FORCE_RETROGEN = nodeOpCommand("force_retrogen");
 
+    public static final CommandPermissionNode COMMAND_PROFILE = nodeOpCommand("profile");
+    public static final CommandPermissionNode COMMAND_PROFILE_RESET = nodeSubCommand(COMMAND_PROFILE, "reset");
+
     public static final CommandPermissionNode COMMAND_RADIATION = nodeOpCommand("radiation");
     public static final CommandPermissionNode COMMAND_RADIATION_ADD = nodeSubCommand(COMMAND_RADIATION, "add");
     public static final CommandPermissionNode COMMAND_RADIATION_ADD_ENTITY = nodeSubCommand(COMMAND_RADIATION, "add_entity");
@@ -26,6 +26,13 @@ public class ProfilerConstants {
     public static final String THERMOELECTRIC_BOILER = "thermoelectricBoiler";
     public static final String SPS = "supercriticalPhaseShifter";
 
+    //Server
+    public static final String ENTITY_EXPOSURE = "mekanismEntityExposure";
+    public static final String FREQUENCIES = "mekanismFrequencies";
+    public static final String MULTIBLOCKS = "mekanismMultiblocks";
+    public static final String RADIATION = "mekanismRadiation";
+    public static final String TRANSMITTER_NETWORKS = "mekanismTransmitterNetworks";
+
     //Sub parts
     private static final String CORE = "core";
 
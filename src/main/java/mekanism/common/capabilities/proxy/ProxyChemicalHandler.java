@@ -3,6 +3,7 @@ package mekanism.common.capabilities.proxy;
 import java.util.Collections;
 import java.util.List;
 import mekanism.api.Action;
+import mekanism.api.IChangeTrackingHandler;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.IChemicalHandler;
@@ -14,7 +15,7 @@ import net.minecraft.core.Direction;
 import org.jetbrains.annotations.Nullable;
 
 @NothingNullByDefault
-public class ProxyChemicalHandler extends ProxyHandler implements IChemicalHandler {
+public class ProxyChemicalHandler extends ProxyHandler implements IChemicalHandler, IChangeTrackingHandler {
 
     private final ISidedChemicalHandler sidedHandler;
 
@@ -90,4 +91,8 @@ public class ProxyChemicalHandler extends ProxyHandler implements IChemicalHandl
         return readOnlyExtract() ? ChemicalStack.EMPTY : sidedHandler.extractChemical(stack, side, action);
     }
 
+    @Override
+    public long getChangeVersion() {
+        return sidedHandler instanceof IChangeTrackingHandler tracking ? tracking.getChangeVersion() : UNTRACKED;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package mekanism.common.capabilities.proxy;
 
 import mekanism.api.Action;
+import mekanism.api.IChangeTrackingHandler;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.fluid.IExtendedFluidHandler;
 import mekanism.api.fluid.ISidedFluidHandler;
@@ -10,7 +11,7 @@ import net.neoforged.neoforge.fluids.FluidStack;
 import org.jetbrains.annotations.Nullable;
 
 @NothingNullByDefault
-public class ProxyFluidHandler extends ProxyHandler implements IExtendedFluidHandler {
+public class ProxyFluidHandler extends ProxyHandler implements IExtendedFluidHandler, IChangeTrackingHandler {
 
     private final ISidedFluidHandler fluidHandler;
 
@@ -74,4 +75,9 @@ public class ProxyFluidHandler extends ProxyHandler implements IExtendedFluidHan
     public FluidStack extractFluid(FluidStack stack, Action action) {
         return readOnlyExtract() ? FluidStack.EMPTY : fluidHandler.extractFluid(stack, side, action);
     }
+
+    @Override
+    public long getChangeVersion() {
+        return fluidHandler instanceof IChangeTrackingHandler tracking ? tracking.getChangeVersion() : UNTRACKED;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package mekanism.common.capabilities.proxy;
 
 import mekanism.api.Action;
+import mekanism.api.IChangeTrackingHandler;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.energy.ISidedStrictEnergyHandler;
 import mekanism.api.energy.IStrictEnergyHandler;
@@ -9,7 +10,7 @@ import net.minecraft.core.Direction;
 import org.jetbrains.annotations.Nullable;
 
 @NothingNullByDefault
-public class ProxyStrictEnergyHandler extends ProxyHandler implements IStrictEnergyHandler {
+public class ProxyStrictEnergyHandler extends ProxyHandler implements IStrictEnergyHandler, IChangeTrackingHandler {
 
     private final ISidedStrictEnergyHandler energyHandler;
 
@@ -64,4 +65,9 @@ public class ProxyStrictEnergyHandler extends ProxyHandler implements IStrictEne
     public long extractEnergy(long amount, Action action) {
         return readOnlyExtract() ? 0L : energyHandler.extractEnergy(amount, side, action);
     }
+
+    @Override
+    public long getChangeVersion() {
+        return energyHandler instanceof IChangeTrackingHandler tracking ? tracking.getChangeVersion() : UNTRACKED;
+    }
 }
\ No newline at end of file
@@ -1,30 +1,47 @@
 package mekanism.common.command;
 
 
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.UUID;
 import mekanism.api.MekanismAPI;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.MekanismPermissions;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.inventory.container.MekanismContainer;
+import mekanism.common.inventory.container.MekanismContainer.SyncStats;
+import mekanism.common.lib.TickProfiler;
+import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.tile.base.TileEntityMekanism;
+import mekanism.common.util.RegistryUtils;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
+import mekanism.common.util.text.TextUtils;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.coordinates.Coordinates;
 import net.minecraft.commands.arguments.coordinates.Vec3Argument;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ChunkHolder;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.GameRules;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.phys.Vec3;
 
 public class CommandMek {
@@ -41,6 +58,7 @@ public class CommandMek {
               .then(ChunkCommand.register())
               .then(DebugCommand.register())
               .then(ForceRetrogenCommand.register())
+              .then(ProfileCommand.register())
               .then(RadiationCommand.register())
               .then(TestRulesCommand.register())
               .then(TpCommand.register())
@@ -56,7 +74,133 @@ public class CommandMek {
                       MekanismAPI.debug = !MekanismAPI.debug;
                       ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG.translateColored(EnumColor.GRAY, OnOff.of(MekanismAPI.debug, true)), true);
                       return 0;
-                  });
+                  })
+                  .then(Commands.literal("containers")
+                        .executes(ctx -> {
+                            Map<ResourceLocation, SyncStats> stats = MekanismContainer.getSyncStats();
+                            CommandSourceStack source = ctx.getSource();
+                            if (stats.isEmpty()) {
+                                source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_CONTAINERS_NONE.translateColored(EnumColor.GRAY), false);
+                            } else {
+                                for (Map.Entry<ResourceLocation, SyncStats> entry : stats.entrySet()) {
+                                    SyncStats stat = entry.getValue();
+                                    source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_CONTAINERS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, entry.getKey(),
+                                          EnumColor.INDIGO, stat.bytes(), EnumColor.INDIGO, stat.packets()), false);
+                                }
+                            }
+                            return stats.size();
+                        })
+                  )
+                  .then(Commands.literal("pathfinder")
+                        .executes(ctx -> {
+                            PathfinderCache.Stats stats = PathfinderCache.getStats();
+                            ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_PATHFINDER.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stats.paths(),
+                                  EnumColor.INDIGO, stats.networks(), EnumColor.INDIGO, stats.hits(), EnumColor.INDIGO, stats.misses(), EnumColor.INDIGO,
+                                  stats.evictions()), false);
+                            return stats.paths();
+                        })
+                  )
+                  .then(Commands.literal("recipes")
+                        .executes(ctx -> {
+                            int recipeTypes = 0;
+                            for (Holder<RecipeType<?>> entry : MekanismRecipeType.RECIPE_TYPES.getEntries()) {
+                                if (entry.value() instanceof MekanismRecipeType<?, ?, ?> recipeType) {
+                                    long hits = recipeType.getMemoHits();
+                                    long misses = recipeType.getMemoMisses();
+                                    if (hits > 0 || misses > 0) {
+                                        recipeTypes++;
+                                        ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_RECIPES.translateColored(EnumColor.GRAY, EnumColor.INDIGO,
+                                              recipeType.getRegistryName(), EnumColor.INDIGO, hits, EnumColor.INDIGO, misses), false);
+                                    }
+                                }
+                            }
+                            if (recipeTypes == 0) {
+                                ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_RECIPES_NONE.translateColored(EnumColor.GRAY), false);
+                            }
+                            return recipeTypes;
+                        })
+                  )
+                  .then(Commands.literal("sleeping")
+                        .executes(ctx -> {
+                            //Counts of sleeping and awake tiles, sorted by the name of the tile type
+                            Map<ResourceLocation, int[]> counts = new TreeMap<>();
+                            for (ServerLevel level : ctx.getSource().getServer().getAllLevels()) {
+                                for (ChunkHolder holder : level.getChunkSource().chunkMap.getChunks()) {
+                                    LevelChunk chunk = holder.getTickingChunk();
+                                    if (chunk != null) {
+                                        for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+                                            if (blockEntity instanceof TileEntityMekanism tile) {
+                                                int[] count = counts.computeIfAbsent(RegistryUtils.getName(tile.getType()), name -> new int[2]);
+                                                count[tile.isSleeping() ? 0 : 1]++;
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                            CommandSourceStack source = ctx.getSource();
+                            if (counts.isEmpty()) {
+                                source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_SLEEPING_NONE.translateColored(EnumColor.GRAY), false);
+                            } else {
+                                for (Map.Entry<ResourceLocation, int[]> entry : counts.entrySet()) {
+                                    int[] count = entry.getValue();
+                                    source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_SLEEPING.translateColored(EnumColor.GRAY, EnumColor.INDIGO, entry.getKey(),
+                                          EnumColor.INDIGO, count[0], EnumColor.INDIGO, count[1]), false);
+                                }
+                            }
+                            return counts.size();
+                        })
+                  );
+        }
+    }
+
+    private static class ProfileCommand {
+
+        private static final int DEFAULT_COUNT = 10;
+
+        static ArgumentBuilder<CommandSourceStack, ?> register() {
+            return Commands.literal("profile")
+                  .requires(MekanismPermissions.COMMAND_PROFILE)
+                  .executes(ctx -> report(ctx.getSource(), DEFAULT_COUNT))
+                  .then(Commands.argument("count", IntegerArgumentType.integer(1))
+                        .executes(ctx -> report(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "count")))
+                  ).then(Commands.literal("reset")
+                        .requires(MekanismPermissions.COMMAND_PROFILE_RESET)
+                        .executes(ctx -> {
+                            TickProfiler.reset();
+                            ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_PROFILE_RESET.translateColored(EnumColor.GRAY), true);
+                            return 0;
+                        })
+                  );
+        }
+
+        private static int report(CommandSourceStack source, int count) {
+            List<TickProfiler.Stats> sections = TickProfiler.getTopSections(count);
+            if (sections.isEmpty()) {
+                source.sendSuccess(() -> MekanismLang.COMMAND_PROFILE_NONE.translateColored(EnumColor.GRAY), false);
+                return 0;
+            }
+            long ticks = Math.max(1, TickProfiler.getTicks());
+            source.sendSuccess(() -> MekanismLang.COMMAND_PROFILE_SECTIONS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, ticks), false);
+            for (TickProfiler.Stats stats : sections) {
+                source.sendSuccess(() -> MekanismLang.COMMAND_PROFILE_SECTION.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stats.section(), EnumColor.INDIGO,
+                      toMillis(stats.nanos()), EnumColor.INDIGO, stats.calls(), EnumColor.INDIGO, toMillis(stats.nanos() / ticks)), false);
+            }
+            List<TickProfiler.Stats> offenders = TickProfiler.getTopOffenders(count);
+            if (!offenders.isEmpty()) {
+                source.sendSuccess(() -> MekanismLang.COMMAND_PROFILE_OFFENDERS.translateColored(EnumColor.GRAY), false);
+                for (TickProfiler.Stats stats : offenders) {
+                    BlockPos pos = stats.pos();
+                    Object dimension = stats.dimension() == null ? "?" : stats.dimension().location();
+                    source.sendSuccess(() -> MekanismLang.COMMAND_PROFILE_OFFENDER.translateColored(EnumColor.GRAY, EnumColor.INDIGO, stats.section(), EnumColor.INDIGO,
+                          MekanismLang.GENERIC_BLOCK_POS.translate(pos.getX(), pos.getY(), pos.getZ()), EnumColor.INDIGO, dimension, EnumColor.INDIGO,
+                          toMillis(stats.nanos()), EnumColor.INDIGO, stats.calls()), false);
+                }
+            }
+            return sections.size();
+        }
+
+        private static String toMillis(long nanos) {
+            return TextUtils.format(nanos / 1_000_000D);
         }
     }
 
@@ -33,6 +33,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedBooleanValue logPackets;
     public final CachedBooleanValue allowChunkloading;
     public final CachedIntValue blockDeactivationDelay;
+    public final CachedIntValue containerSyncInterval;
+    public final CachedIntValue entityZoneEmptyInterval;
     public final CachedBooleanValue strictUnboxing;
     public final CachedConfigValue<List<? extends String>> cardboardModBlacklist;
     public final CachedBooleanValue transmitterAlloyUpgrade;
@@ -48,7 +50,14 @@ public class GeneralConfig extends BaseMekanismConfig {
     //Auto eject
     public final CachedIntValue fluidAutoEjectRate;
     public final CachedLongValue chemicalAutoEjectRate;
+    public final CachedIntValue autoEjectInterval;
     public final CachedDoubleValue dumpExcessKeepRatio;
+    //Transmitter Networks
+    public final CachedBooleanValue parallelNetworkUpdates;
+    public final CachedIntValue parallelNetworkThreshold;
+    public final CachedIntValue transporterPathCacheSize;
+    public final CachedBooleanValue transporterAsyncPathfinding;
+    public final CachedBooleanValue packedHeatSimulation;
     //Dynamic Tank
     public final CachedIntValue dynamicTankFluidPerTank;
     public final CachedLongValue dynamicTankChemicalPerTank;
@@ -76,6 +85,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue minerMaxRadius;
     public final CachedIntValue minerTicksPerMine;
     public final CachedBooleanValue easyMinerFilters;
+    public final CachedIntValue minerSearchPaletteLifetime;
     //Laser
     public final CachedBooleanValue aestheticWorldDamage;
     public final CachedIntValue laserRange;
@@ -92,6 +102,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedLongValue entangloporterEnergyBuffer;
     public final CachedIntValue entangloporterFluidBuffer;
     public final CachedLongValue entangloporterChemicalBuffer;
+    //QIO
+    public final CachedIntValue qioViewerUpdateRate;
     //Security
     public final CachedBooleanValue allowProtection;
     public final CachedBooleanValue opsBypassRestrictions;
@@ -131,6 +143,10 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("allowChunkloading", true));
         blockDeactivationDelay = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_DEACTIVATION_DELAY.applyToBuilder(builder)
               .defineInRange("blockDeactivationDelay", 3 * SharedConstants.TICKS_PER_SECOND, 0, SharedConstants.TICKS_PER_MINUTE));
+        containerSyncInterval = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_CONTAINER_SYNC_INTERVAL.applyToBuilder(builder)
+              .defineInRange("containerSyncInterval", 1, 1, SharedConstants.TICKS_PER_SECOND));
+        entityZoneEmptyInterval = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_ENTITY_ZONE_EMPTY_INTERVAL.applyToBuilder(builder)
+              .defineInRange("entityZoneEmptyInterval", 1, 1, SharedConstants.TICKS_PER_MINUTE));
         aestheticWorldDamage = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_AESTHETIC_DAMAGE.applyToBuilder(builder)
               .define("aestheticWorldDamage", true));
         transmitterAlloyUpgrade = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_ALLOY_UPGRADING.applyToBuilder(builder)
@@ -177,10 +193,25 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("fluid", 1_024, 1, Integer.MAX_VALUE));
         chemicalAutoEjectRate = CachedLongValue.wrap(this, MekanismConfigTranslations.GENERAL_AUTO_EJECT_RATE_CHEMICAL.applyToBuilder(builder)
               .defineInRange("chemical", 1_024L, 1, Long.MAX_VALUE));
+        autoEjectInterval = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_AUTO_EJECT_INTERVAL.applyToBuilder(builder)
+              .defineInRange("interval", 1, 1, SharedConstants.TICKS_PER_SECOND * 5));
         dumpExcessKeepRatio = CachedDoubleValue.wrap(this, MekanismConfigTranslations.GENERAL_AUTO_EJECT_EXCESS.applyToBuilder(builder)
               .defineInRange("dumpExcessKeepRatio", 0.85D, 0.001D, 1D));
         builder.pop();
 
+        MekanismConfigTranslations.GENERAL_NETWORKS.applyToBuilder(builder).push("transmitter_networks");
+        parallelNetworkUpdates = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_NETWORKS_PARALLEL.applyToBuilder(builder)
+              .define("parallelUpdates", false));
+        parallelNetworkThreshold = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_NETWORKS_PARALLEL_THRESHOLD.applyToBuilder(builder)
+              .defineInRange("parallelThreshold", 64, 1, Integer.MAX_VALUE));
+        transporterPathCacheSize = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_NETWORKS_PATH_CACHE_SIZE.applyToBuilder(builder)
+              .defineInRange("transporterPathCacheSize", 1_024, 1, Integer.MAX_VALUE));
+        transporterAsyncPathfinding = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_NETWORKS_ASYNC_PATHFINDING.applyToBuilder(builder)
+              .define("transporterAsyncPathfinding", false));
+        packedHeatSimulation = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_NETWORKS_PACKED_HEAT.applyToBuilder(builder)
+              .define("packedHeatSimulation", false));
+        builder.pop();
+
         MekanismConfigTranslations.GENERAL_PREFILLED_TANKS.applyToBuilder(builder).push("prefilled");
         prefilledFluidTanks = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_PREFILLED_TANKS_FLUID.applyToBuilder(builder)
               .define("fluidTanks", true));
@@ -233,6 +264,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("ticksPerMine", 80, 1, Integer.MAX_VALUE));
         easyMinerFilters = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_MINER_EASY_FILTERS.applyToBuilder(builder)
               .define("easyMinerFilters", false));
+        minerSearchPaletteLifetime = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_MINER_SEARCH_PALETTE_LIFETIME.applyToBuilder(builder)
+              .defineInRange("searchPaletteLifetime", SharedConstants.TICKS_PER_MINUTE, 0, Integer.MAX_VALUE));
         builder.pop();
 
         MekanismConfigTranslations.GENERAL_LASER.applyToBuilder(builder).push("laser");
@@ -270,6 +303,11 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("chemicalBuffer", ChemicalTankTier.ULTIMATE.getBaseStorage(), 1, Long.MAX_VALUE));
         builder.pop();
 
+        MekanismConfigTranslations.GENERAL_QIO.applyToBuilder(builder).push("qio");
+        qioViewerUpdateRate = CachedIntValue.wrap(this, MekanismConfigTranslations.GENERAL_QIO_VIEWER_UPDATE_RATE.applyToBuilder(builder)
+              .defineInRange("viewerUpdateRate", 10, 1, SharedConstants.TICKS_PER_SECOND));
+        builder.pop();
+
         MekanismConfigTranslations.GENERAL_SECURITY.applyToBuilder(builder).push("security");
         allowProtection = CachedBooleanValue.wrap(this, MekanismConfigTranslations.GENERAL_SECURITY_ENABLED.applyToBuilder(builder)
               .define("allowProtection", true));
@@ -115,6 +115,13 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
           "How many ticks must pass until a block's active state is synced with the client when the block stops being active. This prevents rapid state changes "
           + "that can cause lag. Note: Mekanism's blocks always sync immediately when they go from inactive to active; this only controls the time it takes to go from "
           + "active to inactive."),
+    GENERAL_CONTAINER_SYNC_INTERVAL("general.misc.container_sync_interval", "Container Sync Interval",
+          "Minimum number of ticks between each time changes to the data shown in an open Mekanism GUI are synced to the client. Raising this reduces the bandwidth "
+          + "used by large GUIs at the cost of them updating less often."),
+    GENERAL_ENTITY_ZONE_EMPTY_INTERVAL("general.misc.entity_zone_empty_interval", "Empty Entity Zone Interval",
+          "Minimum number of ticks before a zone that affects entities, such as the hot zone of a Fission Reactor or the inside of a Fusion Reactor or SPS, is checked "
+          + "for entities again after it was found to be empty. Raising this lowers the cost of many running reactors at the cost of entities that enter an empty zone "
+          + "being affected slightly later."),
     GENERAL_AESTHETIC_DAMAGE("general.misc.aesthetic_damage", "Aesthetic World Damage", "If enabled, lasers can break blocks and the flamethrower can start fires."),
     GENERAL_ALLOY_UPGRADING("general.misc.alloy_upgrading", "Alloy Transmitter Upgrading",
           "Allow upgrading Universal Cables, Mechanical Pipes, Pressurized Tubes, Logistical Transporters, and Thermodynamic Conductors by right clicking them "
@@ -153,8 +160,28 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
     GENERAL_AUTO_EJECT("general.auto_eject", "Auto Eject Settings", "Settings for configuring Auto Eject from block entities", "Edit Ejection Settings"),
     GENERAL_AUTO_EJECT_RATE_FLUID("general.auto_eject.rate.fluid", "Fluid Rate", "Rate in mB/t at which fluid gets auto ejected from block entities."),
     GENERAL_AUTO_EJECT_RATE_CHEMICAL("general.auto_eject.rate.chemical", "Chemical Rate", "Rate in mB/t at which chemicals gets auto ejected from block entities."),
+    GENERAL_AUTO_EJECT_INTERVAL("general.auto_eject.interval", "Eject Interval",
+          "Number of ticks between each time block entities try to auto eject chemicals, fluids, and energy. The amount ejected at once is scaled by the interval "
+          + "so that the rates stay the same, but raising it lowers the cost of blocks that have nowhere to eject to."),
     GENERAL_AUTO_EJECT_EXCESS("general.auto_eject.excess", "Excess Percentage", "The percentage of a tank's capacity to leave contents in when set to dumping excess."),
 
+    GENERAL_NETWORKS("general.networks", "Transmitter Network Settings", "Settings for configuring how transmitter networks are updated", true),
+    GENERAL_NETWORKS_PARALLEL("general.networks.parallel", "Parallel Updates",
+          "If enabled, energy, fluid, and chemical networks that do not share any acceptors with other networks calculate which acceptors they can emit to on worker "
+          + "threads, and then only insert on the server thread. Only enable this if all the blocks connected to your networks are able to simulate insertion safely "
+          + "off the server thread. Networks connected to different ports of the same multiblock may split their contents slightly differently than when disabled."),
+    GENERAL_NETWORKS_PARALLEL_THRESHOLD("general.networks.parallel.threshold", "Parallel Update Threshold",
+          "Minimum number of independent networks there must be before their updates are prepared in parallel. Requires parallel updates to be enabled."),
+    GENERAL_NETWORKS_PATH_CACHE_SIZE("general.networks.path_cache_size", "Transporter Path Cache Size",
+          "Maximum number of paths each logistical transporter network keeps cached. Once a network has cached this many paths, the least recently used ones are "
+          + "forgotten."),
+    GENERAL_NETWORKS_ASYNC_PATHFINDING("general.networks.async_pathfinding", "Async Transporter Pathfinding",
+          "If enabled, logistical transporters find new paths for items that are already travelling through them on worker threads. The items wait in the "
+          + "transporter until their new path has been found and checked on the server thread. Paths for items entering the network are still found immediately."),
+    GENERAL_NETWORKS_PACKED_HEAT("general.networks.packed_heat", "Packed Heat Simulation",
+          "If enabled, heat networks simulate all their conductors at once using data that is only gathered again when the network changes, instead of each "
+          + "conductor simulating itself. Very large networks are simulated on worker threads. Results may differ very slightly due to floating point rounding."),
+
     GENERAL_PREFILLED_TANKS("general.prefilled_tanks", "Prefilled Tanks", "Settings for configuring Prefilled Tanks", true),
     GENERAL_PREFILLED_TANKS_FLUID("general.prefilled_tanks.fluid", "Fluid Tanks",
           "Add filled variants of creative fluid tanks to creative/recipe viewers for all registered fluids."),
@@ -200,6 +227,10 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
     GENERAL_MINER_EASY_FILTERS("general.miner.easy_filters", "Easy Miner Filters",
           "Allows dragging items from recipe viewers into the target slot of Digital Miner filters. This allows selecting specific blocks without having to acquire "
           + "an instance of the block first."),
+    GENERAL_MINER_SEARCH_PALETTE_LIFETIME("general.miner.search_palette_lifetime", "Search Palette Lifetime",
+          "How long in ticks a Digital Miner remembers the blocks its search found, so that searching again after changing filters only has to check each distinct "
+          + "block against the new filters instead of reading every block again. Blocks placed in the miner's area by something other than the miner during this time "
+          + "will not be found by such searches. Set to 0 to always read every block."),
 
     GENERAL_LASER("general.laser", "Laser Settings", "Settings for configuring Lasers", true),
     GENERAL_LASER_RANGE("general.laser.range", "Range", "How far in blocks a laser can travel."),
@@ -230,6 +261,10 @@ public enum MekanismConfigTranslations implements IConfigTranslation {
     GENERAL_QE_BUFFER_CHEMICAL("general.qe.buffer.chemical", "Chemical Buffer",
           "Maximum chemical buffer (mb) of an Entangoloporter frequency - i.e. the maximum transfer per tick per frequency. Default is the ultimate chemical tank's capacity."),
 
+    GENERAL_QIO("general.qio", "QIO Settings", "Settings for configuring Mekanism's QIO system", true),
+    GENERAL_QIO_VIEWER_UPDATE_RATE("general.qio.viewer_update_rate", "Item Viewer Update Rate",
+          "Maximum number of times per second that changes to the items stored in a QIO frequency are sent to each player viewing them. Changes that happen in between are combined into a single update."),
+
     GENERAL_SECURITY("general.security", "Block security/protection Settings", "Settings for configuring Mekanism's security system", true),
     GENERAL_SECURITY_ENABLED("general.security.enabled", "Allow Protection",
           "Enable the security system. This allows players to prevent other players from accessing their machines. Does NOT affect Frequencies."),
@@ -34,8 +34,8 @@ public class BoilerValidator extends CuboidStructureValidator<BoilerMultiblockDa
     }
 
     @Override
-    protected boolean validateInner(BlockState state, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
-        if (super.validateInner(state, chunkMap, pos)) {
+    protected boolean isValidInner(BlockState state) {
+        if (super.isValidInner(state)) {
             return true;
         }
         return BlockType.is(state.getBlock(), MekanismBlockTypes.PRESSURE_DISPERSER, MekanismBlockTypes.SUPERHEATING_ELEMENT);
@@ -1,9 +1,7 @@
 package mekanism.common.content.matrix;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Map;
-import java.util.Set;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
 import mekanism.api.annotations.NothingNullByDefault;
@@ -22,7 +20,6 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     private final Map<BlockPos, InductionProviderTier> providers = new Object2ObjectOpenHashMap<>();
     private final Map<BlockPos, IEnergyContainer> cells = new Object2ObjectOpenHashMap<>();
-    private final Set<BlockPos> invalidPositions = new ObjectOpenHashSet<>();
 
     //TODO: Eventually we could look into extending FloatingLong to have a "BigInt" styled implementation that is used by the class
     // at the very least for keeping track of the cached values and rates
@@ -30,6 +27,10 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     private long queuedInput = 0L;
     private long lastOutput = 0L;
     private long lastInput = 0L;
+    /**
+     * The net amount of the queued input and output that has already been applied to the cells this tick, due to a cell being removed.
+     */
+    private long appliedQueue = 0L;
 
     private long cachedTotal = 0L;
     private long transferCap = 0L;
@@ -54,23 +55,19 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         transferCap = MathUtils.addClamped(transferCap, provider.tier.getOutput());
     }
 
-    //TODO: I believe this is needed or at least will be after we eventually rewrite some of the multiblock system
-    // currently I think it may just be rechecking the entire structure when something changes internally
-    // We need to validate that does properly happen even if the cell is floating in the middle and not touching any walls
-    // We may also want to make cells and providers extend TileEntityInternalMultiblock
+    /**
+     * Stops keeping track of a cell or provider that was removed from the matrix, without the matrix having to be formed again.
+     */
     public void removeInternal(BlockPos pos) {
-        if (invalidPositions.add(pos)) {
-            if (providers.containsKey(pos)) {
-                //It is a provider
-                transferCap -= providers.get(pos).getOutput();
-            } else if (cells.containsKey(pos)) {
-                //It is a cell
-                //TODO: Handle this better, as I believe we *technically* could have this cause the cached total to become negative
-                // It may work better if we just flush the buffer writing immediately, and then recalculate the cached totals/caps
-                IEnergyContainer cellContainer = cells.get(pos);
-                storageCap += cellContainer.getMaxEnergy();
-                cachedTotal -= cellContainer.getEnergy();
-            }
+        InductionProviderTier provider = providers.remove(pos);
+        if (provider != null) {
+            transferCap -= provider.getOutput();
+        } else if (cells.containsKey(pos)) {
+            //Apply any energy that is queued before removing the cell, so that the energy the cell takes with it is exactly what it has stored
+            applyQueue();
+            IEnergyContainer cellContainer = cells.remove(pos);
+            storageCap -= cellContainer.getMaxEnergy();
+            cachedTotal -= cellContainer.getEnergy();
         }
     }
 
@@ -90,24 +87,24 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     }
 
     public void tick() {
-        if (!invalidPositions.isEmpty()) {
-            for (BlockPos invalidPosition : invalidPositions) {
-                cells.remove(invalidPosition);
-                providers.remove(invalidPosition);
-            }
-            invalidPositions.clear();
-        }
-        if (queuedInput < queuedOutput) {
-            //queuedInput is smaller - we are removing energy
-            removeEnergy(queuedOutput - queuedInput);
-        } else if (queuedInput > queuedOutput) {
-            //queuedInput is larger - we are adding energy
-            addEnergy(queuedInput - queuedOutput);
-        }
+        applyQueue();
         lastInput = queuedInput;
         lastOutput = queuedOutput;
         queuedInput = 0L;
         queuedOutput = 0L;
+        appliedQueue = 0L;
+    }
+
+    private void applyQueue() {
+        long toApply = queuedInput - queuedOutput - appliedQueue;
+        if (toApply < 0L) {
+            //queuedInput is smaller - we are removing energy
+            removeEnergy(-toApply);
+        } else if (toApply > 0L) {
+            //queuedInput is larger - we are adding energy
+            addEnergy(toApply);
+        }
+        appliedQueue += toApply;
     }
 
     private void addEnergy(long energy) {
@@ -150,7 +147,7 @@ public class MatrixEnergyContainer implements IEnergyContainer {
      */
     @Override
     public long getEnergy() {
-        return cachedTotal + queuedInput - queuedOutput;
+        return cachedTotal + queuedInput - queuedOutput - appliedQueue;
     }
 
     @Override
@@ -8,6 +8,7 @@ import mekanism.common.integration.computer.annotation.WrappingComputerMethod;
 import mekanism.common.inventory.container.slot.SlotOverlay;
 import mekanism.common.inventory.container.sync.dynamic.ContainerSync;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
+import mekanism.common.lib.multiblock.IInternalMultiblock;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.lib.multiblock.MultiblockCache.CacheSubstance;
 import mekanism.common.lib.multiblock.MultiblockData;
@@ -19,7 +20,9 @@ import mekanism.common.tile.multiblock.TileEntityInductionProvider;
 import mekanism.common.util.CableUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
 import org.jetbrains.annotations.NotNull;
 
 public class MatrixMultiblockData extends MultiblockData {
@@ -83,6 +86,41 @@ public class MatrixMultiblockData extends MultiblockData {
         energyContainer.addProvider(provider.getBlockPos(), provider);
     }
 
+    @Override
+    public boolean tryUpdateInternal(Level world, BlockPos pos) {
+        if (internalLocations.contains(pos)) {
+            if (world.isEmptyBlock(pos)) {
+                return tryRemoveInternal(pos);
+            }
+            //As long as the cell or provider is still part of this matrix, it is only its state that changed
+            return WorldUtils.getTileEntity(world, pos) instanceof IInternalMultiblock internal && internal.getMultiblock() == this;
+        }
+        BlockEntity tile = WorldUtils.getTileEntity(world, pos);
+        if (tile instanceof TileEntityInductionCell cell) {
+            addCell(cell);
+            cell.setMultiblock(this);
+        } else if (tile instanceof TileEntityInductionProvider provider) {
+            addProvider(provider);
+            provider.setMultiblock(this);
+        } else {
+            return super.tryUpdateInternal(world, pos);
+        }
+        internalLocations.add(tile.getBlockPos());
+        markDirtyComparator(world);
+        return true;
+    }
+
+    @Override
+    public boolean tryRemoveInternal(BlockPos pos) {
+        if (internalLocations.remove(pos)) {
+            //Cells and providers can be anywhere inside the matrix, so we can just stop keeping track of it
+            energyContainer.removeInternal(pos);
+            markDirtyComparator(getLevel());
+            return true;
+        }
+        return false;
+    }
+
     @NotNull
     public MatrixEnergyContainer getEnergyContainer() {
         return energyContainer;
@@ -34,24 +34,27 @@ public class MatrixValidator extends CuboidStructureValidator<MatrixMultiblockDa
     }
 
     @Override
-    public boolean validateInner(BlockState state, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
-        if (super.validateInner(state, chunkMap, pos)) {
+    protected boolean isValidInner(BlockState state) {
+        if (super.isValidInner(state)) {
             return true;
         }
-        if (BlockType.is(state.getBlock(), MekanismBlockTypes.BASIC_INDUCTION_CELL, MekanismBlockTypes.ADVANCED_INDUCTION_CELL,
+        return BlockType.is(state.getBlock(), MekanismBlockTypes.BASIC_INDUCTION_CELL, MekanismBlockTypes.ADVANCED_INDUCTION_CELL,
               MekanismBlockTypes.ELITE_INDUCTION_CELL, MekanismBlockTypes.ULTIMATE_INDUCTION_CELL, MekanismBlockTypes.BASIC_INDUCTION_PROVIDER,
-              MekanismBlockTypes.ADVANCED_INDUCTION_PROVIDER, MekanismBlockTypes.ELITE_INDUCTION_PROVIDER, MekanismBlockTypes.ULTIMATE_INDUCTION_PROVIDER)) {
-            //Compare blocks against the type before bothering to look up the tile
-            BlockEntity tile = WorldUtils.getTileEntity(world, chunkMap, pos);
-            if (tile instanceof TileEntityInductionCell cell) {
-                cells.add(cell);
-                return true;
-            } else if (tile instanceof TileEntityInductionProvider provider) {
-                providers.add(provider);
-                return true;
-            }
-            //Else something went wrong
+              MekanismBlockTypes.ADVANCED_INDUCTION_PROVIDER, MekanismBlockTypes.ELITE_INDUCTION_PROVIDER, MekanismBlockTypes.ULTIMATE_INDUCTION_PROVIDER);
+    }
+
+    @Override
+    protected boolean validateInner(BlockState state, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
+        //Note: The blocks have already been compared against the type before we bother to look up the tile
+        BlockEntity tile = WorldUtils.getTileEntity(world, chunkMap, pos);
+        if (tile instanceof TileEntityInductionCell cell) {
+            cells.add(cell);
+            return true;
+        } else if (tile instanceof TileEntityInductionProvider provider) {
+            providers.add(provider);
+            return true;
         }
+        //Else something went wrong
         return false;
     }
 
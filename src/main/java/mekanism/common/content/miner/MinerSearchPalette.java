@@ -0,0 +1,64 @@
+package mekanism.common.content.miner;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import java.util.BitSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The blocks that a Digital Miner's search found in each chunk of its area that it could mine if they matched its filters. This allows searching again after the filters
+ * changed by just testing each distinct block against the new filters, rather than having to read every block in the area again.
+ * <br><br>
+ * Blocks that are placed in the area by something other than the miner after the palette was captured are not known about, which is why a palette is only kept for a
+ * limited amount of time.
+ */
+public class MinerSearchPalette {
+
+    private final Long2ObjectMap<Reference2ObjectMap<Block, PaletteEntry>> chunks;
+    private final BlockPos startingPos;
+    private final int diameter;
+    private final int height;
+    private final long capturedAt;
+
+    public MinerSearchPalette(BlockPos startingPos, int diameter, int height, long capturedAt) {
+        this.chunks = new Long2ObjectOpenHashMap<>();
+        this.startingPos = startingPos;
+        this.diameter = diameter;
+        this.height = height;
+        this.capturedAt = capturedAt;
+    }
+
+    /**
+     * @return {@code true} if this palette was captured for the same area, and is not too old.
+     */
+    public boolean canReuse(BlockPos startingPos, int diameter, int height, long gameTime, int lifetime) {
+        return this.startingPos.equals(startingPos) && this.diameter == diameter && this.height == height && gameTime - capturedAt <= lifetime;
+    }
+
+    @Nullable
+    public Reference2ObjectMap<Block, PaletteEntry> getChunk(long chunk) {
+        return chunks.get(chunk);
+    }
+
+    public void setChunk(long chunk, Reference2ObjectMap<Block, PaletteEntry> palette) {
+        chunks.put(chunk, palette);
+    }
+
+    /**
+     * Forgets the palette of a chunk, for when a block in it was changed, so that the next search reads the blocks in the chunk again.
+     */
+    public void invalidateChunk(long chunk) {
+        chunks.remove(chunk);
+    }
+
+    /**
+     * @param state     The first state of the block that was found, used to check the block against the filters.
+     * @param positions The positions of the block in the chunk, indexed relative to the chunk's part of the miner's area.
+     */
+    public record PaletteEntry(BlockState state, BitSet positions) {
+    }
+}
@@ -5,21 +5,34 @@ import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
 import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.text.IHasTextComponent.IHasEnumNameTextComponent;
 import mekanism.api.text.ILangEntry;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
+import mekanism.common.content.miner.MinerSearchPalette.PaletteEntry;
+import mekanism.common.lib.WorkerPool;
 import mekanism.common.tags.MekanismTags;
 import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.tile.machine.TileEntityDigitalMiner;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.ByIdMap;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.block.BedBlock;
@@ -30,86 +43,196 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BedPart;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
+import org.jetbrains.annotations.Nullable;
 
-public class ThreadMinerSearch extends Thread {
+public class ThreadMinerSearch {
 
     private final TileEntityDigitalMiner tile;
-    private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
-    private MinerRegionCache chunkCache;
+    private final AtomicInteger found = new AtomicInteger();
+    private volatile boolean cancelled;
     public State state = State.IDLE;
-    public int found = 0;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
-        super("Digital Miner Search thread " + tile.getBlockPos());
         this.tile = tile;
-        setDaemon(true);
     }
 
-    public void setChunkCache(MinerRegionCache cache) {
-        this.chunkCache = cache;
-    }
-
-    @Override
-    public void run() {
+    /**
+     * Starts searching the miner's area on the shared {@link WorkerPool}, as one task per chunk. Chunks that the given palette knows the blocks of are searched by
+     * testing each distinct block in the chunk against the miner's filters, instead of by reading every block in the chunk again.
+     *
+     * @param palette    Palette to search using and to store the blocks that are read in, or {@code null} to always read every block and not keep track of them.
+     * @param chunkCache Creates the cache of the chunks in the miner's area, only called if there are chunks the palette doesn't know the blocks of.
+     *
+     * @apiNote Only call this from the server thread.
+     */
+    public void start(@Nullable MinerSearchPalette palette, Supplier<MinerRegionCache> chunkCache) {
         state = State.SEARCHING;
         if (!tile.getInverse() && !tile.getFilterManager().hasEnabledFilters()) {
             state = State.FINISHED;
             return;
         }
-        Reference2BooleanMap<Block> acceptedItems = new Reference2BooleanOpenHashMap<>();
-        BlockPos pos = tile.getStartingPos();
+        BlockPos startingPos = tile.getStartingPos();
         int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getBlockPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved() || isInterrupted()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
+        int height = tile.getTotalSize() / (diameter * diameter);
+        MinerRegionCache cache = null;
+        List<CompletableFuture<ChunkResult>> tasks = new ArrayList<>();
+        int maxChunkX = SectionPos.blockToSectionCoord(startingPos.getX() + diameter - 1);
+        int maxChunkZ = SectionPos.blockToSectionCoord(startingPos.getZ() + diameter - 1);
+        for (int chunkX = SectionPos.blockToSectionCoord(startingPos.getX()); chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = SectionPos.blockToSectionCoord(startingPos.getZ()); chunkZ <= maxChunkZ; chunkZ++) {
+                ChunkSlice slice = new ChunkSlice(ChunkPos.asLong(chunkX, chunkZ),
+                      Math.max(0, SectionPos.sectionToBlockCoord(chunkX) - startingPos.getX()),
+                      Math.min(diameter, SectionPos.sectionToBlockCoord(chunkX + 1) - startingPos.getX()),
+                      Math.max(0, SectionPos.sectionToBlockCoord(chunkZ) - startingPos.getZ()),
+                      Math.min(diameter, SectionPos.sectionToBlockCoord(chunkZ + 1) - startingPos.getZ()),
+                      diameter, height
+                );
+                Reference2ObjectMap<Block, PaletteEntry> chunkPalette = palette == null ? null : palette.getChunk(slice.chunk());
+                if (chunkPalette == null) {
+                    if (cache == null) {
+                        cache = chunkCache.get();
+                    }
+                    MinerRegionCache regionCache = cache;
+                    tasks.add(CompletableFuture.supplyAsync(() -> search(regionCache, slice, startingPos, palette != null), WorkerPool.get()));
+                } else {
+                    tasks.add(CompletableFuture.supplyAsync(() -> rescan(slice, chunkPalette), WorkerPool.get()));
+                }
+            }
+        }
+        MinecraftServer server = ((ServerLevel) tile.getLevel()).getServer();
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new))
+              .thenRunAsync(() -> finish(tasks, palette), server)
+              .exceptionally(throwable -> {
+                  Mekanism.logger.error("Digital Miner search at {} failed", tile.getBlockPos(), throwable);
+                  //Reset the miner so that it doesn't stay searching forever, and can be started again
+                  server.execute(() -> {
+                      if (!tile.isRemoved() && tile.searcher == this) {
+                          tile.reset();
+                      }
+                  });
+                  return null;
+              });
+    }
+
+    /**
+     * Stops searching, any chunks that are still being searched will stop at the next layer.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public int getFound() {
+        return found.get();
+    }
+
+    private void finish(List<CompletableFuture<ChunkResult>> tasks, @Nullable MinerSearchPalette palette) {
+        if (cancelled || tile.isRemoved() || tile.searcher != this) {
+            //Only update search if we are still valid and didn't get replaced due to a reset call
+            return;
+        }
+        Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+        for (CompletableFuture<ChunkResult> task : tasks) {
+            ChunkResult result = task.join();
+            if (result == null) {
+                //The search was stopped before this chunk finished
                 return;
             }
-            BlockPos testPos = TileEntityDigitalMiner.getOffsetForIndex(pos, diameter, i);
-            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
+            if (!result.ores().isEmpty()) {
+                oresToMine.put(result.chunk(), result.ores());
             }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || shouldSkipState(state) || state.getDestroySpeed(chunkCache, testPos) < 0) {
-                //Skip air, blacklisted blocks, special cased block states, and unbreakable blocks
-                continue;
+            if (palette != null && result.palette() != null) {
+                palette.setChunk(result.chunk(), result.palette());
             }
-            info = state.getBlock();
-            if (MekanismUtils.isLiquidBlock(info)) {//Skip liquids
-                continue;
+        }
+        state = State.FINISHED;
+        tile.updateFromSearch(oresToMine, found.get());
+    }
+
+    /**
+     * Reads every block in a chunk's part of the miner's area.
+     */
+    @Nullable
+    private ChunkResult search(MinerRegionCache chunkCache, ChunkSlice slice, BlockPos startingPos, boolean capturePalette) {
+        Reference2BooleanMap<Block> acceptedBlocks = new Reference2BooleanOpenHashMap<>();
+        Reference2ObjectMap<Block, PaletteEntry> palette = capturePalette ? new Reference2ObjectOpenHashMap<>() : null;
+        BitSet ores = new BitSet();
+        int chunkFound = 0;
+        BlockPos minerPos = tile.getBlockPos();
+        BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
+        for (int y = 0; y < slice.height(); y++) {
+            if (cancelled || tile.isRemoved()) {
+                //Make sure the miner is still valid and something hasn't gone wrong
+                return null;
             }
-            boolean accepted;
-            if (acceptedItems.containsKey(info)) {
-                accepted = acceptedItems.getBoolean(info);
-            } else {
-                if (tile.isReplaceTarget(info.asItem())) {
-                    //If it is a replace target just mark it as never being accepted
-                    accepted = false;
-                } else {
-                    //Ensure that the inverse mode is the opposite of the filter match
-                    accepted = tile.getInverse() != tile.getFilterManager().anyEnabledMatch(state, MinerFilter::canFilter);
+            for (int z = slice.minZ(); z < slice.maxZ(); z++) {
+                for (int x = slice.minX(); x < slice.maxX(); x++) {
+                    testPos.set(startingPos.getX() + x, startingPos.getY() + y, startingPos.getZ() + z);
+                    BlockState state = chunkCache.getBlockState(testPos);
+                    if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || shouldSkipState(state) || state.getDestroySpeed(chunkCache, testPos) < 0) {
+                        //Skip air, blacklisted blocks, special cased block states, and unbreakable blocks
+                        continue;
+                    }
+                    Block block = state.getBlock();
+                    if (MekanismUtils.isLiquidBlock(block)) {//Skip liquids
+                        continue;
+                    }
+                    if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos.immutable()) != null) {
+                        //Skip the miner itself, and also skip any bounding blocks
+                        continue;
+                    }
+                    if (palette != null) {
+                        palette.computeIfAbsent(block, b -> new PaletteEntry(state, new BitSet())).positions().set(slice.localIndex(x, y, z));
+                    }
+                    if (isAccepted(acceptedBlocks, block, state)) {
+                        ores.set(slice.index(x, y, z));
+                        chunkFound++;
+                    }
                 }
-                acceptedItems.put(info, accepted);
             }
-            if (accepted) {
-                long chunk = ChunkPos.asLong(testPos);
-                oresToMine.computeIfAbsent(chunk, k -> new BitSet()).set(i);
-                found++;
+        }
+        found.addAndGet(chunkFound);
+        return new ChunkResult(slice.chunk(), ores, palette);
+    }
+
+    /**
+     * Tests the blocks a previous search found in a chunk against the miner's filters, without reading the blocks again.
+     */
+    @Nullable
+    private ChunkResult rescan(ChunkSlice slice, Reference2ObjectMap<Block, PaletteEntry> palette) {
+        Reference2BooleanMap<Block> acceptedBlocks = new Reference2BooleanOpenHashMap<>();
+        BitSet ores = new BitSet();
+        int chunkFound = 0;
+        for (Reference2ObjectMap.Entry<Block, PaletteEntry> entry : palette.reference2ObjectEntrySet()) {
+            if (cancelled || tile.isRemoved()) {
+                return null;
+            }
+            if (isAccepted(acceptedBlocks, entry.getKey(), entry.getValue().state())) {
+                BitSet positions = entry.getValue().positions();
+                for (int local = positions.nextSetBit(0); local >= 0; local = positions.nextSetBit(local + 1)) {
+                    ores.set(slice.fromLocalIndex(local));
+                    chunkFound++;
+                }
             }
         }
+        found.addAndGet(chunkFound);
+        //Note: We don't return the palette as it is already part of the palette we read it from
+        return new ChunkResult(slice.chunk(), ores, null);
+    }
 
-        state = State.FINISHED;
-        chunkCache = null;
-        if (interrupted()) {
-            return;//no point checking as we got cancelled
+    private boolean isAccepted(Reference2BooleanMap<Block> acceptedBlocks, Block block, BlockState state) {
+        if (acceptedBlocks.containsKey(block)) {
+            return acceptedBlocks.getBoolean(block);
         }
-        if (tile.searcher == this) {
-            //Only update search if we are still valid and didn't get replaced due to a reset call
-            tile.updateFromSearch(oresToMine, found);
+        boolean accepted;
+        if (tile.isReplaceTarget(block.asItem())) {
+            //If it is a replace target just mark it as never being accepted
+            accepted = false;
+        } else {
+            //Ensure that the inverse mode is the opposite of the filter match
+            accepted = tile.getInverse() != tile.getFilterManager().anyEnabledMatch(state, MinerFilter::canFilter);
         }
+        acceptedBlocks.put(block, accepted);
+        return accepted;
     }
 
     /**
@@ -126,6 +249,40 @@ public class ThreadMinerSearch extends Thread {
         return false;
     }
 
+    /**
+     * The part of a miner's area that is in a single chunk.
+     *
+     * @param minX Inclusive minimum x offset from the start of the miner's area.
+     * @param maxX Exclusive maximum x offset from the start of the miner's area.
+     * @param minZ Inclusive minimum z offset from the start of the miner's area.
+     * @param maxZ Exclusive maximum z offset from the start of the miner's area.
+     */
+    private record ChunkSlice(long chunk, int minX, int maxX, int minZ, int maxZ, int diameter, int height) {
+
+        /**
+         * @return The index of the position in the miner's area, matching {@link TileEntityDigitalMiner#getOffsetForIndex(BlockPos, int, int)}.
+         */
+        int index(int x, int y, int z) {
+            return (y * diameter + z) * diameter + x;
+        }
+
+        /**
+         * @return The index of the position in this slice, so that palettes don't need to store indices for the rest of the miner's area.
+         */
+        int localIndex(int x, int y, int z) {
+            return (y * (maxZ - minZ) + z - minZ) * (maxX - minX) + x - minX;
+        }
+
+        int fromLocalIndex(int local) {
+            int width = maxX - minX;
+            int depth = maxZ - minZ;
+            return index(minX + local % width, local / width / depth, minZ + (local / width) % depth);
+        }
+    }
+
+    private record ChunkResult(long chunk, BitSet ores, @Nullable Reference2ObjectMap<Block, PaletteEntry> palette) {
+    }
+
     @NothingNullByDefault
     public enum State implements IHasEnumNameTextComponent {
         IDLE(MekanismLang.MINER_IDLE),
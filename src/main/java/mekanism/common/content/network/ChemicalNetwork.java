@@ -21,6 +21,7 @@ import mekanism.common.content.network.distribution.ChemicalTransmitterSaveTarge
 import mekanism.common.content.network.distribution.ChemicalHandlerTarget;
 import mekanism.common.content.network.transmitter.PressurizedTube;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.PreparedEmission;
 import mekanism.common.util.ChemicalUtil;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.MekanismUtils;
@@ -37,7 +38,12 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
 
     public final IChemicalTank chemicalTank;
     private final List<IChemicalTank> chemicalTanks;
+    private final PreparedEmission<ChemicalHandlerTarget> preparedEmission = new PreparedEmission<>();
     public Chemical lastChemical = MekanismAPI.EMPTY_CHEMICAL;
+    /**
+     * The chemical that the acceptors known to be full in the acceptor cache were full for.
+     */
+    private Chemical fullAcceptorsChemical = MekanismAPI.EMPTY_CHEMICAL;
     private long prevTransferAmount;
 
     public ChemicalNetwork(UUID networkID) {
@@ -166,20 +172,51 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
     }
 
     private long tickEmit(@NotNull ChemicalStack stack) {
+        ChemicalHandlerTarget target = preparedEmission.isPreparedFor(stack.getAmount()) ? preparedEmission.take() : getTarget(stack);
+        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+    }
+
+    @Nullable
+    private ChemicalHandlerTarget getTarget(@NotNull ChemicalStack stack) {
+        if (fullAcceptorsChemical != stack.getChemical()) {
+            //Acceptors that are full for one chemical may still be able to accept a different one
+            acceptorCache.clearFullAcceptors();
+            fullAcceptorsChemical = stack.getChemical();
+        }
+        acceptorCache.startDemandCheck();
         Collection<Map<Direction, IChemicalHandler>> acceptorValues = acceptorCache.getAcceptorValues();
         ChemicalHandlerTarget target = null;
         for (Map<Direction, IChemicalHandler> acceptors : acceptorValues) {
             for (IChemicalHandler handler : acceptors.values()) {
+                if (acceptorCache.isKnownFull(handler)) {
+                    continue;
+                }
                 if (ChemicalUtil.canInsert(handler, stack)) {
                     if (target == null) {
                         //Lazily initialize the target, which allows us to also skip attempting to start emitting
                         target = new ChemicalHandlerTarget(acceptorValues.size() * 2);
                     }
                     target.addHandler(handler);
+                } else {
+                    acceptorCache.markFull(handler);
                 }
             }
         }
-        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+        return target;
+    }
+
+    @Override
+    public boolean supportsParallelUpdate() {
+        return true;
+    }
+
+    @Override
+    public void prepareUpdate() {
+        super.prepareUpdate();
+        if (!chemicalTank.isEmpty()) {
+            ChemicalStack stack = chemicalTank.getStack();
+            preparedEmission.prepare(stack.getAmount(), getTarget(stack));
+        }
     }
 
     @Override
@@ -195,6 +232,7 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
             prevTransferAmount = tickEmit(chemicalTank.getStack());
             MekanismUtils.logMismatchedStackSize(chemicalTank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
         }
+        preparedEmission.clear();
     }
 
     @Override
@@ -250,7 +288,7 @@ public class ChemicalNetwork extends DynamicBufferedNetwork<IChemicalHandler, Ch
 
     @Override
     public String toString() {
-        return "[ChemicalNetwork] " + transmittersSize() + " transmitters, " + getAcceptorCount() + " acceptors.";
+        return "[ChemicalNetwork] " + transmittersSize() + " transmitters, " + getAcceptorCount() + " acceptors, " + getSkippedSimulations() + " skipped simulations.";
     }
 
     @Override
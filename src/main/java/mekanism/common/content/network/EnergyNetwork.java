@@ -14,10 +14,11 @@ import mekanism.api.math.MathUtils;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.BasicEnergyContainer;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
-import mekanism.common.content.network.distribution.EnergyAcceptorTarget;
+import mekanism.common.content.network.distribution.EnergyAcceptorWorkspace;
 import mekanism.common.content.network.distribution.EnergyTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.UniversalCable;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.PreparedEmission;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.core.Direction;
@@ -33,6 +34,8 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
 
     private final List<IEnergyContainer> energyContainers;
     public final VariableCapacityEnergyContainer energyContainer;
+    private final EnergyAcceptorWorkspace acceptorWorkspace = new EnergyAcceptorWorkspace();
+    private final PreparedEmission<EnergyAcceptorWorkspace> preparedEmission = new PreparedEmission<>();
     private long prevTransferAmount = 0L;
 
     public EnergyNetwork(UUID networkID) {
@@ -107,25 +110,53 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     }
 
     private long tickEmit(long energyToSend) {
-        Collection<Map<Direction, IStrictEnergyHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        EnergyAcceptorTarget target = null;
-        for (Map<Direction, IStrictEnergyHandler> acceptors : acceptorValues) {
+        boolean prepared = preparedEmission.isPreparedFor(energyToSend);
+        EnergyAcceptorWorkspace workspace = prepared ? preparedEmission.take() : getWorkspace(energyToSend);
+        if (workspace == null) {
+            return 0L;
+        }
+        //Note: If the workspace was prepared, other networks may have emitted to the acceptors since then, so they need to be simulated again
+        long sent = workspace.distribute(energyToSend, !prepared);
+        workspace.clear();
+        return sent;
+    }
+
+    /**
+     * Fills the reusable workspace with all the acceptors that are able to accept some of the energy.
+     *
+     * @return The workspace, or {@code null} if none of the acceptors want any energy.
+     */
+    @Nullable
+    private EnergyAcceptorWorkspace getWorkspace(long energyToSend) {
+        acceptorWorkspace.clear();
+        acceptorCache.startDemandCheck();
+        for (Map<Direction, IStrictEnergyHandler> acceptors : acceptorCache.getAcceptorValues()) {
             for (IStrictEnergyHandler acceptor : acceptors.values()) {
-                if (acceptor.insertEnergy(energyToSend, Action.SIMULATE) < energyToSend) {
-                    if (target == null) {
-                        //Lazily initialize the target, which allows us to also skip attempting to start emitting
-                        target = new EnergyAcceptorTarget(acceptorValues.size() * 2);
-                    }
-                    target.addHandler(acceptor);
+                if (!acceptorCache.isKnownFull(acceptor) && !acceptorWorkspace.addHandler(acceptor, energyToSend)) {
+                    acceptorCache.markFull(acceptor);
                 }
             }
         }
-        return EmitUtils.sendToAcceptors(target, energyToSend, ENERGY);
+        return acceptorWorkspace.getHandlerCount() == 0 ? null : acceptorWorkspace;
+    }
+
+    @Override
+    public boolean supportsParallelUpdate() {
+        return true;
+    }
+
+    @Override
+    public void prepareUpdate() {
+        super.prepareUpdate();
+        if (!energyContainer.isEmpty()) {
+            long energy = energyContainer.getEnergy();
+            preparedEmission.prepare(energy, getWorkspace(energy));
+        }
     }
 
     @Override
     public String toString() {
-        return "[EnergyNetwork] " + transmittersSize() + " transmitters, " + getAcceptorCount() + " acceptors.";
+        return "[EnergyNetwork] " + transmittersSize() + " transmitters, " + getAcceptorCount() + " acceptors, " + getSkippedSimulations() + " skipped simulations.";
     }
 
     @Override
@@ -141,6 +172,8 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
             prevTransferAmount = tickEmit(energyContainer.getEnergy());
             energyContainer.extract(prevTransferAmount, Action.EXECUTE, AutomationType.INTERNAL);
         }
+        preparedEmission.clear();
+        acceptorWorkspace.clear();
     }
 
     @Override
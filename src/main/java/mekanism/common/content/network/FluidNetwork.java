@@ -17,6 +17,7 @@ import mekanism.common.content.network.distribution.FluidHandlerTarget;
 import mekanism.common.content.network.distribution.FluidTransmitterSaveTarget;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
 import mekanism.common.lib.transmitter.DynamicBufferedNetwork;
+import mekanism.common.lib.transmitter.PreparedEmission;
 import mekanism.common.util.EmitUtils;
 import mekanism.common.util.FluidUtils;
 import mekanism.common.util.MekanismUtils;
@@ -33,8 +34,13 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
 
     private final List<IExtendedFluidTank> fluidTanks;
     public final VariableCapacityFluidTank fluidTank;
+    private final PreparedEmission<FluidHandlerTarget> preparedEmission = new PreparedEmission<>();
     @NotNull
     public FluidStack lastFluid = FluidStack.EMPTY;
+    /**
+     * The fluid that the acceptors known to be full in the acceptor cache were full for.
+     */
+    private FluidStack fullAcceptorsFluid = FluidStack.EMPTY;
     private int prevTransferAmount;
 
     //TODO: Make fluid storage support storing as longs?
@@ -150,20 +156,51 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     }
 
     private int tickEmit(@NotNull FluidStack fluidToSend) {
+        FluidHandlerTarget target = preparedEmission.isPreparedFor(fluidToSend.getAmount()) ? preparedEmission.take() : getTarget(fluidToSend);
+        return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+    }
+
+    @Nullable
+    private FluidHandlerTarget getTarget(@NotNull FluidStack fluidToSend) {
+        if (!FluidStack.isSameFluidSameComponents(fullAcceptorsFluid, fluidToSend)) {
+            //Acceptors that are full for one fluid may still be able to accept a different one
+            acceptorCache.clearFullAcceptors();
+            fullAcceptorsFluid = fluidToSend.copyWithAmount(1);
+        }
+        acceptorCache.startDemandCheck();
         Collection<Map<Direction, IFluidHandler>> acceptorValues = acceptorCache.getAcceptorValues();
         FluidHandlerTarget target = null;
         for (Map<Direction, IFluidHandler> acceptors : acceptorValues) {
             for (IFluidHandler acceptor : acceptors.values()) {
+                if (acceptorCache.isKnownFull(acceptor)) {
+                    continue;
+                }
                 if (FluidUtils.canFill(acceptor, fluidToSend)) {
                     if (target == null) {
                         //Lazily initialize the target, which allows us to also skip attempting to start emitting
                         target = new FluidHandlerTarget(acceptorValues.size() * 2);
                     }
                     target.addHandler(acceptor);
+                } else {
+                    acceptorCache.markFull(acceptor);
                 }
             }
         }
-        return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+        return target;
+    }
+
+    @Override
+    public boolean supportsParallelUpdate() {
+        return true;
+    }
+
+    @Override
+    public void prepareUpdate() {
+        super.prepareUpdate();
+        if (!fluidTank.isEmpty()) {
+            FluidStack fluid = fluidTank.getFluid();
+            preparedEmission.prepare(fluid.getAmount(), getTarget(fluid));
+        }
     }
 
     @Override
@@ -179,6 +216,7 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
             prevTransferAmount = tickEmit(fluidTank.getFluid());
             MekanismUtils.logMismatchedStackSize(fluidTank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
         }
+        preparedEmission.clear();
     }
 
     @Override
@@ -199,7 +237,7 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
 
     @Override
     public String toString() {
-        return "[FluidNetwork] " + transmittersSize() + " transmitters, " + getAcceptorCount() + " acceptors.";
+        return "[FluidNetwork] " + transmittersSize() + " transmitters, " + getAcceptorCount() + " acceptors, " + getSkippedSimulations() + " skipped simulations.";
     }
 
     @Override
@@ -1,23 +1,29 @@
 package mekanism.common.content.network;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import mekanism.api.heat.HeatAPI;
 import mekanism.api.heat.HeatAPI.HeatTransfer;
 import mekanism.api.heat.IHeatHandler;
 import mekanism.common.MekanismLang;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.ThermodynamicConductor;
 import mekanism.common.lib.transmitter.DynamicNetwork;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
+import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, ThermodynamicConductor> {
 
     private double meanTemp = HeatAPI.AMBIENT_TEMP;
     private double heatLost;
     private double heatTransferred;
+    @Nullable
+    private PackedHeatSolver packedSolver;
 
     public HeatNetwork(UUID networkID) {
         super(networkID);
@@ -44,9 +50,57 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
               MekanismLang.GENERIC_PERCENT.translate(Math.round(heatTransferred / (heatTransferred + heatLost) * 10_000) / 100F));
     }
 
+    @Override
+    public void commit() {
+        super.commit();
+        packedSolver = null;
+    }
+
+    @Override
+    public void acceptorChanged(ThermodynamicConductor transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        packedSolver = null;
+    }
+
+    @Override
+    public void addTransmitter(ThermodynamicConductor transmitter) {
+        super.addTransmitter(transmitter);
+        packedSolver = null;
+    }
+
+    @Override
+    public void removeTransmitter(ThermodynamicConductor transmitter) {
+        super.removeTransmitter(transmitter);
+        packedSolver = null;
+    }
+
+    @Override
+    public List<ThermodynamicConductor> adoptTransmittersAndAcceptorsFrom(HeatNetwork net) {
+        packedSolver = null;
+        return super.adoptTransmittersAndAcceptorsFrom(net);
+    }
+
+    @Override
+    public void deregister() {
+        super.deregister();
+        packedSolver = null;
+    }
+
     @Override
     public void onUpdate() {
         super.onUpdate();
+        if (MekanismConfig.general.packedHeatSimulation.get() && !isEmpty()) {
+            if (packedSolver == null || !packedSolver.step()) {
+                //Our conductors changed in a way we weren't told about, rebuild the solver and try again
+                packedSolver = PackedHeatSolver.build(this, getTransmitters());
+                packedSolver.step();
+            }
+            heatLost = packedSolver.getHeatLost();
+            heatTransferred = packedSolver.getHeatTransferred();
+            meanTemp = packedSolver.getMeanTemp();
+            return;
+        }
+        packedSolver = null;
         double newSumTemp = 0, newHeatLost = 0, newHeatTransferred = 0;
         for (ThermodynamicConductor transmitter : getTransmitters()) {
             HeatTransfer transfer = transmitter.simulate();
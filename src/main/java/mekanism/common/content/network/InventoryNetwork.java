@@ -1,6 +1,9 @@
 package mekanism.common.content.network;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -17,10 +20,12 @@ import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterPathfinder;
 import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.content.transporter.TransporterTopology;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.DynamicNetwork;
 import mekanism.common.tile.interfaces.ISideConfiguration;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -30,9 +35,20 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.neoforged.neoforge.items.IItemHandler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
+    /**
+     * Positions that changed since the network was last committed, any cached paths through these positions will be forgotten when the network gets committed.
+     */
+    private final LongSet changedPositions = new LongOpenHashSet();
+    /**
+     * Snapshot of the network's transporters for finding paths off the server thread, captured the first time it is needed after the network changes.
+     */
+    @Nullable
+    private TransporterTopology topology;
+
     public InventoryNetwork(UUID networkID) {
         super(networkID);
     }
@@ -97,17 +113,86 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return toReturn;
     }
 
+    /**
+     * Gets a snapshot of how the transporters in this network are connected, that can be searched off the server thread.
+     */
+    public TransporterTopology getTopology() {
+        if (topology == null) {
+            topology = TransporterTopology.capture(this);
+        }
+        return topology;
+    }
+
+    /**
+     * @return {@code true} if the network has not changed since the given snapshot was captured.
+     */
+    public boolean isTopologyCurrent(TransporterTopology topology) {
+        return this.topology == topology;
+    }
+
     @Override
     public void commit() {
         super.commit();
+        topology = null;
         // update the cache when the network has been changed (called when transmitters are added)
-        PathfinderCache.onChanged(this);
+        if (!changedPositions.isEmpty()) {
+            PathfinderCache.onTransmittersChanged(this, changedPositions);
+            changedPositions.clear();
+        }
+    }
+
+    @Override
+    protected void addTransmitterFromCommit(LogisticalTransporterBase transmitter) {
+        super.addTransmitterFromCommit(transmitter);
+        //Paths through the transmitters next to the added one may now have a shorter alternative
+        long pos = transmitter.getWorldPositionLong();
+        changedPositions.add(pos);
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            changedPositions.add(WorldUtils.relativePos(pos, side));
+        }
+    }
+
+    @Override
+    public void acceptorChanged(LogisticalTransporterBase transmitter, Direction side) {
+        super.acceptorChanged(transmitter, side);
+        long pos = transmitter.getWorldPositionLong();
+        changedPositions.add(pos);
+        //If the side was opened, paths that reach the acceptor through one of its other sides may no longer be the best ones
+        changedPositions.add(WorldUtils.relativePos(pos, side));
+        topology = null;
+    }
+
+    /**
+     * Forgets any cached paths that may no longer be valid or the best ones because the given transmitter changed, for example because it changed color.
+     *
+     * @param transmitter    Transmitter that changed.
+     * @param morePermissive {@code true} if stacks may now be able to travel through the transmitter where they couldn't before. As this can open a shorter path
+     *                       between any two points of the network, this forgets all the paths of the network instead of just the ones through the transmitter.
+     */
+    public void transmitterChanged(LogisticalTransporterBase transmitter, boolean morePermissive) {
+        if (morePermissive) {
+            PathfinderCache.onChanged(this);
+        } else {
+            PathfinderCache.onTransmittersChanged(this, LongSets.singleton(transmitter.getWorldPositionLong()));
+        }
+        topology = null;
+    }
+
+    @Override
+    public List<LogisticalTransporterBase> adoptTransmittersAndAcceptorsFrom(InventoryNetwork net) {
+        //Merging doesn't change how the transmitters of the other network are connected to each other, so the paths it found are still valid
+        PathfinderCache.adoptPaths(this, net);
+        changedPositions.addAll(net.changedPositions);
+        topology = null;
+        return super.adoptTransmittersAndAcceptorsFrom(net);
     }
 
     @Override
     public void deregister() {
         super.deregister();
         // update the cache when the network has been removed (when transmitters are removed)
+        changedPositions.clear();
+        topology = null;
         PathfinderCache.onChanged(this);
     }
 
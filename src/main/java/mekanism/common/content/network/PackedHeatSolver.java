@@ -0,0 +1,309 @@
+package mekanism.common.content.network;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import mekanism.api.heat.HeatAPI;
+import mekanism.api.heat.IHeatHandler;
+import mekanism.common.content.network.transmitter.ThermodynamicConductor;
+import mekanism.common.lib.WorkerPool;
+import mekanism.common.tier.ConductorTier;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.Direction;
+
+/**
+ * Simulates the heat transfers of a {@link HeatNetwork} using primitive arrays of everything about its conductors that only changes when the network changes, instead of
+ * having each conductor simulate itself. Conductors are indexed by their position in the arrays, and the conductors they transfer heat to are stored as indices as well.
+ * <br><br>
+ * This performs the same transfers as {@link mekanism.common.capabilities.heat.ITileHeatHandler#simulate()}, but as the transfers are summed in a different order the
+ * results may differ by floating point rounding. Each conductor's new heat only depends on the temperatures at the start of the tick, so large networks can be stepped in
+ * parallel.
+ */
+class PackedHeatSolver {
+
+    /**
+     * Number of conductors a network must have before it is stepped in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 8_192;
+    /**
+     * Number of conductors below which a task will step the conductors itself instead of splitting the work further.
+     */
+    private static final int SPLIT_THRESHOLD = 2_048;
+    private static final int SIDES = EnumUtils.DIRECTIONS.length;
+
+    private final ThermodynamicConductor[] conductors;
+    /**
+     * The connections of each conductor when the solver was built, so that we can tell if any changed without the network being told.
+     */
+    private final byte[] connections;
+    private final double[] tierConduction;
+    private final double[] tierInsulation;
+
+    private final double[] capacity;
+    private final double[] environmentInverse;
+    private final double[] ambient;
+
+    //Transfers from each conductor, indexed by outStart[conductor] to outStart[conductor + 1]
+    private final int[] outStart;
+    /**
+     * The index of the conductor heat is transferred to, or {@code -1 - sink} if it is transferred to an acceptor that isn't part of the network.
+     */
+    private final int[] outTarget;
+    private final double[] outAmbient;
+    private final double[] outInverse;
+
+    //Transfers to each conductor from other conductors in the network, indexed by inStart[conductor] to inStart[conductor + 1]
+    private final int[] inStart;
+    private final int[] inSource;
+    private final double[] inAmbient;
+    private final double[] inInverse;
+
+    private final IHeatHandler[] sinks;
+    private final double[] sinkInverse;
+    private final double[] sinkTransfer;
+
+    private final double[] temperature;
+    private final double[] heatChange;
+    private final double[] heatLost;
+    private final double[] heatTransferred;
+
+    private double lastHeatLost;
+    private double lastHeatTransferred;
+    private double lastMeanTemp;
+
+    private PackedHeatSolver(ThermodynamicConductor[] conductors, int edges, int internalEdges, int sinkCount) {
+        int size = conductors.length;
+        this.conductors = conductors;
+        connections = new byte[size];
+        tierConduction = new double[EnumUtils.CONDUCTOR_TIERS.length];
+        tierInsulation = new double[EnumUtils.CONDUCTOR_TIERS.length];
+        capacity = new double[size];
+        environmentInverse = new double[size];
+        ambient = new double[size * SIDES];
+        outStart = new int[size + 1];
+        outTarget = new int[edges];
+        outAmbient = new double[edges];
+        outInverse = new double[edges];
+        inStart = new int[size + 1];
+        inSource = new int[internalEdges];
+        inAmbient = new double[internalEdges];
+        inInverse = new double[internalEdges];
+        sinks = new IHeatHandler[sinkCount];
+        sinkInverse = new double[sinkCount];
+        sinkTransfer = new double[sinkCount];
+        temperature = new double[size];
+        heatChange = new double[size];
+        heatLost = new double[size];
+        heatTransferred = new double[size];
+    }
+
+    /**
+     * Packs the current state of the given conductors.
+     */
+    static PackedHeatSolver build(HeatNetwork network, Collection<ThermodynamicConductor> transmitters) {
+        ThermodynamicConductor[] conductors = transmitters.toArray(new ThermodynamicConductor[0]);
+        Object2IntMap<ThermodynamicConductor> indices = new Object2IntOpenHashMap<>(conductors.length);
+        indices.defaultReturnValue(-1);
+        for (int i = 0; i < conductors.length; i++) {
+            indices.put(conductors[i], i);
+        }
+        //Find all the transfers first so that we know how large to make the arrays
+        IntArrayList outStart = new IntArrayList(conductors.length + 1);
+        IntArrayList outTarget = new IntArrayList();
+        DoubleArrayList outAmbient = new DoubleArrayList();
+        List<IHeatHandler> sinks = new ArrayList<>();
+        int[] inCounts = new int[conductors.length];
+        for (ThermodynamicConductor conductor : conductors) {
+            outStart.add(outTarget.size());
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                IHeatHandler sink = conductor.getAdjacent(side);
+                if (sink != null) {
+                    int target = indices.getInt(network.getTransmitter(conductor.getBlockPos().relative(side)));
+                    if (target == -1) {
+                        target = -1 - sinks.size();
+                        sinks.add(sink);
+                    } else {
+                        inCounts[target]++;
+                    }
+                    outTarget.add(target);
+                    outAmbient.add(conductor.getAmbientTemperature(side));
+                }
+            }
+        }
+        outStart.add(outTarget.size());
+        int internalEdges = outTarget.size() - sinks.size();
+        PackedHeatSolver solver = new PackedHeatSolver(conductors, outTarget.size(), internalEdges, sinks.size());
+        sinks.toArray(solver.sinks);
+        outStart.toArray(solver.outStart);
+        outTarget.toArray(solver.outTarget);
+        outAmbient.toArray(solver.outAmbient);
+        for (int tier = 0; tier < EnumUtils.CONDUCTOR_TIERS.length; tier++) {
+            solver.tierConduction[tier] = EnumUtils.CONDUCTOR_TIERS[tier].getInverseConduction();
+            solver.tierInsulation[tier] = EnumUtils.CONDUCTOR_TIERS[tier].getInverseConductionInsulation();
+        }
+        double[] conduction = new double[conductors.length];
+        for (int i = 0; i < conductors.length; i++) {
+            ThermodynamicConductor conductor = conductors[i];
+            solver.connections[i] = conductor.getAllCurrentConnections();
+            solver.capacity[i] = conductor.buffer.getHeatCapacity();
+            conduction[i] = conductor.buffer.getInverseConduction();
+            solver.environmentInverse[i] = HeatAPI.AIR_INVERSE_COEFFICIENT + conductor.buffer.getInverseInsulation() + conduction[i];
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                solver.ambient[i * SIDES + side.ordinal()] = conductor.getAmbientTemperature(side);
+            }
+            solver.inStart[i + 1] = solver.inStart[i] + inCounts[i];
+        }
+        int[] inFilled = new int[conductors.length];
+        for (int i = 0; i < conductors.length; i++) {
+            for (int edge = solver.outStart[i], end = solver.outStart[i + 1]; edge < end; edge++) {
+                int target = solver.outTarget[edge];
+                if (target >= 0) {
+                    //Transfers between conductors use the conduction of both the conductor and the conductor it is transferring to
+                    double inverse = conduction[i] + conduction[target];
+                    solver.outInverse[edge] = inverse;
+                    int in = solver.inStart[target] + inFilled[target]++;
+                    solver.inSource[in] = i;
+                    solver.inAmbient[in] = solver.outAmbient[edge];
+                    solver.inInverse[in] = inverse;
+                } else {
+                    //Transfers to acceptors add the acceptor's conduction when stepping, as it may change without the network knowing
+                    solver.outInverse[edge] = conduction[i];
+                }
+            }
+        }
+        return solver;
+    }
+
+    /**
+     * Steps the simulation of the network by one tick.
+     *
+     * @return {@code false} if the network changed in a way that requires the solver to be rebuilt, in which case nothing was changed.
+     */
+    boolean step() {
+        for (int tier = 0; tier < EnumUtils.CONDUCTOR_TIERS.length; tier++) {
+            ConductorTier conductorTier = EnumUtils.CONDUCTOR_TIERS[tier];
+            if (tierConduction[tier] != conductorTier.getInverseConduction() || tierInsulation[tier] != conductorTier.getInverseConductionInsulation()) {
+                //The config changed
+                return false;
+            }
+        }
+        for (int i = 0; i < conductors.length; i++) {
+            ThermodynamicConductor conductor = conductors[i];
+            if (!conductor.isValid() || conductor.getAllCurrentConnections() != connections[i]) {
+                return false;
+            }
+            temperature[i] = conductor.buffer.getHeat() / capacity[i];
+        }
+        for (int sink = 0; sink < sinks.length; sink++) {
+            sinkInverse[sink] = sinks[sink].getTotalInverseConduction();
+        }
+        if (conductors.length >= PARALLEL_THRESHOLD) {
+            WorkerPool.get().invoke(new StepTask(this, 0, conductors.length));
+        } else {
+            step(0, conductors.length);
+        }
+        for (int sink = 0; sink < sinks.length; sink++) {
+            //Note: Our sinks in mek are "lazy" but they will update the next tick if needed
+            sinks[sink].handleHeat(sinkTransfer[sink]);
+        }
+        double newSumTemp = 0, newHeatLost = 0, newHeatTransferred = 0;
+        for (int i = 0; i < conductors.length; i++) {
+            ThermodynamicConductor conductor = conductors[i];
+            conductor.buffer.handleHeat(heatChange[i]);
+            conductor.updateHeatCapacitors(null);
+            newSumTemp += conductor.getTotalTemperature();
+            newHeatLost += heatLost[i];
+            newHeatTransferred += heatTransferred[i];
+        }
+        lastHeatLost = newHeatLost;
+        lastHeatTransferred = newHeatTransferred;
+        lastMeanTemp = newSumTemp / conductors.length;
+        return true;
+    }
+
+    /**
+     * Calculates the heat change of the given range of conductors.
+     *
+     * @implNote Only writes to the entries of the given conductors, and the entries of acceptors that only the given conductors transfer to.
+     */
+    private void step(int from, int to) {
+        for (int i = from; i < to; i++) {
+            double temp = temperature[i];
+            double heatCapacity = capacity[i];
+            double change = 0, lost = 0, transferred = 0;
+            for (int edge = outStart[i], end = outStart[i + 1]; edge < end; edge++) {
+                int target = outTarget[edge];
+                double inverse = outInverse[edge];
+                if (target < 0) {
+                    inverse += sinkInverse[-1 - target];
+                }
+                double tempToTransfer = (temp - outAmbient[edge]) / inverse;
+                double heatToTransfer = tempToTransfer * heatCapacity;
+                change -= heatToTransfer;
+                if (target < 0) {
+                    sinkTransfer[-1 - target] = heatToTransfer;
+                    transferred += tempToTransfer;
+                } else if (tempToTransfer <= 0) {
+                    //Transfers to other conductors in the network only don't count as "adjacent transfer" when heat is actually transferred,
+                    // see ThermodynamicConductor#incrementAdjacentTransfer
+                    transferred += tempToTransfer;
+                }
+            }
+            for (int side = 0; side < SIDES; side++) {
+                double tempToTransfer = (temp - ambient[i * SIDES + side]) / environmentInverse[i];
+                change -= tempToTransfer * heatCapacity;
+                if (tempToTransfer > 0) {
+                    //Only count it towards environmental loss if it is hotter than the ambient temperature
+                    lost += tempToTransfer;
+                }
+            }
+            for (int edge = inStart[i], end = inStart[i + 1]; edge < end; edge++) {
+                int source = inSource[edge];
+                change += (temperature[source] - inAmbient[edge]) / inInverse[edge] * capacity[source];
+            }
+            heatChange[i] = change;
+            heatLost[i] = lost;
+            heatTransferred[i] = transferred;
+        }
+    }
+
+    double getHeatLost() {
+        return lastHeatLost;
+    }
+
+    double getHeatTransferred() {
+        return lastHeatTransferred;
+    }
+
+    double getMeanTemp() {
+        return lastMeanTemp;
+    }
+
+    private static class StepTask extends RecursiveAction {
+
+        private final PackedHeatSolver solver;
+        private final int start;
+        private final int end;
+
+        private StepTask(PackedHeatSolver solver, int start, int end) {
+            this.solver = solver;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= SPLIT_THRESHOLD) {
+                solver.step(start, end);
+            } else {
+                int middle = (start + end) >>> 1;
+                invokeAll(new StepTask(solver, start, middle), new StepTask(solver, middle, end));
+            }
+        }
+    }
+}
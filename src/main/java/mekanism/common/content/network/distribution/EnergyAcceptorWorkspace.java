@@ -0,0 +1,18 @@
+package mekanism.common.content.network.distribution;
+
+import mekanism.api.Action;
+import mekanism.api.energy.IStrictEnergyHandler;
+import mekanism.common.lib.distribution.DistributionWorkspace;
+
+public class EnergyAcceptorWorkspace extends DistributionWorkspace<IStrictEnergyHandler> {
+
+    @Override
+    protected long simulate(IStrictEnergyHandler handler, long amount) {
+        return amount - handler.insertEnergy(amount, Action.SIMULATE);
+    }
+
+    @Override
+    protected long insert(IStrictEnergyHandler handler, long amount) {
+        return amount - handler.insertEnergy(amount, Action.EXECUTE);
+    }
+}
@@ -5,7 +5,6 @@ import mekanism.api.providers.IBlockProvider;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.block.attribute.Attribute;
-import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.tier.TransporterTier;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.upgrade.transmitter.LogisticalTransporterUpgradeData;
@@ -46,8 +45,10 @@ public class LogisticalTransporter extends LogisticalTransporterBase implements
 
     @Override
     public InteractionResult onConfigure(Player player, Direction side) {
-        setColor(TransporterUtils.increment(getColor()));
-        PathfinderCache.onChanged(getTransmitterNetwork());
+        EnumColor previousColor = getColor();
+        setColor(TransporterUtils.increment(previousColor));
+        //Going from no color to a color only stops stacks from passing through, any other change lets stacks of a color through that couldn't before
+        getTransmitterNetwork().transmitterChanged(this, previousColor != null);
         getTransmitterTile().sendUpdatePacket();
         EnumColor color = getColor();
         player.displayClientMessage(MekanismLang.TOGGLE_COLOR.translateColored(EnumColor.GRAY, color == null ? MekanismLang.NONE.translateColored(EnumColor.WHITE) : color.getColoredName()), true);
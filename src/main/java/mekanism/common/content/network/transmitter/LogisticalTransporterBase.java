@@ -16,8 +16,11 @@ import java.util.UUID;
 import mekanism.api.SerializationConstants;
 import mekanism.api.text.EnumColor;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.transporter.TransporterPathfinder;
+import mekanism.common.content.transporter.TransporterPathfinder.PendingDestination;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.inventory.IAdvancedTransportEjector;
@@ -55,6 +58,10 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
 
     protected final Int2ObjectOpenHashMap<TransporterStack> transit = new Int2ObjectOpenHashMap<>();
     protected final Int2ObjectMap<TransporterStack> needsSync = new Int2ObjectOpenHashMap<>();
+    /**
+     * Stacks that are waiting in this transporter for a new path to be found for them off the server thread.
+     */
+    private final Int2ObjectMap<PendingPath> pendingPaths = new Int2ObjectOpenHashMap<>();
     public final TransporterTier tier;
     protected int nextId = 0;
     protected int delay = 0;
@@ -194,6 +201,28 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                             continue;
                         }
                     }
+                    PendingPath pendingPath = pendingPaths.get(stackId);
+                    if (pendingPath != null) {
+                        if (!pendingPath.destination().isDone()) {
+                            //Wait for the new path to be found before moving the stack any further
+                            continue;
+                        }
+                        pendingPaths.remove(stackId);
+                        boolean hasPath;
+                        if (pendingPath.destination().isStale(this)) {
+                            //The network changed while we were waiting, look for a new path in the network we are now part of
+                            hasPath = recalculate(stackId, stack, pendingPath.from());
+                        } else {
+                            hasPath = finishRecalculating(stackId, stack, stack.setDestination(this, pendingPath.destination().resolve(this, stack)),
+                                  pendingPath.from());
+                        }
+                        if (!hasPath) {
+                            deletes.add(stackId);
+                            continue;
+                        } else if (pendingPaths.containsKey(stackId)) {
+                            continue;
+                        }
+                    }
 
                     int prevProgress = stack.progress;
                     stack.progress += tier.getSpeed();
@@ -314,6 +343,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
             for (TransporterStack stack : getTransit()) {
                 TransporterManager.remove(getLevel(), stack);
             }
+            pendingPaths.clear();
         }
     }
 
@@ -408,6 +438,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
 
     public void deleteStack(int id) {
         transit.remove(id);
+        pendingPaths.remove(id);
     }
 
     public void addStack(int id, TransporterStack s) {
@@ -416,8 +447,22 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
 
     private boolean recalculate(int stackId, TransporterStack stack, long from) {
         //TODO: Why do we skip recalculating the path if it is idle. Is it possible for idle paths to eventually stop being idle or are they just idle forever??
-        boolean noPath = stack.getPathType().noTarget() || stack.recalculatePath(TransitRequest.simple(stack.itemStack), this, 0).isEmpty();
-        if (noPath && !stack.calculateIdle(this)) {
+        if (stack.getPathType().noTarget()) {
+            return finishRecalculating(stackId, stack, false, from);
+        } else if (MekanismConfig.general.transporterAsyncPathfinding.get()) {
+            PendingDestination destination = TransporterPathfinder.getNewBasePathAsync(this, stack, TransitRequest.simple(stack.itemStack), 0);
+            if (destination != null && !destination.isDone()) {
+                //Let the stack wait here until the path is found
+                pendingPaths.put(stackId, new PendingPath(destination, from));
+                return true;
+            }
+            return finishRecalculating(stackId, stack, destination != null && stack.setDestination(this, destination.resolve(this, stack)), from);
+        }
+        return finishRecalculating(stackId, stack, !stack.recalculatePath(TransitRequest.simple(stack.itemStack), this, 0).isEmpty(), from);
+    }
+
+    private boolean finishRecalculating(int stackId, TransporterStack stack, boolean hasPath, long from) {
+        if (!hasPath && !stack.calculateIdle(this)) {
             TransporterUtils.drop(this, stack);
             return false;
         }
@@ -503,6 +548,13 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
         // a tick).
     }
 
+    /**
+     * @param destination The destination being found.
+     * @param from        Position the stack should be marked as coming from once the path is found, or {@link Long#MAX_VALUE} if it shouldn't be changed.
+     */
+    private record PendingPath(PendingDestination destination, long from) {
+    }
+
     @FunctionalInterface
     public interface PathCalculator<BE extends BlockEntity> {
 
@@ -14,10 +14,10 @@ public interface IQIODriveHolder extends IQIOFrequencyHolder {
 
     void onDataUpdate();
 
-    default void save(int slot, QIODriveData data) {
+    default void save(int slot, DriveContents contents) {
         ItemStack stack = getDriveSlots().get(slot).getStack();
         if (stack.getItem() instanceof IQIODriveItem) {
-            stack.set(MekanismDataComponents.DRIVE_CONTENTS, DriveContents.create(data));
+            stack.set(MekanismDataComponents.DRIVE_CONTENTS, contents);
         } else {
             Mekanism.logger.error("Tried to save data map to an invalid item ({}). Something has gone very wrong!", RegistryUtils.getName(stack.getItem()));
         }
@@ -2,6 +2,9 @@ package mekanism.common.content.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.common.Mekanism;
 import mekanism.common.attachments.qio.DriveContents;
@@ -10,6 +13,7 @@ import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.registries.MekanismDataComponents;
 import mekanism.common.util.RegistryUtils;
 import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.VisibleForTesting;
 
 public class QIODriveData {
 
@@ -17,7 +21,15 @@ public class QIODriveData {
     private final long countCapacity;
     private final int typeCapacity;
     private final Object2LongMap<HashedItem> itemMap = new Object2LongOpenHashMap<>();
+    /**
+     * Ids in the {@link QIOItemTypeStore} of the frequency this drive is part of, of the types that this drive contains.
+     */
+    private final BitSet storedTypeIds = new BitSet();
     private long itemCount;
+    /**
+     * Whether the contents of this drive changed since they were last saved to the drive stack.
+     */
+    private boolean dirty;
 
     public QIODriveData(QIODriveKey key) {
         this.key = key;
@@ -44,6 +56,7 @@ public class QIODriveData {
         if (action.execute()) {
             itemMap.put(type, stored + toAdd);
             itemCount += toAdd;
+            dirty = true;
             key.updateMetadata(this);
             key.dataUpdate();
         }
@@ -61,6 +74,7 @@ public class QIODriveData {
                 itemMap.removeLong(type);
             }
             itemCount -= removed;
+            dirty = true;
             key.updateMetadata(this);
             key.dataUpdate();
         }
@@ -75,6 +89,48 @@ public class QIODriveData {
         return itemMap;
     }
 
+    BitSet getStoredTypeIds() {
+        return storedTypeIds;
+    }
+
+    /**
+     * @return {@code true} if this drive is marked as containing the type with the given id in the frequency it is part of.
+     */
+    @VisibleForTesting
+    public boolean hasTypeId(int id) {
+        return storedTypeIds.get(id);
+    }
+
+    boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Creates a snapshot of what this drive contains, and marks the drive as no longer being dirty. Rather than looking up the UUID of each type stored in the drive, this
+     * uses the UUIDs the frequency has already looked up for the ids of the types.
+     *
+     * @param itemTypes Type store of the frequency this drive is part of.
+     */
+    DriveContents createContents(QIOItemTypeStore itemTypes) {
+        dirty = false;
+        if (itemMap.isEmpty()) {
+            return DriveContents.EMPTY;
+        }
+        int i = 0;
+        long[] data = new long[3 * storedTypeIds.cardinality()];
+        for (int id = storedTypeIds.nextSetBit(0); id >= 0; id = storedTypeIds.nextSetBit(id + 1)) {
+            long stored = getStored(itemTypes.getType(id));
+            if (stored > 0) {
+                UUID uuid = itemTypes.getUUID(id);
+                data[i++] = uuid.getMostSignificantBits();
+                data[i++] = uuid.getLeastSignificantBits();
+                data[i++] = stored;
+            }
+        }
+        //Note: This should never be the case, but if we somehow had an id marked as stored that isn't, trim the data so that it is still valid
+        return new DriveContents(i == data.length ? data : Arrays.copyOf(data, i));
+    }
+
     public QIODriveKey getKey() {
         return key;
     }
@@ -97,8 +153,8 @@ public class QIODriveData {
 
     public record QIODriveKey(IQIODriveHolder holder, int driveSlot) {
 
-        public void save(QIODriveData data) {
-            holder.save(driveSlot, data);
+        public void save(DriveContents contents) {
+            holder.save(driveSlot, contents);
         }
 
         public void dataUpdate() {
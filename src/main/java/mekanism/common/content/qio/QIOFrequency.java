@@ -1,30 +1,26 @@
 package mekanism.common.content.qio;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.SetMultimap;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.SequencedMap;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.ObjLongConsumer;
-import java.util.function.Supplier;
-import java.util.function.ToLongFunction;
 import mekanism.api.Action;
 import mekanism.api.SerializationConstants;
 import mekanism.api.inventory.IHashedItem;
@@ -34,11 +30,9 @@ import mekanism.api.security.SecurityMode;
 import mekanism.api.text.EnumColor;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
-import mekanism.common.base.TagCache;
+import mekanism.common.attachments.qio.DriveContents;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
-import mekanism.common.lib.WildcardMatcher;
-import mekanism.common.lib.collection.BiMultimap;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.frequency.IColorableFrequency;
@@ -47,7 +41,6 @@ import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.lib.security.SecurityFrequency;
 import mekanism.common.network.to_client.qio.PacketBatchItemViewerSync;
 import mekanism.common.network.to_client.qio.PacketUpdateItemViewer;
-import mekanism.common.util.MekanismUtils;
 import net.minecraft.SharedConstants;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
@@ -56,9 +49,9 @@ import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.neoforged.neoforge.common.util.Lazy;
 import net.neoforged.neoforge.network.PacketDistributor;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.VisibleForTesting;
 
 public class QIOFrequency extends Frequency implements IColorableFrequency, IQIOFrequency {
 
@@ -88,20 +81,8 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     );
 
     private final SequencedMap<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
-    private final SequencedMap<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
+    private final QIOItemTypeStore itemTypes = new QIOItemTypeStore();
     private final Set<IQIODriveHolder> driveHolders = new HashSet<>();
-    // efficiently keep track of the tags utilized by the items stored
-    private final BiMultimap<String, HashedItem> tagLookupMap = new BiMultimap<>();
-    // efficiently keep track of the modids utilized by the items stored
-    private final Map<String, Set<HashedItem>> modIDLookupMap = new HashMap<>();
-    // efficiently keep track of the items for use in fuzzy lookup utilized by the items stored
-    private final Map<Item, Set<HashedItem>> fuzzyItemLookupMap = new IdentityHashMap<>();
-    // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
-    private final SetMultimap<String, String> tagWildcardCache = HashMultimap.create();
-    private final Set<String> failedWildcardTags = new HashSet<>();
-    // a sensitive cache for wildcard modid lookups (wildcard -> [matching modids])
-    private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
-    private final Set<String> failedWildcardModIDs = new HashSet<>();
 
     private final Set<UUID> updatedItems = new HashSet<>();
     private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
@@ -113,7 +94,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
     private long totalCount, totalCountCapacity;
     private int totalTypeCapacity;
-    // only used on client side, for server side we can just look at itemDataMap.size()
+    // only used on client side, for server side we can just look at itemTypes.size()
     private int clientTypes;
 
     private EnumColor color = EnumColor.INDIGO;
@@ -130,26 +111,20 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     /**
-     * Dangerous function. Don't mess with this map.
-     *
-     * @return core item data map, tracking item types + their respective counts and containing drives
+     * @return An unmodifiable view of all the item types stored in this frequency.
      */
-    public Map<HashedItem, QIOItemTypeData> getItemDataMap() {
-        return itemDataMap;
+    public Collection<HashedItem> getStoredTypes() {
+        return itemTypes.getTypes();
     }
 
     @Override
     public void forAllStored(ObjLongConsumer<ItemStack> consumer) {
-        for (Entry<HashedItem, QIOItemTypeData> entry : itemDataMap.entrySet()) {
-            consumer.accept(entry.getKey().createStack(1), entry.getValue().getCount());
-        }
+        itemTypes.forEach((type, count) -> consumer.accept(type.createStack(1), count));
     }
 
     @Override
     public void forAllHashedStored(ObjLongConsumer<IHashedItem> consumer) {
-        for (Entry<HashedItem, QIOItemTypeData> entry : itemDataMap.entrySet()) {
-            consumer.accept(entry.getKey(), entry.getValue().getCount());
-        }
+        itemTypes.forEach(consumer::accept);
     }
 
     @Override
@@ -158,95 +133,133 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             return 0;
         }
         HashedItem type = action.execute() ? HashedItem.create(stack) : HashedItem.raw(stack);
+        int id = itemTypes.getId(type);
         // these checks are extremely important; they prevent us from wasting CPU searching for a place to put the new items,
-        // and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
-        if (totalCount == totalCountCapacity || (!itemDataMap.containsKey(type) && itemDataMap.size() == totalTypeCapacity)) {
+        // and they also prevent us from adding a ghost type to the item types if nothing is inserted
+        if (totalCount == totalCountCapacity || (id == -1 && itemTypes.size() == totalTypeCapacity)) {
             return 0;
         }
         // at this point we're guaranteed at least part of the input stack will be inserted
-        QIOItemTypeData data;
-        if (action.execute()) {
-            data = itemDataMap.computeIfAbsent(type, this::createTypeDataForAbsent);
-        } else {
-            //If we are simulating, look it up
-            data = itemDataMap.get(type);
-            if (data == null) {
-                // if it doesn't already have that type, fall back to a new item type data that doesn't actually get added
-                data = new QIOItemTypeData(type);
-            }
+        if (id == -1 && action.execute()) {
+            id = itemTypes.add(type);
         }
-        return amount - data.add(amount, action);
+        //Note: If we are simulating, and don't already have that type, we just check which drives would accept it without adding the type
+        return amount - add(type, id, amount, action);
     }
 
     public ItemStack addItem(ItemStack stack) {
         if (stack.isEmpty()) {
             return ItemStack.EMPTY;
         } else if (totalCount == totalCountCapacity) {
-            //This check and the pre-check in the computeIfAbsent are extremely important; they prevent us from wasting CPU searching for
-            // a place to put the new items, and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
+            //This check and the type capacity check are extremely important; they prevent us from wasting CPU searching for
+            // a place to put the new items, and they also prevent us from adding a ghost type to the item types if nothing is inserted
             return stack;
         }
         HashedItem type = HashedItem.create(stack);
-        QIOItemTypeData data = itemDataMap.get(type);
-        if (data == null) {
-            if (itemDataMap.size() == totalTypeCapacity) {
-                //Don't add any ghost item types if there is no room for new ones. We do this inside of a computeIfAbsent
-                // so that we don't have to check if the map contains it twice
+        int id = itemTypes.getId(type);
+        if (id == -1) {
+            if (itemTypes.size() == totalTypeCapacity) {
+                //Don't add any ghost item types if there is no room for new ones
                 //Failed to insert
                 return stack;
-            } else {
-                // at this point we're guaranteed at least part of the input stack will be inserted
-                data = createTypeDataForAbsent(type);
-                itemDataMap.put(type, data);
             }
+            // at this point we're guaranteed at least part of the input stack will be inserted
+            id = itemTypes.add(type);
         }
-        return type.createStack(MathUtils.clampToInt(data.add(stack.getCount(), Action.EXECUTE)));
+        return type.createStack(MathUtils.clampToInt(add(type, id, stack.getCount(), Action.EXECUTE)));
     }
 
-    private QIOItemTypeData createTypeDataForAbsent(HashedItem type) {
-        ItemStack stack = type.getInternalStack();
-        List<String> tags = TagCache.getItemTags(stack);
-        if (!tags.isEmpty()) {
-            boolean hasAllKeys = tagLookupMap.hasAllKeys(tags);
-            if (tagLookupMap.putAll(tags, type) && !hasAllKeys) {
-                //If we added any tag item combinations, and we didn't have all the keys for tags this item has,
-                // then we need to clear our wildcard cache as our new tags may be valid for some of our wildcards
-                tagWildcardCache.clear();
-                failedWildcardTags.clear();
+    /**
+     * @param id Id of the type, or {@code -1} if we are simulating and the type isn't stored.
+     *
+     * @return The amount that could not be added.
+     */
+    private long add(HashedItem type, int id, long amount, Action action) {
+        long toAdd = amount;
+        if (id != -1) {
+            // first we try to add the items to an already-containing drive
+            for (QIODriveData data : driveMap.values()) {
+                if (data.getStoredTypeIds().get(id)) {
+                    toAdd = addItemsToDrive(type, id, toAdd, data, action);
+                    if (toAdd == 0) {
+                        break;
+                    }
+                }
+            }
+        }
+        // next, we add the items to any drive that will take it
+        if (toAdd > 0) {
+            for (QIODriveData data : driveMap.values()) {
+                if (id == -1 || !data.getStoredTypeIds().get(id)) {
+                    toAdd = addItemsToDrive(type, id, toAdd, data, action);
+                    if (toAdd == 0) {
+                        break;
+                    }
+                }
             }
         }
-        String modID = MekanismUtils.getModId(stack);
-        Set<HashedItem> modItems = modIDLookupMap.get(modID);
-        if (modItems == null) {
-            //If we added a new modid to the lookup map we also want to make sure that we clear our modid wildcard cache
-            // as our new modid may be valid for some of our wildcards
-            modIDWildcardCache.clear();
-            failedWildcardModIDs.clear();
-            modItems = new HashSet<>();
-            modIDLookupMap.put(modID, modItems);
+        if (action.execute()) {
+            // update internal/core values
+            itemTypes.grow(id, amount - toAdd);
+            totalCount += amount - toAdd;
+            setNeedsUpdate(type);
+            if (itemTypes.getCount(id) == 0) {
+                //None of the drives had room for the new type, so don't leave a ghost type behind
+                removeItemType(id);
+            }
         }
-        modItems.add(type);
-        //Fuzzy item lookup has no wildcard cache related to it
-        fuzzyItemLookupMap.computeIfAbsent(stack.getItem(), item -> new HashSet<>()).add(type);
-        //Ensure we have a matching uuid for this item
-        QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type);
-        return new QIOItemTypeData(type);
+        return toAdd;
+    }
+
+    private long addItemsToDrive(HashedItem type, int id, long toAdd, QIODriveData data, Action action) {
+        long rejects = data.add(type, toAdd, action);
+        if (action.execute() && rejects < toAdd) {
+            data.getStoredTypeIds().set(id);
+        }
+        return rejects;
+    }
+
+    /**
+     * @return The amount that was removed.
+     */
+    private long remove(int id, long amount, Action action) {
+        HashedItem type = itemTypes.getType(id);
+        long removed = 0;
+        for (QIODriveData data : driveMap.values()) {
+            BitSet storedTypeIds = data.getStoredTypeIds();
+            if (storedTypeIds.get(id)) {
+                removed += data.remove(type, amount - removed, action);
+                // remove this drive from the containing drives if it doesn't have this item anymore
+                if (action.execute() && data.getStored(type) == 0) {
+                    storedTypeIds.clear(id);
+                }
+                // break early if we found enough items
+                if (removed == amount) {
+                    break;
+                }
+            }
+        }
+        if (action.execute()) {
+            itemTypes.grow(id, -removed);
+            totalCount -= removed;
+            setNeedsUpdate(type);
+        }
+        return removed;
     }
 
     @Override
     public long massExtract(ItemStack stack, long amount, Action action) {
-        if (amount <= 0 || stack.isEmpty() || itemDataMap.isEmpty()) {
+        if (amount <= 0 || stack.isEmpty() || itemTypes.isEmpty()) {
             return 0;
         }
-        HashedItem type = HashedItem.raw(stack);
-        QIOItemTypeData data = itemDataMap.get(type);
-        if (data == null) {
+        int id = itemTypes.getId(HashedItem.raw(stack));
+        if (id == -1) {
             return 0;
         }
-        long removed = data.remove(amount, action);
+        long removed = remove(id, amount, action);
         // remove this item type if it's now empty
-        if (action.execute() && data.count == 0) {
-            removeItemData(data.itemType);
+        if (action.execute() && itemTypes.getCount(id) == 0) {
+            removeItemType(id);
         }
         return removed;
     }
@@ -263,163 +276,119 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public ItemStack removeByType(@Nullable HashedItem itemType, int amount) {
-        if (itemDataMap.isEmpty() || amount <= 0) {
+        if (itemTypes.isEmpty() || amount <= 0) {
+            return ItemStack.EMPTY;
+        }
+        int id = itemType == null ? itemTypes.firstId() : itemTypes.getId(itemType);
+        if (id == -1) {
             return ItemStack.EMPTY;
         }
+        HashedItem type = itemTypes.getType(id);
+        int removed = MathUtils.clampToInt(remove(id, amount, Action.EXECUTE));
+        // remove this item type if it's now empty
+        if (itemTypes.getCount(id) == 0) {
+            removeItemType(id);
+        }
+        return removed == 0 ? ItemStack.EMPTY : type.createStack(removed);
+    }
 
-        QIOItemTypeData data;
-        if (itemType == null) {
-            Map.Entry<HashedItem, QIOItemTypeData> entry = itemDataMap.firstEntry();
-            itemType = entry.getKey();
-            data = entry.getValue();
-        } else {
-            data = itemDataMap.get(itemType);
-            if (data == null) {
-                return ItemStack.EMPTY;
-            }
+    private void removeItemType(int id) {
+        for (QIODriveData data : driveMap.values()) {
+            data.getStoredTypeIds().clear(id);
         }
+        itemTypes.remove(id);
+    }
 
-        ItemStack removed = data.remove(amount);
-        // remove this item type if it's now empty
-        if (data.count == 0) {
-            removeItemData(data.itemType);
+    public List<HashedItem> getTypesForItem(Item item) {
+        IntList ids = itemTypes.getIdsForItem(item);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
         }
-        return removed;
+        List<HashedItem> types = new ArrayList<>(ids.size());
+        for (int i = 0, size = ids.size(); i < size; i++) {
+            types.add(itemTypes.getType(ids.getInt(i)));
+        }
+        return types;
     }
 
-    private void removeItemData(HashedItem type) {
-        itemDataMap.remove(type);
-        //Note: We need to copy the tags to a new collection as otherwise when we start removing them from the lookup
-        // they will also get removed from this view
-        Set<String> tags = new HashSet<>(tagLookupMap.getKeys(type));
-        if (tagLookupMap.removeValue(type) && !tagLookupMap.hasAllKeys(tags)) {
-            //If we completely removed any tags clear our wildcard cache as it may have some wildcards that are
-            // matching a tag that is no longer stored
-            tagWildcardCache.clear();
-            //Note: We don't need to clear the failed wildcard tags as if we are removing tags they still won't have any matches
-        }
-        ItemStack stack = type.getInternalStack();
-        String modID = MekanismUtils.getModId(stack);
-        Set<HashedItem> itemsForMod = modIDLookupMap.get(modID);
-        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
-        // but double check that it is not null just in case
-        // Next if we removed the item successfully, check if the items for that mod is now empty, and if they are
-        // remove the modid from the lookup map, and clear our wildcard cache as it may have some wildcards that are
-        // matching a modid that is no longer stored
-        if (itemsForMod != null && itemsForMod.remove(type) && itemsForMod.isEmpty()) {
-            modIDLookupMap.remove(modID);
-            modIDWildcardCache.clear();
-            //Note: We don't need to clear the failed wildcard modids as if we are removing tags they still won't have any matches
-        }
-        Item item = stack.getItem();
-        Set<HashedItem> itemsByFuzzy = fuzzyItemLookupMap.get(item);
-        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
-        // but double check that it is not null just in case
-        // Next if we removed the item successfully, check if the "fuzzy" items for that item is now empty, and if they are
-        // remove the item completely from the lookup map
-        if (itemsByFuzzy != null && itemsByFuzzy.remove(type) && itemsByFuzzy.isEmpty()) {
-            fuzzyItemLookupMap.remove(item);
-        }
-    }
-
-    public Set<HashedItem> getTypesForItem(Item item) {
-        return fuzzyItemLookupMap.getOrDefault(item, Collections.emptySet());
+    public long getStoredByItem(Item item) {
+        IntList ids = itemTypes.getIdsForItem(item);
+        long stored = 0;
+        for (int i = 0, size = ids.size(); i < size; i++) {
+            stored += itemTypes.getCount(ids.getInt(i));
+        }
+        return stored;
     }
 
     public Object2LongMap<HashedItem> getStacksByItem(Item item) {
-        return getStacksWithCounts(fuzzyItemLookupMap.get(item));
+        return getStacksWithCounts(itemTypes.getIdsForItem(item));
     }
 
     public Object2LongMap<HashedItem> getStacksByTag(String tag) {
-        return getStacksWithCounts(tagLookupMap.getValues(tag));
+        return getStacksWithCounts(itemTypes.getIdsForTag(tag));
     }
 
     public Object2LongMap<HashedItem> getStacksByModID(String modID) {
-        return getStacksWithCounts(modIDLookupMap.get(modID));
+        return getStacksWithCounts(itemTypes.getIdsForModID(modID));
     }
 
-    private Object2LongMap<HashedItem> getStacksWithCounts(@Nullable Set<HashedItem> items) {
-        if (items == null || items.isEmpty()) {
+    private Object2LongMap<HashedItem> getStacksWithCounts(IntList ids) {
+        if (ids.isEmpty()) {
             return Object2LongMaps.emptyMap();
         }
-        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-        for (HashedItem item : items) {
-            ret.put(item, getStoredByHash(item));
-        }
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>(ids.size());
+        addStacksWithCounts(ret, ids);
         return ret;
     }
 
-    public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
-        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::getAllKeys)) {
-            Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            ToLongFunction<HashedItem> storedFunction = this::getStoredByHash;
-            for (String match : tagWildcardCache.get(wildcard)) {
-                for (HashedItem item : tagLookupMap.getValues(match)) {
-                    //If our return map doesn't already have the stored value in it, calculate it.
-                    // The case where it may have the stored value in it is if an item has multiple
-                    // tags that all match the wildcard
-                    ret.computeIfAbsent(item, storedFunction);
-                }
-            }
-            return ret;
-        }
-        return Object2LongMaps.emptyMap();
-    }
-
-    public Object2LongMap<HashedItem> getStacksByModIDWildcard(String wildcard) {
-        if (hasMatchingElements(modIDWildcardCache, failedWildcardModIDs, wildcard, modIDLookupMap::keySet)) {
-            Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            for (String match : modIDWildcardCache.get(wildcard)) {
-                for (HashedItem item : modIDLookupMap.get(match)) {
-                    //Note: Unlike in getStacksByTagWildcard, we don't use computeLongIfAbsent here because
-                    // each stack only has one modid, so while we may have multiple modids that match our
-                    // wildcard, the stacks that correspond to said modids will be unique
-                    ret.put(item, getStoredByHash(item));
-                }
-            }
-            return ret;
+    private void addStacksWithCounts(Object2LongMap<HashedItem> stacks, IntList ids) {
+        for (int i = 0, size = ids.size(); i < size; i++) {
+            int id = ids.getInt(i);
+            stacks.put(itemTypes.getType(id), itemTypes.getCount(id));
         }
-        return Object2LongMaps.emptyMap();
     }
 
-    private boolean hasMatchingElements(SetMultimap<String, String> wildcardCache, Set<String> failedWildcards, String wildcard, Supplier<Set<String>> entriesSupplier) {
-        if (failedWildcards.contains(wildcard)) {
-            //If we already know this wildcard has no matching things, fail fast
-            return false;
+    public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
+        Set<String> matches = itemTypes.getTagsMatching(wildcard);
+        if (matches.isEmpty()) {
+            return Object2LongMaps.emptyMap();
         }
-        //If we don't have a cached value for the given wildcard, try to build up the corresponding cache
-        if (!wildcardCache.containsKey(wildcard) && !buildWildcardMapping(wildcardCache, wildcard, entriesSupplier.get())) {
-            // If we don't actually have any matches, mark that the wildcard failed, and return false
-            failedWildcards.add(wildcard);
-            return false;
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
+        for (String match : matches) {
+            //Note: An item may have multiple tags that all match the wildcard, in which case we just put the same count again
+            addStacksWithCounts(ret, itemTypes.getIdsForTag(match));
         }
-        return true;
+        return ret;
     }
 
-    /**
-     * @return {@code true} if any wildcards were added.
-     */
-    private boolean buildWildcardMapping(SetMultimap<String, String> wildcardCache, String wildcard, Set<String> entries) {
-        boolean added = false;
-        for (String entry : entries) {
-            if (WildcardMatcher.matches(wildcard, entry)) {
-                added |= wildcardCache.put(wildcard, entry);
-            }
+    public Object2LongMap<HashedItem> getStacksByModIDWildcard(String wildcard) {
+        Set<String> matches = itemTypes.getModIDsMatching(wildcard);
+        if (matches.isEmpty()) {
+            return Object2LongMaps.emptyMap();
         }
-        return added;
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
+        for (String match : matches) {
+            //Note: Each stack only has one modid, so while we may have multiple modids that match our
+            // wildcard, the stacks that correspond to said modids will be unique
+            addStacksWithCounts(ret, itemTypes.getIdsForModID(match));
+        }
+        return ret;
     }
 
     public void openItemViewer(ServerPlayer player) {
         playersViewingItems.add(player);
-        Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(itemDataMap.size());
-        for (QIOItemTypeData data : itemDataMap.values()) {
-            map.put(new UUIDAwareHashedItem(data.itemType, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(data.itemType)), data.count);
-        }
-        PacketDistributor.sendToPlayer(player, new PacketBatchItemViewerSync(totalCountCapacity, totalTypeCapacity, map));
+        QIOItemViewerSync sync = QIOItemViewerSync.get(player);
+        Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>();
+        Object2LongMap<UUID> knownCounts = new Object2LongOpenHashMap<>();
+        itemTypes.forEach((type, count) -> sync.add(QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type), type, count, map, knownCounts));
+        int sequence = sync.sent(player.server.getTickCount());
+        PacketDistributor.sendToPlayer(player, new PacketBatchItemViewerSync(sequence, totalCountCapacity, totalTypeCapacity, map, knownCounts));
     }
 
     public void closeItemViewer(ServerPlayer player) {
-        playersViewingItems.remove(player);
+        if (playersViewingItems.remove(player)) {
+            QIOItemViewerSync.get(player).clearChanges();
+        }
     }
 
     @Override
@@ -445,7 +414,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public int getTotalItemTypes(boolean remote) {
-        return remote ? clientTypes : itemDataMap.size();
+        return remote ? clientTypes : itemTypes.size();
     }
 
     public int getTotalItemTypeCapacity() {
@@ -458,8 +427,16 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public long getStoredByHash(HashedItem itemType) {
-        QIOItemTypeData data = itemDataMap.get(itemType);
-        return data == null ? 0 : data.count;
+        int id = itemTypes.getId(itemType);
+        return id == -1 ? 0 : itemTypes.getCount(id);
+    }
+
+    /**
+     * @return The id the given type is stored under, or {@code -1} if it isn't stored.
+     */
+    @VisibleForTesting
+    public int getTypeId(HashedItem itemType) {
+        return itemTypes.getId(itemType);
     }
 
     public boolean isStoring(HashedItem itemType) {
@@ -495,31 +472,36 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         }
 
         if (!updatedItems.isEmpty() || needsUpdate) {
-            //Only calculate the packet and the update map if there are actually players viewing this frequency,
-            // otherwise we can just skip looking up UUIDs and counts
-            Lazy<PacketUpdateItemViewer> lazyPacket = Lazy.of(() -> {
-                Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(updatedItems.size());
-                for (UUID uuid : updatedItems) {
-                    HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
-                    if (type != null) {//The type should never be null as we create a UUID if there isn't one before adding but validate it
-                        QIOItemTypeData data = itemDataMap.get(type);
-                        map.put(new UUIDAwareHashedItem(type, uuid), data == null ? 0 : data.count);
-                    }
-                }
-                return new PacketUpdateItemViewer(totalCountCapacity, totalTypeCapacity, map);
-            });
+            //Pass the changes on to each viewer, so that they can be combined with any other changes that happen before it is time to send the viewer an update
             for (Iterator<ServerPlayer> viewingIterator = playersViewingItems.iterator(); viewingIterator.hasNext(); ) {
                 ServerPlayer player = viewingIterator.next();
                 if (player.containerMenu instanceof QIOItemViewerContainer) {
-                    PacketDistributor.sendToPlayer(player, lazyPacket.get());
+                    QIOItemViewerSync.get(player).markChanged(updatedItems);
                 } else {
                     //flush players that somehow didn't send a container close packet
                     viewingIterator.remove();
+                    QIOItemViewerSync.get(player).clearChanges();
                 }
             }
             updatedItems.clear();
             needsUpdate = false;
         }
+        for (ServerPlayer player : playersViewingItems) {
+            QIOItemViewerSync sync = QIOItemViewerSync.get(player);
+            int tick = player.server.getTickCount();
+            if (sync.shouldSync(tick)) {
+                Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>();
+                Object2LongMap<UUID> knownCounts = new Object2LongOpenHashMap<>(sync.getChangedTypes().size());
+                for (UUID uuid : sync.getChangedTypes()) {
+                    HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
+                    if (type != null) {//The type should never be null as we create a UUID if there isn't one before adding but validate it
+                        sync.add(uuid, type, getStoredByHash(type), map, knownCounts);
+                    }
+                }
+                int sequence = sync.sent(tick);
+                PacketDistributor.sendToPlayer(player, new PacketUpdateItemViewer(sequence, totalCountCapacity, totalTypeCapacity, map, knownCounts));
+            }
+        }
         // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
         // the random factor helps us avoid bogging down the CPU by saving all QIO frequencies at once
         // this isn't a fully necessary operation, but it'll help avoid all item data getting lost if the server
@@ -532,12 +514,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         }
 
         if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
-            //Note: We only need to clear tags here as the modids cannot change just because a reload happened
-            tagLookupMap.clear();
-            tagWildcardCache.clear();
-            for (QIOItemTypeData item : itemDataMap.values()) {
-                tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getInternalStack()), item.itemType);
-            }
+            itemTypes.reindexTags();
         }
         return superDirty;
     }
@@ -586,7 +563,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         int code = super.getSyncHash();
         code = 31 * code + Long.hashCode(totalCount);
         code = 31 * code + Long.hashCode(totalCountCapacity);
-        code = 31 * code + itemDataMap.size();
+        code = 31 * code + itemTypes.size();
         code = 31 * code + totalTypeCapacity;
         code = 31 * code + color.ordinal();
         return code;
@@ -603,9 +580,17 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             totalCountCapacity += data.getCountCapacity();
             totalTypeCapacity += data.getTypeCapacity();
             driveMap.put(key, data);
+            BitSet storedTypeIds = data.getStoredTypeIds();
             for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
                 HashedItem storedKey = entry.getKey();
-                itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(data, entry.getLongValue());
+                long value = entry.getLongValue();
+                int id = itemTypes.getId(storedKey);
+                if (id == -1) {
+                    id = itemTypes.add(storedKey);
+                }
+                itemTypes.grow(id, value);
+                totalCount += value;
+                storedTypeIds.set(id);
                 markForUpdate(storedKey);
             }
             setNeedsUpdate();
@@ -617,19 +602,22 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             return;
         }
         QIODriveData data = driveMap.get(key);
+        //Snapshot what the drive contains before we stop tracking the types in it. If the drive hasn't changed since it was last saved, the stack is already up to date
+        DriveContents contents = data.isDirty() ? data.createContents(itemTypes) : null;
         if (updateItemMap) {
+            BitSet storedTypeIds = data.getStoredTypeIds();
             for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
                 HashedItem storedKey = entry.getKey();
                 long value = entry.getLongValue();
-                QIOItemTypeData itemData = itemDataMap.get(storedKey);
-                if (itemData != null) {
-                    itemData.containingDrives.remove(key);
-                    itemData.count -= value;
+                int id = itemTypes.getId(storedKey);
+                if (id != -1) {
+                    storedTypeIds.clear(id);
+                    itemTypes.grow(id, -value);
                     totalCount -= value;
                     markForUpdate(storedKey);
-                    // remove this entry from the item data map if it's now empty
-                    if (itemData.containingDrives.isEmpty() || itemData.count == 0) {
-                        removeItemData(storedKey);
+                    // remove this type if it's now empty
+                    if (itemTypes.getCount(id) == 0 || !isInAnyDrive(id)) {
+                        removeItemType(id);
                     }
                 }
             }
@@ -641,15 +629,30 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         driveMap.remove(key);
         // save the item list onto the physical drive
         key.updateMetadata(data);
-        key.save(data);
+        if (contents != null) {
+            key.save(contents);
+        }
+    }
+
+    private boolean isInAnyDrive(int id) {
+        for (QIODriveData data : driveMap.values()) {
+            if (data.getStoredTypeIds().get(id)) {
+                return true;
+            }
+        }
+        return false;
     }
 
+    /**
+     * Saves the contents of any drives that changed since they were last saved onto the drive stacks.
+     */
     public void saveAll() {
         for (Entry<QIODriveKey, QIODriveData> entry : driveMap.entrySet()) {
-            QIODriveKey key = entry.getKey();
             QIODriveData value = entry.getValue();
-            key.updateMetadata(value);
-            key.save(value);
+            if (value.isDirty()) {
+                //Note: We don't need to update the metadata as that is kept up to date whenever the contents of the drive change
+                entry.getKey().save(value.createContents(itemTypes));
+            }
         }
     }
 
@@ -672,90 +675,4 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private void setNeedsUpdate() {
         setNeedsUpdate(null);
     }
-
-    public class QIOItemTypeData {
-
-        private final HashedItem itemType;
-        private long count = 0;
-        private final Set<QIODriveKey> containingDrives = new HashSet<>();
-
-        public QIOItemTypeData(HashedItem itemType) {
-            this.itemType = itemType;
-        }
-
-        private void addFromDrive(QIODriveData data, long toAdd) {
-            count += toAdd;
-            totalCount += toAdd;
-            containingDrives.add(data.getKey());
-            setNeedsUpdate();
-        }
-
-        private long add(long amount, Action action) {
-            long toAdd = amount;
-            // first we try to add the items to an already-containing drive
-            for (QIODriveKey key : containingDrives) {
-                toAdd = addItemsToDrive(toAdd, driveMap.get(key), action);
-                if (toAdd == 0) {
-                    break;
-                }
-            }
-            // next, we add the items to any drive that will take it
-            if (toAdd > 0) {
-                for (QIODriveData data : driveMap.values()) {
-                    if (!containingDrives.contains(data.getKey())) {
-                        toAdd = addItemsToDrive(toAdd, data, action);
-                        if (toAdd == 0) {
-                            break;
-                        }
-                    }
-                }
-            }
-            if (action.execute()) {
-                // update internal/core values
-                count += amount - toAdd;
-                totalCount += amount - toAdd;
-                setNeedsUpdate(itemType);
-            }
-            return toAdd;
-        }
-
-        private long addItemsToDrive(long toAdd, QIODriveData data, Action action) {
-            long rejects = data.add(itemType, toAdd, action);
-            if (action.execute() && rejects < toAdd) {
-                containingDrives.add(data.getKey());
-            }
-            return rejects;
-        }
-
-        private long remove(long amount, Action action) {
-            long removed = 0;
-            for (Iterator<QIODriveKey> iter = containingDrives.iterator(); iter.hasNext(); ) {
-                QIODriveData data = driveMap.get(iter.next());
-                removed += data.remove(itemType, amount - removed, action);
-                // remove this drive from containingDrives if it doesn't have this item anymore
-                if (action.execute() && data.getStored(itemType) == 0) {
-                    iter.remove();
-                }
-                // break early if we found enough items
-                if (removed == amount) {
-                    break;
-                }
-            }
-            if (action.execute()) {
-                count -= removed;
-                totalCount -= removed;
-                setNeedsUpdate(itemType);
-            }
-            return removed;
-        }
-
-        private ItemStack remove(int amount) {
-            int removed = MathUtils.clampToInt(remove(amount, Action.EXECUTE));
-            return removed == 0 ? ItemStack.EMPTY : itemType.createStack(removed);
-        }
-
-        public long getCount() {
-            return count;
-        }
-    }
 }
@@ -0,0 +1,384 @@
+package mekanism.common.content.qio;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntLists;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.ObjLongConsumer;
+import mekanism.common.base.TagCache;
+import mekanism.common.lib.WildcardMatcher;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Storage core of a {@link QIOFrequency}. Every item type stored in the frequency is given a dense int id, that the counts of each type and the lookups of types by tag,
+ * mod id, and item are indexed by. This means that once the id of a type has been looked up, no further hash lookups are needed to update its count or find what it is
+ * indexed under.
+ * <br><br>
+ * Ids of types that are removed get reused by the next type that is added. As ids get reused, the stored types are also linked together in the order they were added, which
+ * is the order they are iterated in, and so the order things like untyped extraction take them out in.
+ */
+public class QIOItemTypeStore {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Object2IntMap<HashedItem> typeIds = new Object2IntOpenHashMap<>();
+    private final IntList freeIds = new IntArrayList();
+    private HashedItem[] types = new HashedItem[INITIAL_CAPACITY];
+    private long[] counts = new long[INITIAL_CAPACITY];
+    private UUID[] uuids = new UUID[INITIAL_CAPACITY];
+    private List<String>[] typeTags = createTagArray(INITIAL_CAPACITY);
+    /**
+     * The id of the type added after each type, or {@code -1} if it is the most recently added type.
+     */
+    private int[] nextIds = new int[INITIAL_CAPACITY];
+    /**
+     * The id of the type added before each type, or {@code -1} if it is the least recently added type.
+     */
+    private int[] previousIds = new int[INITIAL_CAPACITY];
+    private int firstId = -1;
+    private int lastId = -1;
+    /**
+     * One more than the highest id that has been given out.
+     */
+    private int idLimit;
+
+    // efficiently keep track of the tags utilized by the items stored
+    private final Map<String, IntList> tagLookupMap = new HashMap<>();
+    // efficiently keep track of the modids utilized by the items stored
+    private final Map<String, IntList> modIDLookupMap = new HashMap<>();
+    // efficiently keep track of the items for use in fuzzy lookup utilized by the items stored
+    private final Map<Item, IntList> fuzzyItemLookupMap = new IdentityHashMap<>();
+    // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
+    private final SetMultimap<String, String> tagWildcardCache = HashMultimap.create();
+    private final Set<String> failedWildcardTags = new HashSet<>();
+    // a sensitive cache for wildcard modid lookups (wildcard -> [matching modids])
+    private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
+    private final Set<String> failedWildcardModIDs = new HashSet<>();
+
+    private final Collection<HashedItem> typeView = new AbstractCollection<>() {
+        @Override
+        public Iterator<HashedItem> iterator() {
+            return new Iterator<>() {
+                private int next = firstId;
+
+                @Override
+                public boolean hasNext() {
+                    return next != -1;
+                }
+
+                @Override
+                public HashedItem next() {
+                    if (next == -1) {
+                        throw new NoSuchElementException();
+                    }
+                    HashedItem type = types[next];
+                    next = nextIds[next];
+                    return type;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return typeIds.size();
+        }
+    };
+
+    public QIOItemTypeStore() {
+        typeIds.defaultReturnValue(-1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String>[] createTagArray(int length) {
+        return new List[length];
+    }
+
+    /**
+     * @return The id of the given type, or {@code -1} if it isn't stored.
+     */
+    public int getId(HashedItem type) {
+        return typeIds.getInt(type);
+    }
+
+    public HashedItem getType(int id) {
+        return types[id];
+    }
+
+    /**
+     * @return The UUID the {@link QIOGlobalItemLookup} has for the type with the given id.
+     */
+    public UUID getUUID(int id) {
+        return uuids[id];
+    }
+
+    public long getCount(int id) {
+        return counts[id];
+    }
+
+    public void grow(int id, long amount) {
+        counts[id] += amount;
+    }
+
+    public int size() {
+        return typeIds.size();
+    }
+
+    public boolean isEmpty() {
+        return typeIds.isEmpty();
+    }
+
+    /**
+     * @return The id of the least recently added type that is still stored, or {@code -1} if there are none.
+     */
+    public int firstId() {
+        return firstId;
+    }
+
+    /**
+     * @return An unmodifiable view of all the stored types, in the order they were added.
+     */
+    public Collection<HashedItem> getTypes() {
+        return typeView;
+    }
+
+    public void forEach(ObjLongConsumer<HashedItem> consumer) {
+        for (int id = firstId; id != -1; id = nextIds[id]) {
+            consumer.accept(types[id], counts[id]);
+        }
+    }
+
+    /**
+     * Adds a new type with a count of zero, and indexes it.
+     *
+     * @return The id of the type.
+     */
+    public int add(HashedItem type) {
+        int id;
+        if (freeIds.isEmpty()) {
+            id = idLimit++;
+            if (id == types.length) {
+                int newLength = types.length * 2;
+                types = Arrays.copyOf(types, newLength);
+                counts = Arrays.copyOf(counts, newLength);
+                uuids = Arrays.copyOf(uuids, newLength);
+                typeTags = Arrays.copyOf(typeTags, newLength);
+                nextIds = Arrays.copyOf(nextIds, newLength);
+                previousIds = Arrays.copyOf(previousIds, newLength);
+            }
+        } else {
+            id = freeIds.removeInt(freeIds.size() - 1);
+        }
+        types[id] = type;
+        counts[id] = 0;
+        typeIds.put(type, id);
+        //Link the type after the most recently added type
+        previousIds[id] = lastId;
+        nextIds[id] = -1;
+        if (lastId == -1) {
+            firstId = id;
+        } else {
+            nextIds[lastId] = id;
+        }
+        lastId = id;
+        ItemStack stack = type.getInternalStack();
+        indexTags(id, stack);
+        String modID = MekanismUtils.getModId(stack);
+        IntList modItems = modIDLookupMap.get(modID);
+        if (modItems == null) {
+            //If we added a new modid to the lookup map we also want to make sure that we clear our modid wildcard cache
+            // as our new modid may be valid for some of our wildcards
+            modIDWildcardCache.clear();
+            failedWildcardModIDs.clear();
+            modItems = new IntArrayList();
+            modIDLookupMap.put(modID, modItems);
+        }
+        modItems.add(id);
+        //Fuzzy item lookup has no wildcard cache related to it
+        fuzzyItemLookupMap.computeIfAbsent(stack.getItem(), item -> new IntArrayList()).add(id);
+        //Ensure we have a matching uuid for this item, and keep track of it so that we don't have to look it up again when saving drives
+        uuids[id] = QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type);
+        return id;
+    }
+
+    private void indexTags(int id, ItemStack stack) {
+        List<String> tags = TagCache.getItemTags(stack);
+        typeTags[id] = tags;
+        boolean addedTag = false;
+        for (String tag : tags) {
+            IntList tagItems = tagLookupMap.get(tag);
+            if (tagItems == null) {
+                addedTag = true;
+                tagItems = new IntArrayList();
+                tagLookupMap.put(tag, tagItems);
+            }
+            tagItems.add(id);
+        }
+        if (addedTag) {
+            //If we didn't have all the keys for tags this item has, then we need to clear our wildcard cache
+            // as our new tags may be valid for some of our wildcards
+            tagWildcardCache.clear();
+            failedWildcardTags.clear();
+        }
+    }
+
+    /**
+     * Removes a type and its id from all the lookups. The id may be given to a different type after this.
+     */
+    public void remove(int id) {
+        HashedItem type = types[id];
+        typeIds.removeInt(type);
+        types[id] = null;
+        counts[id] = 0;
+        uuids[id] = null;
+        freeIds.add(id);
+        int previous = previousIds[id];
+        int next = nextIds[id];
+        if (previous == -1) {
+            firstId = next;
+        } else {
+            nextIds[previous] = next;
+        }
+        if (next == -1) {
+            lastId = previous;
+        } else {
+            previousIds[next] = previous;
+        }
+        if (removeFromLookup(tagLookupMap, typeTags[id], id)) {
+            //If we completely removed any tags clear our wildcard cache as it may have some wildcards that are
+            // matching a tag that is no longer stored
+            tagWildcardCache.clear();
+            //Note: We don't need to clear the failed wildcard tags as if we are removing tags they still won't have any matches
+        }
+        typeTags[id] = null;
+        ItemStack stack = type.getInternalStack();
+        if (removeFromLookup(modIDLookupMap, MekanismUtils.getModId(stack), id)) {
+            //If the mod no longer has any items stored, clear our wildcard cache as it may have some wildcards that are
+            // matching a modid that is no longer stored
+            modIDWildcardCache.clear();
+            //Note: We don't need to clear the failed wildcard modids as if we are removing tags they still won't have any matches
+        }
+        removeFromLookup(fuzzyItemLookupMap, stack.getItem(), id);
+    }
+
+    /**
+     * @return {@code true} if any of the keys no longer have any types.
+     */
+    private static <KEY> boolean removeFromLookup(Map<KEY, IntList> lookup, @Nullable List<KEY> keys, int id) {
+        boolean removedKey = false;
+        if (keys != null) {
+            for (KEY key : keys) {
+                removedKey |= removeFromLookup(lookup, key, id);
+            }
+        }
+        return removedKey;
+    }
+
+    /**
+     * @return {@code true} if the key no longer has any types.
+     */
+    private static <KEY> boolean removeFromLookup(Map<KEY, IntList> lookup, KEY key, int id) {
+        IntList ids = lookup.get(key);
+        //In theory if we are removing an item, and it existed we should have a list corresponding to it,
+        // but double check that it is not null just in case
+        if (ids != null && ids.rem(id) && ids.isEmpty()) {
+            lookup.remove(key);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Rebuilds the tag lookup, for when tags have been reloaded.
+     */
+    public void reindexTags() {
+        //Note: We only need to clear tags here as the modids cannot change just because a reload happened
+        tagLookupMap.clear();
+        tagWildcardCache.clear();
+        failedWildcardTags.clear();
+        for (int id = 0; id < idLimit; id++) {
+            HashedItem type = types[id];
+            if (type != null) {
+                indexTags(id, type.getInternalStack());
+            }
+        }
+    }
+
+    public IntList getIdsForItem(Item item) {
+        return fuzzyItemLookupMap.getOrDefault(item, IntLists.emptyList());
+    }
+
+    public IntList getIdsForTag(String tag) {
+        return tagLookupMap.getOrDefault(tag, IntLists.emptyList());
+    }
+
+    public IntList getIdsForModID(String modID) {
+        return modIDLookupMap.getOrDefault(modID, IntLists.emptyList());
+    }
+
+    /**
+     * @return The stored tags that match the given wildcard.
+     */
+    public Set<String> getTagsMatching(String wildcard) {
+        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap.keySet())) {
+            return tagWildcardCache.get(wildcard);
+        }
+        return Collections.emptySet();
+    }
+
+    /**
+     * @return The stored modids that match the given wildcard.
+     */
+    public Set<String> getModIDsMatching(String wildcard) {
+        if (hasMatchingElements(modIDWildcardCache, failedWildcardModIDs, wildcard, modIDLookupMap.keySet())) {
+            return modIDWildcardCache.get(wildcard);
+        }
+        return Collections.emptySet();
+    }
+
+    private static boolean hasMatchingElements(SetMultimap<String, String> wildcardCache, Set<String> failedWildcards, String wildcard, Set<String> entries) {
+        if (failedWildcards.contains(wildcard)) {
+            //If we already know this wildcard has no matching things, fail fast
+            return false;
+        }
+        //If we don't have a cached value for the given wildcard, try to build up the corresponding cache
+        if (!wildcardCache.containsKey(wildcard) && !buildWildcardMapping(wildcardCache, wildcard, entries)) {
+            // If we don't actually have any matches, mark that the wildcard failed, and return false
+            failedWildcards.add(wildcard);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if any wildcards were added.
+     */
+    private static boolean buildWildcardMapping(SetMultimap<String, String> wildcardCache, String wildcard, Set<String> entries) {
+        boolean added = false;
+        for (String entry : entries) {
+            if (WildcardMatcher.matches(wildcard, entry)) {
+                added |= wildcardCache.put(wildcard, entry);
+            }
+        }
+        return added;
+    }
+}
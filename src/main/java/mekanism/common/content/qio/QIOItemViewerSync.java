@@ -0,0 +1,163 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.level.ServerPlayer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of which item types a player's client knows about, so that QIO item viewers only have to sync the full item for types the client hasn't been sent yet,
+ * and can sync everything else as just the type's UUID and count. Types are only considered known once the client acknowledges the packet they were sent in.
+ * <br><br>
+ * This also limits how often changes are sent to each player, combining any changes that happen in between into a single update, and waits for the client to
+ * acknowledge the previous update before sending the next one.
+ */
+public class QIOItemViewerSync {
+
+    /**
+     * How long to wait for the client to acknowledge an update before sending the next one anyway.
+     */
+    private static final int ACKNOWLEDGE_TIMEOUT = 5 * SharedConstants.TICKS_PER_SECOND;
+
+    private static final Map<UUID, QIOItemViewerSync> players = new Object2ObjectOpenHashMap<>();
+    /**
+     * Item types the client has been sent, only used on the client side.
+     */
+    private static final Map<UUID, UUIDAwareHashedItem> clientTypes = new Object2ObjectOpenHashMap<>();
+
+    public static QIOItemViewerSync get(ServerPlayer player) {
+        return players.computeIfAbsent(player.getUUID(), uuid -> new QIOItemViewerSync());
+    }
+
+    public static void clearPlayer(UUID player) {
+        players.remove(player);
+    }
+
+    public static void reset() {
+        players.clear();
+    }
+
+    public static void rememberClientType(UUIDAwareHashedItem type) {
+        clientTypes.put(type.getUUID(), type);
+    }
+
+    @Nullable
+    public static UUIDAwareHashedItem getClientType(UUID uuid) {
+        return clientTypes.get(uuid);
+    }
+
+    public static void resetClient() {
+        clientTypes.clear();
+    }
+
+    private final Set<UUID> knownTypes = new ObjectOpenHashSet<>();
+    /**
+     * Types that have been sent to the client but not acknowledged yet, and the sequence number of the packet they were sent in.
+     */
+    private final Object2IntMap<UUID> unacknowledgedTypes = new Object2IntOpenHashMap<>();
+    private final Set<UUID> changedTypes = new ObjectOpenHashSet<>();
+    private boolean changed;
+    private int sequence;
+    private int acknowledged;
+    private int lastSent;
+    private int nextSync;
+
+    private QIOItemViewerSync() {
+    }
+
+    /**
+     * Marks that the capacity or the given types changed, and should be sent with the next update.
+     */
+    public void markChanged(Collection<UUID> types) {
+        changedTypes.addAll(types);
+        changed = true;
+    }
+
+    /**
+     * Forgets any changes that haven't been sent yet, for when the player stops viewing a frequency or is sent everything in the frequency.
+     */
+    public void clearChanges() {
+        changedTypes.clear();
+        changed = false;
+    }
+
+    public Set<UUID> getChangedTypes() {
+        return changedTypes;
+    }
+
+    /**
+     * @param tick The current server tick.
+     *
+     * @return {@code true} if there are changes to send, and it has been long enough since the last update was sent.
+     */
+    public boolean shouldSync(int tick) {
+        if (!changed || tick < nextSync) {
+            return false;
+        }
+        return acknowledged == sequence || tick - lastSent >= ACKNOWLEDGE_TIMEOUT;
+    }
+
+    /**
+     * Adds an item type to the packet being built, as the full item if the client doesn't know about the type, or just as its UUID if it does.
+     *
+     * @param uuid   UUID of the type.
+     * @param type   The type.
+     * @param count  How much of the type is stored.
+     * @param items  Types being sent in full.
+     * @param counts Types being sent as just their UUID.
+     */
+    public void add(UUID uuid, HashedItem type, long count, Object2LongMap<UUIDAwareHashedItem> items, Object2LongMap<UUID> counts) {
+        if (knownTypes.contains(uuid)) {
+            counts.put(uuid, count);
+        } else if (count > 0 || unacknowledgedTypes.containsKey(uuid)) {
+            //Note: If the type was removed and the client was never sent the type, we can skip telling it the type was removed
+            items.put(new UUIDAwareHashedItem(type, uuid), count);
+            unacknowledgedTypes.put(uuid, sequence + 1);
+        }
+    }
+
+    /**
+     * Marks that a packet containing the types that were {@link #add added} is being sent.
+     *
+     * @param tick The current server tick.
+     *
+     * @return The sequence number of the packet, for the client to acknowledge.
+     */
+    public int sent(int tick) {
+        clearChanges();
+        lastSent = tick;
+        nextSync = tick + Math.max(1, SharedConstants.TICKS_PER_SECOND / MekanismConfig.general.qioViewerUpdateRate.get());
+        return ++sequence;
+    }
+
+    /**
+     * Called when the client acknowledges that it received a packet, and any packets sent before it.
+     */
+    public void acknowledge(int acknowledgedSequence) {
+        if (acknowledgedSequence - acknowledged <= 0 || acknowledgedSequence - sequence > 0) {
+            //Ignore acknowledgements that are out of date or for packets we haven't sent
+            return;
+        }
+        acknowledged = acknowledgedSequence;
+        for (ObjectIterator<Object2IntMap.Entry<UUID>> iterator = Object2IntMaps.fastIterator(unacknowledgedTypes); iterator.hasNext(); ) {
+            Object2IntMap.Entry<UUID> entry = iterator.next();
+            if (entry.getIntValue() - acknowledgedSequence <= 0) {
+                knownTypes.add(entry.getKey());
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.QueryType;
+import mekanism.common.content.qio.SearchQueryParser.SearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.SearchQueryList;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Inverted index of the item types in a QIO Item Viewer, used to evaluate {@link SearchQueryParser search queries} as set operations rather than by testing every type
+ * against the query. Only use on client-side.
+ * <br><br>
+ * Each {@link QueryType} has its own dictionary of terms, mapping each term to the set of types that have it. Names and tooltips are split into words, and tags and mod
+ * ids are used as is. A key matches a type if any of the type's texts contain it, so the types matching a key are found by checking which terms of the dictionary
+ * contain the key. As the dictionary is much smaller than the number of types, and the terms matched by the previous query are remembered so that typing more characters
+ * only has to check the terms that previously matched, this is much cheaper than testing each type.
+ * <br><br>
+ * The dictionary of a query type is only built the first time a query uses it, after which it is kept up to date as types are added and removed.
+ */
+public class QIOSearchIndex {
+
+    private final Object2IntMap<HashedItem> ids = new Object2IntOpenHashMap<>();
+    private final List<@Nullable HashedItem> items = new ArrayList<>();
+    private final IntList freeIds = new IntArrayList();
+    private final BitSet allItems = new BitSet();
+    private final Map<QueryType, TermIndex> termIndices = new EnumMap<>(QueryType.class);
+
+    public QIOSearchIndex() {
+        ids.defaultReturnValue(-1);
+    }
+
+    public void add(HashedItem item) {
+        if (ids.containsKey(item)) {
+            return;
+        }
+        int id;
+        if (freeIds.isEmpty()) {
+            id = items.size();
+            items.add(item);
+        } else {
+            id = freeIds.removeInt(freeIds.size() - 1);
+            items.set(id, item);
+        }
+        ids.put(item, id);
+        allItems.set(id);
+        for (TermIndex termIndex : termIndices.values()) {
+            termIndex.add(id, item);
+        }
+    }
+
+    public void remove(HashedItem item) {
+        int id = ids.removeInt(item);
+        if (id != -1) {
+            items.set(id, null);
+            freeIds.add(id);
+            allItems.clear(id);
+            for (TermIndex termIndex : termIndices.values()) {
+                termIndex.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Updates the index to contain exactly the given types, only indexing the ones that weren't already indexed.
+     */
+    public void sync(Set<? extends HashedItem> types) {
+        for (HashedItem item : items) {
+            if (item != null && !types.contains(item)) {
+                remove(item);
+            }
+        }
+        for (HashedItem type : types) {
+            add(type);
+        }
+    }
+
+    public void clear() {
+        ids.clear();
+        items.clear();
+        freeIds.clear();
+        allItems.clear();
+        termIndices.clear();
+    }
+
+    /**
+     * Finds all the indexed types that match the given query.
+     *
+     * @return A set that can be passed to {@link #contains(BitSet, HashedItem)} to check if a type matched.
+     */
+    public BitSet search(@Nullable Level level, ISearchQuery query) {
+        BitSet result;
+        if (query.isInvalid()) {
+            result = new BitSet();
+        } else if (query instanceof SearchQueryList queryList) {
+            List<SearchQuery> queries = queryList.getQueries();
+            if (queries.isEmpty()) {
+                // allow empty query lists to match all stacks
+                result = (BitSet) allItems.clone();
+            } else {
+                result = new BitSet();
+                for (SearchQuery subQuery : queries) {
+                    result.or(search(level, subQuery));
+                }
+            }
+        } else if (query instanceof SearchQuery searchQuery) {
+            result = search(level, searchQuery);
+        } else {
+            //Unknown query implementation, fall back to testing each type
+            result = new BitSet();
+            for (int id = allItems.nextSetBit(0); id >= 0; id = allItems.nextSetBit(id + 1)) {
+                if (query.test(level, items.get(id).getInternalStack())) {
+                    result.set(id);
+                }
+            }
+        }
+        for (TermIndex termIndex : termIndices.values()) {
+            termIndex.finishQuery();
+        }
+        return result;
+    }
+
+    private BitSet search(@Nullable Level level, SearchQuery query) {
+        BitSet result = null;
+        //A type has to match at least one key of every query type to match the query
+        for (Map.Entry<QueryType, List<String>> entry : query.getQueryMap().entrySet()) {
+            TermIndex termIndex = getTermIndex(level, entry.getKey());
+            BitSet typeMatches = new BitSet();
+            for (String key : entry.getValue()) {
+                typeMatches.or(termIndex.matching(key));
+            }
+            if (result == null) {
+                result = typeMatches;
+            } else {
+                result.and(typeMatches);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result == null ? (BitSet) allItems.clone() : result;
+    }
+
+    public boolean contains(BitSet matches, HashedItem item) {
+        int id = ids.getInt(item);
+        return id != -1 && matches.get(id);
+    }
+
+    private TermIndex getTermIndex(@Nullable Level level, QueryType type) {
+        TermIndex termIndex = termIndices.get(type);
+        if (termIndex == null) {
+            termIndex = new TermIndex(type, level);
+            for (int id = allItems.nextSetBit(0); id >= 0; id = allItems.nextSetBit(id + 1)) {
+                termIndex.add(id, items.get(id));
+            }
+            termIndices.put(type, termIndex);
+        }
+        return termIndex;
+    }
+
+    private static class TermIndex {
+
+        private static final String[] NO_TEXTS = new String[0];
+
+        private final QueryType type;
+        @Nullable
+        private final Level level;
+        private final Object2IntMap<String> termIds = new Object2IntOpenHashMap<>();
+        private final List<@Nullable String> terms = new ArrayList<>();
+        private final List<BitSet> postings = new ArrayList<>();
+        private final IntList freeTermIds = new IntArrayList();
+        /**
+         * The lower case texts of each type, used for keys that may span multiple terms and for removing types from the postings.
+         */
+        private final Int2ObjectMap<String[]> itemTexts = new Int2ObjectOpenHashMap<>();
+        private final BitSet hasTexts = new BitSet();
+        /**
+         * The terms that matched each key of the previous and current query, so that when a key is extended we only have to check the terms that matched before.
+         */
+        private Object2ObjectMap<String, IntList> previousMatches = new Object2ObjectOpenHashMap<>();
+        private Object2ObjectMap<String, IntList> currentMatches = new Object2ObjectOpenHashMap<>();
+
+        private TermIndex(QueryType type, @Nullable Level level) {
+            this.type = type;
+            this.level = level;
+            termIds.defaultReturnValue(-1);
+        }
+
+        private void add(int id, HashedItem item) {
+            List<String> texts = type.getTexts(level, item.getInternalStack());
+            if (texts.isEmpty()) {
+                return;
+            }
+            String[] textArray = texts.toArray(NO_TEXTS);
+            itemTexts.put(id, textArray);
+            hasTexts.set(id);
+            for (String text : textArray) {
+                if (type.isTokenized()) {
+                    for (String token : text.split(" ")) {
+                        if (!token.isEmpty()) {
+                            addTerm(token, id);
+                        }
+                    }
+                } else {
+                    addTerm(text, id);
+                }
+            }
+        }
+
+        private void addTerm(String term, int id) {
+            int termId = termIds.getInt(term);
+            if (termId == -1) {
+                if (freeTermIds.isEmpty()) {
+                    termId = terms.size();
+                    terms.add(term);
+                    postings.add(new BitSet());
+                } else {
+                    termId = freeTermIds.removeInt(freeTermIds.size() - 1);
+                    terms.set(termId, term);
+                }
+                termIds.put(term, termId);
+                //A new term may match keys we have remembered the matching terms of
+                previousMatches.clear();
+                currentMatches.clear();
+            }
+            postings.get(termId).set(id);
+        }
+
+        private void remove(int id) {
+            String[] texts = itemTexts.remove(id);
+            if (texts == null) {
+                return;
+            }
+            hasTexts.clear(id);
+            for (String text : texts) {
+                if (type.isTokenized()) {
+                    for (String token : text.split(" ")) {
+                        if (!token.isEmpty()) {
+                            removeTerm(token, id);
+                        }
+                    }
+                } else {
+                    removeTerm(text, id);
+                }
+            }
+        }
+
+        private void removeTerm(String term, int id) {
+            int termId = termIds.getInt(term);
+            if (termId != -1) {
+                BitSet posting = postings.get(termId);
+                posting.clear(id);
+                if (posting.isEmpty()) {
+                    termIds.removeInt(term);
+                    terms.set(termId, null);
+                    freeTermIds.add(termId);
+                }
+            }
+        }
+
+        /**
+         * @return The types that have a text containing the given key.
+         */
+        private BitSet matching(String key) {
+            String lowerKey = key.toLowerCase(Locale.ROOT);
+            if (lowerKey.isEmpty()) {
+                return (BitSet) hasTexts.clone();
+            } else if (!type.isTokenized() || lowerKey.indexOf(' ') == -1) {
+                //If the texts aren't split into terms, or the key is a single word, then a text contains the key if any of its terms do
+                return union(matchingTerms(lowerKey));
+            }
+            //Each word of the key has to be contained in a term of the text, but the text also has to contain the words in the right order
+            BitSet candidates = null;
+            for (String word : lowerKey.split(" ")) {
+                if (!word.isEmpty()) {
+                    BitSet wordMatches = union(matchingTerms(word));
+                    if (candidates == null) {
+                        candidates = wordMatches;
+                    } else {
+                        candidates.and(wordMatches);
+                    }
+                }
+            }
+            if (candidates == null) {
+                //Key only consists of spaces
+                candidates = (BitSet) hasTexts.clone();
+            }
+            for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+                if (!containsKey(itemTexts.get(id), lowerKey)) {
+                    candidates.clear(id);
+                }
+            }
+            return candidates;
+        }
+
+        private static boolean containsKey(String[] texts, String lowerKey) {
+            for (String text : texts) {
+                if (text.contains(lowerKey)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private IntList matchingTerms(String lowerKey) {
+            IntList matches = currentMatches.get(lowerKey);
+            if (matches != null) {
+                return matches;
+            }
+            matches = previousMatches.get(lowerKey);
+            if (matches == null) {
+                //Any term that contains the key also contains every part of the key, so we only need to check the terms that matched the longest part of the key
+                // we have previously looked up
+                IntList candidates = null;
+                int candidateLength = -1;
+                for (Object2ObjectMap.Entry<String, IntList> entry : previousMatches.object2ObjectEntrySet()) {
+                    String previousKey = entry.getKey();
+                    if (previousKey.length() > candidateLength && lowerKey.contains(previousKey)) {
+                        candidates = entry.getValue();
+                        candidateLength = previousKey.length();
+                    }
+                }
+                matches = new IntArrayList();
+                if (candidates == null) {
+                    for (int termId = 0, size = terms.size(); termId < size; termId++) {
+                        String term = terms.get(termId);
+                        if (term != null && term.contains(lowerKey)) {
+                            matches.add(termId);
+                        }
+                    }
+                } else {
+                    for (int i = 0, size = candidates.size(); i < size; i++) {
+                        int termId = candidates.getInt(i);
+                        String term = terms.get(termId);
+                        if (term != null && term.contains(lowerKey)) {
+                            matches.add(termId);
+                        }
+                    }
+                }
+            }
+            currentMatches.put(lowerKey, matches);
+            return matches;
+        }
+
+        private BitSet union(IntList termIds) {
+            BitSet result = new BitSet();
+            for (int i = 0, size = termIds.size(); i < size; i++) {
+                result.or(postings.get(termIds.getInt(i)));
+            }
+            return result;
+        }
+
+        /**
+         * Remembers the terms matched by the keys of the query that was just evaluated, so that the next query can refine them.
+         */
+        private void finishQuery() {
+            if (!currentMatches.isEmpty()) {
+                Object2ObjectMap<String, IntList> previous = previousMatches;
+                previousMatches = currentMatches;
+                currentMatches = previous;
+                currentMatches.clear();
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import mekanism.common.base.TagCache;
@@ -20,7 +21,6 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag.Default;
 import net.minecraft.world.level.Level;
-import net.neoforged.neoforge.common.util.TriPredicate;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -185,33 +185,20 @@ public class SearchQueryParser {
 
     public enum QueryType {
         // ~ is a dummy char, not actually used by parser
-        NAME('~', (level, key, stack) -> stack.getHoverName().getString().toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
-        MOD_ID('@', (level, key, stack) -> MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
-        TOOLTIP('$', (level, key, stack) -> {
+        NAME('~', true, (level, stack) -> List.of(stack.getHoverName().getString())),
+        MOD_ID('@', false, (level, stack) -> List.of(MekanismUtils.getModId(stack))),
+        TOOLTIP('$', true, (level, stack) -> {
             List<Component> tooltipLines = stack.getTooltipLines(Item.TooltipContext.of(level), null, Default.NORMAL);
-            if (!tooltipLines.isEmpty()) {
-                String lowerKey = key.toLowerCase(Locale.ROOT);
-                for (Component tooltipLine : tooltipLines) {
-                    String tooltip = tooltipLine.getString().toLowerCase(Locale.ROOT);
-                    if (tooltip.contains(lowerKey)) {
-                        return true;
-                    }
-                }
+            if (tooltipLines.isEmpty()) {
+                return Collections.emptyList();
             }
-            return false;
-        }),
-        TAG('#', (level, key, stack) -> {
-            List<String> itemTags = TagCache.getItemTags(stack);
-            if (!itemTags.isEmpty()) {
-                String lowerKey = key.toLowerCase(Locale.ROOT);
-                for (String tag : itemTags) {
-                    if (tag.toLowerCase(Locale.ROOT).contains(lowerKey)) {
-                        return true;
-                    }
-                }
+            List<String> tooltips = new ArrayList<>(tooltipLines.size());
+            for (Component tooltipLine : tooltipLines) {
+                tooltips.add(tooltipLine.getString());
             }
-            return false;
-        });
+            return tooltips;
+        }),
+        TAG('#', false, (level, stack) -> TagCache.getItemTags(stack));
 
         private static final Char2ObjectMap<QueryType> charLookupMap;
 
@@ -232,15 +219,48 @@ public class SearchQueryParser {
         }
 
         private final char prefix;
-        private final TriPredicate<@Nullable Level, String, ItemStack> checker;
+        private final boolean tokenized;
+        private final BiFunction<@Nullable Level, ItemStack, List<String>> textGetter;
 
-        QueryType(char prefix, TriPredicate<@Nullable Level, String, ItemStack> checker) {
+        QueryType(char prefix, boolean tokenized, BiFunction<@Nullable Level, ItemStack, List<String>> textGetter) {
             this.prefix = prefix;
-            this.checker = checker;
+            this.tokenized = tokenized;
+            this.textGetter = textGetter;
+        }
+
+        /**
+         * @return {@code true} if the texts of this type are made up of words that are worth indexing separately, rather than as a single term.
+         */
+        public boolean isTokenized() {
+            return tokenized;
+        }
+
+        /**
+         * Gets the lower case texts of the given stack that keys of this type are matched against.
+         */
+        public List<String> getTexts(@Nullable Level level, ItemStack stack) {
+            List<String> texts = textGetter.apply(level, stack);
+            if (texts.isEmpty()) {
+                return texts;
+            }
+            List<String> lowerTexts = new ArrayList<>(texts.size());
+            for (String text : texts) {
+                lowerTexts.add(text.toLowerCase(Locale.ROOT));
+            }
+            return lowerTexts;
         }
 
         public boolean matches(@Nullable Level level, String key, ItemStack stack) {
-            return checker.test(level, key, stack);
+            List<String> texts = textGetter.apply(level, stack);
+            if (!texts.isEmpty()) {
+                String lowerKey = key.toLowerCase(Locale.ROOT);
+                for (String text : texts) {
+                    if (text.toLowerCase(Locale.ROOT).contains(lowerKey)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
         }
     }
 
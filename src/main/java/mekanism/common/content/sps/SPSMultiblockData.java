@@ -19,6 +19,7 @@ import mekanism.common.integration.computer.SpecialComputerMethodWrapper.Compute
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.integration.computer.annotation.WrappingComputerMethod;
 import mekanism.common.inventory.container.sync.dynamic.ContainerSync;
+import mekanism.common.lib.EntityExposureTracker;
 import mekanism.common.lib.multiblock.IValveHandler;
 import mekanism.common.lib.multiblock.MultiblockData;
 import mekanism.common.registries.MekanismChemicals;
@@ -187,10 +188,12 @@ public class SPSMultiblockData extends MultiblockData implements IValveHandler {
 
     private void kill(Level world) {
         if (lastReceivedEnergy > 0L && couldOperate && world.getRandom().nextInt() % SharedConstants.TICKS_PER_SECOND == 0) {
-            List<Entity> entitiesToDie = getLevel().getEntitiesOfClass(Entity.class, deathZone);
-            for (Entity entity : entitiesToDie) {
-                entity.hurt(entity.damageSources().magic(), lastReceivedEnergy / 1_000F);
-            }
+            float damage = lastReceivedEnergy / 1_000F;
+            EntityExposureTracker.query(world, deathZone, Entity.class, entitiesToDie -> {
+                for (Entity entity : entitiesToDie) {
+                    entity.hurt(entity.damageSources().magic(), damage);
+                }
+            });
         }
     }
 
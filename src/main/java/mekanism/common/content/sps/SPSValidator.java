@@ -60,8 +60,8 @@ public class SPSValidator extends CuboidStructureValidator<SPSMultiblockData> {
     }
 
     @Override
-    protected boolean validateInner(BlockState state, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
-        if (super.validateInner(state, chunkMap, pos)) {
+    protected boolean isValidInner(BlockState state) {
+        if (super.isValidInner(state)) {
             return true;
         }
         return BlockType.is(state.getBlock(), MekanismBlockTypes.SUPERCHARGED_COIL);
@@ -1,14 +1,19 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.HashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
-import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder;
+import mekanism.common.lib.collection.LRU;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import org.jetbrains.annotations.Nullable;
@@ -18,18 +23,62 @@ public class PathfinderCache {
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static final Map<UUID, NetworkPaths> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static long hits;
+    private static long misses;
+    private static long evictions;
 
+    /**
+     * Forgets all the paths of the given networks, for use when the networks are removed.
+     */
     public static void onChanged(InventoryNetwork... networks) {
         for (InventoryNetwork network : networks) {
             cachedPaths.remove(network.getUUID());
         }
     }
 
-    public static CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, Pathfinder pathfinder) {
-        CachedPath cachedPath = new CachedPath(pathfinder.getPath(), pathfinder.getFinalScore());
-        PathData data = new PathData(start.getBlockPos(), destination, pathfinder.getSide());
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new HashMap<>()).put(data, cachedPath);
+    /**
+     * Forgets any paths of the network that go through any of the given positions, as they may no longer be valid or there may now be a better path.
+     *
+     * @param network   Network the positions are part of.
+     * @param positions Positions that changed.
+     */
+    public static void onTransmittersChanged(InventoryNetwork network, LongCollection positions) {
+        NetworkPaths paths = cachedPaths.get(network.getUUID());
+        if (paths != null) {
+            for (LongIterator iterator = positions.iterator(); iterator.hasNext(); ) {
+                paths.removeThrough(iterator.nextLong());
+            }
+            if (paths.isEmpty()) {
+                cachedPaths.remove(network.getUUID());
+            }
+        }
+    }
+
+    /**
+     * Moves all the paths of a network that is being merged into another network, as merging networks does not change how the transmitters of either network are
+     * connected.
+     *
+     * @param network Network that is adopting the paths.
+     * @param from    Network being merged into the other network.
+     */
+    public static void adoptPaths(InventoryNetwork network, InventoryNetwork from) {
+        NetworkPaths adopted = cachedPaths.remove(from.getUUID());
+        if (adopted != null) {
+            NetworkPaths paths = cachedPaths.get(network.getUUID());
+            if (paths == null) {
+                cachedPaths.put(network.getUUID(), adopted);
+                adopted.trim(getMaxPaths());
+            } else {
+                paths.adopt(adopted, getMaxPaths());
+            }
+        }
+    }
+
+    public static CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, Direction side, LongList path, double cost) {
+        CachedPath cachedPath = new CachedPath(path, cost);
+        PathData data = new PathData(start.getBlockPos(), destination, side);
+        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new NetworkPaths()).put(data, cachedPath, getMaxPaths());
         return cachedPath;
     }
 
@@ -37,7 +86,7 @@ public class PathfinderCache {
     public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
         CachedPath ret = null;
         UUID uuid = start.getTransmitterNetwork().getUUID();
-        Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
+        NetworkPaths pathMap = cachedPaths.get(uuid);
         if (pathMap != null) {
             BlockPos startPos = start.getBlockPos();
             for (Direction side : sides) {
@@ -49,27 +98,158 @@ public class PathfinderCache {
                 }
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+        }
         return ret;
     }
 
+    /**
+     * Gets a cached path without marking it as recently used or counting towards the cache's hits and misses.
+     */
     @Nullable
     public static CachedPath getSingleCache(LogisticalTransporterBase start, BlockPos end, Direction side) {
         UUID uuid = start.getTransmitterNetwork().getUUID();
-        Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
+        NetworkPaths pathMap = cachedPaths.get(uuid);
         if (pathMap != null) {
-            BlockPos startPos = start.getBlockPos();
-            return pathMap.get(new PathData(startPos, end, side));
+            return pathMap.peek(new PathData(start.getBlockPos(), end, side));
         }
         return null;
     }
 
     public static void reset() {
         cachedPaths.clear();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    public static Stats getStats() {
+        int paths = 0;
+        for (NetworkPaths networkPaths : cachedPaths.values()) {
+            paths += networkPaths.size();
+        }
+        return new Stats(paths, cachedPaths.size(), hits, misses, evictions);
+    }
+
+    private static int getMaxPaths() {
+        return MekanismConfig.general.transporterPathCacheSize.get();
     }
 
     public record CachedPath(LongList path, double cost) {
     }
 
+    public record Stats(int paths, int networks, long hits, long misses, long evictions) {
+    }
+
     private record PathData(BlockPos startTransporter, BlockPos end, Direction endSide) {
     }
+
+    /**
+     * The cached paths of a single network, which forgets the least recently used paths once it contains too many paths.
+     */
+    private static class NetworkPaths {
+
+        private final Map<PathData, CachedPath> paths = new Object2ObjectOpenHashMap<>();
+        private final LRU<PathData> recentlyUsed = new LRU<>();
+        /**
+         * The paths that go through each position, so that when a transmitter changes we only have to forget the paths it is part of.
+         */
+        private final Long2ObjectMap<Set<PathData>> pathsThrough = new Long2ObjectOpenHashMap<>();
+
+        @Nullable
+        CachedPath get(PathData data) {
+            CachedPath path = paths.get(data);
+            if (path != null) {
+                recentlyUsed.moveUp(data);
+            }
+            return path;
+        }
+
+        @Nullable
+        CachedPath peek(PathData data) {
+            return paths.get(data);
+        }
+
+        void put(PathData data, CachedPath path, int maxPaths) {
+            CachedPath old = paths.put(data, path);
+            if (old == null) {
+                recentlyUsed.add(data);
+            } else {
+                unindex(data, old);
+                recentlyUsed.moveUp(data);
+            }
+            index(data, path);
+            trim(maxPaths);
+        }
+
+        void adopt(NetworkPaths other, int maxPaths) {
+            //Add the other network's paths from least to most recently used, so that they keep the same order relative to each other
+            other.recentlyUsed.reverseIterate(data -> {
+                CachedPath path = other.paths.get(data);
+                CachedPath old = paths.put(data, path);
+                if (old == null) {
+                    recentlyUsed.add(data);
+                } else {
+                    unindex(data, old);
+                    recentlyUsed.moveUp(data);
+                }
+                index(data, path);
+            });
+            trim(maxPaths);
+        }
+
+        void trim(int maxPaths) {
+            while (paths.size() > maxPaths) {
+                remove(recentlyUsed.descendingIterator().next());
+                evictions++;
+            }
+        }
+
+        void removeThrough(long pos) {
+            //Note: We remove the set before removing the paths so that removing them doesn't modify the set we are iterating
+            Set<PathData> through = pathsThrough.remove(pos);
+            if (through != null) {
+                for (PathData data : through) {
+                    remove(data);
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return paths.isEmpty();
+        }
+
+        int size() {
+            return paths.size();
+        }
+
+        private void remove(PathData data) {
+            CachedPath path = paths.remove(data);
+            if (path != null) {
+                recentlyUsed.remove(data);
+                unindex(data, path);
+            }
+        }
+
+        private void index(PathData data, CachedPath path) {
+            LongList positions = path.path();
+            for (int i = 0, size = positions.size(); i < size; i++) {
+                pathsThrough.computeIfAbsent(positions.getLong(i), pos -> new ObjectOpenHashSet<>()).add(data);
+            }
+        }
+
+        private void unindex(PathData data, CachedPath path) {
+            LongList positions = path.path();
+            for (int i = 0, size = positions.size(); i < size; i++) {
+                long pos = positions.getLong(i);
+                Set<PathData> through = pathsThrough.get(pos);
+                if (through != null && through.remove(data) && through.isEmpty()) {
+                    pathsThrough.remove(pos);
+                }
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -1,28 +1,38 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.PriorityQueue;
 import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2LongMap;
 import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongList;
 import it.unimi.dsi.fastutil.longs.LongLists;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectHeapPriorityQueue;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import mekanism.api.text.EnumColor;
+import mekanism.common.Mekanism;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.InventoryNetwork.AcceptorData;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache.CachedPath;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.SidedBlockPos;
+import mekanism.common.lib.WorkerPool;
 import mekanism.common.lib.inventory.IAdvancedTransportEjector;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
@@ -46,7 +56,7 @@ public final class TransporterPathfinder {
     }
 
     private static List<Destination> getPaths(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min,
-          Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks) {
+          Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks, boolean bestOnly) {
         InventoryNetwork network = start.getTransmitterNetwork();
         if (network == null) {
             return Collections.emptyList();
@@ -54,10 +64,31 @@ public final class TransporterPathfinder {
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, chunkMap, additionalFlowingStacks, start);
         List<Destination> paths = new ArrayList<>();
+        MultiPathfinder pathfinder = null;
+        double bestScore = Double.MAX_VALUE;
         for (AcceptorData data : acceptors) {
-            Destination path = getPath(network, data, start, stack, min, chunkMap);
-            if (path != null) {
-                paths.add(path);
+            TransitResponse response = data.getResponse();
+            if (response.getSendingAmount() >= min) {
+                CachedPath test = PathfinderCache.getCache(start, data.getLocation(), data.getSides());
+                if (test != null && checkPath(network, test.path(), stack)) {
+                    paths.add(new Destination(test, response));
+                    bestScore = Math.min(bestScore, test.cost());
+                } else {
+                    if (pathfinder == null) {
+                        pathfinder = new MultiPathfinder(network, start.getLevel(), start.getBlockPos(), stack,
+                              (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false));
+                    }
+                    pathfinder.addDestination(data);
+                }
+            }
+        }
+        if (pathfinder != null) {
+            //Find the paths to all the destinations we don't have a valid cached path for at once, or if we only care about the best destination, stop as soon
+            // as we know whether there is an uncached destination that is better than the best cached one
+            for (FoundPath found : pathfinder.find(chunkMap, bestOnly, bestOnly ? bestScore : Double.MAX_VALUE)) {
+                AcceptorData data = found.destination();
+                CachedPath path = PathfinderCache.addCachedPath(start, data.getLocation(), found.side(), found.path(), found.cost());
+                paths.add(new Destination(path, data.getResponse()));
             }
         }
         Collections.sort(paths);
@@ -78,26 +109,6 @@ public final class TransporterPathfinder {
         return true;
     }
 
-    @Nullable
-    private static Destination getPath(InventoryNetwork network, AcceptorData data, LogisticalTransporterBase start, TransporterStack stack, int min,
-          Long2ObjectMap<ChunkAccess> chunkMap) {
-        TransitResponse response = data.getResponse();
-        if (response.getSendingAmount() >= min) {
-            BlockPos dest = data.getLocation();
-            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
-            if (test != null && checkPath(network, test.path(), stack)) {
-                return new Destination(test, response);
-            }
-            Pathfinder p = new Pathfinder(network, start.getLevel(), dest, start.getBlockPos(), stack, response.getStack(),
-                  (level, pos, tile, s, resp, side) -> TransporterUtils.canInsert(level, pos, tile, s.color, resp, side, false));
-            p.find(chunkMap);
-            if (p.hasPath()) {
-                return new Destination(PathfinderCache.addCachedPath(start, dest, p), response);
-            }
-        }
-        return null;
-    }
-
     @Nullable
     public static Destination getNewBasePath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
         return getNewBasePath(start, stack, request, min, Collections.emptyMap());
@@ -106,7 +117,7 @@ public final class TransporterPathfinder {
     @Nullable
     public static Destination getNewBasePath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min,
           Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks) {
-        List<Destination> paths = getPaths(start, stack, request, min, additionalFlowingStacks);
+        List<Destination> paths = getPaths(start, stack, request, min, additionalFlowingStacks, true);
         if (paths.isEmpty()) {
             return null;
         }
@@ -116,7 +127,7 @@ public final class TransporterPathfinder {
     @Nullable
     public static Destination getNewRRPath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, IAdvancedTransportEjector outputter,
           int min) {
-        List<Destination> destinations = getPaths(start, stack, request, min, Collections.emptyMap());
+        List<Destination> destinations = getPaths(start, stack, request, min, Collections.emptyMap(), false);
         int destinationCount = destinations.size();
         if (destinationCount == 0) {
             return null;
@@ -164,6 +175,128 @@ public final class TransporterPathfinder {
         return destination;
     }
 
+    /**
+     * Starts finding the best destination for a stack, searching for the paths to any destinations that don't have a valid cached path on a worker thread using a
+     * snapshot of the network's transporters. Which destinations can accept the stack is still determined on the server thread before the search starts.
+     *
+     * @return The pending destination, or {@code null} if there are no destinations that can accept the stack.
+     */
+    @Nullable
+    public static PendingDestination getNewBasePathAsync(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min) {
+        InventoryNetwork network = start.getTransmitterNetwork();
+        if (network == null) {
+            return null;
+        }
+        List<AcceptorData> acceptors = network.calculateAcceptors(request, stack, new Long2ObjectOpenHashMap<>(), Collections.emptyMap(), start);
+        List<Destination> cached = new ArrayList<>();
+        MultiPathfinder pathfinder = null;
+        TransporterTopology topology = null;
+        double bestScore = Double.MAX_VALUE;
+        for (AcceptorData data : acceptors) {
+            TransitResponse response = data.getResponse();
+            if (response.getSendingAmount() >= min) {
+                CachedPath test = PathfinderCache.getCache(start, data.getLocation(), data.getSides());
+                if (test != null && checkPath(network, test.path(), stack)) {
+                    cached.add(new Destination(test, response));
+                    bestScore = Math.min(bestScore, test.cost());
+                } else {
+                    if (pathfinder == null) {
+                        topology = network.getTopology();
+                        pathfinder = new MultiPathfinder(topology, start.getBlockPos(), stack.color, stack.homeLocation);
+                    }
+                    pathfinder.addDestination(data);
+                }
+            }
+        }
+        if (pathfinder == null) {
+            return cached.isEmpty() ? null : new PendingDestination(network, null, cached, CompletableFuture.completedFuture(Collections.emptyList()));
+        }
+        //Note: We don't stop at the first destination found, as it may turn out to not be able to accept the stack when we check it on the server thread
+        MultiPathfinder search = pathfinder;
+        double scoreToBeat = bestScore;
+        return new PendingDestination(network, topology, cached,
+              CompletableFuture.supplyAsync(() -> search.find(Long2ObjectMaps.emptyMap(), false, scoreToBeat), WorkerPool.get()));
+    }
+
+    /**
+     * A destination that is being found on a worker thread.
+     */
+    public static class PendingDestination {
+
+        private final InventoryNetwork network;
+        @Nullable
+        private final TransporterTopology topology;
+        private final List<Destination> cached;
+        private final CompletableFuture<List<FoundPath>> search;
+
+        private PendingDestination(InventoryNetwork network, @Nullable TransporterTopology topology, List<Destination> cached,
+              CompletableFuture<List<FoundPath>> search) {
+            this.network = network;
+            this.topology = topology;
+            this.cached = cached;
+            this.search = search;
+        }
+
+        public boolean isDone() {
+            return search.isDone();
+        }
+
+        /**
+         * @return {@code true} if the transporter is no longer part of the network the destination is being found in, and the destination should be found again.
+         */
+        public boolean isStale(LogisticalTransporterBase start) {
+            return start.getTransmitterNetwork() != network;
+        }
+
+        /**
+         * Checks the paths that were found against the current state of the network and picks the best one that is still valid. Only call this on the server thread
+         * once the search {@link #isDone() is done}.
+         *
+         * @return The best destination, or {@code null} if none of the destinations are still reachable.
+         */
+        @Nullable
+        public Destination resolve(LogisticalTransporterBase start, TransporterStack stack) {
+            List<Destination> destinations = new ArrayList<>(cached);
+            List<FoundPath> found;
+            try {
+                found = search.join();
+            } catch (CompletionException | CancellationException e) {
+                Mekanism.logger.error("Failed to find transporter paths from {}", start.getBlockPos(), e);
+                found = Collections.emptyList();
+            }
+            //Only cache the paths if the network hasn't changed since we took the snapshot, as otherwise there may now be a better path
+            boolean cache = topology != null && network.isTopologyCurrent(topology);
+            for (FoundPath path : found) {
+                if (isReachable(path, stack)) {
+                    AcceptorData data = path.destination();
+                    if (cache) {
+                        destinations.add(new Destination(PathfinderCache.addCachedPath(start, data.getLocation(), path.side(), path.path(), path.cost()),
+                              data.getResponse()));
+                    } else {
+                        destinations.add(new Destination(path.path(), data.getResponse(), path.cost()));
+                    }
+                }
+            }
+            Collections.sort(destinations);
+            for (Destination destination : destinations) {
+                //Make sure the path didn't become invalid while we were waiting for the search to finish
+                if (checkPath(network, destination.getPath(), stack)) {
+                    return destination;
+                }
+            }
+            return null;
+        }
+
+        private boolean isReachable(FoundPath path, TransporterStack stack) {
+            LogisticalTransporterBase last = network.getTransmitter(path.path().getLong(1));
+            AcceptorData data = path.destination();
+            if (last == null || !(last.canEmitTo(path.side()) || (data.getLocation().asLong() == stack.homeLocation && last.canConnect(path.side())))) {
+                return false;
+            }
+            return TransporterUtils.canInsert(network.getWorld(), data.getLocation(), stack.color, data.getResponse().getStack(), path.side(), false);
+        }
+    }
+
     public record IdlePathData(LongList path, Path type) {
     }
 
@@ -360,6 +493,243 @@ public final class TransporterPathfinder {
         }
     }
 
+    /**
+     * Finds the cheapest paths from a transporter to multiple destinations in a single search, by visiting the transporters of the network in order of how expensive
+     * it is to reach them from the start. As the transporters are visited in order of cost, the first time we find a destination is always the cheapest path to it.
+     */
+    public static class MultiPathfinder {
+
+        private final Long2ObjectMap<List<AcceptorData>> destinations = new Long2ObjectOpenHashMap<>();
+        private final PriorityQueue<OpenNode> openQueue = new ObjectHeapPriorityQueue<>(Comparator.comparingDouble(OpenNode::score));
+        private final LongSet closedSet = new LongOpenHashSet();
+        private final Long2LongMap navMap = new Long2LongOpenHashMap();
+        private final Long2DoubleOpenHashMap gScore = new Long2DoubleOpenHashMap();
+        private final List<FoundPath> found = new ArrayList<>();
+        private final TransporterGraph graph;
+        private final BlockPos start;
+        @Nullable
+        private final EnumColor color;
+        @Nullable
+        private final TransporterStack transportStack;
+        @Nullable
+        private final Pathfinder.DestChecker destChecker;
+        @Nullable
+        private final Level world;
+        private final long homeLocation;
+        private int remainingDestinations;
+
+        public MultiPathfinder(InventoryNetwork network, Level world, BlockPos start, TransporterStack stack, Pathfinder.DestChecker checker) {
+            this(new NetworkGraph(network), world, start, stack, stack.color, stack.homeLocation, checker);
+        }
+
+        /**
+         * Creates a pathfinder that doesn't access the world, and treats any destination that a transporter is able to send to as reachable. This allows it to be used
+         * off the server thread with a {@link TransporterTopology}, but means that whether the destinations found are able to accept the stack has to be checked
+         * afterward.
+         *
+         * @param homeLocation Position of the inventory the stack came from, or {@link Long#MAX_VALUE} if it doesn't have one. The stack is allowed to be sent back to
+         *                     it through a transporter that is pulling from it.
+         */
+        public MultiPathfinder(TransporterGraph graph, BlockPos start, @Nullable EnumColor color, long homeLocation) {
+            this(graph, null, start, null, color, homeLocation, null);
+        }
+
+        private MultiPathfinder(TransporterGraph graph, @Nullable Level world, BlockPos start, @Nullable TransporterStack stack, @Nullable EnumColor color,
+              long homeLocation, @Nullable Pathfinder.DestChecker checker) {
+            destChecker = checker;
+            this.graph = graph;
+            this.world = world;
+            this.start = start;
+            this.color = color;
+            this.homeLocation = homeLocation;
+            transportStack = stack;
+            gScore.defaultReturnValue(Double.MAX_VALUE);
+        }
+
+        public void addDestination(AcceptorData data) {
+            destinations.computeIfAbsent(data.getLocation().asLong(), pos -> new ArrayList<>(1)).add(data);
+            remainingDestinations++;
+        }
+
+        /**
+         * Searches for paths to the destinations that have been added.
+         *
+         * @param chunkMap    Cache of chunks used to look up the destinations.
+         * @param bestOnly    {@code true} to stop searching once the cheapest destination has been found.
+         * @param scoreToBeat The score of the best destination that is already known, or {@link Double#MAX_VALUE} if there is none. The search stops once it is no
+         *                    longer possible to find a cheaper path than this.
+         *
+         * @return The paths that were found, in order of increasing cost.
+         */
+        public List<FoundPath> find(Long2ObjectMap<ChunkAccess> chunkMap, boolean bestOnly, double scoreToBeat) {
+            long startLong = start.asLong();
+            gScore.put(startLong, 0D);
+            openQueue.enqueue(new OpenNode(startLong, 0));
+            BlockPos.MutableBlockPos currentNode = new BlockPos.MutableBlockPos();
+            BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+            while (!openQueue.isEmpty() && remainingDestinations > 0) {
+                OpenNode open = openQueue.dequeue();
+                long currentNodeLong = open.pos();
+                if (!closedSet.add(currentNodeLong)) {
+                    //We already found a cheaper way to get to this node
+                    continue;
+                }
+                double currentScore = open.score();
+                if (currentScore + 1 > scoreToBeat) {
+                    //Any destination we find from here on would be more expensive than the one we already know about
+                    break;
+                }
+                currentNode.set(currentNodeLong);
+                for (Direction direction : EnumUtils.DIRECTIONS) {
+                    neighbor.setWithOffset(currentNode, direction);
+                    long neighborLong = neighbor.asLong();
+                    if (graph.canTravel(color, currentNodeLong, direction, neighborLong)) {
+                        //If the neighbor is a transporter and the stack is valid for it
+                        double tentativeG = currentScore + graph.getCost(neighborLong);
+                        if (tentativeG < gScore.get(neighborLong) && !closedSet.contains(neighborLong)) {
+                            navMap.put(neighborLong, currentNodeLong);
+                            gScore.put(neighborLong, tentativeG);
+                            openQueue.enqueue(new OpenNode(neighborLong, tentativeG));
+                        }
+                    } else {
+                        //Else if the neighbor is one of our destinations, check if we can send to it
+                        List<AcceptorData> neighborDestinations = destinations.get(neighborLong);
+                        if (neighborDestinations != null && canSendTo(currentNodeLong, direction, neighborLong) &&
+                            checkDestinations(neighborDestinations, currentNode, direction, neighbor, chunkMap)) {
+                            if (neighborDestinations.isEmpty()) {
+                                destinations.remove(neighborLong);
+                            }
+                            if (bestOnly) {
+                                //We visit nodes in order of cost, so the first destination we find is the best one
+                                return found;
+                            }
+                        }
+                    }
+                }
+            }
+            return found;
+        }
+
+        /**
+         * Checks if the transporter at a position is able to send to the destination on the given side. This is the case if it can emit to it (normal or push mode), or
+         * if the destination is the home location of the stack (it is returning due to not having been able to get to its destination) and the transporter can connect
+         * to it (normal, push, or pull (should always be pull as otherwise it would have been able to emit to it)).
+         */
+        private boolean canSendTo(long pos, Direction side, long destination) {
+            return graph.canEmitTo(pos, side) || (destination == homeLocation && graph.canConnect(pos, side));
+        }
+
+        /**
+         * Checks if we are able to insert into any of the destinations at a position, and marks any that we are able to insert into as found.
+         *
+         * @return {@code true} if we found a path to at least one of the destinations.
+         */
+        private boolean checkDestinations(List<AcceptorData> neighborDestinations, BlockPos currentNode, Direction direction, BlockPos neighbor,
+              Long2ObjectMap<ChunkAccess> chunkMap) {
+            BlockEntity neighborTile = destChecker == null ? null : WorldUtils.getTileEntity(world, chunkMap, neighbor);
+            boolean foundAny = false;
+            for (Iterator<AcceptorData> iterator = neighborDestinations.iterator(); iterator.hasNext(); ) {
+                AcceptorData data = iterator.next();
+                if (destChecker == null || destChecker.isValid(world, neighbor, neighborTile, transportStack, data.getResponse().getStack(), direction)) {
+                    iterator.remove();
+                    remainingDestinations--;
+                    long currentNodeLong = currentNode.asLong();
+                    double cost = gScore.get(currentNodeLong) + WorldUtils.distanceBetween(currentNode, neighbor);
+                    found.add(new FoundPath(data, direction, reconstructPath(neighbor.asLong(), currentNodeLong), cost));
+                    foundAny = true;
+                }
+            }
+            return foundAny;
+        }
+
+        private LongList reconstructPath(long destination, long nextNode) {
+            LongList path = new LongArrayList();
+            path.add(destination);
+            do {
+                path.add(nextNode);
+                nextNode = navMap.getOrDefault(nextNode, Long.MAX_VALUE);
+            } while (nextNode != Long.MAX_VALUE);
+            return path;
+        }
+
+        private record OpenNode(long pos, double score) {
+        }
+    }
+
+    /**
+     * How the transporters that a {@link MultiPathfinder} searches through are connected.
+     */
+    public interface TransporterGraph {
+
+        /**
+         * Checks if a stack can move from the transporter at one position into the neighboring transporter.
+         *
+         * @param color     Color of the stack.
+         * @param from      Position of the transporter the stack is in.
+         * @param direction Direction the neighboring transporter is in.
+         * @param to        Position of the neighboring transporter.
+         */
+        boolean canTravel(@Nullable EnumColor color, long from, Direction direction, long to);
+
+        /**
+         * Gets the cost of moving through a transporter, only called for positions that a stack can travel to.
+         */
+        double getCost(long pos);
+
+        /**
+         * Checks if the transporter at a position is able to send stacks out of the given side.
+         */
+        boolean canEmitTo(long pos, Direction side);
+
+        /**
+         * Checks if the transporter at a position is connected to what is on the given side, even if it isn't able to send stacks out of that side.
+         */
+        boolean canConnect(long pos, Direction side);
+    }
+
+    /**
+     * Graph backed by the current state of a network, for use on the server thread.
+     */
+    private record NetworkGraph(InventoryNetwork network) implements TransporterGraph {
+
+        @Override
+        public boolean canTravel(@Nullable EnumColor color, long from, Direction direction, long to) {
+            LogisticalTransporterBase transporter = network.getTransmitter(to);
+            if (transporter == null) {
+                return false;
+            }
+            //If the color is valid, make sure that the connection is valid
+            EnumColor transporterColor = transporter.getColor();
+            return (transporterColor == null || transporterColor == color) && transporter.canConnectMutual(direction.getOpposite(), network.getTransmitter(from));
+        }
+
+        @Override
+        public double getCost(long pos) {
+            return network.getTransmitter(pos).getCost();
+        }
+
+        @Override
+        public boolean canEmitTo(long pos, Direction side) {
+            LogisticalTransporterBase transporter = network.getTransmitter(pos);
+            return transporter != null && transporter.canEmitTo(side);
+        }
+
+        @Override
+        public boolean canConnect(long pos, Direction side) {
+            LogisticalTransporterBase transporter = network.getTransmitter(pos);
+            return transporter != null && transporter.canConnect(side);
+        }
+    }
+
+    /**
+     * @param destination Destination the path goes to.
+     * @param side        Side of the last transporter that the destination is on.
+     * @param path        Path from the destination to the start.
+     * @param cost        Cost of the path.
+     */
+    public record FoundPath(AcceptorData destination, Direction side, LongList path, double cost) {
+    }
+
     public static class Pathfinder {
 
         private final LongSet openSet = new LongOpenHashSet();
@@ -229,6 +229,21 @@ public class TransporterStack {
         return newPath.getResponse();
     }
 
+    /**
+     * Sets the path of this stack to a destination that was found asynchronously.
+     *
+     * @return {@code false} if there is no destination.
+     */
+    public boolean setDestination(LogisticalTransporterBase transporter, @Nullable Destination destination) {
+        if (destination == null) {
+            return false;
+        }
+        idleDir = null;
+        setPath(transporter.getLevel(), destination.getPath(), Path.DEST, true);
+        initiatedPath = true;
+        return true;
+    }
+
     public <BE extends BlockEntity & IAdvancedTransportEjector> TransitResponse recalculateRRPath(TransitRequest request, BE outputter, LogisticalTransporterBase transporter, int min) {
         return recalculateRRPath(request, outputter, transporter, min, true);
     }
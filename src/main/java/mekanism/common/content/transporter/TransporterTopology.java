@@ -0,0 +1,91 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import mekanism.api.text.EnumColor;
+import mekanism.common.content.network.InventoryNetwork;
+import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.content.transporter.TransporterPathfinder.TransporterGraph;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.Direction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Immutable snapshot of how the transporters of an {@link InventoryNetwork} are connected, that can be searched on a worker thread while the network keeps changing on
+ * the server thread. Anything found using a snapshot has to be checked against the actual network before it is used.
+ */
+public final class TransporterTopology implements TransporterGraph {
+
+    private final Long2ObjectMap<Node> nodes;
+
+    private TransporterTopology(Long2ObjectMap<Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * Captures the current state of the transporters in a network.
+     *
+     * @apiNote Only call this from the server thread.
+     */
+    public static TransporterTopology capture(InventoryNetwork network) {
+        Long2ObjectMap<Node> nodes = new Long2ObjectOpenHashMap<>(network.transmittersSize());
+        for (LogisticalTransporterBase transporter : network.getTransmitters()) {
+            long pos = transporter.getWorldPositionLong();
+            byte travelSides = 0;
+            byte emitSides = 0;
+            byte connectSides = 0;
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                LogisticalTransporterBase neighbor = network.getTransmitter(WorldUtils.relativePos(pos, side));
+                if (neighbor != null && neighbor.canConnectMutual(side.getOpposite(), transporter)) {
+                    travelSides |= (byte) (1 << side.ordinal());
+                }
+                if (transporter.canEmitTo(side)) {
+                    emitSides |= (byte) (1 << side.ordinal());
+                }
+                if (transporter.canConnect(side)) {
+                    connectSides |= (byte) (1 << side.ordinal());
+                }
+            }
+            nodes.put(pos, new Node(transporter.getColor(), transporter.getCost(), travelSides, emitSides, connectSides));
+        }
+        return new TransporterTopology(nodes);
+    }
+
+    @Override
+    public boolean canTravel(@Nullable EnumColor color, long from, Direction direction, long to) {
+        Node fromNode = nodes.get(from);
+        if (fromNode == null || (fromNode.travelSides & (1 << direction.ordinal())) == 0) {
+            return false;
+        }
+        EnumColor toColor = nodes.get(to).color;
+        return toColor == null || toColor == color;
+    }
+
+    @Override
+    public double getCost(long pos) {
+        return nodes.get(pos).cost;
+    }
+
+    @Override
+    public boolean canEmitTo(long pos, Direction side) {
+        Node node = nodes.get(pos);
+        return node != null && (node.emitSides & (1 << side.ordinal())) != 0;
+    }
+
+    @Override
+    public boolean canConnect(long pos, Direction side) {
+        Node node = nodes.get(pos);
+        return node != null && (node.connectSides & (1 << side.ordinal())) != 0;
+    }
+
+    /**
+     * @param color        Color of the transporter.
+     * @param cost         Cost of moving through the transporter.
+     * @param travelSides  Sides that a stack can move from this transporter into the transporter on that side, if the stack's color allows it.
+     * @param emitSides    Sides that this transporter can send stacks out of into a destination.
+     * @param connectSides Sides that this transporter is connected to, even if it can't send stacks out of them.
+     */
+    private record Node(@Nullable EnumColor color, double cost, byte travelSides, byte emitSides, byte connectSides) {
+    }
+}
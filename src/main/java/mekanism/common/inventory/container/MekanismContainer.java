@@ -1,6 +1,7 @@
 package mekanism.common.inventory.container;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.shorts.ShortUnaryOperator;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -8,10 +9,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.inventory.container.slot.ArmorSlot;
 import mekanism.common.inventory.container.slot.HotBarSlot;
 import mekanism.common.inventory.container.slot.IHasExtraData;
@@ -47,12 +50,14 @@ import mekanism.common.util.EnumUtils;
 import mekanism.common.util.RegistryUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.RegistryAccess;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.DataSlot;
+import net.minecraft.world.inventory.MenuType;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -68,6 +73,10 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
     public static final int SIDE_CONFIG_WINDOW = 1;
     public static final int UPGRADE_WINDOW = 2;
     public static final int SKIN_SELECT_WINDOW = 3;
+    /**
+     * Number of packets and bytes of property data that have been synced for each type of container. Only updated on the server thread.
+     */
+    private static final Map<MenuType<?>, long[]> SYNC_STATS = new Reference2ObjectOpenHashMap<>();
 
     protected final Inventory inv;
     protected final List<InventoryContainerSlot> inventoryContainerSlots = new ArrayList<>();
@@ -89,6 +98,10 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
      * Only used on the server
      */
     private Map<UUID, SelectedWindowData> selectedWindows;
+    /**
+     * Only used on the server
+     */
+    private long lastSyncTime;
 
     protected MekanismContainer(ContainerTypeRegistryObject<?> type, int id, Inventory inv) {
         super(type.get(), id);
@@ -558,7 +571,7 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
     public void handleWindowProperty(short property, int value) {
         ISyncableData data = getTrackedData(property);
         if (data instanceof SyncableInt syncable) {
-            syncable.set(value);
+            syncable.receive(value);
         } else if (data instanceof SyncableEnum<?> syncable) {
             syncable.set(value);
         } else if (data instanceof SyncableFluidStack syncable) {
@@ -573,12 +586,24 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
     public void handleWindowProperty(short property, long value) {
         ISyncableData data = getTrackedData(property);
         if (data instanceof SyncableLong syncable) {
-            syncable.set(value);
+            syncable.receive(value);
         } else if (data instanceof SyncableChemicalStack syncable) {
             syncable.set(value);
         }
     }
 
+    public void handleWindowPropertyChange(short property, int change) {
+        if (getTrackedData(property) instanceof SyncableInt syncable) {
+            syncable.receiveChange(change);
+        }
+    }
+
+    public void handleWindowPropertyChange(short property, long change) {
+        if (getTrackedData(property) instanceof SyncableLong syncable) {
+            syncable.receiveChange(change);
+        }
+    }
+
     public void handleWindowProperty(short property, float value) {
         ISyncableData data = getTrackedData(property);
         if (data instanceof SyncableFloat syncable) {
@@ -639,6 +664,12 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
         // and if someone wants to attach one to our containers they can explain what use
         // they need it for before we add a bunch of extra logic to handle them
         if (inv.player instanceof ServerPlayer player) {
+            long gameTime = player.level().getGameTime();
+            if (gameTime - lastSyncTime < getSyncInterval()) {
+                //Note: We don't check if anything is dirty until we are going to sync, so that any changes in the meantime are synced once we do
+                return;
+            }
+            lastSyncTime = gameTime;
             //Only check tracked data for changes if we actually have any listeners
             List<PropertyData> dirtyData = new ArrayList<>();
             RegistryAccess registryAccess = player.level().registryAccess();
@@ -646,15 +677,42 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
                 ISyncableData data = trackedData.get(i);
                 DirtyType dirtyType = data.isDirty();
                 if (dirtyType != DirtyType.CLEAN) {
-                    dirtyData.add(data.getPropertyData(registryAccess, i, dirtyType));
+                    dirtyData.add(data.getChangedPropertyData(registryAccess, i, dirtyType));
                 }
             }
             if (!dirtyData.isEmpty()) {
-                PacketDistributor.sendToPlayer(player, new PacketUpdateContainer((short) containerId, dirtyData));
+                sendPropertyData(player, registryAccess, dirtyData);
             }
         }
     }
 
+    /**
+     * @return The minimum number of ticks between each time changes to the tracked data are synced to the client.
+     */
+    protected int getSyncInterval() {
+        return MekanismConfig.general.containerSyncInterval.get();
+    }
+
+    private void sendPropertyData(ServerPlayer player, RegistryAccess registryAccess, List<PropertyData> data) {
+        PacketUpdateContainer packet = PacketUpdateContainer.create((short) containerId, registryAccess, data);
+        long[] stats = SYNC_STATS.computeIfAbsent(getType(), type -> new long[2]);
+        stats[0]++;
+        stats[1] += packet.data().length;
+        PacketDistributor.sendToPlayer(player, packet);
+    }
+
+    /**
+     * @return The number of packets and bytes of property data that have been synced for each type of container, sorted by the name of the container type.
+     */
+    public static Map<ResourceLocation, SyncStats> getSyncStats() {
+        Map<ResourceLocation, SyncStats> stats = new TreeMap<>();
+        for (Map.Entry<MenuType<?>, long[]> entry : SYNC_STATS.entrySet()) {
+            long[] value = entry.getValue();
+            stats.put(RegistryUtils.getName(entry.getKey()), new SyncStats(value[0], value[1]));
+        }
+        return stats;
+    }
+
     @Override
     public void sendAllDataToRemote() {
         super.sendAllDataToRemote();
@@ -675,7 +733,7 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
                 dirtyData.add(data.getPropertyData(registryAccess, propertyIndex.apply(i), DirtyType.DIRTY));
             }
             if (!dirtyData.isEmpty()) {
-                PacketDistributor.sendToPlayer(player, new PacketUpdateContainer((short) containerId, dirtyData));
+                sendPropertyData(player, registryAccess, dirtyData);
             }
         }
     }
@@ -685,4 +743,7 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
 
         List<ISyncableData> getSpecificSyncableData();
     }
+
+    public record SyncStats(long packets, long bytes) {
+    }
 }
@@ -4,6 +4,7 @@ import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -22,8 +23,8 @@ import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOCraftingTransferHelper;
 import mekanism.common.content.qio.QIOCraftingWindow;
 import mekanism.common.content.qio.QIOFrequency;
+import mekanism.common.content.qio.QIOSearchIndex;
 import mekanism.common.content.qio.SearchQueryParser;
-import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
 import mekanism.common.inventory.GuiComponents.IDropdownEnum;
 import mekanism.common.inventory.GuiComponents.IToggleEnum;
 import mekanism.common.inventory.ISlotClickHandler;
@@ -83,6 +84,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private List<IScrollableSlot> searchList;
 
     private Map<String, List<IScrollableSlot>> searchCache = new Object2ObjectOpenHashMap<>();
+    private QIOSearchIndex searchIndex = new QIOSearchIndex();
     private String searchQuery = "";
 
     private int doubleClickTransferTicks = 0;
@@ -141,6 +143,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         container.itemList = itemList;
         container.searchList = searchList;
         container.searchCache = searchCache;
+        container.searchIndex = searchIndex;
         container.searchQuery = searchQuery;
         container.selectedWindow = getSelectedWindow();
     }
@@ -345,6 +348,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         cachedInventory = itemMap;
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
+        searchIndex.sync(itemMap.keySet());
         syncItemList();
     }
 
@@ -360,8 +364,10 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             long value = entry.getLongValue();
             if (value == 0) {
                 cachedInventory.removeLong(entry.getKey());
-            } else {
-                cachedInventory.put(entry.getKey(), value);
+                searchIndex.remove(entry.getKey());
+            } else if (cachedInventory.put(entry.getKey(), value) == cachedInventory.defaultReturnValue()) {
+                //New type, index it so that it can be searched for
+                searchIndex.add(entry.getKey());
             }
         }
         syncItemList();
@@ -371,6 +377,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         itemList = null;
         searchList = null;
         cachedInventory.clear();
+        searchIndex.clear();
     }
 
     public QIOCraftingTransferHelper getTransferHelper(Player player, QIOCraftingWindow craftingWindow) {
@@ -511,9 +518,9 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         searchList = searchCache.get(queryText);
         if (searchList == null) {
             searchList = new ArrayList<>();
-            ISearchQuery query = SearchQueryParser.parse(queryText);
+            BitSet matches = searchIndex.search(level, SearchQueryParser.parse(queryText));
             for (IScrollableSlot slot : itemList) {
-                if (query.test(level, slot.item().getInternalStack())) {
+                if (searchIndex.contains(matches, slot.item())) {
                     searchList.add(slot);
                 }
             }
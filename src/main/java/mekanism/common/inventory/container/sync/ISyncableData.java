@@ -10,6 +10,14 @@ public interface ISyncableData {
     //DirtyType will either be DIRTY or SIZE
     PropertyData getPropertyData(RegistryAccess registryAccess, short property, DirtyType dirtyType);
 
+    /**
+     * Gets the property data to sync a change to this data since it was last synced. Numeric data may only send the difference from the last synced value, so this
+     * should only be used after {@link #isDirty()} has been checked, and not when syncing all the data to a client that is just starting to track it.
+     */
+    default PropertyData getChangedPropertyData(RegistryAccess registryAccess, short property, DirtyType dirtyType) {
+        return getPropertyData(registryAccess, property, dirtyType);
+    }
+
     enum DirtyType {
         CLEAN,
         SIZE,
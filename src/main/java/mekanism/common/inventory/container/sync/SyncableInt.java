@@ -2,7 +2,9 @@ package mekanism.common.inventory.container.sync;
 
 import java.util.function.IntConsumer;
 import java.util.function.IntSupplier;
+import mekanism.common.network.to_client.container.property.IntDeltaPropertyData;
 import mekanism.common.network.to_client.container.property.IntPropertyData;
+import mekanism.common.network.to_client.container.property.PropertyData;
 import net.minecraft.core.RegistryAccess;
 
 /**
@@ -10,18 +12,31 @@ import net.minecraft.core.RegistryAccess;
  */
 public abstract class SyncableInt implements ISyncableData {
 
+    /**
+     * On the server this is the last value we synced, and on the client it is the last value we received. This lets us sync just the change in value.
+     */
     private int lastKnownValue;
+    private int lastChange;
 
     public abstract int get();
 
     public abstract void set(int value);
 
+    public void receive(int value) {
+        this.lastKnownValue = value;
+        set(value);
+    }
+
+    public void receiveChange(int change) {
+        receive(this.lastKnownValue + change);
+    }
+
     @Override
     public DirtyType isDirty() {
         int oldValue = get();
-        boolean dirty = oldValue != this.lastKnownValue;
+        this.lastChange = oldValue - this.lastKnownValue;
         this.lastKnownValue = oldValue;
-        return DirtyType.get(dirty);
+        return DirtyType.get(this.lastChange != 0);
     }
 
     @Override
@@ -29,6 +44,11 @@ public abstract class SyncableInt implements ISyncableData {
         return new IntPropertyData(property, get());
     }
 
+    @Override
+    public PropertyData getChangedPropertyData(RegistryAccess registryAccess, short property, DirtyType dirtyType) {
+        return IntDeltaPropertyData.create(property, lastKnownValue, lastChange);
+    }
+
     public static SyncableInt create(int[] intArray, int idx) {
         return new SyncableInt() {
             @Override
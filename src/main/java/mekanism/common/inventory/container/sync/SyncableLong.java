@@ -2,7 +2,9 @@ package mekanism.common.inventory.container.sync;
 
 import java.util.function.LongConsumer;
 import java.util.function.LongSupplier;
+import mekanism.common.network.to_client.container.property.LongDeltaPropertyData;
 import mekanism.common.network.to_client.container.property.LongPropertyData;
+import mekanism.common.network.to_client.container.property.PropertyData;
 import net.minecraft.core.RegistryAccess;
 
 /**
@@ -10,18 +12,31 @@ import net.minecraft.core.RegistryAccess;
  */
 public abstract class SyncableLong implements ISyncableData {
 
+    /**
+     * On the server this is the last value we synced, and on the client it is the last value we received. This lets us sync just the change in value.
+     */
     private long lastKnownValue;
+    private long lastChange;
 
     public abstract long get();
 
     public abstract void set(long value);
 
+    public void receive(long value) {
+        this.lastKnownValue = value;
+        set(value);
+    }
+
+    public void receiveChange(long change) {
+        receive(this.lastKnownValue + change);
+    }
+
     @Override
     public DirtyType isDirty() {
         long oldValue = get();
-        boolean dirty = oldValue != this.lastKnownValue;
+        this.lastChange = oldValue - this.lastKnownValue;
         this.lastKnownValue = oldValue;
-        return DirtyType.get(dirty);
+        return DirtyType.get(this.lastChange != 0);
     }
 
     @Override
@@ -29,6 +44,11 @@ public abstract class SyncableLong implements ISyncableData {
         return new LongPropertyData(property, get());
     }
 
+    @Override
+    public PropertyData getChangedPropertyData(RegistryAccess registryAccess, short property, DirtyType dirtyType) {
+        return LongDeltaPropertyData.create(property, lastKnownValue, lastChange);
+    }
+
     public static SyncableLong create(long[] longArray, int idx) {
         return new SyncableLong() {
             @Override
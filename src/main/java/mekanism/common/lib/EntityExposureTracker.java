@@ -0,0 +1,132 @@
+package mekanism.common.lib;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import mekanism.common.base.ProfilerConstants;
+import mekanism.common.config.MekanismConfig;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntitySelector;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+
+/**
+ * Batches the entity lookups of zones that affect entities, such as the hot zone of a fission reactor or the death zones of the fusion reactor and SPS. Rather than each
+ * zone querying the level for its entities while it ticks, zones queue a query, and at the end of the level's tick the entities of each section a queued zone overlaps
+ * are gathered once, and shared between all the zones that overlap that section.
+ * <br><br>
+ * Zones that did not contain any entities are not checked again until {@link mekanism.common.config.GeneralConfig#entityZoneEmptyInterval} ticks have passed.
+ *
+ * @apiNote Only used from the server thread.
+ */
+public class EntityExposureTracker {
+
+    private static final TickProfiler.Section PROFILER_SECTION = TickProfiler.section(ProfilerConstants.ENTITY_EXPOSURE);
+    private static final Map<ResourceKey<Level>, List<Query<?>>> pendingQueries = new HashMap<>();
+    /**
+     * Zones that were empty the last time they were checked, and the game time until which they should be assumed to still be empty.
+     */
+    private static final Map<ResourceKey<Level>, Object2LongMap<AABB>> emptyZones = new HashMap<>();
+
+    private EntityExposureTracker() {
+    }
+
+    /**
+     * Queues finding the entities in the given zone. The action is called at the end of the level's tick with all the entities of the given type that intersect the zone,
+     * and is not called if there are none.
+     */
+    public static <ENTITY extends Entity> void query(Level level, AABB zone, Class<ENTITY> type, Consumer<List<ENTITY>> action) {
+        Object2LongMap<AABB> empty = emptyZones.get(level.dimension());
+        if (empty != null && empty.getLong(zone) > level.getGameTime()) {
+            //We recently checked this zone and there wasn't anything in it, skip checking it again for now
+            return;
+        }
+        pendingQueries.computeIfAbsent(level.dimension(), dimension -> new ArrayList<>()).add(new Query<>(zone, type, action));
+    }
+
+    public static void tick(ServerLevel level) {
+        ResourceKey<Level> dimension = level.dimension();
+        long gameTime = level.getGameTime();
+        Object2LongMap<AABB> empty = emptyZones.get(dimension);
+        if (empty != null) {
+            empty.object2LongEntrySet().removeIf(entry -> entry.getLongValue() <= gameTime);
+            if (empty.isEmpty()) {
+                emptyZones.remove(dimension);
+            }
+        }
+        List<Query<?>> queries = pendingQueries.remove(dimension);
+        if (queries == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        int emptyInterval = MekanismConfig.general.entityZoneEmptyInterval.get();
+        Long2ObjectMap<List<Entity>> sectionEntities = new Long2ObjectOpenHashMap<>();
+        for (Query<?> query : queries) {
+            if (!query.run(level, sectionEntities) && emptyInterval > 1) {
+                emptyZones.computeIfAbsent(dimension, d -> new Object2LongOpenHashMap<>()).put(query.zone(), gameTime + emptyInterval);
+            }
+        }
+        PROFILER_SECTION.end(start);
+    }
+
+    public static void reset() {
+        pendingQueries.clear();
+        emptyZones.clear();
+    }
+
+    private static List<Entity> getSectionEntities(Level level, Long2ObjectMap<List<Entity>> sectionEntities, int x, int y, int z) {
+        long section = SectionPos.asLong(x, y, z);
+        List<Entity> entities = sectionEntities.get(section);
+        if (entities == null) {
+            //Note: This includes any entities from neighboring sections that stick out into this section
+            AABB bounds = new AABB(SectionPos.sectionToBlockCoord(x), SectionPos.sectionToBlockCoord(y), SectionPos.sectionToBlockCoord(z),
+                  SectionPos.sectionToBlockCoord(x + 1), SectionPos.sectionToBlockCoord(y + 1), SectionPos.sectionToBlockCoord(z + 1));
+            entities = level.getEntities((Entity) null, bounds, EntitySelector.NO_SPECTATORS);
+            sectionEntities.put(section, entities);
+        }
+        return entities;
+    }
+
+    private record Query<ENTITY extends Entity>(AABB zone, Class<ENTITY> type, Consumer<List<ENTITY>> action) {
+
+        /**
+         * @return {@code false} if there were no entities in the zone.
+         */
+        private boolean run(Level level, Long2ObjectMap<List<Entity>> sectionEntities) {
+            List<ENTITY> found = new ArrayList<>();
+            //Entities that are in more than one of the sections will be in the lists of each of those sections
+            Set<Entity> seen = new ReferenceOpenHashSet<>();
+            int maxX = SectionPos.blockToSectionCoord(Mth.floor(zone.maxX));
+            int maxY = SectionPos.blockToSectionCoord(Mth.floor(zone.maxY));
+            int maxZ = SectionPos.blockToSectionCoord(Mth.floor(zone.maxZ));
+            for (int x = SectionPos.blockToSectionCoord(Mth.floor(zone.minX)); x <= maxX; x++) {
+                for (int y = SectionPos.blockToSectionCoord(Mth.floor(zone.minY)); y <= maxY; y++) {
+                    for (int z = SectionPos.blockToSectionCoord(Mth.floor(zone.minZ)); z <= maxZ; z++) {
+                        for (Entity entity : getSectionEntities(level, sectionEntities, x, y, z)) {
+                            if (type.isInstance(entity) && entity.getBoundingBox().intersects(zone) && seen.add(entity)) {
+                                found.add(type.cast(entity));
+                            }
+                        }
+                    }
+                }
+            }
+            if (found.isEmpty()) {
+                return false;
+            }
+            action.accept(found);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package mekanism.common.lib;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Always on counters of how long the server side parts of Mekanism spend ticking. Unlike the vanilla profiler these are tracked all the time, so that they can be
+ * looked at with {@code /mek profile} without having to have recorded anything ahead of time. To keep the overhead low, each counter is a {@link Section} that is looked
+ * up once by the thing being profiled, and the only work done when timing is adding to two longs, and for things that are tracked individually a single map lookup.
+ *
+ * @apiNote Apart from creating sections, this is only used from the server thread.
+ */
+public class TickProfiler {
+
+    /**
+     * The maximum number of individual things we keep track of, so that we don't keep growing when things like transmitter networks are constantly being created and
+     * removed. When we are at the limit, the least expensive one is forgotten to make room.
+     */
+    private static final int MAX_OFFENDERS = 1_024;
+
+    //Note: Sections may be created while mods are being loaded or from the client thread, so the map of them needs to be thread safe
+    private static final Map<String, Section> sections = new ConcurrentHashMap<>();
+    private static final Map<Object, Offender> offenders = new Object2ObjectOpenHashMap<>();
+    private static long ticks;
+
+    private TickProfiler() {
+    }
+
+    /**
+     * Gets or creates the section with the given name. Callers should hold onto the section rather than looking it up each time they want to record something.
+     */
+    public static Section section(String name) {
+        return sections.computeIfAbsent(name, Section::new);
+    }
+
+    public static void onServerTick() {
+        ticks++;
+    }
+
+    /**
+     * @return The number of server ticks since the counters were last reset.
+     */
+    public static long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return The sections that took the most time, with the most expensive first.
+     */
+    public static List<Stats> getTopSections(int count) {
+        List<Stats> stats = new ArrayList<>();
+        for (Section section : sections.values()) {
+            if (section.calls > 0) {
+                stats.add(new Stats(section.name, null, null, section.nanos, section.calls));
+            }
+        }
+        return top(stats, count);
+    }
+
+    /**
+     * @return The individual things, such as a single network or multiblock, that took the most time, with the most expensive first.
+     */
+    public static List<Stats> getTopOffenders(int count) {
+        List<Stats> stats = new ArrayList<>(offenders.size());
+        for (Offender offender : offenders.values()) {
+            stats.add(new Stats(offender.section.name, offender.dimension, BlockPos.of(offender.pos), offender.nanos, offender.calls));
+        }
+        return top(stats, count);
+    }
+
+    private static List<Stats> top(List<Stats> stats, int count) {
+        stats.sort(Comparator.comparingLong(Stats::nanos).reversed());
+        return stats.size() > count ? stats.subList(0, count) : stats;
+    }
+
+    public static void reset() {
+        //Note: We can't remove the sections as things hold onto them, so instead we just reset their counts
+        for (Section section : sections.values()) {
+            section.nanos = 0;
+            section.calls = 0;
+        }
+        offenders.clear();
+        ticks = 0;
+    }
+
+    private static Offender getOffender(Section section, Object key) {
+        Offender offender = offenders.get(key);
+        if (offender == null) {
+            if (offenders.size() >= MAX_OFFENDERS) {
+                Object cheapest = null;
+                long cheapestNanos = Long.MAX_VALUE;
+                for (Map.Entry<Object, Offender> entry : offenders.entrySet()) {
+                    if (entry.getValue().nanos < cheapestNanos) {
+                        cheapest = entry.getKey();
+                        cheapestNanos = entry.getValue().nanos;
+                    }
+                }
+                offenders.remove(cheapest);
+            }
+            offender = new Offender(section);
+            offenders.put(key, offender);
+        }
+        return offender;
+    }
+
+    /**
+     * @param section   Name of the section.
+     * @param dimension Dimension the offender is in, or {@code null} for sections.
+     * @param pos       Position of the offender, or {@code null} for sections.
+     */
+    public record Stats(String section, @Nullable ResourceKey<Level> dimension, @Nullable BlockPos pos, long nanos, long calls) {
+    }
+
+    public static class Section {
+
+        private final String name;
+        private long nanos;
+        private long calls;
+
+        private Section(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Records something that started at the given {@link System#nanoTime()}, and has now finished.
+         */
+        public void end(long start) {
+            nanos += System.nanoTime() - start;
+            calls++;
+        }
+
+        /**
+         * Records something that started at the given {@link System#nanoTime()}, and has now finished, and also keeps track of it individually so that it can show up
+         * as a top offender.
+         *
+         * @param key   Object that uniquely identifies the thing that was profiled, such as the id of a network. This should be a value rather than the thing itself,
+         *              as offenders are kept until the counters are reset, even after the thing is removed.
+         * @param level Level the thing is in.
+         * @param pos   Position to report the thing as being at, as a long so that callers don't have to create a new {@link BlockPos} each time.
+         */
+        public void end(long start, Object key, @Nullable Level level, long pos) {
+            long time = System.nanoTime() - start;
+            nanos += time;
+            calls++;
+            Offender offender = getOffender(this, key);
+            offender.nanos += time;
+            offender.calls++;
+            //Update where it is, as for things like networks the position we use for it may change
+            offender.dimension = level == null ? null : level.dimension();
+            offender.pos = pos;
+        }
+    }
+
+    private static class Offender {
+
+        private final Section section;
+        @Nullable
+        private ResourceKey<Level> dimension;
+        private long pos;
+        private long nanos;
+        private long calls;
+
+        private Offender(Section section) {
+            this.section = section;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package mekanism.common.lib;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import mekanism.common.Mekanism;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shared pool of worker threads for work Mekanism performs off the server thread, so that each system doesn't need to spin up its own threads.
+ */
+public final class WorkerPool {
+
+    private WorkerPool() {
+    }
+
+    @Nullable
+    private static ForkJoinPool pool;
+
+    public static synchronized ForkJoinPool get() {
+        if (pool == null) {
+            int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            pool = new ForkJoinPool(parallelism, p -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                thread.setName("Mekanism Worker-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                //Make sure our workers can see mod classes
+                thread.setContextClassLoader(Mekanism.class.getClassLoader());
+                return thread;
+            }, (thread, throwable) -> Mekanism.logger.error("Uncaught exception in {}", thread.getName(), throwable), false);
+        }
+        return pool;
+    }
+
+    /**
+     * Shuts down the pool if it was started. Any further calls to {@link #get()} will start a new pool.
+     */
+    public static synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+            pool = null;
+        }
+    }
+}
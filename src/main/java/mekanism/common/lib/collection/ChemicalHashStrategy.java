@@ -0,0 +1,26 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.Hash.Strategy;
+import mekanism.api.chemical.ChemicalStack;
+
+//Based on FluidHashStrategy, but chemical stacks don't have any components
+public class ChemicalHashStrategy implements Strategy<ChemicalStack> {
+
+    public static final ChemicalHashStrategy INSTANCE = new ChemicalHashStrategy();
+
+    private ChemicalHashStrategy() {
+    }
+
+    @Override
+    public int hashCode(ChemicalStack stack) {
+        return stack == null ? 0 : stack.getChemical().hashCode();
+    }
+
+    @Override
+    public boolean equals(ChemicalStack a, ChemicalStack b) {
+        if (a == b) {
+            return true;
+        }
+        return a != null && b != null && a.isEmpty() == b.isEmpty() && ChemicalStack.isSameChemical(a, b);
+    }
+}
\ No newline at end of file
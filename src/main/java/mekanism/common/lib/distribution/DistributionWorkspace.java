@@ -0,0 +1,253 @@
+package mekanism.common.lib.distribution;
+
+import java.util.Arrays;
+
+/**
+ * Reusable alternative to a {@link Target} and {@link SplitInfo} for distributing an amount evenly between handlers, that keeps the handlers and how much they want in
+ * arrays that get reused every time it distributes, rather than allocating a target, split info, and a record for each handler that wants more than an even split.
+ * <br><br>
+ * Distributing follows the same steps as {@link mekanism.common.util.EmitUtils#sendToAcceptors(Target, long, Object)} does with a {@link LongSplitInfo}, so each handler
+ * is given exactly the same amount as it would be given by a {@link Target} containing the same handlers in the same order.
+ *
+ * @param <HANDLER> The type of handler being distributed to.
+ */
+public abstract class DistributionWorkspace<HANDLER> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private HANDLER[] handlers;
+    /**
+     * How much each handler wanted when it was added, and then how much each handler that wants more than an even split wants.
+     */
+    private long[] demands;
+    /**
+     * Indices of the handlers that want more than an even split, in the order they were added.
+     */
+    private int[] needed;
+    private int neededCount;
+    private int handlerCount;
+    /**
+     * The amount the handlers were offered when they were added.
+     */
+    private long simulatedAmount;
+
+    //Split state, mirrors LongSplitInfo
+    private long amountToSplit;
+    private long amountPerTarget;
+    private long sentSoFar;
+    private long remainder;
+    private int toSplitAmong;
+    private boolean amountPerChanged;
+
+    @SuppressWarnings("unchecked")
+    protected DistributionWorkspace() {
+        handlers = (HANDLER[]) new Object[DEFAULT_CAPACITY];
+        demands = new long[DEFAULT_CAPACITY];
+        needed = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Simulates offering the handler the given amount, and if it wants any of it, adds it as one of the handlers to distribute to.
+     *
+     * @param handler Handler to add.
+     * @param amount  Amount that will be distributed. Should be the same for every handler that is added.
+     *
+     * @return {@code true} if the handler was added.
+     */
+    public boolean addHandler(HANDLER handler, long amount) {
+        long demand = simulate(handler, amount);
+        if (demand <= 0) {
+            return false;
+        }
+        if (handlerCount == handlers.length) {
+            int capacity = handlerCount * 2;
+            handlers = Arrays.copyOf(handlers, capacity);
+            demands = Arrays.copyOf(demands, capacity);
+            needed = new int[capacity];
+        }
+        handlers[handlerCount] = handler;
+        demands[handlerCount] = demand;
+        handlerCount++;
+        simulatedAmount = amount;
+        return true;
+    }
+
+    public int getHandlerCount() {
+        return handlerCount;
+    }
+
+    /**
+     * Removes all handlers so that the workspace can be used again.
+     */
+    public void clear() {
+        //Clear the references to the handlers so that we don't keep them loaded
+        Arrays.fill(handlers, 0, handlerCount, null);
+        handlerCount = 0;
+    }
+
+    /**
+     * Distributes the given amount between the added handlers.
+     *
+     * @param amount            Amount to distribute.
+     * @param demandsAreCurrent {@code true} if nothing can have changed how much the handlers want since they were added. This allows skipping simulating the handlers
+     *                          again until something has actually been sent.
+     *
+     * @return The amount that actually got sent.
+     */
+    public long distribute(long amount, boolean demandsAreCurrent) {
+        if (handlerCount == 0) {
+            return 0;
+        }
+        amountToSplit = amount;
+        toSplitAmong = handlerCount;
+        amountPerTarget = amount / handlerCount;
+        remainder = amount % handlerCount;
+        sentSoFar = 0;
+        amountPerChanged = false;
+        neededCount = 0;
+        sendPossible(demandsAreCurrent);
+        //Only run this if we changed the amountPer from when we first/last ran things
+        while (amountPerChanged) {
+            amountPerChanged = false;
+            shiftNeeded();
+        }
+        sendRemainingSplit();
+        neededCount = 0;
+        return sentSoFar;
+    }
+
+    /**
+     * Equivalent of {@link Target#sendPossible(Object, SplitInfo)}.
+     */
+    private void sendPossible(boolean demandsAreCurrent) {
+        boolean allRemainder = amountPerTarget == 0;
+        for (int i = 0; i < handlerCount; i++) {
+            //If nothing has been sent yet, the handler is being offered what it was offered when it was added
+            long amountNeeded = demandsAreCurrent && sentSoFar == 0 && amountToSplit == simulatedAmount ? demands[i] : simulate(handlers[i], amountToSplit);
+            if (allRemainder) {
+                if (amountNeeded != 0) {
+                    addNeeded(i, amountNeeded);
+                }
+            } else if (amountNeeded <= amountPerTarget) {
+                if (amountNeeded != 0) {
+                    accept(i, amountNeeded, true);
+                }
+            } else {
+                addNeeded(i, amountNeeded);
+            }
+        }
+    }
+
+    private void addNeeded(int handler, long amountNeeded) {
+        demands[handler] = amountNeeded;
+        needed[neededCount++] = handler;
+    }
+
+    /**
+     * Equivalent of {@link Target#shiftNeeded(Object, SplitInfo)}.
+     */
+    private void shiftNeeded() {
+        if (amountPerTarget == 0) {
+            return;
+        }
+        int kept = 0;
+        for (int i = 0; i < neededCount; i++) {
+            int handler = needed[i];
+            long amountNeeded = demands[handler];
+            if (amountNeeded <= amountPerTarget) {
+                accept(handler, amountNeeded, true);
+            } else {
+                needed[kept++] = handler;
+            }
+        }
+        neededCount = kept;
+    }
+
+    /**
+     * Equivalent of {@link Target#sendRemainingSplit(Object, SplitInfo)}.
+     */
+    private void sendRemainingSplit() {
+        if (neededCount == 0 || getRemainderAmount() == 0) {
+            return;
+        }
+        int kept = 0;
+        for (int i = 0; i < neededCount; i++) {
+            long remainderAmount = getRemainderAmount();
+            if (remainderAmount == 0) {
+                //We finished inserting everything we wanted to
+                return;
+            }
+            int handler = needed[i];
+            long amountNeeded = demands[handler];
+            if (amountNeeded <= remainderAmount) {
+                accept(handler, amountNeeded, true);
+            } else {
+                accept(handler, remainderAmount, false);
+                needed[kept++] = handler;
+            }
+        }
+        //If we still have some of a remainder after trying to evenly distribute the remainder just send it to the first handler willing to accept it
+        for (int i = 0; i < kept && amountToSplit != 0; i++) {
+            accept(needed[i], amountToSplit, true);
+        }
+    }
+
+    /**
+     * Gives the handler the given amount, and updates the split based on how much it actually accepted. Equivalent of {@link LongSplitInfo#send(long)}.
+     *
+     * @param decrementTargets {@code false} to not count the handler as having been given its share.
+     */
+    private void accept(int handler, long amount, boolean decrementTargets) {
+        long accepted = insert(handlers[handler], amount);
+        amountToSplit -= accepted;
+        sentSoFar += accepted;
+        if (!decrementTargets) {
+            long difference = accepted - amountPerTarget;
+            if (difference > 0) {
+                //If we removed more than we have per target, we need to remove the excess from our remainder
+                remainder -= difference;
+            }
+            return;
+        }
+        toSplitAmong--;
+        //Only recalculate it if it doesn't want the full per handler split
+        if (accepted != amountPerTarget && toSplitAmong != 0) {
+            long amountPerLast = amountPerTarget;
+            amountPerTarget = amountToSplit / toSplitAmong;
+            remainder = amountToSplit % toSplitAmong;
+            if (amountPerTarget != amountPerLast) {
+                amountPerChanged = true;
+            }
+        }
+    }
+
+    /**
+     * Equivalent of {@link LongSplitInfo#getRemainderAmount()}.
+     */
+    private long getRemainderAmount() {
+        if (toSplitAmong != 0 && remainder > 0) {
+            return amountPerTarget + 1;
+        }
+        return amountPerTarget;
+    }
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler.
+     * @param amount  Amount to offer.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract long simulate(HANDLER handler, long amount);
+
+    /**
+     * Inserts into the handler.
+     *
+     * @param handler The handler.
+     * @param amount  Amount to give.
+     *
+     * @return The amount it actually accepted.
+     */
+    protected abstract long insert(HANDLER handler, long amount);
+}
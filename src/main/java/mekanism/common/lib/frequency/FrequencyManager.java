@@ -11,7 +11,9 @@ import java.util.Set;
 import java.util.UUID;
 import mekanism.api.SerializationConstants;
 import mekanism.api.security.SecurityMode;
+import mekanism.common.base.ProfilerConstants;
 import mekanism.common.lib.MekanismSavedData;
+import mekanism.common.lib.TickProfiler;
 import mekanism.common.lib.collection.HashList;
 import mekanism.common.lib.frequency.Frequency.FrequencyIdentity;
 import mekanism.common.lib.security.SecurityFrequency;
@@ -45,10 +47,13 @@ public class FrequencyManager<FREQ extends Frequency> {
     private UUID ownerUUID;
 
     private final FrequencyType<FREQ> frequencyType;
+    private final TickProfiler.Section profilerSection;
     private SecurityMode securityMode = SecurityMode.PUBLIC;
 
     public FrequencyManager(FrequencyType<FREQ> frequencyType) {
         this.frequencyType = frequencyType;
+        //Note: Private managers of the same type share the same section
+        this.profilerSection = TickProfiler.section(ProfilerConstants.FREQUENCIES + "." + frequencyType.getName());
         managers.add(this);
     }
 
@@ -78,7 +83,9 @@ public class FrequencyManager<FREQ extends Frequency> {
             load();
         }
         for (FrequencyManager<?> manager : managers) {
+            long start = System.nanoTime();
             manager.tickSelf(tickingNormally);
+            manager.profilerSection.end(start);
         }
     }
 
@@ -1,8 +1,10 @@
 package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 import mekanism.common.MekanismLang;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.math.voxel.VoxelCuboid;
@@ -48,32 +50,57 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
 
     @Override
     public FormationResult validate(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap) {
+        return validateScan(ctx, chunkMap, scan(pos -> WorldUtils.getBlockState(world, chunkMap, pos).orElse(null)));
+    }
+
+    /**
+     * Reads the block state of every position in the cuboid, and checks the parts of the structure that only depend on block states. As this doesn't look at any tiles,
+     * this can be run off the server thread against a {@link StructureSnapshot}.
+     *
+     * @param stateGetter Gets the block state at a position, or {@code null} if the position is not loaded.
+     */
+    public CuboidScan scan(Function<BlockPos, BlockState> stateGetter) {
+        List<ScannedNode> nodes = new ArrayList<>();
         BlockPos min = cuboid.getMinPos(), max = cuboid.getMaxPos();
         BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
         for (int x = min.getX(); x <= max.getX(); x++) {
             for (int y = min.getY(); y <= max.getY(); y++) {
                 for (int z = min.getZ(); z <= max.getZ(); z++) {
                     mutablePos.set(x, y, z);
-                    FormationResult ret = validateNode(ctx, chunkMap, mutablePos);
-                    if (!ret.isFormed()) {
-                        return ret;
+                    BlockState state = stateGetter.apply(mutablePos);
+                    if (state == null) {
+                        //If the position is not in a loaded chunk or out of bounds of the world, fail
+                        return new CuboidScan(nodes, FormationResult.FAIL);
+                    } else if (getStructureRequirement(mutablePos).isCasing()) {
+                        nodes.add(new ScannedNode(mutablePos.immutable(), state));
+                    } else if (!isValidInner(state)) {
+                        return new CuboidScan(nodes, FormationResult.fail(MekanismLang.MULTIBLOCK_INVALID_INNER, mutablePos));
+                    } else if (!state.isAir()) {
+                        nodes.add(new ScannedNode(mutablePos.immutable(), state));
                     }
                 }
             }
         }
-        return FormationResult.SUCCESS;
+        return new CuboidScan(nodes, FormationResult.SUCCESS);
     }
 
     /**
-     * @param pos Mutable BlockPos
+     * Finishes validating the positions that were found by {@link #scan(Function)}, in the order they were scanned.
+     *
+     * @apiNote Only call this from the server thread.
      */
-    protected FormationResult validateNode(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
-        Optional<BlockState> optionalState = WorldUtils.getBlockState(world, chunkMap, pos);
-        if (optionalState.isEmpty()) {
-            //If the position is not in a loaded chunk or out of bounds of the world, fail
-            return FormationResult.FAIL;
+    public FormationResult validateScan(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, CuboidScan scan) {
+        for (ScannedNode node : scan.nodes()) {
+            FormationResult ret = validateNode(ctx, chunkMap, node.pos(), node.state());
+            if (!ret.isFormed()) {
+                return ret;
+            }
         }
-        BlockState state = optionalState.get();
+        //If all the nodes before where the scan stopped were valid, the result is whatever the scan found
+        return scan.result();
+    }
+
+    protected FormationResult validateNode(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos, BlockState state) {
         StructureRequirement requirement = getStructureRequirement(pos);
         if (requirement.isCasing()) {
             CasingType type = getCasingType(state);
@@ -83,20 +110,27 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
             }
         } else if (!validateInner(state, chunkMap, pos)) {
             return FormationResult.fail(MekanismLang.MULTIBLOCK_INVALID_INNER, pos);
-        } else if (!state.isAir()) {
-            //Make sure the position is immutable before we store it
-            ctx.internalLocations.add(pos.immutable());
+        } else {
+            ctx.internalLocations.add(pos);
         }
         return FormationResult.SUCCESS;
     }
 
     /**
-     * @param pos Mutable BlockPos
+     * Checks if a block state is allowed inside the structure. This may be called off the server thread, so it should only depend on the state.
      */
-    protected boolean validateInner(BlockState state, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
+    protected boolean isValidInner(BlockState state) {
         return state.isAir();
     }
 
+    /**
+     * Called on the server thread for any non-air positions inside the structure that passed {@link #isValidInner(BlockState)}, for validators that need to look at the
+     * tiles inside the structure.
+     */
+    protected boolean validateInner(BlockState state, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
+        return true;
+    }
+
     protected abstract CasingType getCasingType(BlockState state);
 
     protected boolean isFrameCompatible(BlockEntity tile) {
@@ -170,4 +204,14 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
     public void loadCuboid(VoxelCuboid cuboid) {
         this.cuboid = cuboid;
     }
+
+    /**
+     * @param nodes  Positions that still need to be validated on the server thread, in the order they were scanned.
+     * @param result {@link FormationResult#SUCCESS} if the whole cuboid was scanned, otherwise why the scan stopped.
+     */
+    public record CuboidScan(List<ScannedNode> nodes, FormationResult result) {
+    }
+
+    public record ScannedNode(BlockPos pos, BlockState state) {
+    }
 }
@@ -3,18 +3,25 @@ package mekanism.common.lib.multiblock;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.attribute.ChemicalAttributes;
 import mekanism.api.radiation.IRadiationManager;
 import mekanism.api.text.EnumColor;
 import mekanism.api.text.ILangEntry;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
+import mekanism.common.lib.WorkerPool;
+import mekanism.common.lib.math.voxel.VoxelCuboid;
+import mekanism.common.lib.multiblock.CuboidStructureValidator.CuboidScan;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.lib.multiblock.MultiblockCache.RejectContents;
 import mekanism.common.util.EnumUtils;
@@ -22,17 +29,25 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
 
 public class FormationProtocol<T extends MultiblockData> {
 
     public static final int MAX_SIZE = 18;
 
+    /**
+     * Scans that are running off the server thread. Only accessed from the server thread.
+     */
+    private static final List<PendingScan> pendingScans = new ArrayList<>();
+
     /**
      * The original block the calculation is getting run from.
      */
@@ -51,14 +66,22 @@ public class FormationProtocol<T extends MultiblockData> {
         manager = tile.getManager();
     }
 
-    private StructureResult<T> buildStructure(IStructureValidator<T> validator) {
+    /**
+     * @param scan Scan of the block states of the structure, or {@code null} to validate the whole structure on the server thread.
+     */
+    private StructureResult<T> buildStructure(IStructureValidator<T> validator, @Nullable CuboidScan scan) {
         T structure = pointer.createMultiblock();
         if (!structure.setShape(validator.getShape())) {
             return fail(FormationResult.FAIL);
         }
 
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
-        FormationResult result = validator.validate(this, chunkMap);
+        FormationResult result;
+        if (scan != null && validator instanceof CuboidStructureValidator<T> cuboidValidator) {
+            result = cuboidValidator.validateScan(this, chunkMap, scan);
+        } else {
+            result = validator.validate(this, chunkMap);
+        }
         if (!result.isFormed()) {
             return fail(result);
         }
@@ -70,17 +93,78 @@ public class FormationProtocol<T extends MultiblockData> {
         return result.isFormed() ? form(structure, idsFound) : fail(result);
     }
 
+    @Nullable
+    private IStructureValidator<T> createValidator() {
+        IStructureValidator<T> validator = manager.createValidator();
+        validator.init(pointer.getLevel(), manager, structure);
+        return validator.precheck() ? validator : null;
+    }
+
     /**
      * Runs the protocol and updates all nodes that make a part of the multiblock.
      */
     public FormationResult doUpdate() {
-        IStructureValidator<T> validator = manager.createValidator();
-        Level world = pointer.getLevel();
-        validator.init(world, manager, structure);
-        if (!validator.precheck()) {
+        IStructureValidator<T> validator = createValidator();
+        if (validator == null) {
             return FormationResult.FAIL;
         }
-        StructureResult<T> result = buildStructure(validator);
+        return applyResult(buildStructure(validator, null));
+    }
+
+    /**
+     * Runs the protocol like {@link #doUpdate()}, except the block states of the structure are scanned on the {@link WorkerPool} against a {@link StructureSnapshot} of
+     * the chunks the structure is in. Checking the tiles of the structure and forming it then happens back on the server thread, as long as neither the structure nor
+     * any blocks in its bounds changed while it was being scanned. If something did change, the structure will have been marked for update, so it gets scanned again.
+     *
+     * @apiNote Only call this from the server thread.
+     */
+    public void scheduleUpdate() {
+        IStructureValidator<T> validator = createValidator();
+        if (validator == null) {
+            return;
+        }
+        if (!(validator instanceof CuboidStructureValidator<T> cuboidValidator) || !(pointer.getLevel() instanceof ServerLevel level)) {
+            //If the structure can't be scanned separately from the rest of the validation, just validate it all now
+            applyResult(buildStructure(validator, null));
+            return;
+        }
+        VoxelCuboid cuboid = (VoxelCuboid) validator.getShape();
+        StructureSnapshot snapshot = StructureSnapshot.create(level, cuboid.getMinPos(), cuboid.getMaxPos());
+        if (snapshot == null) {
+            //Part of the structure isn't loaded or is outside the world
+            applyResult(buildStructure(validator, new CuboidScan(List.of(), FormationResult.FAIL)));
+            return;
+        }
+        PendingScan pendingScan = new PendingScan(level, structure, snapshot);
+        structure.setPendingScan(pendingScan);
+        pendingScans.add(pendingScan);
+        CompletableFuture.supplyAsync(() -> cuboidValidator.scan(snapshot::getBlockState), WorkerPool.get())
+              .thenAcceptAsync(scan -> finishScan(pendingScan, validator, scan), level.getServer())
+              .exceptionally(throwable -> {
+                  Mekanism.logger.error("Failed to scan multiblock at {}", pointer.getBlockPos(), throwable);
+                  //Fall back to validating the entire structure on the server thread, so that we don't keep holding onto the snapshot,
+                  // and so the structure doesn't stay unformed until something else causes it to be updated
+                  level.getServer().execute(() -> finishScan(pendingScan, validator, null));
+                  return null;
+              });
+    }
+
+    /**
+     * @param scan The result of scanning the block states of the structure, or {@code null} to scan them now.
+     */
+    private void finishScan(PendingScan pendingScan, IStructureValidator<T> validator, @Nullable CuboidScan scan) {
+        pendingScans.remove(pendingScan);
+        if (structure.isPendingScan(pendingScan)) {
+            structure.setPendingScan(null);
+            //Only form the structure if it is still the one the pointer is part of
+            if (structure.isValid() && pointer.getStructure() == structure && structure.getMultiblockData() == null) {
+                applyResult(buildStructure(validator, scan));
+            }
+        }
+    }
+
+    private FormationResult applyResult(StructureResult<T> result) {
+        Level world = pointer.getLevel();
         T structureFound = result.structureFound;
 
         BlockPos pointerPos = pointer.getBlockPos();
@@ -153,6 +237,23 @@ public class FormationProtocol<T extends MultiblockData> {
         return result.result();
     }
 
+    /**
+     * Discards any pending scans of structures whose bounds contain the given position, and marks the structures for update so that they get scanned again.
+     */
+    public static void onBlockChanged(LevelAccessor level, BlockPos pos) {
+        if (!pendingScans.isEmpty()) {
+            for (PendingScan pendingScan : pendingScans) {
+                if (pendingScan.level() == level && pendingScan.structure().isPendingScan(pendingScan) && pendingScan.snapshot().contains(pos)) {
+                    pendingScan.structure().markForUpdate(pendingScan.level(), false);
+                }
+            }
+        }
+    }
+
+    public static void reset() {
+        pendingScans.clear();
+    }
+
     protected static Component text(BlockPos pos) {
         return MekanismLang.GENERIC_PARENTHESIS.translate(MekanismLang.GENERIC_BLOCK_POS.translate(pos.getX(), pos.getY(), pos.getZ()));
     }
@@ -255,6 +356,9 @@ public class FormationProtocol<T extends MultiblockData> {
         return new StructureResult<>(FormationResult.SUCCESS, structureFound, idsFound);
     }
 
+    record PendingScan(Level level, Structure structure, StructureSnapshot snapshot) {
+    }
+
     private record StructureResult<T extends MultiblockData>(FormationResult result, T structureFound, Map<UUID, MultiblockCache<T>> idsFound) {
     }
 
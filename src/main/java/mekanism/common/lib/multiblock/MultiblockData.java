@@ -401,6 +401,30 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
         return locations.contains(pos) || internalLocations.contains(pos);
     }
 
+    /**
+     * Called when a block inside the bounds of this multiblock changed, to try and update this multiblock in place rather than forming the whole structure again.
+     *
+     * @param pos Position inside the bounds of the multiblock that changed.
+     *
+     * @return {@code true} if this multiblock is still valid after the change, {@code false} if the structure needs to be validated again.
+     *
+     * @implNote By default, this only allows internal blocks changing state, and positions that were empty staying empty.
+     */
+    public boolean tryUpdateInternal(Level world, BlockPos pos) {
+        boolean internal = internalLocations.contains(pos);
+        return world.isEmptyBlock(pos) ? !internal : internal;
+    }
+
+    /**
+     * Called when an {@link IInternalMultiblock} that is part of this multiblock is being removed, to try and update this multiblock in place rather than forming the
+     * whole structure again.
+     *
+     * @return {@code true} if this multiblock is still valid without the internal block, {@code false} if the structure needs to be validated again.
+     */
+    public boolean tryRemoveInternal(BlockPos pos) {
+        return false;
+    }
+
     public Collection<ValveData> getValveData() {
         return valves;
     }
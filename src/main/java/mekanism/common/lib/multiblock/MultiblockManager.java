@@ -8,7 +8,9 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 import mekanism.api.SerializationConstants;
+import mekanism.common.base.ProfilerConstants;
 import mekanism.common.lib.MekanismSavedData;
+import mekanism.common.lib.TickProfiler;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
@@ -23,6 +25,7 @@ public class MultiblockManager<T extends MultiblockData> {
 
     private final String name;
     private final String nameLower;
+    private final TickProfiler.Section profilerSection;
 
     private final Supplier<MultiblockCache<T>> cacheSupplier;
     private final Supplier<IStructureValidator<T>> validatorSupplier;
@@ -41,6 +44,7 @@ public class MultiblockManager<T extends MultiblockData> {
     public MultiblockManager(String name, Supplier<MultiblockCache<T>> cacheSupplier, Supplier<IStructureValidator<T>> validatorSupplier) {
         this.name = name;
         this.nameLower = name.toLowerCase(Locale.ROOT);
+        this.profilerSection = TickProfiler.section(ProfilerConstants.MULTIBLOCKS + "." + name);
         this.cacheSupplier = cacheSupplier;
         this.validatorSupplier = validatorSupplier;
         managers.add(this);
@@ -78,6 +82,13 @@ public class MultiblockManager<T extends MultiblockData> {
         return nameLower;
     }
 
+    /**
+     * @return The section that the time spent ticking multiblocks of this type is recorded under.
+     */
+    public TickProfiler.Section getProfilerSection() {
+        return profilerSection;
+    }
+
     @Override
     public String toString() {
         return name;
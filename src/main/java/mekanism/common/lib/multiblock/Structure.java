@@ -15,6 +15,7 @@ import java.util.function.ToIntFunction;
 import mekanism.common.lib.math.voxel.BlockPosBuilder;
 import mekanism.common.lib.math.voxel.VoxelPlane;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
+import mekanism.common.lib.multiblock.FormationProtocol.PendingScan;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -22,6 +23,7 @@ import net.minecraft.core.Vec3i;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
 
 public class Structure {
 
@@ -36,6 +38,12 @@ public class Structure {
 
     private long updateTimestamp;
     private boolean didUpdate;
+    /**
+     * The scan of this structure that is running off the server thread, if any. This gets cleared whenever the structure changes, so that the result of the scan is
+     * discarded.
+     */
+    @Nullable
+    private PendingScan pendingScan;
 
     private MultiblockData multiblockData;
     private IMultiblock<?> controller;
@@ -97,6 +105,7 @@ public class Structure {
     public void markForUpdate(Level world, boolean invalidate) {
         updateTimestamp = world.getGameTime();
         didUpdate = false;
+        pendingScan = null;
         if (invalidate) {
             invalidate(world);
         } else {
@@ -109,19 +118,40 @@ public class Structure {
         updateTimestamp = tile.getLevel().getGameTime() - 1;
         didUpdate = false;
         invalidate(tile.getLevel());
-        tick(tile, tryValidate);
+        tick(tile, tryValidate, true);
     }
 
     public <TILE extends BlockEntity & IMultiblockBase> void tick(TILE tile, boolean tryValidate) {
+        tick(tile, tryValidate, false);
+    }
+
+    private <TILE extends BlockEntity & IMultiblockBase> void tick(TILE tile, boolean tryValidate, boolean immediate) {
         if (!didUpdate && updateTimestamp == tile.getLevel().getGameTime() - 1) {
             didUpdate = true;
-            runUpdate(tile);
+            if (immediate) {
+                runUpdate(tile);
+            } else {
+                scheduleUpdate(tile);
+            }
         }
         if (tryValidate && !isValid()) {
             validate(tile, new Long2ObjectOpenHashMap<>());
         }
     }
 
+    /**
+     * Like {@link #runUpdate(BlockEntity)}, except most of the structure gets scanned off the server thread, so the multiblock won't be formed until a later tick.
+     *
+     * @see FormationProtocol#scheduleUpdate()
+     */
+    public <TILE extends BlockEntity & IMultiblockBase> void scheduleUpdate(TILE tile) {
+        if (getController() != null && multiblockData == null) {
+            getController().createFormationProtocol().scheduleUpdate();
+        } else {
+            removeMultiblock(tile.getLevel());
+        }
+    }
+
     public <TILE extends BlockEntity & IMultiblockBase> FormationResult runUpdate(TILE tile) {
         if (getController() != null && multiblockData == null) {
             return getController().createFormationProtocol().doUpdate();
@@ -212,6 +242,15 @@ public class Structure {
     public void invalidate(Level world) {
         removeMultiblock(world);
         valid = false;
+        pendingScan = null;
+    }
+
+    void setPendingScan(@Nullable PendingScan pendingScan) {
+        this.pendingScan = pendingScan;
+    }
+
+    boolean isPendingScan(PendingScan pendingScan) {
+        return this.pendingScan == pendingScan;
     }
 
     public void removeMultiblock(Level world) {
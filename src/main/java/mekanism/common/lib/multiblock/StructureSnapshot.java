@@ -0,0 +1,90 @@
+package mekanism.common.lib.multiblock;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Copy of the block states in the chunk sections that a structure's bounds overlap, so that the structure can be scanned off the server thread without reading from
+ * chunks that may be changing.
+ */
+public class StructureSnapshot {
+
+    private final BlockPos min;
+    private final BlockPos max;
+    private final int minSectionX, minSectionY, minSectionZ;
+    private final int sectionsY, sectionsZ;
+    private final PalettedContainer<BlockState>[] sections;
+
+    private StructureSnapshot(BlockPos min, BlockPos max, PalettedContainer<BlockState>[] sections) {
+        this.min = min;
+        this.max = max;
+        this.sections = sections;
+        minSectionX = SectionPos.blockToSectionCoord(min.getX());
+        minSectionY = SectionPos.blockToSectionCoord(min.getY());
+        minSectionZ = SectionPos.blockToSectionCoord(min.getZ());
+        sectionsY = SectionPos.blockToSectionCoord(max.getY()) - minSectionY + 1;
+        sectionsZ = SectionPos.blockToSectionCoord(max.getZ()) - minSectionZ + 1;
+    }
+
+    /**
+     * Copies the sections of the chunks between the given positions.
+     *
+     * @return The snapshot, or {@code null} if any of the positions are outside the world or in chunks that aren't loaded.
+     *
+     * @apiNote Only call this from the server thread.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static StructureSnapshot create(Level level, BlockPos min, BlockPos max) {
+        if (!level.isInWorldBounds(min) || !level.isInWorldBounds(max)) {
+            return null;
+        }
+        int minSectionX = SectionPos.blockToSectionCoord(min.getX()), maxSectionX = SectionPos.blockToSectionCoord(max.getX());
+        int minSectionY = SectionPos.blockToSectionCoord(min.getY()), maxSectionY = SectionPos.blockToSectionCoord(max.getY());
+        int minSectionZ = SectionPos.blockToSectionCoord(min.getZ()), maxSectionZ = SectionPos.blockToSectionCoord(max.getZ());
+        int sectionsY = maxSectionY - minSectionY + 1;
+        int sectionsZ = maxSectionZ - minSectionZ + 1;
+        PalettedContainer<BlockState>[] sections = new PalettedContainer[(maxSectionX - minSectionX + 1) * sectionsY * sectionsZ];
+        for (int chunkX = minSectionX; chunkX <= maxSectionX; chunkX++) {
+            for (int chunkZ = minSectionZ; chunkZ <= maxSectionZ; chunkZ++) {
+                //Get the chunk but don't force load it
+                ChunkAccess chunk = level.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
+                if (chunk == null) {
+                    return null;
+                }
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    int index = ((chunkX - minSectionX) * sectionsY + sectionY - minSectionY) * sectionsZ + chunkZ - minSectionZ;
+                    sections[index] = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY)).getStates().copy();
+                }
+            }
+        }
+        return new StructureSnapshot(min, max, sections);
+    }
+
+    /**
+     * @return {@code true} if the given position is within the bounds this snapshot was created for.
+     */
+    public boolean contains(BlockPos pos) {
+        return pos.getX() >= min.getX() && pos.getX() <= max.getX() && pos.getY() >= min.getY() && pos.getY() <= max.getY() &&
+               pos.getZ() >= min.getZ() && pos.getZ() <= max.getZ();
+    }
+
+    /**
+     * @return The block state at the given position, or {@code null} if the position is outside the bounds this snapshot was created for.
+     */
+    @Nullable
+    public BlockState getBlockState(BlockPos pos) {
+        if (!contains(pos)) {
+            return null;
+        }
+        int index = ((SectionPos.blockToSectionCoord(pos.getX()) - minSectionX) * sectionsY + SectionPos.blockToSectionCoord(pos.getY()) - minSectionY) * sectionsZ +
+                    SectionPos.blockToSectionCoord(pos.getZ()) - minSectionZ;
+        return sections[index].get(SectionPos.sectionRelative(pos.getX()), SectionPos.sectionRelative(pos.getY()), SectionPos.sectionRelative(pos.getZ()));
+    }
+}
\ No newline at end of file
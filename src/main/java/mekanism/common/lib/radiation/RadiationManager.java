@@ -30,10 +30,12 @@ import mekanism.api.radiation.capability.IRadiationShielding;
 import mekanism.api.text.EnumColor;
 import mekanism.api.text.ITooltipHelper;
 import mekanism.common.Mekanism;
+import mekanism.common.base.ProfilerConstants;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.integration.curios.CuriosIntegration;
 import mekanism.common.lib.MekanismSavedData;
+import mekanism.common.lib.TickProfiler;
 import mekanism.common.lib.collection.HashList;
 import mekanism.common.network.to_client.radiation.PacketEnvironmentalRadiationData;
 import mekanism.common.network.to_client.radiation.PacketPlayerRadiationData;
@@ -58,7 +60,6 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
-import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.damagesource.DamageType;
@@ -111,6 +112,7 @@ public class RadiationManager implements IRadiationManager {
 
     private static final String DATA_HANDLER_NAME = "radiation_manager";
     private static final RandomSource RAND = RandomSource.create();
+    private static final TickProfiler.Section PROFILER_SECTION = TickProfiler.section(ProfilerConstants.RADIATION);
 
     public static final double BASELINE = 0.000_000_100; // 100 nSv/h
     public static final double MIN_MAGNITUDE = 0.000_010; // 10 uSv/h
@@ -119,6 +121,10 @@ public class RadiationManager implements IRadiationManager {
 
     private final Table<Chunk3D, GlobalPos, RadiationSource> radiationTable = HashBasedTable.create();
     private final Table<Chunk3D, GlobalPos, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
+    /**
+     * Spatial index of the sources in {@link #radiationTable} for each dimension, used for quickly looking up the radiation level at a position.
+     */
+    private final Map<ResourceKey<Level>, RadiationSourceIndex> sourceIndices = new HashMap<>();
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Map<UUID, PreviousRadiationData> playerEnvironmentalExposureMap = new Object2ObjectOpenHashMap<>();
@@ -191,6 +197,9 @@ public class RadiationManager implements IRadiationManager {
     public void removeRadiationSources(Chunk3D chunk) {
         Map<GlobalPos, RadiationSource> chunkSources = radiationTable.row(chunk);
         if (!chunkSources.isEmpty()) {
+            for (GlobalPos pos : chunkSources.keySet()) {
+                removeFromIndex(pos);
+            }
             chunkSources.clear();
             markDirty();
             updateClientRadiationForAll(chunk.dimension);
@@ -202,6 +211,7 @@ public class RadiationManager implements IRadiationManager {
         Chunk3D chunk = new Chunk3D(pos);
         if (radiationTable.contains(chunk, pos)) {
             radiationTable.remove(chunk, pos);
+            removeFromIndex(pos);
             markDirty();
             updateClientRadiationForAll(pos.dimension());
         }
@@ -226,30 +236,11 @@ public class RadiationManager implements IRadiationManager {
         if (radiationTable.isEmpty()) {//Short circuit when the radiation table is empty
             return LevelAndMaxMagnitude.BASELINE;
         }
-        double level = BASELINE;
-        double maxMagnitude = BASELINE;
-        Chunk3D center = new Chunk3D(pos);
-        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
-        // we only compute exposure when within the MAX_RANGE bounds
-        double maxRange = Mth.square(radius * 16);
-        int minX = center.x - radius;
-        int maxX = center.x + radius;
-        int minZ = center.z - radius;
-        int maxZ = center.z + radius;
-        //Note: We inline the logic from Chunk3D#expand to avoid allocating a new hash set each time
-        for (int i = minX; i <= maxX; i++) {
-            for (int j = minZ; j <= maxZ; j++) {
-                Chunk3D chunk = new Chunk3D(center.dimension, i, j);
-                for (Map.Entry<GlobalPos, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                    if (entry.getKey().pos().distSqr(pos.pos()) <= maxRange) {
-                        RadiationSource source = entry.getValue();
-                        level += computeExposure(pos, source);
-                        maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
-                    }
-                }
-            }
+        RadiationSourceIndex index = sourceIndices.get(pos.dimension());
+        if (index == null) {
+            return LevelAndMaxMagnitude.BASELINE;
         }
-        return new LevelAndMaxMagnitude(level, maxMagnitude);
+        return index.getLevelAndMaxMagnitude(pos.pos(), MekanismConfig.general.radiationChunkCheckRadius.get());
     }
 
     @Override
@@ -260,7 +251,9 @@ public class RadiationManager implements IRadiationManager {
         Map<GlobalPos, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(pos));
         RadiationSource src = radiationSourceMap.get(pos);
         if (src == null) {
-            radiationSourceMap.put(pos, new RadiationSource(pos, magnitude));
+            src = new RadiationSource(pos, magnitude);
+            radiationSourceMap.put(pos, src);
+            addToIndex(src);
         } else {
             src.radiate(magnitude);
         }
@@ -322,13 +315,24 @@ public class RadiationManager implements IRadiationManager {
     public void clearSources() {
         if (!radiationTable.isEmpty()) {
             radiationTable.clear();
+            sourceIndices.clear();
             markDirty();
             updateClientRadiationForAll();
         }
     }
 
-    private double computeExposure(GlobalPos pos, RadiationSource source) {
-        return source.getMagnitude() / Math.max(1, pos.pos().distSqr(source.getPos().pos()));
+    private void addToIndex(RadiationSource source) {
+        sourceIndices.computeIfAbsent(source.getPos().dimension(), dimension -> new RadiationSourceIndex()).add(source);
+    }
+
+    private void removeFromIndex(GlobalPos pos) {
+        RadiationSourceIndex index = sourceIndices.get(pos.dimension());
+        if (index != null) {
+            index.remove(pos.pos());
+            if (index.isEmpty()) {
+                sourceIndices.remove(pos.dimension());
+            }
+        }
     }
 
     private double getRadiationResistance(LivingEntity entity) {
@@ -492,6 +496,12 @@ public class RadiationManager implements IRadiationManager {
     }
 
     public void tickServer(boolean tickingNormally) {
+        long start = System.nanoTime();
+        tickSources(tickingNormally);
+        PROFILER_SECTION.end(start);
+    }
+
+    private void tickSources(boolean tickingNormally) {
         // terminate early if we're disabled or there is no radiation spots
         if (!isRadiationEnabled() || radiationTable.isEmpty()) {
             return;
@@ -504,7 +514,13 @@ public class RadiationManager implements IRadiationManager {
                 // near the player if they are walking around while ticks are frozen
                 if (tickingNormally) {
                     // remove if source gets too low
-                    sources.removeIf(RadiationSource::decay);
+                    for (Iterator<RadiationSource> iter = sources.iterator(); iter.hasNext(); ) {
+                        RadiationSource source = iter.next();
+                        if (source.decay()) {
+                            iter.remove();
+                            removeFromIndex(source.getPos());
+                        }
+                    }
                     //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
                     markDirty();
                 }
@@ -531,6 +547,7 @@ public class RadiationManager implements IRadiationManager {
     public void reset() {
         //Clear the table directly instead of via the method, so it doesn't mark it as dirty
         radiationTable.clear();
+        sourceIndices.clear();
         playerEnvironmentalExposureMap.clear();
         playerExposureMap.clear();
         meltdowns.clear();
@@ -679,6 +696,7 @@ public class RadiationManager implements IRadiationManager {
             if (IRadiationManager.INSTANCE.isRadiationEnabled()) {
                 for (RadiationSource source : loadedSources) {
                     manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    manager.addToIndex(source);
                 }
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = manager.meltdowns.get(entry.getKey());
@@ -0,0 +1,187 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.Arrays;
+import mekanism.common.lib.radiation.RadiationManager.LevelAndMaxMagnitude;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * Spatial index of the radiation sources in a single dimension, used to quickly look up which sources are close enough to a position to expose it to radiation.
+ * <br><br>
+ * Each source is stored in a slot of primitive arrays of source positions. For each chunk that has been queried and has sources near it, we cache the slots of all the
+ * sources that are within the chunk check radius of it, which is only recalculated when a source near the chunk is added or removed. The magnitude of each source is
+ * read from the source itself when queried, so sources radiating more or decaying doesn't require changing the index.
+ * <br><br>
+ * Chunks without any sources nearby are not cached, and at most {@link #MAX_CACHED_CHUNKS} chunks are cached, with the least recently queried chunk being forgotten
+ * to make room, so that entities wandering around doesn't grow the cache forever.
+ */
+class RadiationSourceIndex {
+
+    private static final int[] NO_SOURCES = new int[0];
+    private static final int MAX_CACHED_CHUNKS = 4_096;
+
+    private final Long2IntMap slotsByPos = new Long2IntOpenHashMap();
+    private final Long2ObjectMap<IntList> slotsByChunk = new Long2ObjectOpenHashMap<>();
+    /**
+     * The slots of the sources within {@link #radius} chunks of each chunk.
+     */
+    private final Long2ObjectLinkedOpenHashMap<int[]> nearbySlots = new Long2ObjectLinkedOpenHashMap<>();
+    private final IntList freeSlots = new IntArrayList();
+    private RadiationSource[] sources = new RadiationSource[16];
+    private int[] x = new int[16];
+    private int[] y = new int[16];
+    private int[] z = new int[16];
+    private int slotCount;
+    private int radius = -1;
+
+    RadiationSourceIndex() {
+        slotsByPos.defaultReturnValue(-1);
+    }
+
+    boolean isEmpty() {
+        return slotsByPos.isEmpty();
+    }
+
+    void add(RadiationSource source) {
+        BlockPos pos = source.getPos().pos();
+        long key = pos.asLong();
+        int slot = slotsByPos.get(key);
+        if (slot != -1) {
+            //Replace the existing source at this position
+            sources[slot] = source;
+            return;
+        }
+        if (freeSlots.isEmpty()) {
+            slot = slotCount++;
+            if (slot == sources.length) {
+                int newLength = sources.length * 2;
+                sources = Arrays.copyOf(sources, newLength);
+                x = Arrays.copyOf(x, newLength);
+                y = Arrays.copyOf(y, newLength);
+                z = Arrays.copyOf(z, newLength);
+            }
+        } else {
+            slot = freeSlots.removeInt(freeSlots.size() - 1);
+        }
+        sources[slot] = source;
+        x[slot] = pos.getX();
+        y[slot] = pos.getY();
+        z[slot] = pos.getZ();
+        slotsByPos.put(key, slot);
+        long chunk = ChunkPos.asLong(pos);
+        slotsByChunk.computeIfAbsent(chunk, c -> new IntArrayList()).add(slot);
+        invalidateAround(chunk);
+    }
+
+    void remove(BlockPos pos) {
+        int slot = slotsByPos.remove(pos.asLong());
+        if (slot != -1) {
+            sources[slot] = null;
+            freeSlots.add(slot);
+            long chunk = ChunkPos.asLong(pos);
+            IntList chunkSlots = slotsByChunk.get(chunk);
+            if (chunkSlots != null) {
+                chunkSlots.rem(slot);
+                if (chunkSlots.isEmpty()) {
+                    slotsByChunk.remove(chunk);
+                }
+            }
+            invalidateAround(chunk);
+        }
+    }
+
+    /**
+     * Calculates the radiation a position is exposed to from the sources in this index.
+     *
+     * @param pos         Position to calculate the exposure of.
+     * @param chunkRadius Radius in chunks to check for sources.
+     */
+    LevelAndMaxMagnitude getLevelAndMaxMagnitude(BlockPos pos, int chunkRadius) {
+        if (radius != chunkRadius) {
+            //The config changed, so all our cached nearby sources are for the wrong radius
+            nearbySlots.clear();
+            radius = chunkRadius;
+        }
+        int[] slots = getNearbySlots(ChunkPos.asLong(pos));
+        double level = RadiationManager.BASELINE;
+        double maxMagnitude = RadiationManager.BASELINE;
+        // we only compute exposure when within the MAX_RANGE bounds
+        double maxRange = Mth.square(chunkRadius * 16);
+        int posX = pos.getX(), posY = pos.getY(), posZ = pos.getZ();
+        for (int slot : slots) {
+            double dx = x[slot] - posX;
+            double dy = y[slot] - posY;
+            double dz = z[slot] - posZ;
+            double distSqr = dx * dx + dy * dy + dz * dz;
+            if (distSqr <= maxRange) {
+                double magnitude = sources[slot].getMagnitude();
+                level += magnitude / Math.max(1, distSqr);
+                maxMagnitude = Math.max(maxMagnitude, magnitude);
+            }
+        }
+        return new LevelAndMaxMagnitude(level, maxMagnitude);
+    }
+
+    private int[] getNearbySlots(long chunk) {
+        int[] slots = nearbySlots.getAndMoveToLast(chunk);
+        if (slots == null) {
+            slots = findNearbySlots(chunk);
+            if (slots != NO_SOURCES) {
+                if (nearbySlots.size() >= MAX_CACHED_CHUNKS) {
+                    nearbySlots.removeFirst();
+                }
+                nearbySlots.put(chunk, slots);
+            }
+        }
+        return slots;
+    }
+
+    private int[] findNearbySlots(long chunk) {
+        int chunkX = ChunkPos.getX(chunk);
+        int chunkZ = ChunkPos.getZ(chunk);
+        IntList slots = null;
+        for (int i = chunkX - radius; i <= chunkX + radius; i++) {
+            for (int j = chunkZ - radius; j <= chunkZ + radius; j++) {
+                IntList chunkSlots = slotsByChunk.get(ChunkPos.asLong(i, j));
+                if (chunkSlots != null) {
+                    if (slots == null) {
+                        slots = new IntArrayList(chunkSlots);
+                    } else {
+                        slots.addAll(chunkSlots);
+                    }
+                }
+            }
+        }
+        return slots == null ? NO_SOURCES : slots.toIntArray();
+    }
+
+    /**
+     * Forgets the cached nearby sources of all chunks that a source in the given chunk is near to.
+     */
+    private void invalidateAround(long chunk) {
+        if (radius == -1 || nearbySlots.isEmpty()) {
+            return;
+        }
+        int chunkX = ChunkPos.getX(chunk);
+        int chunkZ = ChunkPos.getZ(chunk);
+        int side = 2 * radius + 1;
+        if (side * side > nearbySlots.size()) {
+            //Fewer chunks are cached than are in range, so it is cheaper to check each cached chunk
+            nearbySlots.keySet().removeIf(cached -> Math.abs(ChunkPos.getX(cached) - chunkX) <= radius && Math.abs(ChunkPos.getZ(cached) - chunkZ) <= radius);
+        } else {
+            for (int i = chunkX - radius; i <= chunkX + radius; i++) {
+                for (int j = chunkZ - radius; j <= chunkZ + radius; j++) {
+                    nearbySlots.remove(ChunkPos.asLong(i, j));
+                }
+            }
+        }
+    }
+}
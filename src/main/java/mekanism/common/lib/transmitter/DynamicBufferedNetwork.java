@@ -94,6 +94,25 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         updateSaveShares(triggerTransmitter);
     }
 
+    @Override
+    protected boolean supportsInPlaceRemoval() {
+        return true;
+    }
+
+    @Override
+    protected void transmitterRemovedInPlace(@NotNull TRANSMITTER removed) {
+        super.transmitterRemovedInPlace(removed);
+        updateCapacity();
+        clampBuffer();
+        updateSaveShares(removed);
+        chunks.clear();
+        for (TRANSMITTER transmitter : getTransmitters()) {
+            chunks.add(ChunkPos.asLong(transmitter.getBlockPos()));
+        }
+        needsUpdate = true;
+        packetRange = null;
+    }
+
     @Override
     public void deregister() {
         super.deregister();
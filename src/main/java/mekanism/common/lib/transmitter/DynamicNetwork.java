@@ -2,6 +2,7 @@ package mekanism.common.lib.transmitter;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -112,6 +113,10 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public void invalidate(@Nullable TRANSMITTER triggerTransmitter) {
+        if (triggerTransmitter != null && !triggerTransmitter.isValid() && !isRemote() && removeInPlace(triggerTransmitter)) {
+            //The rest of the network is still connected, so we don't need to orphan all the transmitters and reform it
+            return;
+        }
         if (transmittersSize() == 1 && triggerTransmitter != null && !triggerTransmitter.isValid()) {
             //We're destroying the last transmitter in the network
             //Note: We check it isn't valid to make sure we are destroying it and not just changing redstone sensitivity
@@ -134,6 +139,40 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     protected void onLastTransmitterRemoved(@NotNull TRANSMITTER triggerTransmitter) {
     }
 
+    /**
+     * Whether this network is able to remove transmitters that are no longer valid without having to be reformed, as long as removing them doesn't split the network.
+     */
+    protected boolean supportsInPlaceRemoval() {
+        return false;
+    }
+
+    /**
+     * Tries to remove a transmitter that is no longer valid from this network without reforming the network.
+     *
+     * @param removed The transmitter that was removed.
+     *
+     * @return {@code true} if the transmitter was removed, {@code false} if the network has to be invalidated and reformed instead.
+     */
+    private boolean removeInPlace(TRANSMITTER removed) {
+        if (!supportsInPlaceRemoval() || !transmittersToAdd.isEmpty() || !TransmitterConnectivity.remainsConnected(positionedTransmitters, removed.getWorldPositionLong())) {
+            return false;
+        }
+        acceptorCache.removeTransmitter(removed);
+        //Note: This also removes any other transmitters that became invalid this tick, they are treated as missing when checking connectivity,
+        // and when they get processed the network will check if it is still connected without them
+        getTransmitters().removeIf(transmitter -> !transmitter.isValid());
+        transmitterRemovedInPlace(removed);
+        return true;
+    }
+
+    /**
+     * Called after a transmitter has been removed from this network without the network being reformed.
+     *
+     * @param removed The transmitter that was removed.
+     */
+    protected void transmitterRemovedInPlace(@NotNull TRANSMITTER removed) {
+    }
+
     protected void removeInvalid(@Nullable TRANSMITTER triggerTransmitter) {
         //Remove invalid transmitters first for share calculations
         getTransmitters().removeIf(transmitter -> !transmitter.isValid());
@@ -198,6 +237,13 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return acceptorCache.getAcceptorCount();
     }
 
+    /**
+     * @return The number of acceptors that were known to be full, and so didn't need to be simulated, the last time this network checked what its acceptors want.
+     */
+    public int getSkippedSimulations() {
+        return acceptorCache.getSkippedSimulations();
+    }
+
     @Nullable
     public Level getWorld() {
         return world;
@@ -209,10 +255,45 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     public void onUpdate() {
     }
 
+    /**
+     * Whether this network is able to compute part of its {@link #onUpdate() update} ahead of time in {@link #prepareUpdate()}.
+     *
+     * @apiNote Only called on the server
+     */
+    public boolean supportsParallelUpdate() {
+        return false;
+    }
+
+    /**
+     * Computes ahead of time what it can for the following call to {@link #onUpdate()}, such as which acceptors are able to accept contents. This may be called from a
+     * worker thread while the server thread is blocked waiting for all networks to be prepared. Each network is only prepared by a single worker, so implementations may
+     * update bookkeeping that is owned solely by this network, such as its {@link #acceptorCache acceptor cache} (including which acceptors are known to be full) and
+     * what it has prepared to emit. Implementations must not modify the world, the network's contents or transmitters, other networks, or any acceptors (acceptors may
+     * only be simulated against), and must leave {@link #onUpdate()} able to run as normal if this method is not called or fails.
+     *
+     * @apiNote Only called on the server, and only if {@link #supportsParallelUpdate()} returns {@code true}.
+     */
+    public void prepareUpdate() {
+    }
+
+    /**
+     * {@return the positions of all the acceptors this network is connected to}
+     */
+    public LongSet getAcceptorPositions() {
+        return acceptorCache.getAcceptorPositions();
+    }
+
     public Collection<TRANSMITTER> getTransmitters() {
         return positionedTransmitters.values();
     }
 
+    /**
+     * @return The position of one of the transmitters in this network, for use when reporting where the network is.
+     */
+    public long getAnyTransmitterPos() {
+        return positionedTransmitters.isEmpty() ? BlockPos.ZERO.asLong() : positionedTransmitters.keySet().iterator().nextLong();
+    }
+
     public void addTransmitter(TRANSMITTER transmitter) {
         positionedTransmitters.put(transmitter.getBlockPos().asLong(), transmitter);
     }
@@ -0,0 +1,113 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RecursiveAction;
+import mekanism.api.MekanismAPI;
+import mekanism.common.Mekanism;
+import mekanism.common.lib.WorkerPool;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+
+/**
+ * Prepares the updates of networks on the {@link WorkerPool} before they are updated on the server thread.
+ * <br><br>
+ * Only networks that do not share any acceptors with another network of the same type are prepared, as otherwise the contents the other network emits would change
+ * what the acceptors are able to accept. Networks that share acceptors are left to calculate everything as part of their normal update, in the same order as they
+ * would be when updating serially.
+ */
+class ParallelNetworkUpdater {
+
+    /**
+     * Number of networks below which a task will prepare the networks itself instead of splitting the work further.
+     */
+    private static final int SPLIT_THRESHOLD = 16;
+
+    private ParallelNetworkUpdater() {
+    }
+
+    /**
+     * Prepares the updates for any independent networks, blocking until they have all been prepared.
+     *
+     * @param networks  All the networks that are about to be updated.
+     * @param threshold Minimum number of independent networks there must be for it to be worth preparing them in parallel.
+     */
+    static void prepare(Collection<DynamicNetwork<?, ?, ?>> networks, int threshold) {
+        List<DynamicNetwork<?, ?, ?>> independent = findIndependent(networks);
+        if (!independent.isEmpty() && independent.size() >= threshold) {
+            if (MekanismAPI.debug) {
+                Mekanism.logger.info("Preparing {} of {} networks in parallel", independent.size(), networks.size());
+            }
+            WorkerPool.get().invoke(new PrepareTask(independent, 0, independent.size()));
+        }
+    }
+
+    private static List<DynamicNetwork<?, ?, ?>> findIndependent(Collection<DynamicNetwork<?, ?, ?>> networks) {
+        Map<AcceptorSpace, Long2ObjectMap<DynamicNetwork<?, ?, ?>>> acceptorOwners = new Object2ObjectOpenHashMap<>();
+        Set<DynamicNetwork<?, ?, ?>> shared = new ObjectOpenHashSet<>();
+        List<DynamicNetwork<?, ?, ?>> candidates = new ArrayList<>();
+        for (DynamicNetwork<?, ?, ?> network : networks) {
+            Level world = network.getWorld();
+            if (world != null && network.supportsParallelUpdate()) {
+                //Note: Acceptors are only shared if they are for the same type of network, as for example inserting energy into a machine
+                // does not change how much fluid the machine is able to accept
+                Long2ObjectMap<DynamicNetwork<?, ?, ?>> owners = acceptorOwners.computeIfAbsent(new AcceptorSpace(world.dimension(), network.getClass()),
+                      space -> new Long2ObjectOpenHashMap<>());
+                for (LongIterator iterator = network.getAcceptorPositions().iterator(); iterator.hasNext(); ) {
+                    DynamicNetwork<?, ?, ?> owner = owners.putIfAbsent(iterator.nextLong(), network);
+                    if (owner != null && owner != network) {
+                        shared.add(owner);
+                        shared.add(network);
+                    }
+                }
+                candidates.add(network);
+            }
+        }
+        if (!shared.isEmpty()) {
+            candidates.removeIf(shared::contains);
+        }
+        return candidates;
+    }
+
+    private record AcceptorSpace(ResourceKey<Level> dimension, Class<?> networkType) {
+    }
+
+    private static class PrepareTask extends RecursiveAction {
+
+        private final List<DynamicNetwork<?, ?, ?>> networks;
+        private final int start;
+        private final int end;
+
+        private PrepareTask(List<DynamicNetwork<?, ?, ?>> networks, int start, int end) {
+            this.networks = networks;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= SPLIT_THRESHOLD) {
+                for (int i = start; i < end; i++) {
+                    DynamicNetwork<?, ?, ?> network = networks.get(i);
+                    try {
+                        network.prepareUpdate();
+                    } catch (Exception e) {
+                        //Note: If preparing fails the network will just calculate everything when it is updated
+                        Mekanism.logger.error("Failed to prepare update for network: {}", network.getUUID(), e);
+                    }
+                }
+            } else {
+                int middle = (start + end) >>> 1;
+                invokeAll(new PrepareTask(networks, start, middle), new PrepareTask(networks, middle, end));
+            }
+        }
+    }
+}
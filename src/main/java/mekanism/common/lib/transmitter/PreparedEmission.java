@@ -0,0 +1,54 @@
+package mekanism.common.lib.transmitter;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds the target a network calculated during {@link DynamicNetwork#prepareUpdate()} so that it can be used to actually emit when the network is updated.
+ *
+ * @param <TARGET> The type of target being prepared.
+ */
+public class PreparedEmission<TARGET> {
+
+    @Nullable
+    private TARGET target;
+    private long amount;
+    private boolean prepared;
+
+    /**
+     * Stores the target that was calculated for emitting the given amount.
+     *
+     * @param amount The amount the target was calculated for.
+     * @param target The target or {@code null} if no acceptors were able to accept anything.
+     */
+    public void prepare(long amount, @Nullable TARGET target) {
+        this.amount = amount;
+        this.target = target;
+        this.prepared = true;
+    }
+
+    /**
+     * {@return whether there is a prepared target that was calculated for emitting the given amount}
+     */
+    public boolean isPreparedFor(long amount) {
+        return prepared && this.amount == amount;
+    }
+
+    /**
+     * Gets the prepared target and then clears it so that it can't accidentally be used again on a later tick.
+     *
+     * @return The prepared target.
+     *
+     * @implNote Should only be called after {@link #isPreparedFor(long)} has been checked.
+     */
+    @Nullable
+    public TARGET take() {
+        TARGET prepared = target;
+        clear();
+        return prepared;
+    }
+
+    public void clear() {
+        target = null;
+        prepared = false;
+    }
+}
@@ -0,0 +1,89 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import mekanism.common.content.network.transmitter.Transmitter;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of which transmitters are in each chunk. Chunks are partitioned by dimension and keyed by {@link ChunkPos#asLong(int, int)} so that checking whether a
+ * chunk contains any transmitters doesn't require allocating any objects.
+ */
+class TransmitterChunkIndex {
+
+    private final Map<ResourceKey<Level>, Long2ObjectMap<Set<Transmitter<?, ?, ?>>>> transmitters = new Object2ObjectOpenHashMap<>();
+    @Nullable
+    private ResourceKey<Level> lastDimension;
+    @Nullable
+    private Long2ObjectMap<Set<Transmitter<?, ?, ?>>> lastChunks;
+
+    void add(Transmitter<?, ?, ?> transmitter) {
+        GlobalPos pos = transmitter.getTileGlobalPos();
+        Long2ObjectMap<Set<Transmitter<?, ?, ?>>> chunks = getChunks(pos.dimension());
+        if (chunks == null) {
+            chunks = new Long2ObjectOpenHashMap<>();
+            transmitters.put(pos.dimension(), chunks);
+            lastDimension = pos.dimension();
+            lastChunks = chunks;
+        }
+        chunks.computeIfAbsent(ChunkPos.asLong(pos.pos()), chunk -> new ReferenceOpenHashSet<>()).add(transmitter);
+    }
+
+    void remove(Transmitter<?, ?, ?> transmitter) {
+        GlobalPos pos = transmitter.getTileGlobalPos();
+        Long2ObjectMap<Set<Transmitter<?, ?, ?>>> chunks = getChunks(pos.dimension());
+        if (chunks != null) {
+            long chunk = ChunkPos.asLong(pos.pos());
+            Set<Transmitter<?, ?, ?>> chunkTransmitters = chunks.get(chunk);
+            if (chunkTransmitters != null && chunkTransmitters.remove(transmitter) && chunkTransmitters.isEmpty()) {
+                chunks.remove(chunk);
+            }
+        }
+    }
+
+    boolean hasTransmitters(ResourceKey<Level> dimension, long chunk) {
+        Long2ObjectMap<Set<Transmitter<?, ?, ?>>> chunks = getChunks(dimension);
+        return chunks != null && chunks.containsKey(chunk);
+    }
+
+    Collection<Transmitter<?, ?, ?>> getTransmitters(ResourceKey<Level> dimension, long chunk) {
+        Long2ObjectMap<Set<Transmitter<?, ?, ?>>> chunks = getChunks(dimension);
+        if (chunks != null) {
+            Set<Transmitter<?, ?, ?>> chunkTransmitters = chunks.get(chunk);
+            if (chunkTransmitters != null) {
+                return chunkTransmitters;
+            }
+        }
+        return Collections.emptySet();
+    }
+
+    void clear() {
+        transmitters.clear();
+        lastDimension = null;
+        lastChunks = null;
+    }
+
+    @Nullable
+    private Long2ObjectMap<Set<Transmitter<?, ?, ?>>> getChunks(ResourceKey<Level> dimension) {
+        //Most lookups in a row are for the same dimension, so cache the last one to skip hashing the dimension's key
+        if (dimension != lastDimension) {
+            Long2ObjectMap<Set<Transmitter<?, ?, ?>>> chunks = transmitters.get(dimension);
+            if (chunks == null) {
+                return null;
+            }
+            lastDimension = dimension;
+            lastChunks = chunks;
+        }
+        return lastChunks;
+    }
+}
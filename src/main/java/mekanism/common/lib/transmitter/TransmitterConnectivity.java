@@ -0,0 +1,131 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import java.util.Arrays;
+import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.Direction;
+
+/**
+ * Checks whether the transmitters of a network are still all connected to each other after one of them is removed, so that the network only has to be reformed if
+ * removing the transmitter actually split it.
+ */
+class TransmitterConnectivity {
+
+    private static final int NO_SEARCH = -1;
+
+    private TransmitterConnectivity() {
+    }
+
+    /**
+     * Checks if all the valid transmitters that were next to the removed position can still reach each other. A search is started from each neighbor and the searches
+     * are advanced one transmitter at a time in turns, so that if the network was split we find out as soon as the smallest piece has been fully searched rather than
+     * having to search the entire network.
+     *
+     * @param transmitters Positioned transmitters of the network.
+     * @param removedPos   Position of the transmitter that is being removed.
+     *
+     * @return {@code true} if the remaining transmitters are still connected, {@code false} if they may have been split.
+     *
+     * @implNote Two transmitters are only considered to be connected if both of them have a current connection to each other. If the connection state is out of date
+     * this may cause us to think the network was split when it wasn't, but it won't cause us to think it is connected when it isn't.
+     */
+    static boolean remainsConnected(Long2ObjectMap<? extends Transmitter<?, ?, ?>> transmitters, long removedPos) {
+        LongArrayFIFOQueue[] queues = new LongArrayFIFOQueue[EnumUtils.DIRECTIONS.length];
+        //The search that first reached each position
+        Long2IntMap searched = new Long2IntOpenHashMap();
+        searched.defaultReturnValue(NO_SEARCH);
+        int searches = 0;
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            long pos = WorldUtils.relativePos(removedPos, side);
+            Transmitter<?, ?, ?> neighbor = transmitters.get(pos);
+            if (neighbor != null && neighbor.isValid()) {
+                LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+                queue.enqueue(pos);
+                searched.put(pos, searches);
+                queues[searches++] = queue;
+            }
+        }
+        if (searches == 0) {
+            //Nothing was connected to the transmitter, let the network reform to make sure it is in a proper state
+            return false;
+        }
+        int[] parents = new int[searches];
+        for (int i = 0; i < searches; i++) {
+            parents[i] = i;
+        }
+        int groups = searches;
+        boolean[] active = new boolean[searches];
+        while (groups > 1) {
+            for (int search = 0; search < searches; search++) {
+                LongArrayFIFOQueue queue = queues[search];
+                if (queue.isEmpty()) {
+                    continue;
+                }
+                long pos = queue.dequeueLong();
+                Transmitter<?, ?, ?> transmitter = transmitters.get(pos);
+                byte connections = transmitter.currentTransmitterConnections;
+                for (Direction side : EnumUtils.DIRECTIONS) {
+                    if (Transmitter.connectionMapContainsSide(connections, side)) {
+                        long otherPos = WorldUtils.relativePos(pos, side);
+                        if (otherPos == removedPos) {
+                            continue;
+                        }
+                        Transmitter<?, ?, ?> other = transmitters.get(otherPos);
+                        if (other != null && other.isValid() && Transmitter.connectionMapContainsSide(other.currentTransmitterConnections, side.getOpposite())) {
+                            int otherSearch = searched.putIfAbsent(otherPos, search);
+                            if (otherSearch == NO_SEARCH) {
+                                queue.enqueue(otherPos);
+                            } else if (merge(parents, search, otherSearch)) {
+                                groups--;
+                            }
+                        }
+                    }
+                }
+            }
+            if (groups > 1 && hasExhaustedGroup(queues, parents, active, searches)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if every search that makes up one of the groups has run out of transmitters to visit, meaning that group can't reach the others.
+     */
+    private static boolean hasExhaustedGroup(LongArrayFIFOQueue[] queues, int[] parents, boolean[] active, int searches) {
+        Arrays.fill(active, false);
+        for (int search = 0; search < searches; search++) {
+            if (!queues[search].isEmpty()) {
+                active[find(parents, search)] = true;
+            }
+        }
+        for (int search = 0; search < searches; search++) {
+            if (parents[search] == search && !active[search]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int find(int[] parents, int search) {
+        while (parents[search] != search) {
+            search = parents[search];
+        }
+        return search;
+    }
+
+    private static boolean merge(int[] parents, int a, int b) {
+        int rootA = find(parents, a);
+        int rootB = find(parents, b);
+        if (rootA == rootB) {
+            return false;
+        }
+        parents[rootB] = rootA;
+        return true;
+    }
+}
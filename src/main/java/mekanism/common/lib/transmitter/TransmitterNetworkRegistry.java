@@ -1,23 +1,25 @@
 package mekanism.common.lib.transmitter;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
-import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.Collection;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import mekanism.api.Chunk3D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
+import mekanism.common.base.ProfilerConstants;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.lib.TickProfiler;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
@@ -25,7 +27,10 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ChunkMap;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.neoforged.bus.api.SubscribeEvent;
@@ -38,13 +43,14 @@ public class TransmitterNetworkRegistry {
 
     private static final TransmitterNetworkRegistry INSTANCE = new TransmitterNetworkRegistry();
     private static boolean loaderRegistered = false;
-    private final Multimap<Chunk3D, Transmitter<?, ?, ?>> transmitters = HashMultimap.create();
-    private Object2BooleanMap<Chunk3D> changedTicketChunks = new Object2BooleanOpenHashMap<>();
+    private final TransmitterChunkIndex transmitters = new TransmitterChunkIndex();
+    private Map<ResourceKey<Level>, Long2BooleanMap> changedTicketChunks = new Object2ObjectOpenHashMap<>();
     private final Set<DynamicNetwork<?, ?, ?>> networks = new ObjectOpenHashSet<>();
     private final Map<UUID, DynamicNetwork<?, ?, ?>> clientNetworks = new Object2ObjectOpenHashMap<>();
-    private Map<GlobalPos, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
+    private Map<ResourceKey<Level>, Long2ObjectMap<Transmitter<?, ?, ?>>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
     private Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
     private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
+    private final Map<Class<?>, TickProfiler.Section> profilerSections = new Reference2ObjectOpenHashMap<>();
 
     public void addClientNetwork(UUID networkID, DynamicNetwork<?, ?, ?> network) {
         if (!clientNetworks.containsKey(networkID)) {
@@ -82,11 +88,11 @@ public class TransmitterNetworkRegistry {
     }
 
     public static void trackTransmitter(Transmitter<?, ?, ?> transmitter) {
-        getInstance().transmitters.put(transmitter.getTileChunk(), transmitter);
+        getInstance().transmitters.add(transmitter);
     }
 
     public static void untrackTransmitter(Transmitter<?, ?, ?> transmitter) {
-        getInstance().transmitters.remove(transmitter.getTileChunk(), transmitter);
+        getInstance().transmitters.remove(transmitter);
     }
 
     public static void invalidateTransmitter(Transmitter<?, ?, ?> transmitter) {
@@ -99,7 +105,8 @@ public class TransmitterNetworkRegistry {
             // as if it was an orphan before it still will be one, and if it wasn't then it still will be part of the network it
             // was in.
             GlobalPos pos = transmitter.getTileGlobalPos();
-            Transmitter<?, ?, ?> previous = getInstance().newOrphanTransmitters.put(pos, transmitter);
+            Transmitter<?, ?, ?> previous = getInstance().newOrphanTransmitters.computeIfAbsent(pos.dimension(), dimension -> new Long2ObjectOpenHashMap<>())
+                  .put(pos.pos().asLong(), transmitter);
             if (previous != null && previous != transmitter) {
                 Mekanism.logger.error("Different orphan transmitter was already registered at location! {}", pos);
             }
@@ -130,9 +137,23 @@ public class TransmitterNetworkRegistry {
         assignOrphans();
         commitChanges();
         if (event.getServer().tickRateManager().runsNormally()) {
+            if (MekanismConfig.general.parallelNetworkUpdates.get()) {
+                //Calculate what we can for networks that don't interact with other networks, and then actually update all networks in the same order we
+                // would have if we were not updating in parallel
+                ParallelNetworkUpdater.prepare(networks, MekanismConfig.general.parallelNetworkThreshold.get());
+            }
+            ProfilerFiller profiler = event.getServer().getProfiler();
+            profiler.push(ProfilerConstants.TRANSMITTER_NETWORKS);
             for (DynamicNetwork<?, ?, ?> net : networks) {
+                TickProfiler.Section section = profilerSections.computeIfAbsent(net.getClass(),
+                      clazz -> TickProfiler.section(ProfilerConstants.TRANSMITTER_NETWORKS + "." + clazz.getSimpleName()));
+                profiler.push(section.getName());
+                long start = System.nanoTime();
                 net.onUpdate();
+                section.end(start, net.getUUID(), net.getWorld(), net.getAnyTransmitterPos());
+                profiler.pop();
             }
+            profiler.pop();
         }
     }
 
@@ -151,38 +172,44 @@ public class TransmitterNetworkRegistry {
             //Load type stayed the same, just exit
             return;
         }
-        Chunk3D chunk = new Chunk3D(event.getLevel().dimension(), event.getChunkPos());
-        if (transmitters.containsKey(chunk)) {
+        ResourceKey<Level> dimension = event.getLevel().dimension();
+        long chunk = event.getChunkPos();
+        if (transmitters.hasTransmitters(dimension, chunk)) {
             //Only track it if we have any transmitters in that chunk
-            if (changedTicketChunks.getOrDefault(chunk, loaded) != loaded) {
+            Long2BooleanMap changedChunks = changedTicketChunks.computeIfAbsent(dimension, dim -> new Long2BooleanOpenHashMap());
+            if (changedChunks.getOrDefault(chunk, loaded) != loaded) {
                 //If we are watching the chunk and the loaded state isn't what we already had it as,
                 // then remove it as it didn't actually change. In theory in all cases this is equivalent
                 // to just checking if changeTicketChunks contains chunk, but is slightly more accurate
                 // in case for some reason we get two load or unload notifications in a row
-                changedTicketChunks.removeBoolean(chunk);
+                changedChunks.remove(chunk);
             } else {
                 // Otherwise, make sure the map is aware of the change
-                changedTicketChunks.put(chunk, loaded);
+                changedChunks.put(chunk, loaded);
             }
         }
     }
 
     private void handleChangedChunks() {
         if (!changedTicketChunks.isEmpty()) {
-            Object2BooleanMap<Chunk3D> changed = changedTicketChunks;
-            changedTicketChunks = new Object2BooleanOpenHashMap<>();
+            Map<ResourceKey<Level>, Long2BooleanMap> changed = changedTicketChunks;
+            changedTicketChunks = new Object2ObjectOpenHashMap<>();
             if (MekanismAPI.debug) {
-                Mekanism.logger.info("Dealing with {} changed chunks", changed.size());
+                Mekanism.logger.info("Dealing with {} changed chunks", changed.values().stream().mapToInt(Long2BooleanMap::size).sum());
             }
-            for (Object2BooleanMap.Entry<Chunk3D> entry : changed.object2BooleanEntrySet()) {
-                Chunk3D chunk = entry.getKey();
-                boolean loaded = entry.getBooleanValue();
-                Collection<Transmitter<?, ?, ?>> chunkTransmitters = transmitters.get(chunk);
-                for (Transmitter<?, ?, ?> transmitter : chunkTransmitters) {
-                    transmitter.getTransmitterTile().chunkAccessibilityChange(loaded);
-                }
-                if (MekanismAPI.debug) {
-                    Mekanism.logger.info("{} {} transmitters in chunk: {}, {}", loaded ? "Loaded" : "Unloaded", chunkTransmitters.size(), chunk.x, chunk.z);
+            for (Map.Entry<ResourceKey<Level>, Long2BooleanMap> dimensionEntry : changed.entrySet()) {
+                ResourceKey<Level> dimension = dimensionEntry.getKey();
+                for (Long2BooleanMap.Entry entry : dimensionEntry.getValue().long2BooleanEntrySet()) {
+                    long chunk = entry.getLongKey();
+                    boolean loaded = entry.getBooleanValue();
+                    Collection<Transmitter<?, ?, ?>> chunkTransmitters = transmitters.getTransmitters(dimension, chunk);
+                    for (Transmitter<?, ?, ?> transmitter : chunkTransmitters) {
+                        transmitter.getTransmitterTile().chunkAccessibilityChange(loaded);
+                    }
+                    if (MekanismAPI.debug) {
+                        Mekanism.logger.info("{} {} transmitters in chunk: {}, {}", loaded ? "Loaded" : "Unloaded", chunkTransmitters.size(), ChunkPos.getX(chunk),
+                              ChunkPos.getZ(chunk));
+                    }
                 }
             }
         }
@@ -222,16 +249,18 @@ public class TransmitterNetworkRegistry {
 
     private void assignOrphans() {
         if (!newOrphanTransmitters.isEmpty()) {
-            Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters = newOrphanTransmitters;
+            Map<ResourceKey<Level>, Long2ObjectMap<Transmitter<?, ?, ?>>> orphanTransmitters = newOrphanTransmitters;
             newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
             if (MekanismAPI.debug) {
-                Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanTransmitters.size());
+                Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanTransmitters.values().stream().mapToInt(Long2ObjectMap::size).sum());
             }
 
-            for (Transmitter<?, ?, ?> orphanTransmitter : orphanTransmitters.values()) {
-                if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
-                    OrphanPathFinder<?, ?, ?> finder = new OrphanPathFinder<>(orphanTransmitter);
-                    networksToChange.add(finder.getNetworkFromOrphan(orphanTransmitters));
+            for (Long2ObjectMap<Transmitter<?, ?, ?>> dimensionOrphans : orphanTransmitters.values()) {
+                for (Transmitter<?, ?, ?> orphanTransmitter : dimensionOrphans.values()) {
+                    if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
+                        OrphanPathFinder<?, ?, ?> finder = new OrphanPathFinder<>(orphanTransmitter);
+                        networksToChange.add(finder.getNetworkFromOrphan(dimensionOrphans));
+                    }
                 }
             }
         }
@@ -268,8 +297,9 @@ public class TransmitterNetworkRegistry {
         private final Set<TRANSMITTER> connectedTransmitters = new ObjectOpenHashSet<>();
         private final Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         private final Set<NETWORK> networksFound = new ObjectOpenHashSet<>();
-        private final Set<BlockPos> iterated = new ObjectOpenHashSet<>();
-        private final Deque<BlockPos> queue = new LinkedList<>();
+        private final LongSet iterated = new LongOpenHashSet();
+        private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
         private final TRANSMITTER startPoint;
         private final Level world;
 
@@ -279,15 +309,18 @@ public class TransmitterNetworkRegistry {
             transmitterValidator = startPoint.getNewOrphanValidator();
         }
 
-        NETWORK getNetworkFromOrphan(Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters) {
+        /**
+         * @param orphanTransmitters Orphans in the same dimension as the start point, keyed by their position.
+         */
+        NETWORK getNetworkFromOrphan(Long2ObjectMap<Transmitter<?, ?, ?>> orphanTransmitters) {
             //Calculate the network
-            if (queue.peek() != null) {
+            if (!queue.isEmpty()) {
                 Mekanism.logger.error("OrphanPathFinder queue was not empty?!");
                 queue.clear();
             }
-            queue.push(startPoint.getBlockPos());
-            while (queue.peek() != null) {
-                iterate(orphanTransmitters, queue.removeFirst());
+            queue.enqueue(startPoint.getWorldPositionLong());
+            while (!queue.isEmpty()) {
+                iterate(orphanTransmitters, queue.dequeueLong());
             }
             //Create the network or grab the found ones
             NETWORK network;
@@ -311,28 +344,27 @@ public class TransmitterNetworkRegistry {
             return network;
         }
 
-        private void iterate(Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters, BlockPos from) {
+        private void iterate(Long2ObjectMap<Transmitter<?, ?, ?>> orphanTransmitters, long from) {
             if (iterated.add(from)) {
-                GlobalPos fromCoord = GlobalPos.of(world.dimension(), from);
-                Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(fromCoord);
+                Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(from);
                 if (transmitter != null) {
                     if (transmitter.isValid() && transmitter.isOrphan() && startPoint.supportsTransmissionType(transmitter) &&
                         transmitterValidator.isTransmitterCompatible(transmitter)) {
                         connectedTransmitters.add((TRANSMITTER) transmitter);
                         transmitter.setOrphan(false);
-                        BlockPos.MutableBlockPos directionPos = new BlockPos.MutableBlockPos();
                         for (Direction direction : EnumUtils.DIRECTIONS) {
-                            directionPos.setWithOffset(from, direction);
+                            long directionPos = WorldUtils.relativePos(from, direction);
                             if (!iterated.contains(directionPos)) {
-                                TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, directionPos);
+                                mutablePos.set(directionPos);
+                                TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, mutablePos);
                                 if (tile != null && transmitter.isValidTransmitterBasic(tile, direction)) {
-                                    queue.addLast(directionPos.immutable());
+                                    queue.enqueue(directionPos);
                                 }
                             }
                         }
                     }
                 } else {
-                    TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, from);
+                    TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, mutablePos.set(from));
                     if (tile != null && startPoint.supportsTransmissionType(tile)) {
                         NETWORK net = (NETWORK) tile.getTransmitter().getTransmitterNetwork();
                         //Make sure that there is an external network
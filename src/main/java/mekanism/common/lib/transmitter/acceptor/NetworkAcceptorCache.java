@@ -2,7 +2,10 @@ package mekanism.common.lib.transmitter.acceptor;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -10,8 +13,10 @@ import java.util.EnumSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import mekanism.api.IChangeTrackingHandler;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.util.EnumUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -21,6 +26,11 @@ public class NetworkAcceptorCache<ACCEPTOR> {
 
     private final Long2ObjectMap<Map<Direction, ACCEPTOR>> cachedAcceptors = new Long2ObjectOpenHashMap<>();
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
+    /**
+     * Acceptors that were full the last time they were offered something, and the version they were at when they were found to be full.
+     */
+    private final Reference2LongMap<ACCEPTOR> fullAcceptors = new Reference2LongOpenHashMap<>();
+    private int skippedSimulations;
 
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         transmitter.refreshAcceptorConnections(side);
@@ -29,14 +39,35 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         if (acceptor == null) {
             Map<Direction, ACCEPTOR> cached = cachedAcceptors.get(acceptorPos);
             if (cached != null) {
-                cached.remove(side.getOpposite());
+                forgetFull(cached.remove(side.getOpposite()));
                 if (cached.isEmpty()) {
                     cachedAcceptors.remove(acceptorPos);
                 }
             }
         } else {
-            cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
+            ACCEPTOR old = cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
+            if (old != acceptor) {
+                forgetFull(old);
+            }
+        }
+    }
+
+    /**
+     * Removes all the acceptors that are cached as being connected to the given transmitter.
+     */
+    public void removeTransmitter(Transmitter<ACCEPTOR, ?, ?> transmitter) {
+        long transmitterPos = transmitter.getWorldPositionLong();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            long acceptorPos = WorldUtils.relativePos(transmitterPos, side);
+            Map<Direction, ACCEPTOR> cached = cachedAcceptors.get(acceptorPos);
+            if (cached != null) {
+                forgetFull(cached.remove(side.getOpposite()));
+                if (cached.isEmpty()) {
+                    cachedAcceptors.remove(acceptorPos);
+                }
+            }
         }
+        changedAcceptors.remove(transmitter);
     }
 
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
@@ -56,6 +87,8 @@ public class NetworkAcceptorCache<ACCEPTOR> {
                 changedAcceptors.put(transmitter, entry.getValue());
             }
         }
+        //Note: We don't bother adopting which acceptors the other network knows are full, as it may have been offering them something different
+        clearFullAcceptors();
     }
 
     public void acceptorChanged(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
@@ -81,6 +114,72 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     public void deregister() {
         cachedAcceptors.clear();
         changedAcceptors.clear();
+        fullAcceptors.clear();
+    }
+
+    /**
+     * Resets the count of skipped simulations, should be called before starting to check which acceptors can accept something.
+     */
+    public void startDemandCheck() {
+        skippedSimulations = 0;
+    }
+
+    /**
+     * Checks if the given acceptor was full the last time it was offered something and has not changed since then, meaning it does not need to be simulated again.
+     *
+     * @param acceptor Acceptor to check.
+     *
+     * @return {@code true} if the acceptor is known to still be full.
+     *
+     * @implNote Only acceptors that implement {@link IChangeTrackingHandler} can be known to be full, any other acceptors always need to be checked.
+     */
+    public boolean isKnownFull(ACCEPTOR acceptor) {
+        if (!fullAcceptors.isEmpty() && acceptor instanceof IChangeTrackingHandler tracking) {
+            long version = fullAcceptors.getOrDefault(acceptor, IChangeTrackingHandler.UNTRACKED);
+            if (version != IChangeTrackingHandler.UNTRACKED) {
+                if (version == tracking.getChangeVersion()) {
+                    skippedSimulations++;
+                    return true;
+                }
+                //It changed since we last checked, so it may be able to accept something again
+                fullAcceptors.removeLong(acceptor);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks the given acceptor as being unable to accept anything so that it can be skipped until it changes.
+     *
+     * @param acceptor Acceptor that is full.
+     */
+    public void markFull(ACCEPTOR acceptor) {
+        if (acceptor instanceof IChangeTrackingHandler tracking) {
+            long version = tracking.getChangeVersion();
+            if (version != IChangeTrackingHandler.UNTRACKED) {
+                fullAcceptors.put(acceptor, version);
+            }
+        }
+    }
+
+    /**
+     * Forgets which acceptors are known to be full, for example because the type of what is being offered to them changed.
+     */
+    public void clearFullAcceptors() {
+        fullAcceptors.clear();
+    }
+
+    /**
+     * @return The number of acceptors that were skipped the last time acceptors were checked, because they were known to be full.
+     */
+    public int getSkippedSimulations() {
+        return skippedSimulations;
+    }
+
+    private void forgetFull(@Nullable ACCEPTOR acceptor) {
+        if (acceptor != null) {
+            fullAcceptors.removeLong(acceptor);
+        }
     }
 
     /**
@@ -97,6 +196,10 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         return cachedAcceptors.values();
     }
 
+    public LongSet getAcceptorPositions() {
+        return cachedAcceptors.keySet();
+    }
+
     public int getAcceptorCount() {
         //Count multiple connections to the same position as multiple acceptors
         return cachedAcceptors.values().stream().mapToInt(Map::size).sum();
@@ -55,6 +55,7 @@ import mekanism.common.network.to_server.frequency.PacketSetItemFrequency;
 import mekanism.common.network.to_server.frequency.PacketSetTileFrequency;
 import mekanism.common.network.to_server.qio.PacketQIOClearCraftingWindow;
 import mekanism.common.network.to_server.qio.PacketQIOFillCraftingWindow;
+import mekanism.common.network.to_server.qio.PacketQIOItemViewerAcknowledge;
 import mekanism.common.network.to_server.qio.PacketQIOItemViewerSlotPlace;
 import mekanism.common.network.to_server.qio.PacketQIOItemViewerSlotShiftTake;
 import mekanism.common.network.to_server.qio.PacketQIOItemViewerSlotTake;
@@ -135,6 +136,7 @@ public class PacketHandler extends BasePacketHandler {
         registrar.play(PacketQIOItemViewerSlotPlace.TYPE, PacketQIOItemViewerSlotPlace.STREAM_CODEC);
         registrar.play(PacketQIOItemViewerSlotTake.TYPE, PacketQIOItemViewerSlotTake.STREAM_CODEC);
         registrar.play(PacketQIOItemViewerSlotShiftTake.TYPE, PacketQIOItemViewerSlotShiftTake.STREAM_CODEC);
+        registrar.play(PacketQIOItemViewerAcknowledge.TYPE, PacketQIOItemViewerAcknowledge.STREAM_CODEC);
         requestQIOData = registrar.playInstanced(Mekanism.rl("request_qio_data"), (ignored, context) -> {
             if (context.player() instanceof ServerPlayer player && player.containerMenu instanceof QIOItemViewerContainer container) {
                 QIOFrequency freq = container.getFrequency();
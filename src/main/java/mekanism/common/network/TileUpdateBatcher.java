@@ -0,0 +1,76 @@
+package mekanism.common.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import mekanism.common.network.to_client.PacketUpdateTile;
+import mekanism.common.network.to_client.PacketUpdateTile.TileUpdate;
+import mekanism.common.tile.base.TileEntityUpdateable;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+/**
+ * Collects the tiles that want to sync to the client during a tick, and at the end of the tick sends a single {@link PacketUpdateTile} for each chunk, containing only
+ * what changed for each of the tiles in it since they last synced. Tiles that ask to sync multiple times in a tick are only synced once.
+ *
+ * @apiNote Only used from the server thread.
+ */
+public class TileUpdateBatcher {
+
+    private static final Map<ServerLevel, Long2ObjectMap<Set<TileEntityUpdateable>>> pending = new Reference2ObjectOpenHashMap<>();
+
+    private TileUpdateBatcher() {
+    }
+
+    public static void queue(TileEntityUpdateable tile) {
+        pending.computeIfAbsent((ServerLevel) tile.getLevel(), level -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(ChunkPos.asLong(tile.getBlockPos()), chunk -> new ReferenceLinkedOpenHashSet<>())
+              .add(tile);
+    }
+
+    public static void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<ServerLevel, Long2ObjectMap<Set<TileEntityUpdateable>>> entry : pending.entrySet()) {
+            ServerLevel level = entry.getKey();
+            for (Long2ObjectMap.Entry<Set<TileEntityUpdateable>> chunkEntry : Long2ObjectMaps.fastIterable(entry.getValue())) {
+                ChunkPos chunk = new ChunkPos(chunkEntry.getLongKey());
+                //Note: If nobody is tracking the chunk we can skip computing the updates entirely, as when someone starts tracking it they will be sent the full
+                // update tag by vanilla, which also causes our next update for each tile to be a full one
+                if (PacketUtils.hasPlayersTracking(level, chunk.getWorldPosition())) {
+                    List<TileUpdate> updates = createUpdates(level, chunkEntry.getValue());
+                    if (!updates.isEmpty()) {
+                        PacketDistributor.sendToPlayersTrackingChunk(level, chunk, new PacketUpdateTile(chunk, updates));
+                    }
+                }
+            }
+        }
+        pending.clear();
+    }
+
+    private static List<TileUpdate> createUpdates(ServerLevel level, Set<TileEntityUpdateable> tiles) {
+        List<TileUpdate> updates = new ArrayList<>(tiles.size());
+        for (TileEntityUpdateable tile : tiles) {
+            //Skip any tiles that were removed after asking to sync
+            if (!tile.isRemoved()) {
+                TileUpdate update = tile.createUpdate(level.registryAccess());
+                if (update != null) {
+                    updates.add(update);
+                }
+            }
+        }
+        return updates;
+    }
+
+    public static void reset() {
+        pending.clear();
+    }
+}
\ No newline at end of file
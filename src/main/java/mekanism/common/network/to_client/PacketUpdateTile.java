@@ -1,30 +1,69 @@
 package mekanism.common.network.to_client;
 
 import io.netty.buffer.ByteBuf;
+import java.util.ArrayList;
+import java.util.List;
 import mekanism.common.Mekanism;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.tile.base.TileEntityUpdateable;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.VarInt;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
 
-public record PacketUpdateTile(BlockPos pos, CompoundTag updateTag) implements IMekanismPacket {
+/**
+ * Updates for all the tiles in a single chunk that asked to sync during a tick.
+ *
+ * @param updates Updates for tiles in the given chunk.
+ */
+public record PacketUpdateTile(ChunkPos chunk, List<TileUpdate> updates) implements IMekanismPacket {
 
     public static final CustomPacketPayload.Type<PacketUpdateTile> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("update_tile"));
-    public static final StreamCodec<ByteBuf, PacketUpdateTile> STREAM_CODEC = StreamCodec.composite(
-          BlockPos.STREAM_CODEC, PacketUpdateTile::pos,
-          ByteBufCodecs.TRUSTED_COMPOUND_TAG, PacketUpdateTile::updateTag,
-          PacketUpdateTile::new
-    );
-
-    public PacketUpdateTile(TileEntityUpdateable tile) {
-        this(tile.getBlockPos(), tile.getReducedUpdateTag(tile.getLevel().registryAccess()));
+    public static final StreamCodec<ByteBuf, PacketUpdateTile> STREAM_CODEC = StreamCodec.of(PacketUpdateTile::write, PacketUpdateTile::read);
+    private static final StreamCodec<ByteBuf, List<String>> REMOVED_KEYS_CODEC = ByteBufCodecs.STRING_UTF8.apply(ByteBufCodecs.list());
+
+    public PacketUpdateTile(TileUpdate update) {
+        this(new ChunkPos(update.pos()), List.of(update));
+    }
+
+    /**
+     * As all the tiles are in the same chunk, rather than writing the full position of each tile we write the position within the chunk.
+     */
+    private static void write(ByteBuf buffer, PacketUpdateTile packet) {
+        buffer.writeLong(packet.chunk.toLong());
+        VarInt.write(buffer, packet.updates.size());
+        for (TileUpdate update : packet.updates) {
+            BlockPos pos = update.pos();
+            buffer.writeByte(SectionPos.sectionRelative(pos.getX()) << 4 | SectionPos.sectionRelative(pos.getZ()));
+            buffer.writeShort(pos.getY());
+            buffer.writeBoolean(update.full());
+            ByteBufCodecs.TRUSTED_COMPOUND_TAG.encode(buffer, update.changed());
+            if (!update.full()) {
+                REMOVED_KEYS_CODEC.encode(buffer, update.removed());
+            }
+        }
+    }
+
+    private static PacketUpdateTile read(ByteBuf buffer) {
+        ChunkPos chunk = new ChunkPos(buffer.readLong());
+        int count = VarInt.read(buffer);
+        List<TileUpdate> updates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte xz = buffer.readByte();
+            BlockPos pos = new BlockPos(chunk.getBlockX(xz >> 4 & 0xF), buffer.readShort(), chunk.getBlockZ(xz & 0xF));
+            boolean full = buffer.readBoolean();
+            CompoundTag changed = ByteBufCodecs.TRUSTED_COMPOUND_TAG.decode(buffer);
+            updates.add(new TileUpdate(pos, full, changed, full ? List.of() : REMOVED_KEYS_CODEC.decode(buffer)));
+        }
+        return new PacketUpdateTile(chunk, updates);
     }
 
     @NotNull
@@ -36,15 +75,27 @@ public record PacketUpdateTile(BlockPos pos, CompoundTag updateTag) implements I
     @Override
     public void handle(IPayloadContext context) {
         Level world = context.player().level();
-        //Only handle the update packet if the block is currently loaded (otherwise we would have the warning get logged in cases we don't want it to)
-        if (WorldUtils.isBlockLoaded(world, pos)) {
-            TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, pos, true);
-            if (tile == null) {
-                Mekanism.logger.warn("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
-                      world.dimension().location());
-            } else {
-                tile.handleUpdatePacket(updateTag, world.registryAccess());
+        for (TileUpdate update : updates) {
+            BlockPos pos = update.pos();
+            //Only handle the update if the block is currently loaded (otherwise we would have the warning get logged in cases we don't want it to)
+            if (WorldUtils.isBlockLoaded(world, pos)) {
+                TileEntityUpdateable tile = WorldUtils.getTileEntity(TileEntityUpdateable.class, world, pos, true);
+                if (tile == null) {
+                    Mekanism.logger.warn("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
+                          world.dimension().location());
+                } else {
+                    tile.handleUpdate(update, world.registryAccess());
+                }
             }
         }
     }
+
+    /**
+     * @param pos     Position of the tile.
+     * @param full    {@code true} if {@code changed} is the tile's entire update tag, {@code false} if it only contains the entries that changed since the last update.
+     * @param changed The entries of the update tag that changed.
+     * @param removed The keys of entries that are no longer in the update tag, always empty for full updates.
+     */
+    public record TileUpdate(BlockPos pos, boolean full, CompoundTag changed, List<String> removed) {
+    }
 }
\ No newline at end of file
@@ -1,26 +1,70 @@
 package mekanism.common.network.to_client.container;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import mekanism.common.Mekanism;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.network.IMekanismPacket;
+import mekanism.common.network.PacketUtils;
 import mekanism.common.network.to_client.container.property.PropertyData;
+import mekanism.common.network.to_client.container.property.PropertyType;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.neoforged.neoforge.common.util.FriendlyByteBufUtil;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.VisibleForTesting;
 
-public record PacketUpdateContainer(short windowId, List<PropertyData> data) implements IMekanismPacket {
+/**
+ * @param data The properties packed by {@link #create(short, RegistryAccess, List)}.
+ */
+public record PacketUpdateContainer(short windowId, byte[] data) implements IMekanismPacket {
 
     public static final CustomPacketPayload.Type<PacketUpdateContainer> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("update_container"));
     public static final StreamCodec<RegistryFriendlyByteBuf, PacketUpdateContainer> STREAM_CODEC = StreamCodec.composite(
           ByteBufCodecs.SHORT, PacketUpdateContainer::windowId,
-          PropertyData.GENERIC_STREAM_CODEC.apply(ByteBufCodecs.list()), PacketUpdateContainer::data,
+          ByteBufCodecs.BYTE_ARRAY, PacketUpdateContainer::data,
           PacketUpdateContainer::new
     );
 
+    /**
+     * Packs the given properties into a single buffer. Rather than writing the index of each property, we write the index of the first property followed by a bitmask
+     * of which of the following properties are included, and then the type and value of each included property in order.
+     *
+     * @param data The properties to sync, sorted by their index. Must not be empty.
+     */
+    public static PacketUpdateContainer create(short windowId, RegistryAccess registryAccess, List<PropertyData> data) {
+        int firstProperty = data.getFirst().getProperty();
+        BitSet included = new BitSet();
+        for (PropertyData datum : data) {
+            included.set(datum.getProperty() - firstProperty);
+        }
+        return new PacketUpdateContainer(windowId, FriendlyByteBufUtil.writeCustomData(buffer -> {
+            VarInt.write(buffer, firstProperty);
+            buffer.writeByteArray(included.toByteArray());
+            for (PropertyData datum : data) {
+                PropertyType.STREAM_CODEC.encode(buffer, datum.getType());
+                datum.writeValue(buffer);
+            }
+        }, registryAccess));
+    }
+
+    @VisibleForTesting
+    static List<PropertyData> unpack(RegistryFriendlyByteBuf buffer) {
+        int firstProperty = VarInt.read(buffer);
+        BitSet included = BitSet.valueOf(buffer.readByteArray());
+        List<PropertyData> data = new ArrayList<>(included.cardinality());
+        for (int i = included.nextSetBit(0); i >= 0; i = included.nextSetBit(i + 1)) {
+            data.add(PropertyType.STREAM_CODEC.decode(buffer).read(buffer, (short) (firstProperty + i)));
+        }
+        return data;
+    }
+
     @NotNull
     @Override
     public CustomPacketPayload.Type<PacketUpdateContainer> type() {
@@ -32,7 +76,7 @@ public record PacketUpdateContainer(short windowId, List<PropertyData> data) imp
         //Ensure that the container is one of ours, and the window id is the same as we expect it to be
         if (context.player().containerMenu instanceof MekanismContainer container && container.containerId == windowId) {
             // and if so handle the packet
-            for (PropertyData datum : data) {
+            for (PropertyData datum : PacketUtils.read(context.player().registryAccess(), data, PacketUpdateContainer::unpack)) {
                 datum.handleWindowProperty(container);
             }
         }
@@ -1,19 +1,10 @@
 package mekanism.common.network.to_client.container.property;
 
-import io.netty.buffer.ByteBuf;
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 
 public class ByteArrayPropertyData extends PropertyData {
 
-    public static final StreamCodec<ByteBuf, ByteArrayPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
-          ByteBufCodecs.BYTE_ARRAY, data -> data.value,
-          ByteArrayPropertyData::new
-    );
-
     private final byte[] value;
 
     public ByteArrayPropertyData(short property, byte[] value) {
@@ -21,8 +12,17 @@ public class ByteArrayPropertyData extends PropertyData {
         this.value = value;
     }
 
+    public static ByteArrayPropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return new ByteArrayPropertyData(property, buffer.readByteArray());
+    }
+
     @Override
     public void handleWindowProperty(MekanismContainer container) {
         container.handleWindowProperty(getProperty(), value);
     }
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        buffer.writeByteArray(value);
+    }
 }
\ No newline at end of file
@@ -2,19 +2,11 @@ package mekanism.common.network.to_client.container.property;
 
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 import net.neoforged.neoforge.fluids.FluidStack;
 import org.jetbrains.annotations.NotNull;
 
 public class FluidStackPropertyData extends PropertyData {
 
-    public static final StreamCodec<RegistryFriendlyByteBuf, FluidStackPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
-          FluidStack.OPTIONAL_STREAM_CODEC, data -> data.value,
-          FluidStackPropertyData::new
-    );
-
     @NotNull
     private final FluidStack value;
 
@@ -23,8 +15,17 @@ public class FluidStackPropertyData extends PropertyData {
         this.value = value;
     }
 
+    public static FluidStackPropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return new FluidStackPropertyData(property, FluidStack.OPTIONAL_STREAM_CODEC.decode(buffer));
+    }
+
     @Override
     public void handleWindowProperty(MekanismContainer container) {
         container.handleWindowProperty(getProperty(), value);
     }
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        FluidStack.OPTIONAL_STREAM_CODEC.encode(buffer, value);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package mekanism.common.network.to_client.container.property;
+
+import mekanism.common.inventory.container.MekanismContainer;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarInt;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Syncs the change of an int property from the last value that was synced. The change is zig-zag encoded so that small decreases are as cheap to send as small
+ * increases.
+ */
+public class IntDeltaPropertyData extends PropertyData {
+
+    private final int change;
+
+    public IntDeltaPropertyData(short property, int change) {
+        super(PropertyType.INT_DELTA, property);
+        this.change = change;
+    }
+
+    /**
+     * @param value  Current value of the property.
+     * @param change Difference between the current value and the last value that was synced.
+     *
+     * @return Property data for whichever of the value or the change is smaller to send.
+     */
+    public static PropertyData create(short property, int value, int change) {
+        if (VarInt.getByteSize(zigZag(change)) < VarInt.getByteSize(value)) {
+            return new IntDeltaPropertyData(property, change);
+        }
+        return new IntPropertyData(property, value);
+    }
+
+    public static IntDeltaPropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        int encoded = VarInt.read(buffer);
+        return new IntDeltaPropertyData(property, (encoded >>> 1) ^ -(encoded & 1));
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    @VisibleForTesting
+    public int getChange() {
+        return change;
+    }
+
+    @Override
+    public void handleWindowProperty(MekanismContainer container) {
+        container.handleWindowPropertyChange(getProperty(), change);
+    }
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        VarInt.write(buffer, zigZag(change));
+    }
+}
\ No newline at end of file
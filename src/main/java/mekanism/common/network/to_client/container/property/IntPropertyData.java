@@ -1,19 +1,12 @@
 package mekanism.common.network.to_client.container.property;
 
-import io.netty.buffer.ByteBuf;
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.VarInt;
+import org.jetbrains.annotations.VisibleForTesting;
 
 public class IntPropertyData extends PropertyData {
 
-    public static final StreamCodec<ByteBuf, IntPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
-          ByteBufCodecs.VAR_INT, data -> data.value,
-          IntPropertyData::new
-    );
-
     private final int value;
 
     public IntPropertyData(short property, int value) {
@@ -21,8 +14,22 @@ public class IntPropertyData extends PropertyData {
         this.value = value;
     }
 
+    public static IntPropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return new IntPropertyData(property, VarInt.read(buffer));
+    }
+
+    @VisibleForTesting
+    public int getValue() {
+        return value;
+    }
+
     @Override
     public void handleWindowProperty(MekanismContainer container) {
         container.handleWindowProperty(getProperty(), value);
     }
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        VarInt.write(buffer, value);
+    }
 }
\ No newline at end of file
@@ -2,19 +2,11 @@ package mekanism.common.network.to_client.container.property;
 
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
 public class ItemStackPropertyData extends PropertyData {
 
-    public static final StreamCodec<RegistryFriendlyByteBuf, ItemStackPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
-          ItemStack.OPTIONAL_STREAM_CODEC, data -> data.value,
-          ItemStackPropertyData::new
-    );
-
     @NotNull
     private final ItemStack value;
 
@@ -23,8 +15,17 @@ public class ItemStackPropertyData extends PropertyData {
         this.value = value;
     }
 
+    public static ItemStackPropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return new ItemStackPropertyData(property, ItemStack.OPTIONAL_STREAM_CODEC.decode(buffer));
+    }
+
     @Override
     public void handleWindowProperty(MekanismContainer container) {
         container.handleWindowProperty(getProperty(), value);
     }
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        ItemStack.OPTIONAL_STREAM_CODEC.encode(buffer, value);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package mekanism.common.network.to_client.container.property;
+
+import mekanism.common.inventory.container.MekanismContainer;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.VarLong;
+import org.jetbrains.annotations.VisibleForTesting;
+
+/**
+ * Syncs the change of a long property from the last value that was synced. The change is zig-zag encoded so that small decreases are as cheap to send as small
+ * increases.
+ */
+public class LongDeltaPropertyData extends PropertyData {
+
+    private final long change;
+
+    public LongDeltaPropertyData(short property, long change) {
+        super(PropertyType.LONG_DELTA, property);
+        this.change = change;
+    }
+
+    /**
+     * @param value  Current value of the property.
+     * @param change Difference between the current value and the last value that was synced.
+     *
+     * @return Property data for whichever of the value or the change is smaller to send.
+     */
+    public static PropertyData create(short property, long value, long change) {
+        if (VarLong.getByteSize(zigZag(change)) < VarLong.getByteSize(value)) {
+            return new LongDeltaPropertyData(property, change);
+        }
+        return new LongPropertyData(property, value);
+    }
+
+    public static LongDeltaPropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        long encoded = VarLong.read(buffer);
+        return new LongDeltaPropertyData(property, (encoded >>> 1) ^ -(encoded & 1));
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    @VisibleForTesting
+    public long getChange() {
+        return change;
+    }
+
+    @Override
+    public void handleWindowProperty(MekanismContainer container) {
+        container.handleWindowPropertyChange(getProperty(), change);
+    }
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        VarLong.write(buffer, zigZag(change));
+    }
+}
\ No newline at end of file
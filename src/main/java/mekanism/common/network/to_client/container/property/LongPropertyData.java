@@ -1,19 +1,12 @@
 package mekanism.common.network.to_client.container.property;
 
-import io.netty.buffer.ByteBuf;
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.VarLong;
+import org.jetbrains.annotations.VisibleForTesting;
 
 public class LongPropertyData extends PropertyData {
 
-    public static final StreamCodec<ByteBuf, LongPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
-          ByteBufCodecs.VAR_LONG, data -> data.value,
-          LongPropertyData::new
-    );
-
     private final long value;
 
     public LongPropertyData(short property, long value) {
@@ -21,8 +14,22 @@ public class LongPropertyData extends PropertyData {
         this.value = value;
     }
 
+    public static LongPropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return new LongPropertyData(property, VarLong.read(buffer));
+    }
+
+    @VisibleForTesting
+    public long getValue() {
+        return value;
+    }
+
     @Override
     public void handleWindowProperty(MekanismContainer container) {
         container.handleWindowProperty(getProperty(), value);
     }
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        VarLong.write(buffer, value);
+    }
 }
\ No newline at end of file
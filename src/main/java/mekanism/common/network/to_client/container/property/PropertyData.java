@@ -2,13 +2,9 @@ package mekanism.common.network.to_client.container.property;
 
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.StreamCodec;
 
 public abstract class PropertyData {
 
-    public static final StreamCodec<RegistryFriendlyByteBuf, PropertyData> GENERIC_STREAM_CODEC = PropertyType.STREAM_CODEC.<RegistryFriendlyByteBuf>cast()
-          .dispatch(PropertyData::getType, PropertyType::streamCodec);
-
     private final PropertyType type;
     private final short property;
 
@@ -26,4 +22,16 @@ public abstract class PropertyData {
     }
 
     public abstract void handleWindowProperty(MekanismContainer container);
+
+    /**
+     * Writes the value of this property. The type and index of the property are written separately by
+     * {@link mekanism.common.network.to_client.container.PacketUpdateContainer}.
+     */
+    public abstract void writeValue(RegistryFriendlyByteBuf buffer);
+
+    @FunctionalInterface
+    public interface PropertyReader {
+
+        PropertyData read(RegistryFriendlyByteBuf buffer, short property);
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import mekanism.common.inventory.container.sync.SyncableLong;
 import mekanism.common.inventory.container.sync.SyncableRegistryEntry;
 import mekanism.common.inventory.container.sync.SyncableShort;
 import mekanism.common.inventory.container.sync.chemical.SyncableChemicalStack;
+import mekanism.common.network.to_client.container.property.PropertyData.PropertyReader;
 import mekanism.common.network.to_client.container.property.chemical.ChemicalStackPropertyData;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
@@ -32,42 +33,50 @@ import net.neoforged.neoforge.fluids.FluidStack;
 import org.jetbrains.annotations.Nullable;
 
 public enum PropertyType {
-    BOOLEAN(Boolean.TYPE, false, (getter, setter) -> SyncableBoolean.create(() -> (boolean) getter.get(), setter::accept), () -> BooleanPropertyData.STREAM_CODEC),
-    BYTE(Byte.TYPE, (byte) 0, (getter, setter) -> SyncableByte.create(() -> (byte) getter.get(), setter::accept), () -> BytePropertyData.STREAM_CODEC),
-    DOUBLE(Double.TYPE, 0D, (getter, setter) -> SyncableDouble.create(() -> (double) getter.get(), setter::accept), () -> DoublePropertyData.STREAM_CODEC),
-    FLOAT(Float.TYPE, 0F, (getter, setter) -> SyncableFloat.create(() -> (float) getter.get(), setter::accept), () -> FloatPropertyData.STREAM_CODEC),
-    INT(Integer.TYPE, 0, (getter, setter) -> SyncableInt.create(() -> (int) getter.get(), setter::accept), () -> IntPropertyData.STREAM_CODEC),
-    LONG(Long.TYPE, 0L, (getter, setter) -> SyncableLong.create(() -> (long) getter.get(), setter::accept), () -> LongPropertyData.STREAM_CODEC),
-    SHORT(Short.TYPE, (short) 0, (getter, setter) -> SyncableShort.create(() -> (short) getter.get(), setter::accept), () -> ShortPropertyData.STREAM_CODEC),
-    BYTE_ARRAY(byte[].class, new byte[0], (getter, setter) -> SyncableByteArray.create(() -> (byte[]) getter.get(), setter::accept), () -> ByteArrayPropertyData.STREAM_CODEC),
-    ITEM_STACK(ItemStack.class, ItemStack.EMPTY, (getter, setter) -> SyncableItemStack.create(() -> (ItemStack) getter.get(), setter::accept), () -> ItemStackPropertyData.STREAM_CODEC),
-    FLUID_STACK(FluidStack.class, FluidStack.EMPTY, (getter, setter) -> SyncableFluidStack.create(() -> (FluidStack) getter.get(), setter::accept), () -> FluidStackPropertyData.STREAM_CODEC),
-    CHEMICAL_STACK(ChemicalStack.class, ChemicalStack.EMPTY, (getter, setter) -> SyncableChemicalStack.create(() -> (ChemicalStack) getter.get(), setter::accept), () -> ChemicalStackPropertyData.STREAM_CODEC),
-    BLOCK_POS(BlockPos.class, null, (getter, setter) -> SyncableBlockPos.create(() -> (BlockPos) getter.get(), setter::accept), () -> BlockPosPropertyData.STREAM_CODEC);
+    BOOLEAN(Boolean.TYPE, false, (getter, setter) -> SyncableBoolean.create(() -> (boolean) getter.get(), setter::accept), BooleanPropertyData::read),
+    BYTE(Byte.TYPE, (byte) 0, (getter, setter) -> SyncableByte.create(() -> (byte) getter.get(), setter::accept), BytePropertyData::read),
+    DOUBLE(Double.TYPE, 0D, (getter, setter) -> SyncableDouble.create(() -> (double) getter.get(), setter::accept), DoublePropertyData::read),
+    FLOAT(Float.TYPE, 0F, (getter, setter) -> SyncableFloat.create(() -> (float) getter.get(), setter::accept), FloatPropertyData::read),
+    INT(Integer.TYPE, 0, (getter, setter) -> SyncableInt.create(() -> (int) getter.get(), setter::accept), IntPropertyData::read),
+    LONG(Long.TYPE, 0L, (getter, setter) -> SyncableLong.create(() -> (long) getter.get(), setter::accept), LongPropertyData::read),
+    SHORT(Short.TYPE, (short) 0, (getter, setter) -> SyncableShort.create(() -> (short) getter.get(), setter::accept), ShortPropertyData::read),
+    BYTE_ARRAY(byte[].class, new byte[0], (getter, setter) -> SyncableByteArray.create(() -> (byte[]) getter.get(), setter::accept), ByteArrayPropertyData::read),
+    ITEM_STACK(ItemStack.class, ItemStack.EMPTY, (getter, setter) -> SyncableItemStack.create(() -> (ItemStack) getter.get(), setter::accept), ItemStackPropertyData::read),
+    FLUID_STACK(FluidStack.class, FluidStack.EMPTY, (getter, setter) -> SyncableFluidStack.create(() -> (FluidStack) getter.get(), setter::accept), FluidStackPropertyData::read),
+    CHEMICAL_STACK(ChemicalStack.class, ChemicalStack.EMPTY, (getter, setter) -> SyncableChemicalStack.create(() -> (ChemicalStack) getter.get(), setter::accept), ChemicalStackPropertyData::read),
+    BLOCK_POS(BlockPos.class, null, (getter, setter) -> SyncableBlockPos.create(() -> (BlockPos) getter.get(), setter::accept), BlockPosPropertyData::read),
+    //Only used for syncing changes of the corresponding types, so there is no backing class or way of creating them from annotations
+    INT_DELTA(IntDeltaPropertyData::read),
+    LONG_DELTA(LongDeltaPropertyData::read);
 
     public static final IntFunction<PropertyType> BY_ID = ByIdMap.continuous(PropertyType::ordinal, values(), ByIdMap.OutOfBoundsStrategy.WRAP);
     public static final StreamCodec<ByteBuf, PropertyType> STREAM_CODEC = ByteBufCodecs.idMapper(BY_ID, PropertyType::ordinal);
 
+    @Nullable
     private final Class<?> type;
     private final Object defaultValue;
     @Nullable
     private final BiFunction<Supplier<Object>, Consumer<Object>, ISyncableData> creatorFunction;
-    private final Supplier<StreamCodec<? super RegistryFriendlyByteBuf, ? extends PropertyData>> streamCodec;
+    private final PropertyReader reader;
 
     private static final PropertyType[] VALUES = values();
 
     //For use by any specific registry types we might at some point need the annotation for
     // potentially should have a better solution done than this
-    <V> PropertyType(Class<V> type, Registry<V> registry, Supplier<StreamCodec<? super RegistryFriendlyByteBuf, ? extends PropertyData>> streamCodec) {
-        this(type, null, (supplier, consumer) -> SyncableRegistryEntry.create(registry, (Supplier<V>) supplier, (Consumer<V>) consumer), streamCodec);
+    <V> PropertyType(Class<V> type, Registry<V> registry, PropertyReader reader) {
+        this(type, null, (supplier, consumer) -> SyncableRegistryEntry.create(registry, (Supplier<V>) supplier, (Consumer<V>) consumer), reader);
+    }
+
+    PropertyType(PropertyReader reader) {
+        this(null, null, null, reader);
     }
 
-    PropertyType(Class<?> type, Object defaultValue, @Nullable BiFunction<Supplier<Object>, Consumer<Object>, ISyncableData> creatorFunction,
-          Supplier<StreamCodec<? super RegistryFriendlyByteBuf, ? extends PropertyData>> streamCodec) {
+    PropertyType(@Nullable Class<?> type, Object defaultValue, @Nullable BiFunction<Supplier<Object>, Consumer<Object>, ISyncableData> creatorFunction,
+          PropertyReader reader) {
         this.type = type;
         this.defaultValue = defaultValue;
         this.creatorFunction = creatorFunction;
-        this.streamCodec = streamCodec;
+        this.reader = reader;
     }
 
     public <T> T getDefault() {
@@ -90,7 +99,7 @@ public enum PropertyType {
         return creatorFunction.apply(supplier, consumer);
     }
 
-    public StreamCodec<? super RegistryFriendlyByteBuf, ? extends PropertyData> streamCodec() {
-        return streamCodec.get();
+    public PropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return reader.read(buffer, property);
     }
 }
\ No newline at end of file
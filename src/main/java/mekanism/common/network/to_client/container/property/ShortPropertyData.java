@@ -1,19 +1,10 @@
 package mekanism.common.network.to_client.container.property;
 
-import io.netty.buffer.ByteBuf;
 import mekanism.common.inventory.container.MekanismContainer;
 import net.minecraft.network.RegistryFriendlyByteBuf;
-import net.minecraft.network.codec.ByteBufCodecs;
-import net.minecraft.network.codec.StreamCodec;
 
 public class ShortPropertyData extends PropertyData {
 
-    public static final StreamCodec<ByteBuf, ShortPropertyData> STREAM_CODEC = StreamCodec.composite(
-          ByteBufCodecs.SHORT, PropertyData::getProperty,
-          ByteBufCodecs.SHORT, data -> data.value,
-          ShortPropertyData::new
-    );
-
     private final short value;
 
     public ShortPropertyData(short property, short value) {
@@ -21,8 +12,17 @@ public class ShortPropertyData extends PropertyData {
         this.value = value;
     }
 
+    public static ShortPropertyData read(RegistryFriendlyByteBuf buffer, short property) {
+        return new ShortPropertyData(property, buffer.readShort());
+    }
+
     @Override
     public void handleWindowProperty(MekanismContainer container) {
         container.handleWindowProperty(getProperty(), value);
     }
+
+    @Override
+    public void writeValue(RegistryFriendlyByteBuf buffer) {
+        buffer.writeShort(value);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package mekanism.common.network.to_client.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import java.util.UUID;
 import mekanism.common.Mekanism;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
@@ -15,8 +16,8 @@ public class PacketBatchItemViewerSync extends PacketQIOItemViewerGuiSync {
     public static final CustomPacketPayload.Type<PacketBatchItemViewerSync> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("batch_qio_sync"));
     public static final StreamCodec<RegistryFriendlyByteBuf, PacketBatchItemViewerSync> STREAM_CODEC = streamCodec(PacketBatchItemViewerSync::new);
 
-    public PacketBatchItemViewerSync(long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap) {
-        super(countCapacity, typeCapacity, itemMap);
+    public PacketBatchItemViewerSync(int sequence, long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap, Object2LongMap<UUID> knownCounts) {
+        super(sequence, countCapacity, typeCapacity, itemMap, knownCounts);
     }
 
     @NotNull
@@ -27,8 +28,9 @@ public class PacketBatchItemViewerSync extends PacketQIOItemViewerGuiSync {
 
     @Override
     public void handle(IPayloadContext context) {
+        Object2LongMap<UUIDAwareHashedItem> items = readItems();
         if (context.player().containerMenu instanceof QIOItemViewerContainer container) {
-            container.handleBatchUpdate(itemMap, countCapacity, typeCapacity);
+            container.handleBatchUpdate(items, countCapacity, typeCapacity);
         }
     }
 }
\ No newline at end of file
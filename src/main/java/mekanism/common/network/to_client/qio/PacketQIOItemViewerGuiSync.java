@@ -1,12 +1,17 @@
 package mekanism.common.network.to_client.qio;
 
-import com.mojang.datafixers.util.Function3;
+import com.mojang.datafixers.util.Function5;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import java.util.Optional;
+import java.util.UUID;
+import mekanism.common.Mekanism;
+import mekanism.common.content.qio.QIOItemViewerSync;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.IMekanismPacket;
+import mekanism.common.network.PacketUtils;
+import mekanism.common.network.to_server.qio.PacketQIOItemViewerAcknowledge;
 import net.minecraft.core.UUIDUtil;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
@@ -14,8 +19,6 @@ import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.item.ItemStack;
 
 //TODO - 1.19: Split implementations of this packet as it is possible for it to technically become too large and cause a crash
-// Also ideally we only would sync the hashed item for types we haven't sent a given client yet so that then
-// we can also send a smaller packet to each client until they disconnect and then we clear what packets they know
 public abstract class PacketQIOItemViewerGuiSync implements IMekanismPacket {
 
     private static final StreamCodec<RegistryFriendlyByteBuf, Object2LongMap<UUIDAwareHashedItem>> ITEM_MAP_CODEC = ByteBufCodecs.map(Object2LongOpenHashMap::new,
@@ -25,24 +28,68 @@ public abstract class PacketQIOItemViewerGuiSync implements IMekanismPacket {
                 (stack, uuid) -> new UUIDAwareHashedItem(stack, uuid.orElse(null))
           ), ByteBufCodecs.VAR_LONG
     );
+    private static final StreamCodec<RegistryFriendlyByteBuf, Object2LongMap<UUID>> COUNT_MAP_CODEC = ByteBufCodecs.map(Object2LongOpenHashMap::new,
+          UUIDUtil.STREAM_CODEC, ByteBufCodecs.VAR_LONG
+    );
 
     protected static <PKT extends PacketQIOItemViewerGuiSync> StreamCodec<RegistryFriendlyByteBuf, PKT> streamCodec(
-          Function3<Long, Integer, Object2LongMap<UUIDAwareHashedItem>, PKT> constructor) {
+          Function5<Integer, Long, Integer, Object2LongMap<UUIDAwareHashedItem>, Object2LongMap<UUID>, PKT> constructor) {
         return StreamCodec.composite(
+              ByteBufCodecs.VAR_INT, pkt -> pkt.sequence,
               ByteBufCodecs.VAR_LONG, pkt -> pkt.countCapacity,
               ByteBufCodecs.VAR_INT, pkt -> pkt.typeCapacity,
               ITEM_MAP_CODEC, pkt -> pkt.itemMap,
+              COUNT_MAP_CODEC, pkt -> pkt.knownCounts,
               constructor
         );
     }
 
+    protected final int sequence;
+    /**
+     * Types the client hasn't been sent before.
+     */
     protected final Object2LongMap<UUIDAwareHashedItem> itemMap;
+    /**
+     * Types the client already knows about, by UUID.
+     */
+    protected final Object2LongMap<UUID> knownCounts;
     protected final long countCapacity;
     protected final int typeCapacity;
 
-    protected PacketQIOItemViewerGuiSync(long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap) {
+    protected PacketQIOItemViewerGuiSync(int sequence, long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap,
+          Object2LongMap<UUID> knownCounts) {
+        this.sequence = sequence;
         this.itemMap = itemMap;
+        this.knownCounts = knownCounts;
         this.countCapacity = countCapacity;
         this.typeCapacity = typeCapacity;
     }
+
+    /**
+     * Remembers the new types that were sent, acknowledges that we received them, and then looks up the types that were sent by UUID.
+     *
+     * @return All the types that were sent and their counts.
+     */
+    protected Object2LongMap<UUIDAwareHashedItem> readItems() {
+        for (UUIDAwareHashedItem type : itemMap.keySet()) {
+            if (type.getUUID() != null) {
+                QIOItemViewerSync.rememberClientType(type);
+            }
+        }
+        PacketUtils.sendToServer(new PacketQIOItemViewerAcknowledge(sequence));
+        if (knownCounts.isEmpty()) {
+            return itemMap;
+        }
+        Object2LongMap<UUIDAwareHashedItem> items = new Object2LongOpenHashMap<>(itemMap.size() + knownCounts.size());
+        items.putAll(itemMap);
+        for (Object2LongMap.Entry<UUID> entry : knownCounts.object2LongEntrySet()) {
+            UUIDAwareHashedItem type = QIOItemViewerSync.getClientType(entry.getKey());
+            if (type == null) {
+                Mekanism.logger.warn("Received count for unknown QIO item type: {}", entry.getKey());
+            } else {
+                items.put(type, entry.getLongValue());
+            }
+        }
+        return items;
+    }
 }
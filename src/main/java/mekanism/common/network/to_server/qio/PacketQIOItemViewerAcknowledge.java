@@ -0,0 +1,36 @@
+package mekanism.common.network.to_server.qio;
+
+import io.netty.buffer.ByteBuf;
+import mekanism.common.Mekanism;
+import mekanism.common.content.qio.QIOItemViewerSync;
+import mekanism.common.network.IMekanismPacket;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerPlayer;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Sent by the client once it has received a QIO item viewer sync packet, so that the server knows which item types the client has been sent.
+ */
+public record PacketQIOItemViewerAcknowledge(int sequence) implements IMekanismPacket {
+
+    public static final CustomPacketPayload.Type<PacketQIOItemViewerAcknowledge> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("acknowledge_qio"));
+    public static final StreamCodec<ByteBuf, PacketQIOItemViewerAcknowledge> STREAM_CODEC = ByteBufCodecs.VAR_INT.map(
+          PacketQIOItemViewerAcknowledge::new, PacketQIOItemViewerAcknowledge::sequence
+    );
+
+    @NotNull
+    @Override
+    public CustomPacketPayload.Type<PacketQIOItemViewerAcknowledge> type() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(IPayloadContext context) {
+        if (context.player() instanceof ServerPlayer player) {
+            QIOItemViewerSync.get(player).acknowledge(sequence);
+        }
+    }
+}
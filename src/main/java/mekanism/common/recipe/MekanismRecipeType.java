@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import mekanism.api.recipes.ChemicalChemicalToChemicalRecipe;
 import mekanism.api.recipes.ChemicalCrystallizerRecipe;
@@ -147,6 +148,9 @@ public class MekanismRecipeType<VANILLA_INPUT extends RecipeInput, RECIPE extend
     private List<RecipeHolder<RECIPE>> cachedRecipes = Collections.emptyList();
     private final ResourceLocation registryName;
     private final INPUT_CACHE inputCache;
+    //Note: Lookups happen on both the client and server threads
+    private final LongAdder memoHits = new LongAdder();
+    private final LongAdder memoMisses = new LongAdder();
 
     private MekanismRecipeType(ResourceLocation name, Function<MekanismRecipeType<VANILLA_INPUT, RECIPE, INPUT_CACHE>, INPUT_CACHE> inputCacheCreator) {
         this.registryName = name;
@@ -178,6 +182,25 @@ public class MekanismRecipeType<VANILLA_INPUT extends RecipeInput, RECIPE extend
         return inputCache;
     }
 
+    /**
+     * Records whether a lookup in the input cache was able to use a remembered result.
+     */
+    public void recordMemoLookup(boolean hit) {
+        if (hit) {
+            memoHits.increment();
+        } else {
+            memoMisses.increment();
+        }
+    }
+
+    public long getMemoHits() {
+        return memoHits.sum();
+    }
+
+    public long getMemoMisses() {
+        return memoMisses.sum();
+    }
+
     @Nullable
     private Level getLevel(@Nullable Level level) {
         if (level == null) {
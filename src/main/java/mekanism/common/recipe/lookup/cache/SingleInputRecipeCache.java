@@ -1,11 +1,13 @@
 package mekanism.common.recipe.lookup.cache;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenCustomHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import mekanism.api.functions.ConstantPredicates;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
 import mekanism.common.recipe.MekanismRecipeType;
@@ -17,18 +19,31 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Basic implementation for {@link IInputRecipeCache} for handling recipes with a single input.
+ * <br><br>
+ * The recipes that use the most recently looked up input types are remembered, including when no recipes use them, so that machines repeatedly checking the same input
+ * don't have to test every complex recipe each time.
  */
 public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, RECIPE extends MekanismRecipe<?> & Predicate<INPUT>,
       CACHE extends IInputCache<INPUT, INGREDIENT, RECIPE>> extends AbstractInputRecipeCache<RECIPE> {
 
+    private static final int MAX_MEMOIZED_INPUTS = 256;
+
     private final Set<RECIPE> complexRecipes = new HashSet<>();
     private final Function<RECIPE, INGREDIENT> inputExtractor;
     private final CACHE cache;
+    /**
+     * Map of recently looked up inputs to the recipes that use their type, ignoring the required amounts, in the order they would be checked in. An empty list means that
+     * no recipes use the input. Ordered from least to most recently used so that the least recently used input can be forgotten when there are too many.
+     *
+     * @implNote Lookups may happen from both the client and the integrated server, so access to this is synchronized.
+     */
+    private final Object2ObjectLinkedOpenCustomHashMap<INPUT, List<RECIPE>> memo;
 
     protected SingleInputRecipeCache(MekanismRecipeType<?, RECIPE, ?> recipeType, Function<RECIPE, INGREDIENT> inputExtractor, CACHE cache) {
         super(recipeType);
         this.inputExtractor = inputExtractor;
         this.cache = cache;
+        this.memo = new Object2ObjectLinkedOpenCustomHashMap<>(cache.getMemoKeyStrategy());
     }
 
     @Override
@@ -36,6 +51,45 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
         super.clear();
         cache.clear();
         complexRecipes.clear();
+        synchronized (memo) {
+            memo.clear();
+        }
+    }
+
+    /**
+     * Gets the recipes that use the given input's type, ignoring the size requirement, in the order they should be checked in.
+     *
+     * @param input Recipe input. Must not be empty, and the cache must already be initialized.
+     *
+     * @return Recipes that use the input's type.
+     */
+    private List<RECIPE> getTypeBasedRecipes(INPUT input) {
+        synchronized (memo) {
+            List<RECIPE> recipes = memo.getAndMoveToLast(input);
+            recipeType.recordMemoLookup(recipes != null);
+            if (recipes != null) {
+                return recipes;
+            }
+        }
+        List<RECIPE> recipes = new ArrayList<>();
+        for (RECIPE recipe : cache.getRecipes(input)) {
+            recipes.add(recipe);
+        }
+        for (RECIPE complexRecipe : complexRecipes) {
+            if (inputExtractor.apply(complexRecipe).testType(input)) {
+                recipes.add(complexRecipe);
+            }
+        }
+        if (recipes.isEmpty()) {
+            recipes = Collections.emptyList();
+        }
+        synchronized (memo) {
+            memo.putAndMoveToLast(cache.createMemoKey(input), recipes);
+            if (memo.size() > MAX_MEMOIZED_INPUTS) {
+                memo.removeFirst();
+            }
+        }
+        return recipes;
     }
 
     /**
@@ -47,7 +101,12 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInput(@Nullable Level world, INPUT input) {
-        return containsInput(world, input, inputExtractor, cache, complexRecipes);
+        if (cache.isEmpty(input)) {
+            //Don't allow empty inputs
+            return false;
+        }
+        initCacheIfNeeded(world);
+        return !getTypeBasedRecipes(input).isEmpty();
     }
 
     /**
@@ -65,13 +124,8 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
-        RECIPE recipe = findFirstRecipe(input, cache.getRecipes(input));
-        return recipe == null ? findFirstRecipe(input, complexRecipes) : recipe;
-    }
-
-    @Nullable
-    private RECIPE findFirstRecipe(INPUT input, Iterable<RECIPE> recipes) {
-        for (RECIPE recipe : recipes) {
+        //Note: Testing a recipe also tests the input's type, so only recipes that use the type can match
+        for (RECIPE recipe : getTypeBasedRecipes(input)) {
             if (recipe.test(input)) {
                 return recipe;
             }
@@ -94,15 +148,8 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
-        RECIPE recipe = cache.findFirstRecipe(input, ConstantPredicates.alwaysTrue());
-        if (recipe == null) {
-            for (RECIPE complexRecipe : complexRecipes) {
-                if (inputExtractor.apply(complexRecipe).testType(input)) {
-                    return complexRecipe;
-                }
-            }
-        }
-        return recipe;
+        List<RECIPE> recipes = getTypeBasedRecipes(input);
+        return recipes.isEmpty() ? null : recipes.getFirst();
     }
 
     /**
@@ -121,16 +168,11 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
-        for (RECIPE recipe : cache.getRecipes(input)) {
+        for (RECIPE recipe : getTypeBasedRecipes(input)) {
             if (matchCriteria.test(recipe, input, data)) {
                 return recipe;
             }
         }
-        for (RECIPE complexRecipe : complexRecipes) {
-            if (inputExtractor.apply(complexRecipe).testType(input) && matchCriteria.test(complexRecipe, input, data)) {
-                return complexRecipe;
-            }
-        }
         return null;
     }
 
@@ -150,16 +192,11 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
-        for (RECIPE recipe : cache.getRecipes(input)) {
+        for (RECIPE recipe : getTypeBasedRecipes(input)) {
             if (matchCriteria.testType(recipe, input, data1, data2)) {
                 return recipe;
             }
         }
-        for (RECIPE complexRecipe : complexRecipes) {
-            if (inputExtractor.apply(complexRecipe).testType(input) && matchCriteria.testType(complexRecipe, input, data1, data2)) {
-                return complexRecipe;
-            }
-        }
         return null;
     }
 
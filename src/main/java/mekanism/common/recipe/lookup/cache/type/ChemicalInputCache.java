@@ -1,9 +1,11 @@
 package mekanism.common.recipe.lookup.cache.type;
 
+import it.unimi.dsi.fastutil.Hash;
 import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.ChemicalStackIngredient;
+import mekanism.common.lib.collection.ChemicalHashStrategy;
 
 public class ChemicalInputCache<RECIPE extends MekanismRecipe<?>> extends BaseInputCache<Chemical, ChemicalStack, ChemicalStackIngredient, RECIPE> {
 
@@ -27,4 +29,14 @@ public class ChemicalInputCache<RECIPE extends MekanismRecipe<?>> extends BaseIn
     public boolean isEmpty(ChemicalStack input) {
         return input.isEmpty();
     }
+
+    @Override
+    public ChemicalStack createMemoKey(ChemicalStack input) {
+        return input.copyWithAmount(1);
+    }
+
+    @Override
+    public Hash.Strategy<? super ChemicalStack> getMemoKeyStrategy() {
+        return ChemicalHashStrategy.INSTANCE;
+    }
 }
\ No newline at end of file
@@ -23,8 +23,10 @@ public abstract class ComponentSensitiveInputCache<KEY, INPUT, INGREDIENT extend
      * well as quicker recipe lookup.
      */
     private final Map<INPUT, List<RECIPE>> componentInputCache;
+    private final Hash.Strategy<? super INPUT> componentHashStrategy;
 
     protected ComponentSensitiveInputCache(Hash.Strategy<? super INPUT> componentHashStrategy) {
+        this.componentHashStrategy = componentHashStrategy;
         this.componentInputCache = new Object2ObjectOpenCustomHashMap<>(0, Hash.VERY_FAST_LOAD_FACTOR, componentHashStrategy);
     }
 
@@ -65,6 +67,16 @@ public abstract class ComponentSensitiveInputCache<KEY, INPUT, INGREDIENT extend
         return Iterables.concat(nbtRecipes, basicRecipes);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Uses the same Data Component based strategy as the more specific cache, as ingredients may check components.
+     */
+    @Override
+    public Hash.Strategy<? super INPUT> getMemoKeyStrategy() {
+        return componentHashStrategy;
+    }
+
     /**
      * Adds a given recipe to the input cache using the corresponding Data Component based key.
      *
@@ -62,4 +62,9 @@ public class FluidInputCache<RECIPE extends MekanismRecipe<?>> extends Component
     public boolean isEmpty(FluidStack input) {
         return input.isEmpty();
     }
+
+    @Override
+    public FluidStack createMemoKey(FluidStack input) {
+        return input.copyWithAmount(1);
+    }
 }
\ No newline at end of file
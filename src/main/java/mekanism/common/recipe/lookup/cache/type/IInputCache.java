@@ -1,5 +1,6 @@
 package mekanism.common.recipe.lookup.cache.type;
 
+import it.unimi.dsi.fastutil.Hash;
 import java.util.function.Predicate;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
@@ -78,4 +79,21 @@ public interface IInputCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, R
      * @return {@code true} if the input is empty.
      */
     boolean isEmpty(INPUT input);
+
+    /**
+     * Creates a copy of the given input that can safely be persisted as a key to remember the result of recipe lookups by.
+     *
+     * @param input Input to copy. Must not be empty.
+     *
+     * @return Key representing the input.
+     */
+    INPUT createMemoKey(INPUT input);
+
+    /**
+     * Gets the strategy for comparing keys created by {@link #createMemoKey(Object)}. Two inputs are considered equal if the recipes that use them are guaranteed to be
+     * the same, ignoring required amounts.
+     *
+     * @return Hash strategy for memo keys.
+     */
+    Hash.Strategy<? super INPUT> getMemoKeyStrategy();
 }
\ No newline at end of file
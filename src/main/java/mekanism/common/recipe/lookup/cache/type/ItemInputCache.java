@@ -62,4 +62,9 @@ public class ItemInputCache<RECIPE extends MekanismRecipe<?>> extends ComponentS
     public boolean isEmpty(ItemStack input) {
         return input.isEmpty();
     }
+
+    @Override
+    public ItemStack createMemoKey(ItemStack input) {
+        return input.copyWithCount(1);
+    }
 }
\ No newline at end of file
@@ -63,6 +63,16 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe<?>> implemen
         return 0L;
     }
 
+    /**
+     * @return {@code true} if processing can't do anything until {@link #onChange()} or {@link #unpause()} is called.
+     */
+    public boolean isIdle() {
+        if (cachedRecipe == null) {
+            return hasNoRecipe;
+        }
+        return !shouldUnpause && cachedRecipe.isPausedForErrors();
+    }
+
     public boolean updateAndProcess() {
         CachedRecipe<RECIPE> oldCache = cachedRecipe;
         cachedRecipe = getUpdatedCache(cacheIndex);
@@ -72,8 +72,7 @@ public class QIORecipeData implements RecipeUpgradeData<QIORecipeData> {
             return false;
         }
         stack.set(MekanismDataComponents.DRIVE_METADATA, new DriveMetadata(itemCount, itemMap.size()));
-        //Note: We just directly pass the item map to it, as we don't need it anymore so the drive contents can take it over
-        stack.set(MekanismDataComponents.DRIVE_CONTENTS, new DriveContents(itemMap));
+        stack.set(MekanismDataComponents.DRIVE_CONTENTS, DriveContents.create(itemMap));
         return true;
     }
 }
\ No newline at end of file
@@ -170,6 +170,12 @@ public class TileEntityQuantumEntangloporter extends TileEntityConfigurableMachi
         return false;
     }
 
+    @Override
+    protected boolean tracksHandlerChanges() {
+        //The containers are stored in the frequency, so changes to them don't mark this tile as changed
+        return false;
+    }
+
     @Override
     public boolean shouldDumpRadiation() {
         //Note: The QE doesn't support radioactive substances but override this method anyway
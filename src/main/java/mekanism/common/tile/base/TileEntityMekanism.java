@@ -12,6 +12,7 @@ import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 import java.util.function.ToLongFunction;
 import mekanism.api.Action;
+import mekanism.api.IChangeTrackingHandler;
 import mekanism.api.IConfigCardAccess;
 import mekanism.api.IContentsListener;
 import mekanism.api.MekanismItemAbilities;
@@ -35,6 +36,7 @@ import mekanism.api.security.IBlockSecurityUtils;
 import mekanism.api.security.SecurityMode;
 import mekanism.api.text.TextComponentUtil;
 import mekanism.client.sound.SoundHandler;
+import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.attachments.FilterAware;
 import mekanism.common.attachments.containers.ContainerType;
@@ -149,7 +151,7 @@ import org.jetbrains.annotations.Nullable;
 //TODO: We need to move the "supports" methods into the source interfaces so that we make sure they get checked before being used
 public abstract class TileEntityMekanism extends CapabilityTileEntity implements IFrequencyHandler, ITileDirectional, IConfigCardAccess, ITileActive, ITileSound,
       ITileRedstone, ISecurityTile, IMekanismInventory, ITileUpgradable, ITierUpgradable, IComparatorSupport, ITrackableContainer, IMekanismFluidHandler,
-      IMekanismStrictEnergyHandler, ITileHeatHandler, IMekanismChemicalHandler, IComputerTile, ITileRadioactive, Nameable {
+      IMekanismStrictEnergyHandler, ITileHeatHandler, IMekanismChemicalHandler, IComputerTile, ITileRadioactive, Nameable, IChangeTrackingHandler {
 
     /**
      * The players currently using this block.
@@ -248,6 +250,15 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     private TileComponentSecurity securityComponent;
     //End variables ITileSecurity
 
+    //Variables for handling IChangeTrackingHandler
+    private long changeVersion;
+    //End variables IChangeTrackingHandler
+
+    /**
+     * Whether this tile has nothing it can do until something about it changes, and is skipped when ticking on the server until it gets woken up.
+     */
+    private boolean sleeping;
+
     //Variables for handling ITileActive
     private boolean currentActive;
     private int updateDelay;
@@ -611,6 +622,14 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     public static void tickServer(Level level, BlockPos pos, BlockState state, TileEntityMekanism tile) {
         tile.frequencyComponent.tickServer(level, pos);
+        if (tile.sleeping) {
+            if (!CommonWorldTickHandler.flushTagAndRecipeCaches) {
+                return;
+            }
+            //Recipes or tags changed, so we may be able to make progress again
+            tile.sleeping = false;
+        }
+        long changeVersion = tile.changeVersion;
         if (tile.supportsUpgrades()) {
             tile.upgradeComponent.tickServer();
         }
@@ -654,11 +673,41 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         }
         if (sendUpdatePacket) {
             tile.sendUpdatePacket();
+        } else if (changeVersion == tile.changeVersion && tile.canSleepNow()) {
+            //Note: We only go to sleep if nothing changed this tick, as otherwise the things we depend on may not have settled yet
+            tile.sleeping = true;
         }
     }
 
+    private boolean canSleepNow() {
+        return playersUsing.isEmpty() && updateDelay == 0 && !updateComparators && !hasChunkloader && !canHandleHeat()
+               && (!supportsUpgrades() || !upgradeComponent.isInstallingUpgrades()) && (!supportsRedstone() || redstone == redstoneLastTick) && canSleep();
+    }
+
+    /**
+     * Checks if this tile can't make any progress until its contents, neighbors, upgrades, or redstone state changes. If so, this tile stops ticking on the server
+     * until one of those things changes.
+     *
+     * @implNote Defaults to {@code false}, so that only tiles that know they get woken up by everything they depend on are put to sleep.
+     */
+    protected boolean canSleep() {
+        return false;
+    }
+
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    /**
+     * Wakes this tile up if it is sleeping, so that it starts ticking on the server again.
+     */
+    public void wakeUp() {
+        sleeping = false;
+    }
+
     public void open(Player player) {
         playersUsing.add(player);
+        wakeUp();
     }
 
     public void close(Player player) {
@@ -959,6 +1008,8 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     public void onNeighborChange(Block block, BlockPos neighborPos) {
         if (!isRemote()) {
+            //The neighbor may have gained or lost a capability we interact with
+            wakeUp();
             updatePower();
         }
     }
@@ -1075,6 +1126,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
             boolean power = level.hasNeighborSignal(getBlockPos());
             if (redstone != power) {
                 redstone = power;
+                wakeUp();
                 onPowerChange();
             }
         }
@@ -1148,6 +1200,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     @Override
     public void recalculateUpgrades(Upgrade upgrade) {
+        wakeUp();
         if (upgrade == Upgrade.SPEED) {
             for (IEnergyContainer energyContainer : getEnergyContainers(null)) {
                 if (energyContainer instanceof MachineEnergyContainer<?> machineEnergy) {
@@ -1456,6 +1509,30 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
     //End methods for IInWorldHeatHandler
 
+    //Methods for implementing IChangeTrackingHandler
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        //Note: We bump the version even if the chunk was already marked as dirty this tick, as the contents may have changed again since then
+        changeVersion++;
+        //Anything that changes our contents or configuration may allow us to make progress again
+        sleeping = false;
+        super.setChanged(updateComparator);
+    }
+
+    /**
+     * Whether changes to this tile's containers cause it to be marked as changed. Tiles that expose containers that are stored elsewhere, such as in a multiblock or a
+     * frequency, should return {@code false} so that things offering them contents keep checking them every time.
+     */
+    protected boolean tracksHandlerChanges() {
+        return true;
+    }
+
+    @Override
+    public long getChangeVersion() {
+        return tracksHandlerChanges() ? changeVersion : UNTRACKED;
+    }
+    //End methods IChangeTrackingHandler
+
     //Methods for implementing IConfigCardAccess
     @Override
     public CompoundTag getConfigurationData(HolderLookup.Provider provider, Player player) {
@@ -1,12 +1,15 @@
 package mekanism.common.tile.base;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import mekanism.api.Chunk3D;
 import mekanism.common.Mekanism;
 import mekanism.common.network.PacketUtils;
+import mekanism.common.network.TileUpdateBatcher;
 import mekanism.common.network.to_client.PacketUpdateTile;
+import mekanism.common.network.to_client.PacketUpdateTile.TileUpdate;
 import mekanism.common.registration.impl.TileEntityTypeRegistryObject;
 import mekanism.common.tile.interfaces.ITileWrapper;
 import mekanism.common.util.WorldUtils;
@@ -17,6 +20,7 @@ import net.minecraft.core.SectionPos;
 import net.minecraft.core.component.DataComponentType;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.Connection;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.server.level.ServerLevel;
@@ -37,6 +41,12 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     private boolean cacheCoord;
     private long lastSave;
     private final long worldPositionLong;
+    /**
+     * The update tag that was last sent to (on the server) or received by (on the client) the players tracking this tile, so that we only have to sync what changed. On
+     * the server this gets cleared whenever the full update tag is sent some other way, so that our next update includes everything.
+     */
+    @Nullable
+    private CompoundTag syncedUpdateTag;
 
     public TileEntityUpdateable(TileEntityTypeRegistryObject<?> type, BlockPos pos, BlockState state) {
         super(type.get(), pos, state);
@@ -123,11 +133,18 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     @Nullable
     @Override
     public ClientboundBlockEntityDataPacket getUpdatePacket() {
-        return ClientboundBlockEntityDataPacket.create(this);
+        return ClientboundBlockEntityDataPacket.create(this, (tile, provider) -> {
+            CompoundTag updateTag = getUpdateTag(provider);
+            //Vanilla sends this packet to all the players tracking us, so our next update only has to contain what changed since this tag
+            syncedUpdateTag = updateTag;
+            return updateTag;
+        });
     }
 
     @Override
     public void handleUpdateTag(@NotNull CompoundTag tag, @NotNull HolderLookup.Provider provider) {
+        //Keep track of the tag so that we can apply any partial updates we receive to it
+        syncedUpdateTag = tag;
         //We don't want to do a full read from NBT so simply call the super's read method to let Neo do whatever
         // it wants, but don't treat this as if it was the full saved NBT data as not everything has to be synced to the client
         super.loadAdditional(tag, provider);
@@ -140,6 +157,9 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     @NotNull
     @Override
     public CompoundTag getUpdateTag(@NotNull HolderLookup.Provider provider) {
+        //Vanilla is sending our full update tag to at least one player, which means the players tracking us may no longer all have the same data.
+        // Make sure the next update we send contains everything, so that they all end up in sync again
+        syncedUpdateTag = null;
         return getReducedUpdateTag(provider);
     }
 
@@ -165,6 +185,69 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
         handleUpdateTag(tag, provider);
     }
 
+    /**
+     * Applies an update that was sent by {@link #createUpdate(HolderLookup.Provider)} to the update tag we last received, and then handles the resulting tag.
+     */
+    public void handleUpdate(TileUpdate update, @NotNull HolderLookup.Provider provider) {
+        CompoundTag tag;
+        if (update.full() || syncedUpdateTag == null) {
+            //Note: We should never get a partial update before we have received a full one, but if we do just handle what we were sent
+            tag = update.changed();
+        } else {
+            //Note: We don't modify the tag we last received, as in single player it may be the same instance the server is comparing against
+            tag = new CompoundTag();
+            List<String> removed = update.removed();
+            for (String key : syncedUpdateTag.getAllKeys()) {
+                if (!removed.contains(key)) {
+                    tag.put(key, syncedUpdateTag.get(key));
+                }
+            }
+            CompoundTag changed = update.changed();
+            for (String key : changed.getAllKeys()) {
+                tag.put(key, changed.get(key));
+            }
+        }
+        syncedUpdateTag = tag;
+        handleUpdatePacket(tag, provider);
+    }
+
+    /**
+     * Creates an update containing the entries of our update tag that changed since the last update we sent.
+     *
+     * @return The update, or {@code null} if nothing changed.
+     *
+     * @apiNote Only call on the server, and only when the update will be sent to all the players tracking this tile.
+     */
+    @Nullable
+    public TileUpdate createUpdate(@NotNull HolderLookup.Provider provider) {
+        CompoundTag updateTag = getReducedUpdateTag(provider);
+        CompoundTag lastSent = syncedUpdateTag;
+        syncedUpdateTag = updateTag;
+        if (lastSent == null) {
+            return new TileUpdate(worldPosition, true, updateTag, Collections.emptyList());
+        }
+        CompoundTag changed = new CompoundTag();
+        for (String key : updateTag.getAllKeys()) {
+            Tag value = updateTag.get(key);
+            if (!value.equals(lastSent.get(key))) {
+                changed.put(key, value);
+            }
+        }
+        List<String> removed = Collections.emptyList();
+        for (String key : lastSent.getAllKeys()) {
+            if (!updateTag.contains(key)) {
+                if (removed.isEmpty()) {
+                    removed = new ArrayList<>();
+                }
+                removed.add(key);
+            }
+        }
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return null;
+        }
+        return new TileUpdate(worldPosition, false, changed, removed);
+    }
+
     public void sendUpdatePacket() {
         sendUpdatePacket(this);
     }
@@ -174,11 +257,17 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
             Mekanism.logger.warn("Update packet call requested from client side", new IllegalStateException());
         } else if (isRemoved()) {
             Mekanism.logger.warn("Update packet call requested for removed tile", new IllegalStateException());
-        } else if (PacketUtils.hasPlayersTracking((ServerLevel) tracking.getLevel(), tracking.getBlockPos())) {
+        } else if (tracking == this) {
             //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
             // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
             // does not need to and should not be redrawn
-            PacketUtils.sendToAllTracking(new PacketUpdateTile(this), tracking);
+            TileUpdateBatcher.queue(this);
+        } else if (PacketUtils.hasPlayersTracking((ServerLevel) tracking.getLevel(), tracking.getBlockPos())) {
+            //The players tracking the other tile may not be the ones tracking us, so send them everything right away, and make sure our next update
+            // to the players tracking us contains everything as well
+            syncedUpdateTag = null;
+            PacketUtils.sendToAllTracking(new PacketUpdateTile(new TileUpdate(worldPosition, true, getReducedUpdateTag(level.registryAccess()),
+                  Collections.emptyList())), tracking);
         }
     }
 
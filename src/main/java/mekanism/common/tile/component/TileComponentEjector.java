@@ -19,6 +19,7 @@ import mekanism.api.chemical.IChemicalHandler;
 import mekanism.api.chemical.IChemicalTank;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.fluid.IExtendedFluidTank;
+import mekanism.api.math.MathUtils;
 import mekanism.api.text.EnumColor;
 import mekanism.common.attachments.component.AttachedEjector;
 import mekanism.common.capabilities.Capabilities;
@@ -69,11 +70,20 @@ import org.jetbrains.annotations.Nullable;
 
 public class TileComponentEjector implements ITileComponent, ISpecificContainerTracker {
 
+    private static final OutputTarget[] NO_TARGETS = new OutputTarget[0];
+
     private final TileEntityMekanism tile;
     private final Map<TransmissionType, ConfigInfo> configInfo = new EnumMap<>(TransmissionType.class);
 
     private final Map<TransmissionType, Map<Direction, BlockCapabilityCache<?, @Nullable Direction>>> capabilityCaches = new EnumMap<>(TransmissionType.class);
     private final Map<Direction, BlockEnergyCapabilityCache> energyCapabilityCache = new EnumMap<>(Direction.class);
+    /**
+     * Which containers eject to which capabilities for each transmission type. Lazily calculated and cleared when the side config for the type changes or the tile
+     * is rotated.
+     */
+    private final Map<TransmissionType, OutputTarget[]> outputPlans = new EnumMap<>(TransmissionType.class);
+    @Nullable
+    private Direction planFacing;
 
     private final Function<LogisticalTransporterBase, EnumColor> outputColorFunction;
     private final EnumColor[] inputColors = new EnumColor[EnumUtils.SIDES.length];
@@ -88,6 +98,7 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     private boolean strictInput;
     private EnumColor outputColor;
     private int tickDelay = 0;
+    private int ticksSinceEject = 0;
 
     public TileComponentEjector(TileEntityMekanism tile) {
         this(tile, MekanismConfig.general.chemicalAutoEjectRate);
@@ -119,6 +130,7 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
             ConfigInfo info = config.getConfig(type);
             if (info != null) {
                 configInfo.put(type, info);
+                config.addConfigChangeListener(type, side -> outputPlans.remove(type));
             }
         }
         return this;
@@ -138,7 +150,27 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         return info.isEjecting() && (canEject == null || canEject.test(type));
     }
 
+    /**
+     * @return {@code true} if any type is set to be ejected.
+     */
+    public boolean isEjecting() {
+        for (Map.Entry<TransmissionType, ConfigInfo> entry : configInfo.entrySet()) {
+            if (isEjecting(entry.getValue(), entry.getKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public void tickServer() {
+        Direction facing = tile.getDirection();
+        if (facing != planFacing) {
+            //The plans are based on the absolute directions of the sides, so if we were rotated we need to recalculate all of them
+            outputPlans.clear();
+            planFacing = facing;
+        }
+        int ejectInterval = MekanismConfig.general.autoEjectInterval.get();
+        boolean ejectTick = ++ticksSinceEject >= ejectInterval;
         //loop on array to avoid iterator usage and high memory consumption
         for (TransmissionType type : EnumUtils.TRANSMISSION_TYPES) {
             ConfigInfo info = configInfo.get(type);
@@ -148,63 +180,56 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
             if (isEjecting(info, type)) {
                 if (type == TransmissionType.ITEM) {
                     if (tickDelay == 0) {
-                        outputItems(tile.facingSupplier.get(), info);
+                        outputItems(getOutputPlan(type, facing, info));
                     } else {
                         tickDelay--;
                     }
-                } else if (type != TransmissionType.HEAT) {
-                    eject(type, tile.facingSupplier.get(), info);
+                } else if (type != TransmissionType.HEAT && ejectTick) {
+                    eject(type, getOutputPlan(type, facing, info), ticksSinceEject);
                 }
             }
         }
+        if (ejectTick) {
+            ticksSinceEject = 0;
+        }
     }
 
-    private void addData(Map<Object, Set<Direction>> outputData, Object container, Set<Direction> outputSides) {
-        Set<Direction> directions = outputData.get(container);
-        if (directions == null) {
-            outputSides = EnumSet.copyOf(outputSides);
-            outputData.put(container, outputSides);
-        } else {
-            directions.addAll(outputSides);
+    private OutputTarget[] getOutputPlan(TransmissionType type, Direction facing, ConfigInfo info) {
+        OutputTarget[] plan = outputPlans.get(type);
+        if (plan == null) {
+            plan = type == TransmissionType.ITEM ? createItemPlan(facing, info) : createPlan(type, facing, info);
+            outputPlans.put(type, plan);
         }
+        return plan;
     }
 
     /**
-     * @apiNote Ensure that it can eject before calling this method.
+     * Creates the plan of which containers eject to which sides. We keep track of all containers, rather than just the ones that currently have contents, so that
+     * the plan only needs to be recalculated when the side config changes.
      */
-    private void eject(TransmissionType type, Direction facing, ConfigInfo info) {
-        //Used to keep track of tanks to what sides they output to
-        Map<Object, Set<Direction>> outputData = null;//todo what is the point of putting it into a map??
+    private OutputTarget[] createPlan(TransmissionType type, Direction facing, ConfigInfo info) {
+        //Used to merge the sides of containers that are part of multiple data types, we use an identity hashmap to allow for cheaper compare checks
+        Map<Object, Set<Direction>> outputData = new IdentityHashMap<>();
         for (DataType dataType : info.getSupportedDataTypes()) {
             if (dataType.canOutput()) {
                 ISlotInfo slotInfo = info.getSlotInfo(dataType);
-                if (slotInfo != null && !slotInfo.isEmpty()) {//Only bother getting caps if the containers are not empty
+                if (slotInfo != null) {
                     Set<Direction> outputSides = getSidesForData(info, facing, dataType);
                     if (!outputSides.isEmpty()) {
-                        if (outputData == null) {
-                            //Lazy init outputData, we use an identity hashmap to allow for cheaper compare checks
-                            outputData = new IdentityHashMap<>();
-                        }
                         switch (slotInfo) {
                             case ChemicalSlotInfo chemicalSlotInfo when type == TransmissionType.CHEMICAL -> {
                                 for (IChemicalTank tank : chemicalSlotInfo.getTanks()) {
-                                    if (!tank.isEmpty() && (canTankEject == null || canTankEject.test(tank))) {
-                                        addData(outputData, tank, outputSides);
-                                    }
+                                    addData(outputData, tank, outputSides);
                                 }
                             }
                             case FluidSlotInfo fluidSlotInfo when type == TransmissionType.FLUID -> {
                                 for (IExtendedFluidTank tank : fluidSlotInfo.getTanks()) {
-                                    if (!tank.isEmpty()) {
-                                        addData(outputData, tank, outputSides);
-                                    }
+                                    addData(outputData, tank, outputSides);
                                 }
                             }
                             case EnergySlotInfo energySlotInfo when type == TransmissionType.ENERGY -> {
                                 for (IEnergyContainer container : energySlotInfo.getContainers()) {
-                                    if (!container.isEmpty()) {
-                                        addData(outputData, container, outputSides);
-                                    }
+                                    addData(outputData, container, outputSides);
                                 }
                             }
                             default -> {
@@ -214,34 +239,86 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                 }
             }
         }
-        if (outputData != null && !outputData.isEmpty()) {
-            ServerLevel level = (ServerLevel) tile.getLevel();
-            BlockPos pos = tile.getBlockPos();
-            Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = capabilityCaches.computeIfAbsent(type, t -> new EnumMap<>(Direction.class));
-            for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
-                Set<Direction> sides = entry.getValue();
-                switch (type) {
-                    case CHEMICAL -> {
-                        IChemicalTank tank = (IChemicalTank) entry.getKey();
-                        List<BlockCapabilityCache<IChemicalHandler, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.CHEMICAL);
-                        ChemicalUtil.emit(caches, tank, chemicalEjectRate.getAsLong());
+        if (outputData.isEmpty()) {
+            return NO_TARGETS;
+        }
+        ServerLevel level = (ServerLevel) tile.getLevel();
+        BlockPos pos = tile.getBlockPos();
+        Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = capabilityCaches.computeIfAbsent(type, t -> new EnumMap<>(Direction.class));
+        OutputTarget[] plan = new OutputTarget[outputData.size()];
+        int index = 0;
+        for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
+            Set<Direction> sides = entry.getValue();
+            List<?> caches = switch (type) {
+                case CHEMICAL -> getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.CHEMICAL);
+                case FLUID -> getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.FLUID);
+                default -> getEnergyCapabilityCaches(level, pos, sides);
+            };
+            plan[index++] = new OutputTarget(entry.getKey(), sides.toArray(new Direction[0]), caches);
+        }
+        return plan;
+    }
+
+    private void addData(Map<Object, Set<Direction>> outputData, Object container, Set<Direction> outputSides) {
+        Set<Direction> directions = outputData.get(container);
+        if (directions == null) {
+            outputSides = EnumSet.copyOf(outputSides);
+            outputData.put(container, outputSides);
+        } else {
+            directions.addAll(outputSides);
+        }
+    }
+
+    private OutputTarget[] createItemPlan(Direction facing, ConfigInfo info) {
+        List<OutputTarget> plan = new ArrayList<>();
+        ServerLevel level = (ServerLevel) tile.getLevel();
+        BlockPos pos = tile.getBlockPos();
+        Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = null;
+        for (DataType dataType : info.getSupportedDataTypes()) {
+            //Validate the slot info is of the correct type
+            if (dataType.canOutput() && info.getSlotInfo(dataType) instanceof InventorySlotInfo inventorySlotInfo) {
+                Set<Direction> outputs = getSidesForData(info, facing, dataType);
+                if (!outputs.isEmpty()) {
+                    if (typeCapabilityCaches == null) {
+                        typeCapabilityCaches = capabilityCaches.computeIfAbsent(TransmissionType.ITEM, t -> new EnumMap<>(Direction.class));
                     }
-                    case FLUID -> {
-                        List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.FLUID);
-                        FluidUtils.emit(caches, (IExtendedFluidTank) entry.getKey(), fluidEjectRate.getAsInt());
+                    plan.add(new OutputTarget(inventorySlotInfo, outputs.toArray(new Direction[0]),
+                          getCapabilityCaches(level, pos, typeCapabilityCaches, outputs, Capabilities.ITEM)));
+                }
+            }
+        }
+        return plan.isEmpty() ? NO_TARGETS : plan.toArray(new OutputTarget[0]);
+    }
+
+    /**
+     * @param ticks The number of ticks since we last ejected, used to scale the amount we eject so that the rate stays the same regardless of the eject interval.
+     *
+     * @apiNote Ensure that it can eject before calling this method.
+     */
+    @SuppressWarnings("unchecked")
+    private void eject(TransmissionType type, OutputTarget[] plan, int ticks) {
+        //Note: We loop over the array to avoid any allocations when there is nothing to eject
+        for (OutputTarget target : plan) {
+            switch (type) {
+                case CHEMICAL -> {
+                    IChemicalTank tank = (IChemicalTank) target.container();
+                    if (!tank.isEmpty() && (canTankEject == null || canTankEject.test(tank))) {
+                        ChemicalUtil.emit((List<BlockCapabilityCache<IChemicalHandler, @Nullable Direction>>) target.caches(), tank,
+                              MathUtils.multiplyClamped(chemicalEjectRate.getAsLong(), ticks));
                     }
-                    case ENERGY -> {
-                        IEnergyContainer container = (IEnergyContainer) entry.getKey();
-                        List<BlockEnergyCapabilityCache> caches = new ArrayList<>(sides.size());
-                        for (Direction side : sides) {
-                            BlockEnergyCapabilityCache cache = energyCapabilityCache.get(side);
-                            if (cache == null) {
-                                cache = BlockEnergyCapabilityCache.create(level, pos.relative(side), side.getOpposite());
-                                energyCapabilityCache.put(side, cache);
-                            }
-                            caches.add(cache);
-                        }
-                        CableUtils.emit(caches, container, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.getAsLong());
+                }
+                case FLUID -> {
+                    IExtendedFluidTank tank = (IExtendedFluidTank) target.container();
+                    if (!tank.isEmpty()) {
+                        FluidUtils.emit((List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>>) target.caches(), tank,
+                              MathUtils.clampToInt((long) fluidEjectRate.getAsInt() * ticks));
+                    }
+                }
+                case ENERGY -> {
+                    IEnergyContainer container = (IEnergyContainer) target.container();
+                    if (!container.isEmpty()) {
+                        CableUtils.emit((List<BlockEnergyCapabilityCache>) target.caches(), container,
+                              energyEjectRate == null ? container.getMaxEnergy() : MathUtils.multiplyClamped(energyEjectRate.getAsLong(), ticks));
                     }
                 }
             }
@@ -263,64 +340,62 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         return caches;
     }
 
+    private List<BlockEnergyCapabilityCache> getEnergyCapabilityCaches(ServerLevel level, BlockPos pos, Set<Direction> sides) {
+        List<BlockEnergyCapabilityCache> caches = new ArrayList<>(sides.size());
+        for (Direction side : sides) {
+            BlockEnergyCapabilityCache cache = energyCapabilityCache.get(side);
+            if (cache == null) {
+                cache = BlockEnergyCapabilityCache.create(level, pos.relative(side), side.getOpposite());
+                energyCapabilityCache.put(side, cache);
+            }
+            caches.add(cache);
+        }
+        return caches;
+    }
+
     /**
      * @apiNote Ensure that it can eject before calling this method.
      */
-    private void outputItems(Direction facing, ConfigInfo info) {
-        ServerLevel level = (ServerLevel) tile.getLevel();
-        Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = null;
-        for (DataType dataType : info.getSupportedDataTypes()) {
-            if (!dataType.canOutput()) {
-                continue;
-            }
-            ISlotInfo slotInfo = info.getSlotInfo(dataType);
-            if (slotInfo != null && slotInfo.isEmpty()) {
+    @SuppressWarnings("unchecked")
+    private void outputItems(OutputTarget[] plan) {
+        for (OutputTarget target : plan) {
+            InventorySlotInfo inventorySlotInfo = (InventorySlotInfo) target.container();
+            if (inventorySlotInfo.isEmpty()) {
                 continue;//don't even bother getting caps etc
             }
-            if (slotInfo instanceof InventorySlotInfo inventorySlotInfo) {
-                //Validate the slot info is of the correct type
-                Set<Direction> outputs = getSidesForData(info, facing, dataType);
-                if (!outputs.isEmpty()) {
-                    EjectTransitRequest ejectMap = null;
-                    if (typeCapabilityCaches == null) {
-                        typeCapabilityCaches = capabilityCaches.computeIfAbsent(TransmissionType.ITEM, t -> new EnumMap<>(Direction.class));
+            EjectTransitRequest ejectMap = null;
+            Direction[] sides = target.sides();
+            List<BlockCapabilityCache<IItemHandler, @Nullable Direction>> caches = (List<BlockCapabilityCache<IItemHandler, @Nullable Direction>>) target.caches();
+            for (int i = 0; i < sides.length; i++) {
+                IItemHandler capability = caches.get(i).getCapability();
+                if (capability == null) {
+                    //Skip sides where there isn't a target
+                    continue;
+                }
+                Direction side = sides[i];
+                IItemHandler handler = getHandler(side);
+                if (ejectMap == null) {
+                    //NOTE: The below logic and the entire concept of EjectTransitRequest relies on the implementation detail that
+                    // per DataType all exposed slots are the same regardless of the actual side. If this ever changes or there are
+                    // cases discovered where this is not the case we will instead need to calculate the eject map for each output side
+                    // instead of only having to do it once per DataType
+                    ejectMap = InventoryUtils.getEjectItemMap(new EjectTransitRequest(handler), inventorySlotInfo.getSlots());
+                    //No items to eject, exit
+                    if (ejectMap.isEmpty()) {
+                        break;
                     }
-                    for (Direction side : outputs) {
-                        BlockCapabilityCache<IItemHandler, @Nullable Direction> cache = (BlockCapabilityCache<IItemHandler, @Nullable Direction>) typeCapabilityCaches.get(side);
-                        if (cache == null) {
-                            cache = Capabilities.ITEM.createCache(level, tile.getBlockPos().relative(side), side.getOpposite());
-                            typeCapabilityCaches.put(side, cache);
-                        }
-                        IItemHandler capability = cache.getCapability();
-                        if (capability == null) {
-                            //Skip sides where there isn't a target
-                            continue;
-                        }
-                        IItemHandler handler = getHandler(side);
-                        if (ejectMap == null) {
-                            //NOTE: The below logic and the entire concept of EjectTransitRequest relies on the implementation detail that
-                            // per DataType all exposed slots are the same regardless of the actual side. If this ever changes or there are
-                            // cases discovered where this is not the case we will instead need to calculate the eject map for each output side
-                            // instead of only having to do it once per DataType
-                            ejectMap = InventoryUtils.getEjectItemMap(new EjectTransitRequest(handler), inventorySlotInfo.getSlots());
-                            //No items to eject, exit
-                            if (ejectMap.isEmpty()) {
-                                break;
-                            }
-                        } else {
-                            //Update the handler so that if/when the response uses it, it makes sure it is using the correct side's restrictions
-                            ejectMap.handler = handler;
-                        }
-                        //If the spot is not loaded just skip trying to eject to it
-                        TransitResponse response = ejectMap.eject(tile, capability, 0, this.outputColorFunction);
-                        if (!response.isEmpty()) {
-                            // use the items returned by the TransitResponse; will be visible next loop
-                            response.useAll();
-                            if (ejectMap.isEmpty()) {
-                                //If we are out of items to eject, break
-                                break;
-                            }
-                        }
+                } else {
+                    //Update the handler so that if/when the response uses it, it makes sure it is using the correct side's restrictions
+                    ejectMap.handler = handler;
+                }
+                //If the spot is not loaded just skip trying to eject to it
+                TransitResponse response = ejectMap.eject(tile, capability, 0, this.outputColorFunction);
+                if (!response.isEmpty()) {
+                    // use the items returned by the TransitResponse; will be visible next loop
+                    response.useAll();
+                    if (ejectMap.isEmpty()) {
+                        //If we are out of items to eject, break
+                        break;
                     }
                 }
             }
@@ -540,6 +615,14 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     }
     //End computer related methods
 
+    /**
+     * @param container The container to eject from, or the {@link InventorySlotInfo} of the slots to eject from for items.
+     * @param sides     The sides to eject to.
+     * @param caches    The capability caches for each side, in the same order as the sides.
+     */
+    private record OutputTarget(Object container, Direction[] sides, List<?> caches) {
+    }
+
     private static class EjectTransitRequest extends HandlerTransitRequest {
 
         public IItemHandler handler;
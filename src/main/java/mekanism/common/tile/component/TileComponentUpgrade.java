@@ -95,6 +95,13 @@ public class TileComponentUpgrade implements ITileComponent, ISpecificContainerT
         }
     }
 
+    /**
+     * @return {@code true} if the upgrade in the input slot may still need to be installed.
+     */
+    public boolean isInstallingUpgrades() {
+        return canCheckUpgrades;
+    }
+
     public UpgradeInventorySlot getUpgradeSlot() {
         return upgradeSlot;
     }
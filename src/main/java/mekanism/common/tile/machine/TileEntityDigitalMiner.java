@@ -31,6 +31,7 @@ import mekanism.common.Mekanism;
 import mekanism.common.attachments.FilterAware;
 import mekanism.common.attachments.OverflowAware;
 import mekanism.common.base.MekFakePlayer;
+import mekanism.common.base.ProfilerConstants;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.capabilities.energy.MinerEnergyContainer;
 import mekanism.common.capabilities.holder.energy.EnergyContainerHelper;
@@ -41,6 +42,7 @@ import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.filter.SortableFilterManager;
 import mekanism.common.content.miner.MinerFilter;
 import mekanism.common.content.miner.MinerRegionCache;
+import mekanism.common.content.miner.MinerSearchPalette;
 import mekanism.common.content.miner.ThreadMinerSearch;
 import mekanism.common.content.miner.ThreadMinerSearch.State;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
@@ -60,6 +62,7 @@ import mekanism.common.inventory.container.tile.DigitalMinerConfigContainer;
 import mekanism.common.inventory.slot.BasicInventorySlot;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.item.gear.ItemAtomicDisassembler;
+import mekanism.common.lib.TickProfiler;
 import mekanism.common.lib.chunkloading.IChunkLoader;
 import mekanism.common.lib.inventory.Finder;
 import mekanism.common.lib.inventory.HashedItem;
@@ -81,6 +84,7 @@ import mekanism.common.util.UpgradeUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.GlobalPos;
 import net.minecraft.core.Holder.Reference;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.SectionPos;
@@ -92,6 +96,7 @@ import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Mth;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
@@ -117,11 +122,22 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     public static final int DEFAULT_HEIGHT_RANGE = 60;
     public static final int DEFAULT_RADIUS = 10;
+    private static final TickProfiler.Section PROFILER_SECTION = TickProfiler.section(ProfilerConstants.DIGITAL_MINER);
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private final SortableFilterManager<MinerFilter<?>> filterManager = new SortableFilterManager<MinerFilter<?>>((Class) MinerFilter.class, this::markForSave);
     private Long2ObjectMap<BitSet> oresToMine = Long2ObjectMaps.emptyMap();
     public ThreadMinerSearch searcher = new ThreadMinerSearch(this);
+    /**
+     * The blocks found by the last search, so that searching again after changing filters doesn't have to read every block again.
+     */
+    @Nullable
+    private MinerSearchPalette searchPalette;
+    /**
+     * Key used to keep track of this miner in the {@link TickProfiler}, so that the profiler doesn't keep this miner loaded after it is removed.
+     */
+    @Nullable
+    private GlobalPos profilerKey;
 
     @Nullable
     private BlockCapabilityCache<IItemHandler, @Nullable Direction> pullInventory;
@@ -223,6 +239,9 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
     @Override
     protected boolean onUpdateServer() {
         boolean sendUpdatePacket = super.onUpdateServer();
+        ProfilerFiller profiler = level.getProfiler();
+        profiler.push(ProfilerConstants.DIGITAL_MINER);
+        long start = System.nanoTime();
         closeInvalidScreens();
         if (!initCalc) {
             //If it had finished searching, and we didn't initialize things yet,
@@ -293,6 +312,11 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         } else if (delayTicks > 0) {
             delayTicks--;
         }
+        if (profilerKey == null) {
+            profilerKey = GlobalPos.of(level.dimension(), worldPosition);
+        }
+        PROFILER_SECTION.end(start, profilerKey, level, worldPosition.asLong());
+        profiler.pop();
         return sendUpdatePacket;
     }
 
@@ -504,6 +528,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
                                     //Remove the block from our list of blocks to mine, and reduce the number of blocks we have to mine
                                     cachedToMine--;
                                     chunkToMine.clear(index);
+                                    if (searchPalette != null) {
+                                        //We changed a block in this chunk, so the next search needs to read the chunk again
+                                        searchPalette.invalidateChunk(chunk);
+                                    }
                                     if (chunkToMine.isEmpty()) {
                                         // if we are out of stored elements then we remove this chunk and continue to check other chunks
                                         // remove it so that we don't have to check the chunk next time around
@@ -794,8 +822,15 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
         if (searcher.state == State.IDLE) {
             BlockPos startingPos = getStartingPos();
             int diameter = getDiameter();
-            searcher.setChunkCache(new MinerRegionCache((ServerLevel) getLevel(), startingPos, startingPos.offset(diameter, getMaxY() - getMinY() + 1, diameter), this.upgradeComponent.isUpgradeInstalled(Upgrade.ANCHOR)));
-            searcher.start();
+            int height = getMaxY() - getMinY() + 1;
+            int paletteLifetime = MekanismConfig.general.minerSearchPaletteLifetime.get();
+            if (paletteLifetime == 0) {
+                searchPalette = null;
+            } else if (searchPalette == null || !searchPalette.canReuse(startingPos, diameter, height, level.getGameTime(), paletteLifetime)) {
+                searchPalette = new MinerSearchPalette(startingPos, diameter, height, level.getGameTime());
+            }
+            boolean hasAnchor = this.upgradeComponent.isUpgradeInstalled(Upgrade.ANCHOR);
+            searcher.start(searchPalette, () -> new MinerRegionCache((ServerLevel) getLevel(), startingPos, startingPos.offset(diameter, height, diameter), hasAnchor));
         }
         running = true;
         markForSave();
@@ -803,7 +838,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
+            searcher.cancel();
             reset();
         } else if (searcher.state == State.FINISHED) {
             running = false;
@@ -815,8 +850,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
     }
 
     public void reset() {
-        if (searcher != null && searcher.isAlive()) {
-            searcher.interrupt();
+        if (searcher != null) {
+            searcher.cancel();
         }
         searcher = new ThreadMinerSearch(this);
         running = false;
@@ -1217,7 +1252,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements IChunk
 
     @ComputerMethod(methodDescription = "Get the count of block found but not yet mined")
     public int getToMine() {
-        return !isRemote() && searcher.state == State.SEARCHING ? searcher.found : cachedToMine;
+        return !isRemote() && searcher.state == State.SEARCHING ? searcher.getFound() : cachedToMine;
     }
 
     @ComputerMethod(methodDescription = "Whether the miner is currently running")
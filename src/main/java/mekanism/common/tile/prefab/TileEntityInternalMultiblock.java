@@ -4,6 +4,7 @@ import java.util.Objects;
 import java.util.UUID;
 import mekanism.api.SerializationConstants;
 import mekanism.api.providers.IBlockProvider;
+import mekanism.common.lib.math.voxel.VoxelCuboid.CuboidRelative;
 import mekanism.common.lib.multiblock.IInternalMultiblock;
 import mekanism.common.lib.multiblock.MultiblockData;
 import mekanism.common.tile.base.TileEntityMekanism;
@@ -64,12 +65,18 @@ public class TileEntityInternalMultiblock extends TileEntityMekanism implements
         //TODO - V11: Make this properly support changing blocks inside the structure when they aren't touching any part of the multiblocks
         //Note: We handle when an internal multiblock is removed that isn't touching anything in BlockMekanism#onRemove
         if (!isRemote() && multiblock != null) {
-            //If the neighbor change happened to a block inside a multiblock, and it isn't a block that is part of the multiblock
-            if (level.isEmptyBlock(neighborPos) || !multiblock.isKnownLocation(neighborPos)) {
-                //And we are not already an internal part of the structure, or we are changing an internal part to air
+            boolean needsRecheck;
+            if (multiblock.getBounds().getRelativeLocation(neighborPos) == CuboidRelative.INSIDE) {
+                //If the neighbor change happened to a block inside the multiblock, see if the multiblock can handle the change in place
+                needsRecheck = !multiblock.tryUpdateInternal(level, neighborPos);
+            } else {
+                //Otherwise, if it is on the walls of the multiblock, and we are not already a part of the structure, or we are changing a part to air
                 // then we mark the structure as needing to be re-validated
-                //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
-                // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
+                needsRecheck = level.isEmptyBlock(neighborPos) || !multiblock.isKnownLocation(neighborPos);
+            }
+            //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
+            // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
+            if (needsRecheck) {
                 multiblock.recheckStructure = true;
             }
         }
@@ -78,9 +85,10 @@ public class TileEntityInternalMultiblock extends TileEntityMekanism implements
     @Override
     public void blockRemoved() {
         super.blockRemoved();
-        //If an internal multiblock is being removed then mark the multiblock it was in as needing to recheck the structure
-        if (!isRemote() && hasFormedMultiblock() && multiblock != null) {
-            //Multiblock shouldn't be null but validate it just in case
+        //If an internal multiblock is being removed then mark the multiblock it was in as needing to recheck the structure,
+        // unless the multiblock can just stop keeping track of it
+        //Note: Multiblock shouldn't be null but validate it just in case
+        if (!isRemote() && hasFormedMultiblock() && multiblock != null && !multiblock.tryRemoveInternal(getBlockPos())) {
             multiblock.recheckStructure = true;
         }
     }
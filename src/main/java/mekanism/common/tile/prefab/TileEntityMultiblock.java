@@ -18,10 +18,12 @@ import mekanism.common.integration.computer.MethodRestriction;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.dynamic.SyncMapper;
+import mekanism.common.lib.TickProfiler;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
 import mekanism.common.lib.multiblock.IMultiblock;
 import mekanism.common.lib.multiblock.IStructuralMultiblock;
 import mekanism.common.lib.multiblock.MultiblockData;
+import mekanism.common.lib.multiblock.MultiblockManager;
 import mekanism.common.lib.multiblock.Structure;
 import mekanism.common.tile.base.TileEntityMekanism;
 import mekanism.common.util.EnumUtils;
@@ -35,6 +37,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.ItemInteractionResult;
@@ -131,10 +134,17 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
                     markForSave();
                 }
                 if (isMaster()) {
+                    MultiblockManager<T> manager = getManager();
+                    TickProfiler.Section section = manager.getProfilerSection();
+                    ProfilerFiller profiler = level.getProfiler();
+                    profiler.push(section.getName());
+                    long start = System.nanoTime();
                     if (multiblock.tick(level)) {
                         needsPacket = true;
                     }
-                    getManager().handleDirtyMultiblock(multiblock);
+                    section.end(start, multiblock.inventoryID, level, worldPosition.asLong());
+                    profiler.pop();
+                    manager.handleDirtyMultiblock(multiblock);
                 }
             }
         } else {
@@ -204,6 +214,12 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
         return false;
     }
 
+    @Override
+    protected boolean tracksHandlerChanges() {
+        //The containers are stored in the multiblock, so changes to them don't mark this tile as changed
+        return false;
+    }
+
     @Override
     public boolean canBeMaster() {
         return true;
@@ -348,15 +364,12 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
         //TODO - V11: Make this properly support changing blocks inside the structure when they aren't touching any part of the multiblocks
         if (!isRemote()) {
             T multiblock = getMultiblock();
-            if (multiblock.isPositionInsideBounds(getStructure(), neighborPos)) {
-                //If the neighbor change happened from inside the bounds of the multiblock,
-                if (level.isEmptyBlock(neighborPos) || !multiblock.internalLocations.contains(neighborPos)) {
-                    //And we are not already an internal part of the structure, or we are changing an internal part to air
-                    // then we mark the structure as needing to be re-validated
-                    //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
-                    // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
-                    getStructure().markForUpdate(level, true);
-                }
+            //If the neighbor change happened from inside the bounds of the multiblock, and the multiblock can't handle the change in place
+            // then we mark the structure as needing to be re-validated
+            //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
+            // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
+            if (multiblock.isPositionInsideBounds(getStructure(), neighborPos) && !multiblock.tryUpdateInternal(level, neighborPos)) {
+                getStructure().markForUpdate(level, true);
             }
         }
     }
@@ -97,6 +97,12 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe<?>>
         return recipeCacheUnpauseSaveOnlyListener;
     }
 
+    @Override
+    protected boolean canSleep() {
+        //Note: We don't sleep while ejecting, as the things we eject into don't tell us when they have room again
+        return !ejectorComponent.isEjecting() && recipeCacheLookupMonitor.isIdle();
+    }
+
     @Override
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
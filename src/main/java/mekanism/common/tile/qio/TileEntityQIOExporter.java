@@ -5,11 +5,10 @@ import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import java.util.Collection;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.ToIntFunction;
+import java.util.function.ToIntBiFunction;
 import mekanism.api.Action;
 import mekanism.api.IContentsListener;
 import mekanism.api.SerializationConstants;
@@ -24,7 +23,6 @@ import mekanism.common.capabilities.item.CursedTransporterItemHandler;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase.PathCalculator;
 import mekanism.common.content.qio.QIOFrequency;
-import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
 import mekanism.common.content.qio.filter.QIOFilter;
 import mekanism.common.content.qio.filter.QIOItemStackFilter;
 import mekanism.common.content.qio.filter.QIOModIDFilter;
@@ -65,10 +63,10 @@ import org.jetbrains.annotations.Nullable;
 
 public class TileEntityQIOExporter extends TileEntityQIOFilterHandler implements IAdvancedTransportEjector {
 
-    private static final EfficientEjector<Object2LongMap.Entry<HashedItem>> FILTER_EJECTOR = new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getLongValue()),
-          (exporter, freq) -> exporter.getFilterEjectMap(freq).object2LongEntrySet());
-    private static final EfficientEjector<Map.Entry<HashedItem, QIOItemTypeData>> FILTERLESS_EJECTOR =
-          new EfficientEjector<>(Entry::getKey, e -> MathUtils.clampToInt(e.getValue().getCount()), (exporter, freq) -> freq.getItemDataMap().entrySet());
+    private static final EfficientEjector<Object2LongMap.Entry<HashedItem>> FILTER_EJECTOR = new EfficientEjector<>(Entry::getKey,
+          (freq, e) -> MathUtils.clampToInt(e.getLongValue()), (exporter, freq) -> exporter.getFilterEjectMap(freq).object2LongEntrySet());
+    private static final EfficientEjector<HashedItem> FILTERLESS_EJECTOR = new EfficientEjector<>(Function.identity(),
+          (freq, type) -> MathUtils.clampToInt(freq.getStoredByHash(type)), (exporter, freq) -> freq.getStoredTypes());
     private static final int MAX_DELAY = MekanismUtils.TICKS_PER_HALF_SECOND;
 
     @Nullable
@@ -301,14 +299,14 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler implements
      * distribution based on a predetermined 'max eject attempt' constant to see if the ejection should take place. This makes sure we will eventually eject each item
      * type, but not attempt every item in the frequency each operation.
      * <p>
-     * Abstracting us away from the item map (using the type/count suppliers) allows us to interface directly with the entries of the QIO's item data map when running a
+     * Abstracting us away from the item map (using the type/count suppliers) allows us to interface directly with the types stored in the QIO frequency when running a
      * filterless ejection, rather than recreating the whole map each ejection operation.
      * <p>
      * Complexity: O(k * s), where 'k' is our max eject attempts constant and 's' is the size of the inventory.
      *
      * @author aidancbrady
      */
-    private record EfficientEjector<T>(Function<T, HashedItem> typeSupplier, ToIntFunction<T> countSupplier,
+    private record EfficientEjector<T>(Function<T, HashedItem> typeSupplier, ToIntBiFunction<QIOFrequency, T> countSupplier,
                                        BiFunction<TileEntityQIOExporter, QIOFrequency, Collection<T>> ejectMapCalculator) {
 
         private static final double MAX_EJECT_ATTEMPTS = 100;
@@ -353,7 +351,7 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler implements
                     continue;
                 }
                 HashedItem type = typeSupplier.apply(obj);
-                int amountToInsert = Math.min(maxCount - amountRemoved, countSupplier.applyAsInt(obj));
+                int amountToInsert = Math.min(maxCount - amountRemoved, countSupplier.applyAsInt(freq, obj));
                 ItemStack origInsert = type.createStack(amountToInsert);
                 int toUse;
                 if (transporter == null) {
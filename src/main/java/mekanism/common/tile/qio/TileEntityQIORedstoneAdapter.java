@@ -57,7 +57,7 @@ public class TileEntityQIORedstoneAdapter extends TileEntityQIOComponent {
         if (freq == null || itemType == null) {
             return 0;
         } else if (fuzzy) {
-            return freq.getTypesForItem(itemType.getItem()).stream().mapToLong(freq::getStoredByHash).sum();
+            return freq.getStoredByItem(itemType.getItem());
         }
         return freq.getStoredByHash(itemType);
     }
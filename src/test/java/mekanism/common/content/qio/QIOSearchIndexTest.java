@@ -0,0 +1,134 @@
+package mekanism.common.content.qio;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test QIOSearchIndex matches the same types as SearchQueryParser")
+class QIOSearchIndexTest {
+
+    private static final String[] NAMES = {
+          "Osmium Ingot",
+          "Refined Obsidian Ingot",
+          "Ingot of Osmium",
+          "Steel Casing",
+          "Basic Universal Cable",
+          "Iron  Double  Spaced",
+          "Osmium"
+    };
+
+    @Test
+    @DisplayName("Test keys that are substrings of words")
+    void testWordSubstrings() {
+        QIOSearchIndex index = new QIOSearchIndex();
+        List<HashedItem> types = createTypes(NAMES);
+        types.forEach(index::add);
+        for (String query : List.of("osmium", "smi", "INGOT", "ot", "t", "casing", "cable | steel", "missing", "(smi | sing) ingot", "")) {
+            assertSameMatches(index, types, query);
+        }
+    }
+
+    @Test
+    @DisplayName("Test keys that contain spaces")
+    void testKeysWithSpaces() {
+        QIOSearchIndex index = new QIOSearchIndex();
+        List<HashedItem> types = createTypes(NAMES);
+        types.forEach(index::add);
+        //Note: Keys with spaces have to match the words in order, and can span just part of the words
+        for (String query : List.of("\"osmium ingot\"", "\"ingot osmium\"", "\"ium in\"", "\"ingot of\"", "\"double  spaced\"", "\"double spaced\"", "\" \"",
+              "\"  \"", "\"n d\"", "osmium ingot")) {
+            assertSameMatches(index, types, query);
+        }
+    }
+
+    @Test
+    @DisplayName("Test refining a query one character at a time")
+    void testIncrementalQueries() {
+        QIOSearchIndex index = new QIOSearchIndex();
+        List<HashedItem> types = createTypes(NAMES);
+        types.forEach(index::add);
+        //Typing, deleting, and then typing in front of a key, which all reuse the terms that matched the previous query
+        for (String query : List.of("o", "os", "osm", "osmi", "osmium", "osmiu", "osm", "xosm", "osm", "s", "si", "sin", "sing", "i", "in", "ing", "ingo", "ingot",
+              "\"ingot o\"", "\"ingot of\"")) {
+            assertSameMatches(index, types, query);
+        }
+        //Adding a type with a new term while a key is being refined has to still find the new type
+        assertSameMatches(index, types, "cab");
+        HashedItem cabbage = createType("Cabbage");
+        index.add(cabbage);
+        types.add(cabbage);
+        assertSameMatches(index, types, "cabb");
+        assertSameMatches(index, types, "cab");
+        //And removing the last type with a term has to stop it from matching
+        index.remove(cabbage);
+        types.remove(cabbage);
+        assertSameMatches(index, types, "cabb");
+        assertSameMatches(index, types, "cab");
+    }
+
+    @Test
+    @DisplayName("Test dictionaries that are only built once they are first needed")
+    void testLazyDictionaries() {
+        QIOSearchIndex index = new QIOSearchIndex();
+        List<HashedItem> types = createTypes(NAMES);
+        //Only build the name dictionary, and then change the types before the mod id dictionary gets built
+        types.subList(0, 3).forEach(index::add);
+        assertSameMatches(index, types.subList(0, 3), "ingot");
+        index.sync(new HashSet<>(types.subList(2, types.size())));
+        List<HashedItem> synced = types.subList(2, types.size());
+        assertSameMatches(index, synced, "@minecraft");
+        assertSameMatches(index, synced, "@mekanism");
+        assertSameMatches(index, synced, "@craft osmium");
+        assertSameMatches(index, synced, "ingot");
+        //Both dictionaries have to be kept up to date from now on
+        HashedItem stone = HashedItem.create(new ItemStack(Items.STONE));
+        index.add(stone);
+        List<HashedItem> withStone = new ArrayList<>(synced);
+        withStone.add(stone);
+        assertSameMatches(index, withStone, "@minecraft");
+        assertSameMatches(index, withStone, "stone | @mine osmium");
+        index.clear();
+        assertSameMatches(index, List.of(), "@minecraft");
+        index.add(stone);
+        assertSameMatches(index, List.of(stone), "@minecraft stone");
+    }
+
+    private static List<HashedItem> createTypes(String... names) {
+        List<HashedItem> types = new ArrayList<>(names.length);
+        for (String name : names) {
+            types.add(createType(name));
+        }
+        return types;
+    }
+
+    private static HashedItem createType(String name) {
+        ItemStack stack = new ItemStack(Items.IRON_INGOT);
+        stack.set(DataComponents.CUSTOM_NAME, Component.literal(name));
+        return HashedItem.create(stack);
+    }
+
+    private static void assertSameMatches(QIOSearchIndex index, List<HashedItem> types, String queryStr) {
+        ISearchQuery query = SearchQueryParser.parse(queryStr);
+        BitSet matches = index.search(null, query);
+        Set<HashedItem> expected = new HashSet<>();
+        for (HashedItem type : types) {
+            boolean shouldMatch = query.test(null, type.getInternalStack());
+            Assertions.assertEquals(shouldMatch, index.contains(matches, type), () -> "Query '" + queryStr + "' against " + type.getInternalStack().getHoverName().getString());
+            if (shouldMatch) {
+                expected.add(type);
+            }
+        }
+        Assertions.assertEquals(expected.size(), matches.cardinality(), () -> "Number of types matched by '" + queryStr + "'");
+    }
+}
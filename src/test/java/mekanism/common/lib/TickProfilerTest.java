@@ -0,0 +1,72 @@
+package mekanism.common.lib;
+
+import java.util.List;
+import mekanism.common.lib.TickProfiler.Section;
+import mekanism.common.lib.TickProfiler.Stats;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test TickProfiler implementation")
+class TickProfilerTest {
+
+    @AfterEach
+    void reset() {
+        TickProfiler.reset();
+    }
+
+    @Test
+    @DisplayName("Test sections are shared by name and sorted by time spent")
+    void testSections() {
+        Section fast = TickProfiler.section("test.fast");
+        Section slow = TickProfiler.section("test.slow");
+        Assertions.assertSame(fast, TickProfiler.section("test.fast"));
+        long now = System.nanoTime();
+        fast.end(now - 1_000);
+        slow.end(now - 1_000_000);
+        slow.end(now - 1_000_000);
+        List<Stats> top = TickProfiler.getTopSections(2);
+        Assertions.assertEquals(2, top.size());
+        Assertions.assertEquals("test.slow", top.get(0).section());
+        Assertions.assertEquals(2, top.get(0).calls());
+        Assertions.assertTrue(top.get(0).nanos() >= 2_000_000);
+        Assertions.assertEquals("test.fast", top.get(1).section());
+        Assertions.assertEquals(1, TickProfiler.getTopSections(1).size());
+    }
+
+    @Test
+    @DisplayName("Test offenders are tracked individually with their position")
+    void testOffenders() {
+        Section section = TickProfiler.section("test.offenders");
+        Object first = new Object();
+        Object second = new Object();
+        long now = System.nanoTime();
+        section.end(now - 1_000, first, null, BlockPos.asLong(1, 2, 3));
+        section.end(now - 1_000_000, second, null, BlockPos.asLong(4, 5, 6));
+        section.end(now - 1_000, first, null, BlockPos.asLong(1, 2, 3));
+        List<Stats> top = TickProfiler.getTopOffenders(10);
+        Assertions.assertEquals(2, top.size());
+        Assertions.assertEquals(new BlockPos(4, 5, 6), top.get(0).pos());
+        Assertions.assertEquals(1, top.get(0).calls());
+        Assertions.assertEquals(new BlockPos(1, 2, 3), top.get(1).pos());
+        Assertions.assertEquals(2, top.get(1).calls());
+        //The section counts everything its offenders took
+        Assertions.assertEquals(3, TickProfiler.getTopSections(10).stream().filter(stats -> stats.section().equals("test.offenders")).findFirst().orElseThrow().calls());
+    }
+
+    @Test
+    @DisplayName("Test resetting clears the counts but keeps the sections usable")
+    void testReset() {
+        Section section = TickProfiler.section("test.reset");
+        section.end(System.nanoTime(), new Object(), null, 0);
+        TickProfiler.onServerTick();
+        TickProfiler.reset();
+        Assertions.assertEquals(0, TickProfiler.getTicks());
+        Assertions.assertTrue(TickProfiler.getTopSections(10).isEmpty());
+        Assertions.assertTrue(TickProfiler.getTopOffenders(10).isEmpty());
+        section.end(System.nanoTime());
+        Assertions.assertEquals(1, TickProfiler.getTopSections(10).size());
+    }
+}
\ No newline at end of file
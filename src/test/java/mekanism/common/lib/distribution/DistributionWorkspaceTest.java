@@ -0,0 +1,194 @@
+package mekanism.common.lib.distribution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import mekanism.common.lib.distribution.handler.InfiniteLongHandler;
+import mekanism.common.lib.distribution.handler.LongHandler;
+import mekanism.common.lib.distribution.handler.LyingAmountLongHandler;
+import mekanism.common.lib.distribution.handler.PartialLongHandler;
+import mekanism.common.lib.distribution.handler.SpecificAmountLongHandler;
+import mekanism.common.lib.distribution.target.LongTarget;
+import mekanism.common.lib.distribution.target.LongWorkspace;
+import mekanism.common.util.EmitUtils;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+import net.jqwik.api.constraints.Positive;
+import net.jqwik.api.constraints.Size;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test Distribution via DistributionWorkspace")
+class DistributionWorkspaceTest {
+
+    static final Void VOID_RESOURCE = null;
+
+    /**
+     * Distributes the amount through a workspace, both reusing the amounts the handlers wanted when they were added and simulating them again, and through
+     * {@link EmitUtils} using a target containing the handlers that wanted some of the amount (the same way the networks only add acceptors that want something), and
+     * checks that every handler was given exactly the same amount each way.
+     *
+     * @return The handlers that were distributed to by the workspace that reused the amounts the handlers wanted.
+     */
+    private static List<LongHandler> distribute(List<Supplier<LongHandler>> handlerCreators, long toSend) {
+        LongTarget target = new LongTarget();
+        LongWorkspace workspace = new LongWorkspace();
+        LongWorkspace resimulatingWorkspace = new LongWorkspace();
+        List<LongHandler> expected = new ArrayList<>(handlerCreators.size());
+        List<LongHandler> handlers = new ArrayList<>(handlerCreators.size());
+        List<LongHandler> resimulatedHandlers = new ArrayList<>(handlerCreators.size());
+        for (Supplier<LongHandler> handlerCreator : handlerCreators) {
+            LongHandler expectedHandler = handlerCreator.get();
+            if (expectedHandler.perform(toSend, true) > 0) {
+                target.addHandler(expectedHandler);
+            }
+            expected.add(expectedHandler);
+            LongHandler handler = handlerCreator.get();
+            workspace.addHandler(handler, toSend);
+            handlers.add(handler);
+            LongHandler resimulatedHandler = handlerCreator.get();
+            resimulatingWorkspace.addHandler(resimulatedHandler, toSend);
+            resimulatedHandlers.add(resimulatedHandler);
+        }
+        long expectedSent = EmitUtils.sendToAcceptors(target, toSend, VOID_RESOURCE);
+        Assertions.assertEquals(expectedSent, workspace.distribute(toSend, true));
+        Assertions.assertEquals(expectedSent, resimulatingWorkspace.distribute(toSend, false));
+        Assertions.assertTrue(expectedSent <= toSend);
+        for (int i = 0; i < expected.size(); i++) {
+            long expectedAccepted = expected.get(i).getAccepted();
+            Assertions.assertEquals(expectedAccepted, handlers.get(i).getAccepted(), "Amount given to handler " + i);
+            Assertions.assertEquals(expectedAccepted, resimulatedHandlers.get(i).getAccepted(), "Amount given to handler " + i + " when simulating again");
+        }
+        return handlers;
+    }
+
+    private static List<Supplier<LongHandler>> getHandlers(int infinite, int some, int none) {
+        List<Supplier<LongHandler>> handlers = new ArrayList<>(infinite + some + none);
+        handlers.addAll(Collections.<Supplier<LongHandler>>nCopies(infinite, InfiniteLongHandler::new));
+        handlers.addAll(Collections.<Supplier<LongHandler>>nCopies(some, PartialLongHandler::new));
+        handlers.addAll(Collections.<Supplier<LongHandler>>nCopies(none, () -> new SpecificAmountLongHandler(0)));
+        return handlers;
+    }
+
+    @Test
+    @DisplayName("Test sending to targets where the amounts divide evenly")
+    void testEvenDistribution() {
+        for (LongHandler handler : distribute(getHandlers(10, 0, 0), 10)) {
+            Assertions.assertEquals(1, handler.getAccepted());
+        }
+    }
+
+    @Test
+    @DisplayName("Test sending to targets where the amounts divide evenly with more than 1 each")
+    void testEvenDistribution2() {
+        for (LongHandler handler : distribute(getHandlers(10, 0, 0), 40)) {
+            Assertions.assertEquals(4, handler.getAccepted());
+        }
+    }
+
+    @Test
+    @DisplayName("Test sending to non divisible amounts")
+    void testRemainderDistribution() {
+        List<LongHandler> handlers = distribute(getHandlers(7, 0, 0), 10);
+        Assertions.assertEquals(4, handlers.stream().filter(handler -> handler.getAccepted() == 1).count());
+        Assertions.assertEquals(3, handlers.stream().filter(handler -> handler.getAccepted() == 2).count());
+    }
+
+    @Test
+    @DisplayName("Test sending to more targets than we have enough to send one to each of")
+    void testAllRemainder() {
+        List<LongHandler> handlers = distribute(getHandlers(7, 0, 0), 3);
+        Assertions.assertEquals(3, handlers.stream().filter(handler -> handler.getAccepted() == 1).count());
+        Assertions.assertEquals(4, handlers.stream().filter(handler -> handler.getAccepted() == 0).count());
+    }
+
+    @Test
+    @DisplayName("Test to check if the remainder is being calculated correctly")
+    void testCorrectRemainder() {
+        distribute(List.of(() -> new SpecificAmountLongHandler(1), () -> new SpecificAmountLongHandler(3), () -> new SpecificAmountLongHandler(3)), 5);
+    }
+
+    @Test
+    @DisplayName("Test to check if the remainder is able to be sent when having to fall back")
+    void testCorrectFallbackRemainder() {
+        List<LongHandler> handlers = distribute(List.of(() -> new SpecificAmountLongHandler(8), () -> new LyingAmountLongHandler(1, 10)), 9);
+        Assertions.assertEquals(8, handlers.get(0).getAccepted());
+        Assertions.assertEquals(1, handlers.get(1).getAccepted());
+    }
+
+    @Test
+    @DisplayName("Test to check if the remainder is able to be sent when having to fall back using the reversed order for the handlers")
+    void testCorrectFallbackRemainderAltOrder() {
+        List<LongHandler> handlers = distribute(List.of(() -> new LyingAmountLongHandler(1, 10), () -> new SpecificAmountLongHandler(8)), 9);
+        Assertions.assertEquals(1, handlers.get(0).getAccepted());
+        Assertions.assertEquals(8, handlers.get(1).getAccepted());
+    }
+
+    @Test
+    @DisplayName("Test that handlers that want less than an even split get what they want")
+    void testSmallDemands() {
+        distribute(List.of(() -> new SpecificAmountLongHandler(1), InfiniteLongHandler::new, () -> new SpecificAmountLongHandler(3), InfiniteLongHandler::new), 20);
+    }
+
+    @Test
+    @DisplayName("Test that a workspace can be reused after being cleared")
+    void testReuse() {
+        LongWorkspace workspace = new LongWorkspace();
+        List<LongHandler> first = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            LongHandler handler = new InfiniteLongHandler();
+            workspace.addHandler(handler, 80);
+            first.add(handler);
+        }
+        Assertions.assertEquals(80, workspace.distribute(80, true));
+        workspace.clear();
+        Assertions.assertEquals(0, workspace.getHandlerCount());
+        for (int i = 0; i < 3; i++) {
+            workspace.addHandler(new SpecificAmountLongHandler(2), 10);
+        }
+        Assertions.assertEquals(6, workspace.distribute(10, true));
+        for (LongHandler handler : first) {
+            Assertions.assertEquals(2, handler.getAccepted());
+        }
+    }
+
+    @Property(tries = 10_000)
+    @Label("Test distribution")
+    void testDistribution(@ForAll @IntRange(max = 100) int infinite, @ForAll @IntRange(max = 100) int some, @ForAll @IntRange(max = 100) int none,
+          @ForAll @Positive int toSend) {
+        distribute(getHandlers(infinite, some, none), toSend);
+    }
+
+    @Property(tries = 10_000)
+    @Label("Test distribution no partial")
+    void testDistributionNoPartial(@ForAll @IntRange(max = 100) int infinite, @ForAll @IntRange(max = 100) int none, @ForAll @Positive int toSend) {
+        distribute(getHandlers(infinite, 0, none), toSend);
+    }
+
+    @Property(tries = 10_000)
+    @Label("Test distribution no infinite")
+    void testDistributionNoInfinite(@ForAll @IntRange(max = 100) int some, @ForAll @IntRange(max = 100) int none, @ForAll @Positive int toSend) {
+        distribute(getHandlers(0, some, none), toSend);
+    }
+
+    @Property(tries = 10_000)
+    @Label("Test distribution to handlers that want specific amounts")
+    void testSpecificAmounts(@ForAll @Size(max = 50) List<@LongRange(min = 1, max = 1_000) Long> wanted, @ForAll @IntRange(max = 50) int infinite,
+          @ForAll @IntRange(max = 10) int lying, @ForAll @Positive int toSend) {
+        List<Supplier<LongHandler>> handlers = new ArrayList<>();
+        for (long amount : wanted) {
+            handlers.add(() -> new SpecificAmountLongHandler(amount));
+        }
+        for (int i = 0; i < lying; i++) {
+            long amount = wanted.isEmpty() ? 1 : wanted.get(i % wanted.size());
+            handlers.add(() -> new LyingAmountLongHandler(amount, 10));
+        }
+        handlers.addAll(Collections.<Supplier<LongHandler>>nCopies(infinite, InfiniteLongHandler::new));
+        distribute(handlers, toSend);
+    }
+}
@@ -0,0 +1,17 @@
+package mekanism.common.lib.distribution.target;
+
+import mekanism.common.lib.distribution.DistributionWorkspace;
+import mekanism.common.lib.distribution.handler.LongHandler;
+
+public final class LongWorkspace extends DistributionWorkspace<LongHandler> {
+
+    @Override
+    protected long simulate(LongHandler handler, long amount) {
+        return handler.perform(amount, true);
+    }
+
+    @Override
+    protected long insert(LongHandler handler, long amount) {
+        return handler.perform(amount, false);
+    }
+}
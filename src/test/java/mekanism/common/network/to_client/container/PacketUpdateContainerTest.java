@@ -0,0 +1,110 @@
+package mekanism.common.network.to_client.container;
+
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.common.network.PacketUtils;
+import mekanism.common.network.to_client.container.property.BooleanPropertyData;
+import mekanism.common.network.to_client.container.property.IntDeltaPropertyData;
+import mekanism.common.network.to_client.container.property.IntPropertyData;
+import mekanism.common.network.to_client.container.property.LongDeltaPropertyData;
+import mekanism.common.network.to_client.container.property.LongPropertyData;
+import mekanism.common.network.to_client.container.property.PropertyData;
+import net.minecraft.core.RegistryAccess;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test packing and unpacking PacketUpdateContainer")
+class PacketUpdateContainerTest {
+
+    @Test
+    @DisplayName("Test sparse property indices")
+    void testSparseIndices() {
+        List<PropertyData> unpacked = roundTrip(List.of(
+              new IntPropertyData((short) 3, 7),
+              new IntPropertyData((short) 4, -7),
+              new LongPropertyData((short) 17, Long.MAX_VALUE),
+              new BooleanPropertyData((short) 200, true),
+              new IntDeltaPropertyData((short) 1_000, 12)
+        ));
+        Assertions.assertEquals(5, unpacked.size());
+        Assertions.assertEquals(7, assertProperty(unpacked.get(0), 3, IntPropertyData.class).getValue());
+        Assertions.assertEquals(-7, assertProperty(unpacked.get(1), 4, IntPropertyData.class).getValue());
+        Assertions.assertEquals(Long.MAX_VALUE, assertProperty(unpacked.get(2), 17, LongPropertyData.class).getValue());
+        assertProperty(unpacked.get(3), 200, BooleanPropertyData.class);
+        Assertions.assertEquals(12, assertProperty(unpacked.get(4), 1_000, IntDeltaPropertyData.class).getChange());
+    }
+
+    @Test
+    @DisplayName("Test a single property that is not the first index")
+    void testSingleProperty() {
+        List<PropertyData> unpacked = roundTrip(List.of(new LongDeltaPropertyData((short) 42, -3)));
+        Assertions.assertEquals(1, unpacked.size());
+        Assertions.assertEquals(-3, assertProperty(unpacked.getFirst(), 42, LongDeltaPropertyData.class).getChange());
+    }
+
+    @Test
+    @DisplayName("Test int deltas")
+    void testIntDeltas() {
+        int[] changes = {0, 1, -1, 63, -64, 64, -65, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE + 1};
+        List<PropertyData> data = new ArrayList<>(changes.length);
+        for (int i = 0; i < changes.length; i++) {
+            data.add(new IntDeltaPropertyData((short) (2 * i), changes[i]));
+        }
+        List<PropertyData> unpacked = roundTrip(data);
+        Assertions.assertEquals(changes.length, unpacked.size());
+        for (int i = 0; i < changes.length; i++) {
+            Assertions.assertEquals(changes[i], assertProperty(unpacked.get(i), 2 * i, IntDeltaPropertyData.class).getChange());
+        }
+    }
+
+    @Test
+    @DisplayName("Test long deltas")
+    void testLongDeltas() {
+        long[] changes = {0, 1, -1, Integer.MIN_VALUE, Integer.MAX_VALUE + 1L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1};
+        List<PropertyData> data = new ArrayList<>(changes.length);
+        for (int i = 0; i < changes.length; i++) {
+            data.add(new LongDeltaPropertyData((short) (i + 5), changes[i]));
+        }
+        List<PropertyData> unpacked = roundTrip(data);
+        Assertions.assertEquals(changes.length, unpacked.size());
+        for (int i = 0; i < changes.length; i++) {
+            Assertions.assertEquals(changes[i], assertProperty(unpacked.get(i), i + 5, LongDeltaPropertyData.class).getChange());
+        }
+    }
+
+    @Test
+    @DisplayName("Test choosing between sending the change or the value of an int")
+    void testIntDeltaChoice() {
+        //Small change to a large value
+        Assertions.assertEquals(1, assertProperty(IntDeltaPropertyData.create((short) 0, 1_000_000, 1), 0, IntDeltaPropertyData.class).getChange());
+        //Small decrease of a negative value, as negative values always take the full five bytes
+        Assertions.assertEquals(-1, assertProperty(IntDeltaPropertyData.create((short) 0, -5, -1), 0, IntDeltaPropertyData.class).getChange());
+        //Large change to a small value
+        Assertions.assertEquals(5, assertProperty(IntDeltaPropertyData.create((short) 0, 5, -1_000_000), 0, IntPropertyData.class).getValue());
+        //Same size, so prefer the value
+        Assertions.assertEquals(0, assertProperty(IntDeltaPropertyData.create((short) 0, 0, 0), 0, IntPropertyData.class).getValue());
+        //The largest possible change takes the full five bytes, so it is never smaller than the value
+        Assertions.assertEquals(Integer.MAX_VALUE, assertProperty(IntDeltaPropertyData.create((short) 0, Integer.MAX_VALUE, Integer.MIN_VALUE), 0,
+              IntPropertyData.class).getValue());
+    }
+
+    @Test
+    @DisplayName("Test choosing between sending the change or the value of a long")
+    void testLongDeltaChoice() {
+        Assertions.assertEquals(-1, assertProperty(LongDeltaPropertyData.create((short) 0, Long.MAX_VALUE, -1), 0, LongDeltaPropertyData.class).getChange());
+        Assertions.assertEquals(-1, assertProperty(LongDeltaPropertyData.create((short) 0, Long.MIN_VALUE, -1), 0, LongDeltaPropertyData.class).getChange());
+        Assertions.assertEquals(3, assertProperty(LongDeltaPropertyData.create((short) 0, 3, Long.MIN_VALUE), 0, LongPropertyData.class).getValue());
+        Assertions.assertEquals(0, assertProperty(LongDeltaPropertyData.create((short) 0, 0, 0), 0, LongPropertyData.class).getValue());
+    }
+
+    private static List<PropertyData> roundTrip(List<PropertyData> data) {
+        PacketUpdateContainer packet = PacketUpdateContainer.create((short) 1, RegistryAccess.EMPTY, data);
+        return PacketUtils.read(RegistryAccess.EMPTY, packet.data(), PacketUpdateContainer::unpack);
+    }
+
+    private static <DATA extends PropertyData> DATA assertProperty(PropertyData data, int property, Class<DATA> type) {
+        Assertions.assertEquals(property, data.getProperty());
+        return Assertions.assertInstanceOf(type, data);
+    }
+}